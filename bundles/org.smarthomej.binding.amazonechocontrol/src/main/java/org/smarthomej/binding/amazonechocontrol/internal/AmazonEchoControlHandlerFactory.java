@@ -21,6 +21,7 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.util.HttpCookieStore;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
@@ -71,6 +72,8 @@ public class AmazonEchoControlHandlerFactory extends BaseThingHandlerFactory {
         this.gson = new Gson();
         this.dynamicCommandDescriptionProvider = dynamicCommandDescriptionProvider;
         this.httpClient = new HttpClient(new SslContextFactory.Client());
+        // cookies are managed by each account connection
+        this.httpClient.setCookieStore(new HttpCookieStore.Empty());
         this.bindingServlet = new BindingServlet(httpService);
 
         httpClient.start();
@@ -15,15 +15,16 @@ package org.smarthomej.binding.amazonechocontrol.internal.connection;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.CookieManager;
 import java.net.HttpCookie;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.URL;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -37,7 +38,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -47,16 +47,20 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
-import java.util.zip.GZIPInputStream;
-
-import javax.net.ssl.HttpsURLConnection;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpContentResponse;
+import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
+import org.eclipse.jetty.client.util.StringContentProvider;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.MimeTypes;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
@@ -128,25 +132,38 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 
 /**
  * The {@link Connection} is responsible for the connection to the amazon server
  * and handling of the commands
  *
+ * All requests are synchronous: they are sent with the shared (connection pooling) http client, but the calling
+ * thread waits for the response. Callers that execute several requests in parallel need to limit the number of
+ * threads they use (see {@link LimitedExecutor}).
+ *
  * @author Michael Geramb - Initial contribution
  */
 @NonNullByDefault
 public class Connection {
     private static final String THING_THREADPOOL_NAME = "thingHandler";
     private static final long EXPIRES_IN = 432000; // five days
-    private static final Pattern CHARSET_PATTERN = Pattern.compile("(?i)\\bcharset=\\s*\"?([^\\s;\"]*)");
+    private static final long REQUEST_TIMEOUT = 30; // seconds
     private static final String USER_AGENT = "AmazonWebView/Amazon Alexa/2.2.443692.0/iOS/14.8/iPhone";
 
+    // time to live for rarely changing data (playlists, notification sounds, music providers)
+    private static final long PLAYLISTS_CACHE_TIME = TimeUnit.MINUTES.toMillis(15);
+    private static final long NOTIFICATION_SOUNDS_CACHE_TIME = TimeUnit.HOURS.toMillis(1);
+    private static final long MUSIC_PROVIDERS_CACHE_TIME = TimeUnit.HOURS.toMillis(1);
+    private static final int MAX_SMART_HOME_STATE_REQUESTS = 50;
+
     private final Logger logger = LoggerFactory.getLogger(Connection.class);
 
     protected final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THING_THREADPOOL_NAME);
 
     private final CookieManager cookieManager = new CookieManager();
+    private final HttpClient httpClient;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
     private final Gson gson;
     private final Gson gsonWithNullSerialization;
 
@@ -167,6 +184,7 @@ public class Connection {
 
     private final Map<TimerType, ScheduledFuture<?>> timers = new ConcurrentHashMap<>();
     private final Map<TimerType, Lock> locks = new ConcurrentHashMap<>();
+    private final RequestCache requestCache = new RequestCache();
 
     private enum TimerType {
         ANNOUNCEMENT,
@@ -176,8 +194,9 @@ public class Connection {
         TEXT_COMMAND
     }
 
-    public Connection(@Nullable Connection oldConnection, Gson gson) {
+    public Connection(@Nullable Connection oldConnection, Gson gson, HttpClient httpClient) {
         this.gson = gson;
+        this.httpClient = httpClient;
         if (oldConnection != null) {
             this.loginData = new LoginData(cookieManager, oldConnection.getDeviceId(), oldConnection.getFrc(),
                     oldConnection.getSerial());
@@ -311,13 +330,12 @@ public class Connection {
     }
 
     private @Nullable Authentication tryGetBootstrap() throws ConnectionException {
-        HttpsURLConnection connection = makeRequest("GET", alexaServer + "/api/bootstrap", null, false, false, Map.of(),
-                0);
-        String contentType = connection.getContentType();
+        ContentResponse response = makeRequest("GET", alexaServer + "/api/bootstrap", null, false, false, Map.of(), 0);
+        String contentType = response.getMediaType();
         try {
-            if (connection.getResponseCode() == 200 && contentType != null
+            if (response.getStatus() == 200 && contentType != null
                     && contentType.toLowerCase().startsWith("application/json")) {
-                String bootstrapResultJson = convertStream(connection);
+                String bootstrapResultJson = response.getContentAsString();
                 JsonBootstrapResult result = parseJson(bootstrapResultJson, JsonBootstrapResult.class);
                 Authentication authentication = result.authentication;
                 if (authentication != null && authentication.authenticated) {
@@ -331,48 +349,12 @@ public class Connection {
         } catch (JsonSyntaxException | IllegalStateException e) {
             logger.info("No valid json received", e);
             return null;
-        } catch (IOException e) {
-            throw new ConnectionException(e.getMessage(), e);
         }
         return null;
     }
 
-    public String convertStream(HttpsURLConnection connection) throws ConnectionException {
-        try (InputStream input = connection.getInputStream()) {
-            if (input == null) {
-                return "";
-            }
-
-            InputStream readerStream;
-            if ("gzip".equalsIgnoreCase(connection.getContentEncoding())) {
-                readerStream = new GZIPInputStream(input);
-            } else {
-                readerStream = input;
-            }
-            String contentType = connection.getContentType();
-            String charSet = StandardCharsets.UTF_8.name();
-
-            if (contentType != null) {
-                Matcher m = CHARSET_PATTERN.matcher(contentType);
-                if (m.find()) {
-                    String foundCharset = m.group(1).trim().toUpperCase();
-                    if (!foundCharset.isEmpty()) {
-                        charSet = foundCharset;
-                    }
-                }
-            }
-
-            Scanner inputScanner = new Scanner(readerStream, charSet);
-            Scanner scannerWithoutDelimiter = inputScanner.useDelimiter("\\A");
-            String result = scannerWithoutDelimiter.hasNext() ? scannerWithoutDelimiter.next() : "";
-            inputScanner.close();
-            scannerWithoutDelimiter.close();
-            input.close();
-
-            return result;
-        } catch (IOException e) {
-            throw new ConnectionException(e.getMessage(), e);
-        }
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
     }
 
     public String makeRequestAndReturnString(String url) throws ConnectionException {
@@ -381,14 +363,69 @@ public class Connection {
 
     public String makeRequestAndReturnString(String requestMethod, String url, @Nullable String postData, boolean json,
             Map<String, String> customHeaders) throws ConnectionException {
-        HttpsURLConnection connection = makeRequest(requestMethod, url, postData, json, true, customHeaders, 3);
-        String result = convertStream(connection);
+        String result = makeRequest(requestMethod, url, postData, json, true, customHeaders, 3).getContentAsString();
         logger.trace("Result of {} {}:{}", requestMethod, url, result);
         return result;
     }
 
-    public HttpsURLConnection makeRequest(String requestMethod, String url, @Nullable String postData, boolean json,
+    /**
+     * Make a GET request and parse the JSON result while it is received
+     *
+     * @param url the url
+     * @param type the class of the result
+     * @return the parsed result
+     * @throws ConnectionException if the request or parsing failed
+     */
+    private <T> T makeRequestAndParseJson(String url, Class<T> type) throws ConnectionException {
+        return executeRequest("GET", url, null, false, true, Map.of(), 3, (response, content) -> {
+            String charset = MimeTypes.getCharsetFromContentType(response.getHeaders().get(HttpHeader.CONTENT_TYPE));
+            JsonReader reader = new JsonReader(new InputStreamReader(content,
+                    charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8));
+            try {
+                T result = gson.fromJson(reader, type);
+                if (result == null) {
+                    throw new JsonSyntaxException("Empty response");
+                }
+                return result;
+            } catch (JsonParseException | IllegalStateException e) {
+                logger.warn("Parsing json from {} failed", url, e);
+                throw e;
+            }
+        });
+    }
+
+    public ContentResponse makeRequest(String requestMethod, String url, @Nullable String postData, boolean json,
             boolean autoredirect, Map<String, String> customHeaders, int badRequestRepeats) throws ConnectionException {
+        return executeRequest(requestMethod, url, postData, json, autoredirect, customHeaders, badRequestRepeats,
+                (response, content) -> {
+                    String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+                    String mediaType = contentType != null ? MimeTypes.getContentTypeWithoutCharset(contentType)
+                            : null;
+                    return new HttpContentResponse(response, content.readAllBytes(), mediaType,
+                            MimeTypes.getCharsetFromContentType(contentType));
+                });
+    }
+
+    /**
+     * Execute a request and handle the response
+     *
+     * This call blocks the calling thread until the response is received, for up to {@link #REQUEST_TIMEOUT} seconds
+     * per attempt. Redirects and retries of bad requests (with a delay of two seconds) are executed in the same call.
+     *
+     * @param requestMethod the http method
+     * @param url the url
+     * @param postData the content of the request (or null)
+     * @param json true if the content is json
+     * @param autoredirect true if redirects should be followed
+     * @param customHeaders additional headers
+     * @param badRequestRepeats number of retries for bad requests
+     * @param responseHandler the handler that reads the response content
+     * @return the result of the response handler
+     * @throws ConnectionException if the request failed
+     */
+    private <T> T executeRequest(String requestMethod, String url, @Nullable String postData, boolean json,
+            boolean autoredirect, Map<String, String> customHeaders, int badRequestRepeats,
+            ResponseHandler<T> responseHandler) throws ConnectionException {
         String currentUrl = url;
         int redirectCounter = 0;
         int retryCounter = 0;
@@ -396,28 +433,25 @@ public class Connection {
         // possible, because all response headers must be catched
         while (true) {
             int code;
-            HttpsURLConnection connection = null;
+            Request request = null;
             try {
                 logger.debug("Make request to {}", url);
-                connection = (HttpsURLConnection) new URL(currentUrl).openConnection();
-                connection.setRequestMethod(requestMethod);
-                connection.setRequestProperty("Accept-Language", "en-US");
-                if (!customHeaders.containsKey("User-Agent")) {
-                    connection.setRequestProperty("User-Agent", USER_AGENT);
-                }
-                connection.setRequestProperty("Accept-Encoding", "gzip");
-                connection.setRequestProperty("DNT", "1");
-                connection.setRequestProperty("Upgrade-Insecure-Requests", "1");
+                URI uri = new URI(currentUrl);
+                request = httpClient.newRequest(uri).method(requestMethod).followRedirects(false)
+                        .timeout(REQUEST_TIMEOUT, TimeUnit.SECONDS);
+                request.agent(USER_AGENT);
+                request.header("Accept-Language", "en-US");
+                request.header("DNT", "1");
+                request.header("Upgrade-Insecure-Requests", "1");
                 for (Map.Entry<String, String> header : customHeaders.entrySet()) {
                     if (!header.getValue().isEmpty()) {
-                        connection.setRequestProperty(header.getKey(), header.getValue());
+                        // replace the default value
+                        request.header(header.getKey(), null);
+                        request.header(header.getKey(), header.getValue());
                     }
                 }
-                connection.setInstanceFollowRedirects(false);
 
                 // add cookies
-                URI uri = connection.getURL().toURI();
-
                 if (!customHeaders.containsKey("Cookie")) {
                     StringBuilder cookieHeaderBuilder = new StringBuilder();
                     for (HttpCookie cookie : cookieManager.getCookieStore().get(uri)) {
@@ -428,99 +462,90 @@ public class Connection {
                         cookieHeaderBuilder.append("=");
                         cookieHeaderBuilder.append(cookie.getValue());
                         if (cookie.getName().equals("csrf")) {
-                            connection.setRequestProperty("csrf", cookie.getValue());
+                            request.header("csrf", cookie.getValue());
                         }
 
                     }
                     if (cookieHeaderBuilder.length() > 0) {
                         String cookies = cookieHeaderBuilder.toString();
-                        connection.setRequestProperty("Cookie", cookies);
+                        request.header("Cookie", cookies);
                     }
                 }
                 if (postData != null) {
                     logger.debug("{}: {}", requestMethod, postData);
                     // post data
-                    byte[] postDataBytes = postData.getBytes(StandardCharsets.UTF_8);
-                    int postDataLength = postDataBytes.length;
-
-                    connection.setFixedLengthStreamingMode(postDataLength);
-
-                    if (json) {
-                        connection.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
-                    } else {
-                        connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-                    }
-                    connection.setRequestProperty("Content-Length", Integer.toString(postDataLength));
-                    if ("POST".equals(requestMethod)) {
-                        connection.setRequestProperty("Expect", "100-continue");
-                    }
-
-                    connection.setDoOutput(true);
-                    OutputStream outputStream = connection.getOutputStream();
-                    outputStream.write(postDataBytes);
-                    outputStream.close();
+                    request.content(new StringContentProvider(
+                            json ? "application/json; charset=UTF-8" : "application/x-www-form-urlencoded", postData,
+                            StandardCharsets.UTF_8));
                 }
+
                 // handle result
-                code = connection.getResponseCode();
+                long startTime = System.currentTimeMillis();
+                InputStreamResponseListener listener = new InputStreamResponseListener();
+                request.send(listener);
+                org.eclipse.jetty.client.api.Response response = listener.get(REQUEST_TIMEOUT, TimeUnit.SECONDS);
+                code = response.getStatus();
                 String location = null;
 
                 // handle response headers
-                Map<@Nullable String, List<String>> headerFields = connection.getHeaderFields();
-                for (Map.Entry<@Nullable String, List<String>> header : headerFields.entrySet()) {
-                    String key = header.getKey();
-                    if (key != null && !key.isEmpty()) {
-                        if ("Set-Cookie".equalsIgnoreCase(key)) {
-                            // store cookie
-                            for (String cookieHeader : header.getValue()) {
-                                if (!cookieHeader.isEmpty()) {
-                                    List<HttpCookie> cookies = HttpCookie.parse(cookieHeader);
-                                    for (HttpCookie cookie : cookies) {
-                                        cookieManager.getCookieStore().add(uri, cookie);
-                                    }
-                                }
+                for (HttpField header : response.getHeaders()) {
+                    if (header.getHeader() == HttpHeader.SET_COOKIE) {
+                        // store cookie
+                        String cookieHeader = header.getValue();
+                        if (!cookieHeader.isEmpty()) {
+                            List<HttpCookie> cookies = HttpCookie.parse(cookieHeader);
+                            for (HttpCookie cookie : cookies) {
+                                cookieManager.getCookieStore().add(uri, cookie);
                             }
                         }
-                        if ("Location".equalsIgnoreCase(key)) {
-                            // get redirect location
-                            location = header.getValue().get(0);
-                            if (!location.isEmpty()) {
-                                location = uri.resolve(location).toString();
-                                // check for https
-                                if (location.toLowerCase().startsWith("http://")) {
-                                    // always use https
-                                    location = "https://" + location.substring(7);
-                                    logger.debug("Redirect corrected to {}", location);
-                                }
+                    } else if (header.getHeader() == HttpHeader.LOCATION) {
+                        // get redirect location
+                        location = header.getValue();
+                        if (!location.isEmpty()) {
+                            location = uri.resolve(location).toString();
+                            // check for https
+                            if (location.toLowerCase().startsWith("http://")) {
+                                // always use https
+                                location = "https://" + location.substring(7);
+                                logger.debug("Redirect corrected to {}", location);
                             }
                         }
                     }
                 }
-                if (code == 200) {
-                    logger.debug("Call to {} succeeded", url);
-                    return connection;
-                } else if (code == 301 || code == 302 && location != null) {
-                    logger.debug("Redirected to {}", location);
-                    redirectCounter++;
-                    if (redirectCounter > 30) {
-                        throw new ConnectionException("Too many redirects");
-                    }
-                    currentUrl = location;
-                    if (autoredirect) {
-                        continue; // repeat with new location
-                    }
-                    return connection;
-                } else {
-                    logger.debug("Retry call to {}", url);
-                    retryCounter++;
-                    if (retryCounter > badRequestRepeats) {
-                        throw new ConnectionException(requestMethod + " url '" + url + "' failed with code " + code
-                                + ": " + connection.getResponseMessage());
+                try (InputStream content = listener.getInputStream()) {
+                    if (code == 200) {
+                        logger.debug("Call to {} succeeded", url);
+                        T result = responseHandler.handle(response, content);
+                        // read the remaining content, so the connection can be reused
+                        content.transferTo(OutputStream.nullOutputStream());
+                        latencyHistogram.record(System.currentTimeMillis() - startTime);
+                        return result;
+                    } else if (code == 301 || code == 302 && location != null) {
+                        logger.debug("Redirected to {}", location);
+                        redirectCounter++;
+                        if (redirectCounter > 30) {
+                            throw new ConnectionException("Too many redirects");
+                        }
+                        if (autoredirect && location != null) {
+                            content.transferTo(OutputStream.nullOutputStream());
+                            currentUrl = location;
+                            continue; // repeat with new location
+                        }
+                        return responseHandler.handle(response, content);
+                    } else {
+                        logger.debug("Retry call to {}", url);
+                        content.transferTo(OutputStream.nullOutputStream());
+                        retryCounter++;
+                        if (retryCounter > badRequestRepeats) {
+                            throw new ConnectionException(requestMethod + " url '" + url + "' failed with code " + code
+                                    + ": " + response.getReason());
+                        }
                     }
-                    Thread.sleep(2000);
                 }
+                Thread.sleep(2000);
             } catch (Exception e) {
-                if (connection != null) {
-                    connection.disconnect();
+                if (request != null) {
+                    request.abort(e);
                 }
                 logger.debug("Request to url '{}' fails:", url, e);
                 throw new ConnectionException("Request failed", e);
@@ -761,6 +786,7 @@ public class Connection {
                 queueObject.future = null;
             }
         }));
+        requestCache.clear();
     }
 
     // parser
@@ -776,10 +802,9 @@ public class Connection {
 
     // commands and states
     public List<WakeWord> getWakeWords() {
-        String json;
         try {
-            json = makeRequestAndReturnString(alexaServer + "/api/wake-word?cached=true");
-            JsonWakeWords wakeWords = parseJson(json, JsonWakeWords.class);
+            JsonWakeWords wakeWords = makeRequestAndParseJson(alexaServer + "/api/wake-word?cached=true",
+                    JsonWakeWords.class);
             return Objects.requireNonNullElse(wakeWords.wakeWords, List.of());
         } catch (ConnectionException e) {
             logger.info("getting wakewords failed", e);
@@ -840,32 +865,44 @@ public class Connection {
 
     public Map<String, JsonArray> getSmartHomeDeviceStatesJson(Set<SmartHomeBaseDevice> devices)
             throws ConnectionException {
-        JsonObject requestObject = new JsonObject();
-        JsonArray stateRequests = new JsonArray();
+        List<String> entityIds = new ArrayList<>();
         Map<String, String> mergedApplianceMap = new HashMap<>();
         for (SmartHomeBaseDevice device : devices) {
             String applianceId = device.findId();
             if (applianceId != null) {
-                JsonObject stateRequest;
                 if (device instanceof JsonSmartHomeDevice
                         && ((JsonSmartHomeDevice) device).mergedApplianceIds != null) {
                     List<String> mergedApplianceIds = Objects
                             .requireNonNullElse(((JsonSmartHomeDevice) device).mergedApplianceIds, List.of());
                     for (String idToMerge : mergedApplianceIds) {
                         mergedApplianceMap.put(idToMerge, applianceId);
-                        stateRequest = new JsonObject();
-                        stateRequest.addProperty("entityId", idToMerge);
-                        stateRequest.addProperty("entityType", "APPLIANCE");
-                        stateRequests.add(stateRequest);
+                        entityIds.add(idToMerge);
                     }
                 } else {
-                    stateRequest = new JsonObject();
-                    stateRequest.addProperty("entityId", applianceId);
-                    stateRequest.addProperty("entityType", "APPLIANCE");
-                    stateRequests.add(stateRequest);
+                    entityIds.add(applianceId);
                 }
             }
         }
+
+        // the server rejects too large requests, so the entities are requested in chunks
+        Map<String, JsonArray> result = new HashMap<>();
+        for (int i = 0; i < entityIds.size(); i += MAX_SMART_HOME_STATE_REQUESTS) {
+            List<String> chunk = entityIds.subList(i, Math.min(i + MAX_SMART_HOME_STATE_REQUESTS, entityIds.size()));
+            requestSmartHomeDeviceStates(chunk, mergedApplianceMap, result);
+        }
+        return result;
+    }
+
+    private void requestSmartHomeDeviceStates(List<String> entityIds, Map<String, String> mergedApplianceMap,
+            Map<String, JsonArray> result) throws ConnectionException {
+        JsonObject requestObject = new JsonObject();
+        JsonArray stateRequests = new JsonArray();
+        for (String entityId : entityIds) {
+            JsonObject stateRequest = new JsonObject();
+            stateRequest.addProperty("entityId", entityId);
+            stateRequest.addProperty("entityType", "APPLIANCE");
+            stateRequests.add(stateRequest);
+        }
         requestObject.add("stateRequests", stateRequests);
         String requestBody = requestObject.toString();
         String json = makeRequestAndReturnString("POST", alexaServer + "/api/phoenix/state", requestBody, true,
@@ -874,7 +911,6 @@ public class Connection {
 
         JsonObject responseObject = Objects.requireNonNull(gson.fromJson(json, JsonObject.class));
         JsonArray deviceStates = (JsonArray) responseObject.get("deviceStates");
-        Map<String, JsonArray> result = new HashMap<>();
         for (JsonElement deviceState : deviceStates) {
             JsonObject deviceStateObject = deviceState.getAsJsonObject();
             JsonObject entity = deviceStateObject.get("entity").getAsJsonObject();
@@ -895,19 +931,16 @@ public class Connection {
                 }
             }
         }
-        return result;
     }
 
     public JsonPlayerState getPlayer(Device device) throws ConnectionException {
-        String json = makeRequestAndReturnString(alexaServer + "/api/np/player?deviceSerialNumber="
-                + device.serialNumber + "&deviceType=" + device.deviceType + "&screenWidth=1440");
-        return parseJson(json, JsonPlayerState.class);
+        return makeRequestAndParseJson(alexaServer + "/api/np/player?deviceSerialNumber=" + device.serialNumber
+                + "&deviceType=" + device.deviceType + "&screenWidth=1440", JsonPlayerState.class);
     }
 
     public JsonMediaState getMediaState(Device device) throws ConnectionException {
-        String json = makeRequestAndReturnString(alexaServer + "/api/media/state?deviceSerialNumber="
-                + device.serialNumber + "&deviceType=" + device.deviceType);
-        return parseJson(json, JsonMediaState.class);
+        return makeRequestAndParseJson(alexaServer + "/api/media/state?deviceSerialNumber=" + device.serialNumber
+                + "&deviceType=" + device.deviceType, JsonMediaState.class);
     }
 
     public List<CustomerHistoryRecord> getActivities(@Nullable Long startTime, @Nullable Long endTime) {
@@ -926,8 +959,7 @@ public class Connection {
 
     public JsonBluetoothStates getBluetoothConnectionStates() {
         try {
-            String json = makeRequestAndReturnString(alexaServer + "/api/bluetooth?cached=true");
-            return parseJson(json, JsonBluetoothStates.class);
+            return makeRequestAndParseJson(alexaServer + "/api/bluetooth?cached=true", JsonBluetoothStates.class);
         } catch (ConnectionException e) {
             logger.debug("failed to get bluetooth state: {}", e.getMessage());
             return new JsonBluetoothStates();
@@ -935,10 +967,11 @@ public class Connection {
     }
 
     public JsonPlaylists getPlaylists(Device device) throws ConnectionException {
-        String json = makeRequestAndReturnString(
-                alexaServer + "/api/cloudplayer/playlists?deviceSerialNumber=" + device.serialNumber + "&deviceType="
-                        + device.deviceType + "&mediaOwnerCustomerId=" + getCustomerId(device.deviceOwnerCustomerId));
-        return parseJson(json, JsonPlaylists.class);
+        String url = alexaServer + "/api/cloudplayer/playlists?deviceSerialNumber=" + device.serialNumber
+                + "&deviceType=" + device.deviceType + "&mediaOwnerCustomerId="
+                + getCustomerId(device.deviceOwnerCustomerId);
+        return requestCache.get(url, PLAYLISTS_CACHE_TIME,
+                () -> makeRequestAndParseJson(url, JsonPlaylists.class));
     }
 
     public void command(Device device, String command) throws ConnectionException {
@@ -1028,8 +1061,8 @@ public class Connection {
 
     public List<DeviceNotificationState> getDeviceNotificationStates() {
         try {
-            String json = makeRequestAndReturnString(alexaServer + "/api/device-notification-state");
-            JsonDeviceNotificationState result = parseJson(json, JsonDeviceNotificationState.class);
+            JsonDeviceNotificationState result = makeRequestAndParseJson(
+                    alexaServer + "/api/device-notification-state", JsonDeviceNotificationState.class);
             return Objects.requireNonNullElse(result.deviceNotificationStates, List.of());
         } catch (ConnectionException e) {
             logger.info("Error getting device notification states", e);
@@ -1039,8 +1072,8 @@ public class Connection {
 
     public List<AscendingAlarmModel> getAscendingAlarm() {
         try {
-            String json = makeRequestAndReturnString(alexaServer + "/api/ascending-alarm");
-            JsonAscendingAlarm result = parseJson(json, JsonAscendingAlarm.class);
+            JsonAscendingAlarm result = makeRequestAndParseJson(alexaServer + "/api/ascending-alarm",
+                    JsonAscendingAlarm.class);
             return Objects.requireNonNullElse(result.ascendingAlarmModelList, List.of());
         } catch (ConnectionException e) {
             logger.info("Error getting device notification states", e);
@@ -1670,14 +1703,14 @@ public class Connection {
     }
 
     public List<JsonAutomation> getRoutines() throws ConnectionException {
-        String json = makeRequestAndReturnString(alexaServer + "/api/behaviors/v2/automations?limit=2000");
-        JsonAutomation[] result = parseJson(json, JsonAutomation[].class);
+        JsonAutomation[] result = makeRequestAndParseJson(alexaServer + "/api/behaviors/v2/automations?limit=2000",
+                JsonAutomation[].class);
         return Arrays.asList(Objects.requireNonNullElse(result, new JsonAutomation[0]));
     }
 
     public List<JsonFeed> getEnabledFlashBriefings() throws ConnectionException {
-        String json = makeRequestAndReturnString(alexaServer + "/api/content-skills/enabled-feeds");
-        JsonEnabledFeeds result = parseJson(json, JsonEnabledFeeds.class);
+        JsonEnabledFeeds result = makeRequestAndParseJson(alexaServer + "/api/content-skills/enabled-feeds",
+                JsonEnabledFeeds.class);
         return Objects.requireNonNullElse(result.enabledFeeds, List.of());
     }
 
@@ -1689,16 +1722,17 @@ public class Connection {
     }
 
     public List<JsonNotificationSound> getNotificationSounds(Device device) throws ConnectionException {
-        String json = makeRequestAndReturnString(
-                alexaServer + "/api/notification/sounds?deviceSerialNumber=" + device.serialNumber + "&deviceType="
-                        + device.deviceType + "&softwareVersion=" + device.softwareVersion);
-        JsonNotificationSounds result = parseJson(json, JsonNotificationSounds.class);
-        return Objects.requireNonNullElse(result.notificationSounds, List.of());
+        String url = alexaServer + "/api/notification/sounds?deviceSerialNumber=" + device.serialNumber
+                + "&deviceType=" + device.deviceType + "&softwareVersion=" + device.softwareVersion;
+        return requestCache.get(url, NOTIFICATION_SOUNDS_CACHE_TIME, () -> {
+            JsonNotificationSounds result = makeRequestAndParseJson(url, JsonNotificationSounds.class);
+            return Objects.requireNonNullElse(result.notificationSounds, List.of());
+        });
     }
 
     public List<JsonNotificationResponse> notifications() throws ConnectionException {
-        String response = makeRequestAndReturnString(alexaServer + "/api/notifications");
-        JsonNotificationsResponse result = parseJson(response, JsonNotificationsResponse.class);
+        JsonNotificationsResponse result = makeRequestAndParseJson(alexaServer + "/api/notifications",
+                JsonNotificationsResponse.class);
         return Objects.requireNonNullElse(result.notifications, List.of());
     }
 
@@ -1745,14 +1779,17 @@ public class Connection {
 
     public List<JsonMusicProvider> getMusicProviders() {
         try {
-            Map<String, String> headers = new HashMap<>();
-            headers.put("Routines-Version", "1.1.218665");
-            String response = makeRequestAndReturnString("GET",
-                    alexaServer + "/api/behaviors/entities?skillId=amzn1.ask.1p.music", null, true, headers);
-            if (!response.isEmpty()) {
-                JsonMusicProvider[] musicProviders = parseJson(response, JsonMusicProvider[].class);
-                return Arrays.asList(musicProviders);
-            }
+            String url = alexaServer + "/api/behaviors/entities?skillId=amzn1.ask.1p.music";
+            return requestCache.get(url, MUSIC_PROVIDERS_CACHE_TIME, () -> {
+                Map<String, String> headers = new HashMap<>();
+                headers.put("Routines-Version", "1.1.218665");
+                String response = makeRequestAndReturnString("GET", url, null, true, headers);
+                if (!response.isEmpty()) {
+                    JsonMusicProvider[] musicProviders = parseJson(response, JsonMusicProvider[].class);
+                    return Arrays.asList(musicProviders);
+                }
+                return List.of();
+            });
         } catch (ConnectionException e) {
             logger.warn("getMusicProviders fails: {}", e.getMessage());
         }
@@ -1809,9 +1846,8 @@ public class Connection {
     }
 
     public @Nullable JsonEqualizer getEqualizer(Device device) throws ConnectionException {
-        String json = makeRequestAndReturnString(
-                alexaServer + "/api/equalizer/" + device.serialNumber + "/" + device.deviceType);
-        return parseJson(json, JsonEqualizer.class);
+        return makeRequestAndParseJson(alexaServer + "/api/equalizer/" + device.serialNumber + "/" + device.deviceType,
+                JsonEqualizer.class);
     }
 
     public void setEqualizer(Device device, JsonEqualizer settings) throws ConnectionException {
@@ -1835,4 +1871,9 @@ public class Connection {
         public List<String> types = new ArrayList<>();
         public @Nullable String text;
     }
+
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(org.eclipse.jetty.client.api.Response response, InputStream content) throws IOException;
+    }
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.amazonechocontrol.internal.connection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link LatencyHistogram} counts the latencies of requests in fixed buckets
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogram {
+    private static final long[] BUCKET_LIMITS = { 50, 100, 200, 500, 1000, 2000, 5000, 10000 };
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_LIMITS.length + 1);
+
+    /**
+     * add a latency to the histogram
+     *
+     * @param latency the latency in ms
+     */
+    public void record(long latency) {
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS.length && latency >= BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        counts.incrementAndGet(bucket);
+    }
+
+    /**
+     * get the number of recorded latencies
+     *
+     * @return number of latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * get an estimate of a percentile of the recorded latencies
+     *
+     * @param percentile the percentile (0-100)
+     * @return the upper limit of the bucket that contains the percentile in ms (-1 if no latencies were recorded or
+     *         the percentile is in the last bucket)
+     */
+    public long getPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return -1;
+        }
+        long threshold = (long) Math.ceil(count * percentile / 100.0);
+        long sum = 0;
+        for (int i = 0; i < BUCKET_LIMITS.length; i++) {
+            sum += counts.get(i);
+            if (sum >= threshold) {
+                return BUCKET_LIMITS[i];
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < BUCKET_LIMITS.length; i++) {
+            builder.append("<").append(BUCKET_LIMITS[i]).append(" ms: ").append(counts.get(i)).append(", ");
+        }
+        builder.append(">=").append(BUCKET_LIMITS[BUCKET_LIMITS.length - 1]).append(" ms: ")
+                .append(counts.get(BUCKET_LIMITS.length));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.amazonechocontrol.internal.connection;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link LimitedExecutor} executes tasks on an {@link Executor}, but never more than a given number at once
+ *
+ * Tasks exceeding the limit are queued (without blocking a thread) and executed as soon as a running task finished.
+ * This allows fanning out requests on a shared thread pool without occupying all of its threads.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class LimitedExecutor implements Executor {
+    private final Logger logger = LoggerFactory.getLogger(LimitedExecutor.class);
+    private final Executor executor;
+    private final int limit;
+    private final Queue<Runnable> queue = new ArrayDeque<>();
+    private int running = 0;
+
+    /**
+     * create a new executor
+     *
+     * @param executor the executor that runs the tasks
+     * @param limit the maximum number of tasks that are executed at once
+     */
+    public LimitedExecutor(Executor executor, int limit) {
+        this.executor = executor;
+        this.limit = Math.max(1, limit);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        synchronized (queue) {
+            queue.add(task);
+            if (running >= limit) {
+                return;
+            }
+            running++;
+        }
+        try {
+            executor.execute(this::runQueue);
+        } catch (RejectedExecutionException e) {
+            synchronized (queue) {
+                running--;
+                queue.remove(task);
+            }
+            throw e;
+        }
+    }
+
+    private void runQueue() {
+        while (true) {
+            Runnable task;
+            synchronized (queue) {
+                task = queue.poll();
+                if (task == null) {
+                    running--;
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Task failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
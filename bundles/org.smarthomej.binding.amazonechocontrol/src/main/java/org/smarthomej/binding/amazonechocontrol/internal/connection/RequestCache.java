@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.amazonechocontrol.internal.connection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.amazonechocontrol.internal.ConnectionException;
+
+/**
+ * The {@link RequestCache} keeps the results of requests for a given time
+ *
+ * Expired entries are removed when they are accessed and whenever a new result is added, so results of requests that
+ * are not repeated (e.g. for removed devices) don't stay in memory. Failed requests are not cached.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class RequestCache {
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * get the result of a request from the cache or execute the request and cache the result
+     *
+     * @param key the cache key (usually the url)
+     * @param cacheTime the time to live of the result in ms
+     * @param request the request
+     * @return the (cached) result
+     * @throws ConnectionException if the request failed
+     */
+    public <T> T get(String key, long cacheTime, CacheableRequest<T> request) throws ConnectionException {
+        long now = currentTimeMillis();
+        CacheEntry cacheEntry = entries.get(key);
+        if (cacheEntry != null) {
+            if (cacheEntry.expires > now) {
+                @SuppressWarnings("unchecked")
+                T value = (T) cacheEntry.value;
+                return value;
+            }
+            entries.remove(key, cacheEntry);
+        }
+        T value = request.execute();
+        entries.values().removeIf(entry -> entry.expires <= now);
+        entries.put(key, new CacheEntry(value, now + cacheTime));
+        return value;
+    }
+
+    /**
+     * remove all entries
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * get the number of entries (including expired entries that were not removed yet)
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    // Visible for testing
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private static class CacheEntry {
+        public final Object value;
+        public final long expires;
+
+        public CacheEntry(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+
+    @FunctionalInterface
+    public interface CacheableRequest<T> {
+        T execute() throws ConnectionException;
+    }
+}
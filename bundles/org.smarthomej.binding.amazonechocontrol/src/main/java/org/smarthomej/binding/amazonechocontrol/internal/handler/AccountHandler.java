@@ -28,7 +28,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +39,7 @@ import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
@@ -60,6 +63,7 @@ import org.smarthomej.binding.amazonechocontrol.internal.channelhandler.AmazonHa
 import org.smarthomej.binding.amazonechocontrol.internal.channelhandler.ChannelHandler;
 import org.smarthomej.binding.amazonechocontrol.internal.channelhandler.ChannelHandlerSendMessage;
 import org.smarthomej.binding.amazonechocontrol.internal.connection.Connection;
+import org.smarthomej.binding.amazonechocontrol.internal.connection.LimitedExecutor;
 import org.smarthomej.binding.amazonechocontrol.internal.discovery.AmazonEchoDiscovery;
 import org.smarthomej.binding.amazonechocontrol.internal.discovery.SmartHomeDevicesDiscovery;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonAscendingAlarm.AscendingAlarmModel;
@@ -67,8 +71,10 @@ import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonBluetoothStat
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonBluetoothStates.BluetoothState;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCommandPayloadPushActivity;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCommandPayloadPushActivity.Key;
+import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCommandPayloadPushBluetoothStateChange;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCommandPayloadPushDevice;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCommandPayloadPushDevice.DopplerId;
+import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCommandPayloadPushDopllerConnectionChange;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCommandPayloadPushNotificationChange;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonCustomerHistoryRecords.CustomerHistoryRecord;
 import org.smarthomej.binding.amazonechocontrol.internal.jsons.JsonDeviceNotificationState.DeviceNotificationState;
@@ -94,11 +100,20 @@ import com.google.gson.JsonSyntaxException;
 /**
  * Handles the connection to the amazon server.
  *
+ * When refreshing, the account wide data and the data of the individual devices is requested in parallel on a shared
+ * thread pool. At most {@link #MAX_PARALLEL_REQUESTS} requests are executed at once, the results are applied to the
+ * handlers on the refreshing thread.
+ *
  * @author Michael Geramb - Initial Contribution
  */
 @NonNullByDefault
 public class AccountHandler extends BaseBridgeHandler implements WebSocketCommandHandler, AmazonHandlerCallback {
+    private static final String THREADPOOL_NAME = "amazonechocontrol";
+    private static final int MAX_PARALLEL_REQUESTS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(AccountHandler.class);
+    private final Executor requestExecutor = new LimitedExecutor(ThreadPoolManager.getPool(THREADPOOL_NAME),
+            MAX_PARALLEL_REQUESTS);
     private final Storage<String> stateStorage;
     private final HttpClient httpClient;
     private @Nullable Connection connection;
@@ -109,13 +124,12 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
     private final Set<FlashBriefingProfileHandler> flashBriefingProfileHandlers = new CopyOnWriteArraySet<>();
 
     private final Object synchronizeConnection = new Object();
-    private Map<String, Device> jsonSerialNumberDeviceMapping = new HashMap<>();
-    private Map<String, SmartHomeBaseDevice> jsonIdSmartHomeDeviceMapping = new HashMap<>();
+    private volatile Map<String, Device> jsonSerialNumberDeviceMapping = new HashMap<>();
+    private volatile Map<String, SmartHomeBaseDevice> jsonIdSmartHomeDeviceMapping = new HashMap<>();
 
     private @Nullable ScheduledFuture<?> checkDataJob;
     private @Nullable ScheduledFuture<?> checkLoginJob;
     private @Nullable ScheduledFuture<?> updateSmartHomeStateJob;
-    private @Nullable ScheduledFuture<?> refreshAfterCommandJob;
     private @Nullable ScheduledFuture<?> refreshSmartHomeAfterCommandJob;
     private final Object synchronizeSmartHomeJobScheduler = new Object();
     private @Nullable ScheduledFuture<?> forceCheckDataJob;
@@ -147,13 +161,14 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         synchronized (synchronizeConnection) {
             Connection connection = this.connection;
             if (connection == null) {
-                this.connection = new Connection(null, gson);
+                this.connection = new Connection(null, gson, httpClient);
             }
         }
 
         if (accountServlet == null) {
             try {
-                accountServlet = new AccountServlet(httpService, this.getThing().getUID().getId(), this, gson);
+                accountServlet = new AccountServlet(httpService, this.getThing().getUID().getId(), this, gson,
+                        httpClient);
             } catch (IllegalStateException e) {
                 logger.warn("Failed to create account servlet", e);
             }
@@ -174,7 +189,7 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         }
         smartHomeDeviceStateGroupUpdateCalculator = new SmartHomeDeviceStateGroupUpdateCalculator(pollingIntervalAlexa,
                 pollingIntervalSkills);
-        updateSmartHomeStateJob = scheduler.scheduleWithFixedDelay(() -> updateSmartHomeState(null), 20, 10,
+        updateSmartHomeStateJob = scheduler.scheduleWithFixedDelay(this::updateSmartHomeStatePeriodic, 20, 10,
                 TimeUnit.SECONDS);
     }
 
@@ -347,11 +362,6 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
             foceCheckDataJob.cancel(true);
             this.forceCheckDataJob = null;
         }
-        ScheduledFuture<?> refreshAfterCommandJob = this.refreshAfterCommandJob;
-        if (refreshAfterCommandJob != null) {
-            refreshAfterCommandJob.cancel(true);
-            this.refreshAfterCommandJob = null;
-        }
         ScheduledFuture<?> refreshSmartHomeAfterCommandJob = this.refreshSmartHomeAfterCommandJob;
         if (refreshSmartHomeAfterCommandJob != null) {
             refreshSmartHomeAfterCommandJob.cancel(true);
@@ -490,14 +500,20 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         ZonedDateTime timeStamp = ZonedDateTime.now();
         try {
             List<JsonNotificationResponse> notifications = currentConnection.notifications();
-            ZonedDateTime timeStampNow = ZonedDateTime.now();
-            echoHandlers.forEach(echoHandler -> echoHandler.updateNotifications(timeStamp, timeStampNow, pushPayload,
-                    notifications));
+            updateNotifications(timeStamp, pushPayload, notifications);
         } catch (ConnectionException e) {
             logger.debug("refreshNotifications failed", e);
         }
     }
 
+    private void updateNotifications(ZonedDateTime timeStamp,
+            @Nullable JsonCommandPayloadPushNotificationChange pushPayload,
+            List<JsonNotificationResponse> notifications) {
+        ZonedDateTime timeStampNow = ZonedDateTime.now();
+        echoHandlers.forEach(
+                echoHandler -> echoHandler.updateNotifications(timeStamp, timeStampNow, pushPayload, notifications));
+    }
+
     private void refreshData() {
         synchronized (synchronizeConnection) {
             try {
@@ -514,79 +530,134 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
                     return;
                 }
 
-                // get all devices registered in the account
+                // get all devices registered in the account, the device list is needed for all other requests
                 updateDeviceList();
-                updateSmartHomeDeviceList(false);
-                updateFlashBriefingHandlers();
 
-                List<DeviceNotificationState> deviceNotificationStates = List.of();
-                List<AscendingAlarmModel> ascendingAlarmModels = List.of();
-                JsonBluetoothStates states = null;
-                List<JsonMusicProvider> musicProviders = null;
-                if (currentConnection.getIsLoggedIn()) {
-                    // update notification states
-                    deviceNotificationStates = currentConnection.getDeviceNotificationStates();
+                // request everything else in parallel, the results are applied after all requests finished
+                List<CompletableFuture<?>> requests = new ArrayList<>();
+                boolean updateSmartHomeDevices = !smartHomeDeviceHandlers.isEmpty()
+                        || getSmartHomeDevicesDiscoveryMode() != 0;
+                CompletableFuture<@Nullable List<SmartHomeBaseDevice>> smartHomeDevicesRequest = updateSmartHomeDevices
+                        ? requestAsync(currentConnection::getSmarthomeDeviceList, "Update smart home devices")
+                        : CompletableFuture.completedFuture(null);
+                boolean updateFlashBriefings = !flashBriefingProfileHandlers.isEmpty()
+                        || currentFlashBriefingJson.isEmpty();
+                CompletableFuture<@Nullable List<JsonFeed>> flashBriefingsRequest = updateFlashBriefings
+                        ? requestAsync(currentConnection::getEnabledFlashBriefings, "Update flash briefing profiles")
+                        : CompletableFuture.completedFuture(null);
+                ZonedDateTime notificationsTimeStamp = ZonedDateTime.now();
+                CompletableFuture<@Nullable List<JsonNotificationResponse>> notificationsRequest = requestAsync(
+                        currentConnection::notifications, "Update notifications");
+                requests.add(smartHomeDevicesRequest);
+                requests.add(flashBriefingsRequest);
+                requests.add(notificationsRequest);
+
+                CompletableFuture<@Nullable List<DeviceNotificationState>> notificationStatesRequest = requestAsync(
+                        currentConnection::getDeviceNotificationStates, "Update notification states");
+                CompletableFuture<@Nullable List<AscendingAlarmModel>> ascendingAlarmModelsRequest = requestAsync(
+                        currentConnection::getAscendingAlarm, "Update ascending alarm");
+                CompletableFuture<@Nullable JsonBluetoothStates> bluetoothStatesRequest = requestAsync(
+                        currentConnection::getBluetoothConnectionStates, "Update bluetooth states");
+                CompletableFuture<@Nullable List<JsonMusicProvider>> musicProvidersRequest = requestAsync(
+                        currentConnection::getMusicProviders, "Update music provider");
+                requests.add(notificationStatesRequest);
+                requests.add(ascendingAlarmModelsRequest);
+                requests.add(bluetoothStatesRequest);
+                requests.add(musicProvidersRequest);
+
+                Map<EchoHandler, DeviceRequests> deviceRequests = new HashMap<>();
+                for (EchoHandler child : echoHandlers) {
+                    Device device = findDeviceJson(child.findSerialNumber());
+                    if (device != null) {
+                        DeviceRequests requestsOfDevice = new DeviceRequests(
+                                requestAsync(() -> currentConnection.getNotificationSounds(device),
+                                        "Update notification sounds"),
+                                requestAsync(() -> currentConnection.getPlaylists(device), "Update playlist"));
+                        deviceRequests.put(child, requestsOfDevice);
+                        requests.add(requestsOfDevice.notificationSounds);
+                        requests.add(requestsOfDevice.playlists);
+                    }
+                }
 
-                    // update ascending alarm
-                    ascendingAlarmModels = currentConnection.getAscendingAlarm();
+                CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).join();
 
-                    // update bluetooth states
-                    states = currentConnection.getBluetoothConnectionStates();
+                if (updateSmartHomeDevices) {
+                    updateSmartHomeDevices(smartHomeDevicesRequest.join());
+                }
+                List<JsonFeed> flashBriefings = flashBriefingsRequest.join();
+                if (flashBriefings != null) {
+                    setFlashBriefingProfiles(flashBriefings);
+                }
+                initializeFlashBriefingHandlers();
+                List<JsonNotificationResponse> notifications = notificationsRequest.join();
+                if (notifications != null) {
+                    updateNotifications(notificationsTimeStamp, null, notifications);
+                }
 
-                    // update music providers
-                    if (currentConnection.getIsLoggedIn()) {
-                        try {
-                            musicProviders = currentConnection.getMusicProviders();
-                        } catch (JsonSyntaxException e) {
-                            logger.debug("Update music provider failed", e);
+                // index the account wide results by serial number
+                Map<String, DeviceNotificationState> deviceNotificationStates = new HashMap<>();
+                List<DeviceNotificationState> deviceNotificationStateList = notificationStatesRequest.join();
+                if (deviceNotificationStateList != null) {
+                    for (DeviceNotificationState deviceNotificationState : deviceNotificationStateList) {
+                        String serialNumber = deviceNotificationState.deviceSerialNumber;
+                        if (serialNumber != null) {
+                            deviceNotificationStates.putIfAbsent(serialNumber, deviceNotificationState);
+                        }
+                    }
+                }
+                Map<String, AscendingAlarmModel> ascendingAlarmModels = new HashMap<>();
+                List<AscendingAlarmModel> ascendingAlarmModelList = ascendingAlarmModelsRequest.join();
+                if (ascendingAlarmModelList != null) {
+                    for (AscendingAlarmModel ascendingAlarmModel : ascendingAlarmModelList) {
+                        String serialNumber = ascendingAlarmModel.deviceSerialNumber;
+                        if (serialNumber != null) {
+                            ascendingAlarmModels.putIfAbsent(serialNumber, ascendingAlarmModel);
                         }
                     }
                 }
+                Map<String, BluetoothState> bluetoothStates = new HashMap<>();
+                JsonBluetoothStates jsonBluetoothStates = bluetoothStatesRequest.join();
+                if (jsonBluetoothStates != null) {
+                    @Nullable
+                    BluetoothState @Nullable [] bluetoothStateArray = jsonBluetoothStates.bluetoothStates;
+                    if (bluetoothStateArray != null) {
+                        for (BluetoothState bluetoothState : bluetoothStateArray) {
+                            String serialNumber = bluetoothState != null ? bluetoothState.deviceSerialNumber : null;
+                            if (bluetoothState != null && serialNumber != null) {
+                                bluetoothStates.putIfAbsent(serialNumber, bluetoothState);
+                            }
+                        }
+                    }
+                }
+                List<JsonMusicProvider> musicProviders = musicProvidersRequest.join();
+
                 // forward device information to echo handler
                 for (EchoHandler child : echoHandlers) {
                     Device device = findDeviceJson(child.findSerialNumber());
 
                     List<JsonNotificationSound> notificationSounds = List.of();
                     JsonPlaylists playlists = null;
-                    if (device != null && currentConnection.getIsLoggedIn()) {
-                        // update notification sounds
-                        try {
-                            notificationSounds = currentConnection.getNotificationSounds(device);
-                        } catch (JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update notification sounds failed", e);
-                        }
-                        // update playlists
-                        try {
-                            playlists = currentConnection.getPlaylists(device);
-                        } catch (JsonSyntaxException | ConnectionException e) {
-                            logger.debug("Update playlist failed", e);
-                        }
-                    }
-
                     BluetoothState state = null;
-                    if (states != null) {
-                        state = states.findStateByDevice(device);
-                    }
                     DeviceNotificationState deviceNotificationState = null;
                     AscendingAlarmModel ascendingAlarmModel = null;
                     if (device != null) {
+                        DeviceRequests requestsOfDevice = deviceRequests.get(child);
+                        if (requestsOfDevice != null) {
+                            notificationSounds = Objects.requireNonNullElse(requestsOfDevice.notificationSounds.join(),
+                                    List.of());
+                            playlists = requestsOfDevice.playlists.join();
+                        }
                         final String serialNumber = device.serialNumber;
                         if (serialNumber != null) {
-                            ascendingAlarmModel = ascendingAlarmModels.stream()
-                                    .filter(current -> serialNumber.equals(current.deviceSerialNumber)).findFirst()
-                                    .orElse(null);
-                            deviceNotificationState = deviceNotificationStates.stream()
-                                    .filter(current -> serialNumber.equals(current.deviceSerialNumber)).findFirst()
-                                    .orElse(null);
+                            state = bluetoothStates.get(serialNumber);
+                            ascendingAlarmModel = ascendingAlarmModels.get(serialNumber);
+                            deviceNotificationState = deviceNotificationStates.get(serialNumber);
                         }
                     }
                     child.updateState(this, device, state, deviceNotificationState, ascendingAlarmModel, playlists,
                             notificationSounds, musicProviders);
                 }
 
-                // refresh notifications
-                refreshNotifications(null);
-
                 // update account state
                 updateStatus(ThingStatus.ONLINE);
 
@@ -599,6 +670,28 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         }
     }
 
+    /**
+     * execute a request on the request executor
+     *
+     * @param request the request
+     * @param description the description of the request (for logging)
+     * @return a future that completes with the result or null if the request failed
+     */
+    private <T> CompletableFuture<@Nullable T> requestAsync(Request<T> request, String description) {
+        CompletableFuture<@Nullable T> future = CompletableFuture.supplyAsync(() -> {
+            try {
+                return request.execute();
+            } catch (JsonSyntaxException | ConnectionException e) {
+                logger.debug("{} failed", description, e);
+                return null;
+            }
+        }, requestExecutor);
+        return future.exceptionally(e -> {
+            logger.warn("{} failed with unexpected error", description, e);
+            return null;
+        });
+    }
+
     public @Nullable Device findDeviceJson(@Nullable String serialNumber) {
         if (serialNumber == null || serialNumber.isEmpty()) {
             return null;
@@ -636,14 +729,17 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
                     .collect(Collectors.toMap(d -> Objects.requireNonNull(d.serialNumber), d -> d));
         }
 
-        List<WakeWord> wakeWords = currentConnection.getWakeWords();
+        Map<String, @Nullable String> wakeWords = new HashMap<>();
+        for (WakeWord wakeWord : currentConnection.getWakeWords()) {
+            String serialNumber = wakeWord.deviceSerialNumber;
+            if (serialNumber != null && !wakeWords.containsKey(serialNumber)) {
+                wakeWords.put(serialNumber, wakeWord.wakeWord);
+            }
+        }
         // update handlers
         for (EchoHandler echoHandler : echoHandlers) {
             String serialNumber = echoHandler.findSerialNumber();
-            String deviceWakeWord = wakeWords.stream()
-                    .filter(wakeWord -> serialNumber.equals(wakeWord.deviceSerialNumber)).findFirst()
-                    .map(wakeWord -> wakeWord.wakeWord).orElse(null);
-            echoHandler.setDeviceAndUpdateThingState(this, findDeviceJson(serialNumber), deviceWakeWord);
+            echoHandler.setDeviceAndUpdateThingState(this, findDeviceJson(serialNumber), wakeWords.get(serialNumber));
         }
 
         if (devices != null) {
@@ -681,14 +777,18 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         if (!flashBriefingProfileHandlers.isEmpty() || currentFlashBriefingJson.isEmpty()) {
             updateFlashBriefingProfiles(currentConnection);
         }
+        if (initializeFlashBriefingHandlers()) {
+            return "";
+        }
+        return this.currentFlashBriefingJson;
+    }
+
+    private boolean initializeFlashBriefingHandlers() {
         boolean flashBriefingProfileFound = false;
         for (FlashBriefingProfileHandler child : flashBriefingProfileHandlers) {
             flashBriefingProfileFound |= child.initialize(this, currentFlashBriefingJson);
         }
-        if (flashBriefingProfileFound) {
-            return "";
-        }
-        return this.currentFlashBriefingJson;
+        return flashBriefingProfileFound;
     }
 
     public @Nullable Connection findConnection() {
@@ -706,15 +806,19 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
 
     private void updateFlashBriefingProfiles(Connection currentConnection) {
         try {
-            // Make a copy and remove changeable parts
-            JsonFeed[] forSerializer = currentConnection.getEnabledFlashBriefings().stream()
-                    .map(source -> new JsonFeed(source.feedId, source.skillId)).toArray(JsonFeed[]::new);
-            this.currentFlashBriefingJson = gson.toJson(forSerializer);
+            setFlashBriefingProfiles(currentConnection.getEnabledFlashBriefings());
         } catch (JsonSyntaxException | ConnectionException e) {
             logger.warn("get flash briefing profiles fails", e);
         }
     }
 
+    private void setFlashBriefingProfiles(List<JsonFeed> flashBriefings) {
+        // Make a copy and remove changeable parts
+        JsonFeed[] forSerializer = flashBriefings.stream().map(source -> new JsonFeed(source.feedId, source.skillId))
+                .toArray(JsonFeed[]::new);
+        this.currentFlashBriefingJson = gson.toJson(forSerializer);
+    }
+
     @Override
     public void webSocketCommandReceived(JsonPushCommand pushCommand) {
         try {
@@ -728,18 +832,27 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
     void handleWebsocketCommand(JsonPushCommand pushCommand) {
         String command = pushCommand.command;
         if (command != null) {
-            ScheduledFuture<?> refreshDataDelayed = this.refreshAfterCommandJob;
             switch (command) {
                 case "PUSH_ACTIVITY":
                     handlePushActivity(pushCommand.payload);
                     break;
                 case "PUSH_DOPPLER_CONNECTION_CHANGE":
+                    JsonCommandPayloadPushDopllerConnectionChange connectionChange = gson
+                            .fromJson(pushCommand.payload, JsonCommandPayloadPushDopllerConnectionChange.class);
+                    if (connectionChange != null) {
+                        handlePushConnectionChange(connectionChange);
+                    }
+                    break;
                 case "PUSH_BLUETOOTH_STATE_CHANGE":
-                    if (refreshDataDelayed != null) {
-                        refreshDataDelayed.cancel(false);
+                    JsonCommandPayloadPushBluetoothStateChange bluetoothChange = gson.fromJson(pushCommand.payload,
+                            JsonCommandPayloadPushBluetoothStateChange.class);
+                    DopplerId bluetoothDopplerId = bluetoothChange != null ? bluetoothChange.dopplerId : null;
+                    if (bluetoothDopplerId != null) {
+                        EchoHandler echoHandler = findEchoHandlerBySerialNumber(bluetoothDopplerId.deviceSerialNumber);
+                        if (echoHandler != null) {
+                            echoHandler.schedulePushUpdate(true);
+                        }
                     }
-                    this.refreshAfterCommandJob = scheduler.schedule(this::refreshAfterCommand, 700,
-                            TimeUnit.MILLISECONDS);
                     break;
                 case "PUSH_NOTIFICATION_CHANGE":
                     JsonCommandPayloadPushNotificationChange pushPayload = gson.fromJson(pushCommand.payload,
@@ -768,6 +881,22 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         }
     }
 
+    private void handlePushConnectionChange(JsonCommandPayloadPushDopllerConnectionChange connectionChange) {
+        DopplerId dopplerId = connectionChange.dopplerId;
+        if (dopplerId == null) {
+            return;
+        }
+        Device device = findDeviceJson(dopplerId.deviceSerialNumber);
+        EchoHandler echoHandler = findEchoHandlerBySerialNumber(dopplerId.deviceSerialNumber);
+        if (device == null || echoHandler == null) {
+            return;
+        }
+        device.online = "ONLINE".equals(connectionChange.dopplerConnectionState);
+        if (echoHandler.setDeviceAndUpdateThingState(this, device, null)) {
+            echoHandler.schedulePushUpdate(false);
+        }
+    }
+
     private void handlePushActivity(@Nullable String payload) {
         if (payload == null) {
             return;
@@ -807,10 +936,6 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         }
     }
 
-    void refreshAfterCommand() {
-        refreshData();
-    }
-
     private @Nullable SmartHomeBaseDevice findSmartHomeDeviceJson(SmartHomeDeviceHandler handler) {
         String id = handler.getId();
         if (!id.isEmpty()) {
@@ -841,6 +966,12 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         } catch (ConnectionException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getLocalizedMessage());
         }
+        updateSmartHomeDevices(smartHomeDevices);
+
+        return Objects.requireNonNullElse(smartHomeDevices, List.of());
+    }
+
+    private void updateSmartHomeDevices(@Nullable List<SmartHomeBaseDevice> smartHomeDevices) {
         if (smartHomeDevices != null) {
             // create new id map
             Map<String, SmartHomeBaseDevice> newJsonIdSmartHomeDeviceMapping = new HashMap<>();
@@ -855,8 +986,6 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
         // update handlers
         smartHomeDeviceHandlers
                 .forEach(child -> child.setDeviceAndUpdateThingState(this, findSmartHomeDeviceJson(child)));
-
-        return Objects.requireNonNullElse(smartHomeDevices, List.of());
     }
 
     public void forceDelayedSmartHomeStateUpdate(String deviceId) {
@@ -885,55 +1014,86 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
             this.refreshSmartHomeAfterCommandJob = null;
         }
 
-        deviceUpdates.forEach(this::updateSmartHomeState);
+        updateSmartHomeState(deviceUpdates);
     }
 
-    private synchronized void updateSmartHomeState(@Nullable String deviceFilterId) {
+    private void updateSmartHomeStatePeriodic() {
+        SmartHomeDeviceStateGroupUpdateCalculator smartHomeDeviceStateGroupUpdateCalculator = this.smartHomeDeviceStateGroupUpdateCalculator;
+        if (smartHomeDeviceStateGroupUpdateCalculator == null || smartHomeDeviceHandlers.isEmpty()) {
+            return;
+        }
+        Set<String> deviceUpdates = new HashSet<>();
+        List<SmartHomeBaseDevice> allDevices = getLastKnownSmartHomeDevices();
+        List<JsonSmartHomeDevice> devicesToUpdate = new ArrayList<>();
+        for (SmartHomeDeviceHandler device : smartHomeDeviceHandlers) {
+            SmartHomeBaseDevice baseDevice = jsonIdSmartHomeDeviceMapping.get(device.getId());
+            devicesToUpdate.addAll(SmartHomeDeviceHandler.getSupportedSmartHomeDevices(baseDevice, allDevices));
+        }
+        smartHomeDeviceStateGroupUpdateCalculator.removeDevicesWithNoUpdate(devicesToUpdate);
+        for (JsonSmartHomeDevice device : devicesToUpdate) {
+            String id = device.findId();
+            if (id != null) {
+                deviceUpdates.add(id);
+            }
+        }
+        // handlers of groups are updated if one of their devices is updated, but only the due devices are requested
+        for (SmartHomeDeviceHandler device : smartHomeDeviceHandlers) {
+            SmartHomeBaseDevice baseDevice = jsonIdSmartHomeDeviceMapping.get(device.getId());
+            if (baseDevice != null && baseDevice.isGroup()
+                    && SmartHomeDeviceHandler.getSupportedSmartHomeDevices(baseDevice, allDevices).stream()
+                            .map(SmartHomeBaseDevice::findId).anyMatch(deviceUpdates::contains)) {
+                deviceUpdates.add(device.getId());
+            }
+        }
+        updateSmartHomeState(new HashSet<>(devicesToUpdate), deviceUpdates);
+    }
+
+    /**
+     * Request the states of all given devices (the devices of groups are resolved) in as few requests as possible and
+     * update the handlers of these devices
+     *
+     * @param deviceIds the ids of the devices or groups
+     */
+    private void updateSmartHomeState(Set<String> deviceIds) {
+        List<SmartHomeBaseDevice> allDevices = getLastKnownSmartHomeDevices();
+        Set<SmartHomeBaseDevice> targetDevices = new HashSet<>();
+        for (String deviceId : deviceIds) {
+            SmartHomeBaseDevice targetDevice = jsonIdSmartHomeDeviceMapping.get(deviceId);
+            targetDevices.addAll(SmartHomeDeviceHandler.getSupportedSmartHomeDevices(targetDevice, allDevices));
+        }
+        updateSmartHomeState(targetDevices, deviceIds);
+    }
+
+    /**
+     * Request the states of the given devices in as few requests as possible and update the given handlers
+     *
+     * @param targetDevices the devices to request the states for (groups need to be resolved already)
+     * @param handlerIds the ids of the devices or groups whose handlers are updated
+     */
+    private synchronized void updateSmartHomeState(Set<SmartHomeBaseDevice> targetDevices, Set<String> handlerIds) {
         try {
-            logger.trace("updateSmartHomeState started with deviceFilterId={}", deviceFilterId);
+            logger.trace("updateSmartHomeState started with handlerIds={}", handlerIds);
+            if (targetDevices.isEmpty() || handlerIds.isEmpty()) {
+                return;
+            }
             Connection connection = this.connection;
             if (connection == null || !connection.getIsLoggedIn()) {
                 return;
             }
             List<SmartHomeBaseDevice> allDevices = getLastKnownSmartHomeDevices();
-            Set<SmartHomeBaseDevice> targetDevices = new HashSet<>();
-            if (deviceFilterId != null) {
-                allDevices.stream().filter(d -> deviceFilterId.equals(d.findId())).findFirst()
-                        .ifPresent(targetDevices::add);
-            } else {
-                SmartHomeDeviceStateGroupUpdateCalculator smartHomeDeviceStateGroupUpdateCalculator = this.smartHomeDeviceStateGroupUpdateCalculator;
-                if (smartHomeDeviceStateGroupUpdateCalculator == null) {
-                    return;
-                }
-                if (smartHomeDeviceHandlers.isEmpty()) {
-                    return;
-                }
-                List<JsonSmartHomeDevice> devicesToUpdate = new ArrayList<>();
-                for (SmartHomeDeviceHandler device : smartHomeDeviceHandlers) {
-                    String id = device.getId();
-                    SmartHomeBaseDevice baseDevice = jsonIdSmartHomeDeviceMapping.get(id);
-                    devicesToUpdate.addAll(SmartHomeDeviceHandler.getSupportedSmartHomeDevices(baseDevice, allDevices));
-                }
-                smartHomeDeviceStateGroupUpdateCalculator.removeDevicesWithNoUpdate(devicesToUpdate);
-                targetDevices.addAll(devicesToUpdate);
-                if (targetDevices.isEmpty()) {
-                    return;
-                }
-            }
             Map<String, JsonArray> applianceIdToCapabilityStates = connection
                     .getSmartHomeDeviceStatesJson(targetDevices);
 
             for (SmartHomeDeviceHandler smartHomeDeviceHandler : smartHomeDeviceHandlers) {
                 String id = smartHomeDeviceHandler.getId();
+                if (!handlerIds.contains(id)) {
+                    continue;
+                }
                 if (requestedDeviceUpdates.contains(id)) {
                     logger.debug("Device update {} suspended", id);
                     continue;
                 }
-                if (deviceFilterId == null || id.equals(deviceFilterId)) {
-                    smartHomeDeviceHandler.updateChannelStates(allDevices, applianceIdToCapabilityStates);
-                } else {
-                    logger.trace("Id {} not matching filter {}", id, deviceFilterId);
-                }
+                smartHomeDeviceHandler.updateChannelStates(allDevices, applianceIdToCapabilityStates);
             }
 
             logger.debug("updateSmartHomeState finished");
@@ -948,4 +1108,20 @@ public class AccountHandler extends BaseBridgeHandler implements WebSocketComman
     public Collection<Class<? extends ThingHandlerService>> getServices() {
         return Set.of(AmazonEchoDiscovery.class, SmartHomeDevicesDiscovery.class);
     }
+
+    @FunctionalInterface
+    private interface Request<T> {
+        T execute() throws ConnectionException;
+    }
+
+    private static class DeviceRequests {
+        public final CompletableFuture<@Nullable List<JsonNotificationSound>> notificationSounds;
+        public final CompletableFuture<@Nullable JsonPlaylists> playlists;
+
+        public DeviceRequests(CompletableFuture<@Nullable List<JsonNotificationSound>> notificationSounds,
+                CompletableFuture<@Nullable JsonPlaylists> playlists) {
+            this.notificationSounds = notificationSounds;
+            this.playlists = playlists;
+        }
+    }
 }
@@ -92,6 +92,8 @@ import com.google.gson.Gson;
  */
 @NonNullByDefault
 public class EchoHandler extends UpdatingBaseThingHandler implements AmazonHandlerCallback {
+    private static final long PUSH_UPDATE_DELAY = 500;
+
     private final Logger logger = LoggerFactory.getLogger(EchoHandler.class);
     private final Gson gson;
     private @Nullable Device device;
@@ -100,6 +102,9 @@ public class EchoHandler extends UpdatingBaseThingHandler implements AmazonHandl
     private @Nullable ScheduledFuture<?> updateStateJob;
     private @Nullable ScheduledFuture<?> updateProgressJob;
     private final Object progressLock = new Object();
+    private @Nullable ScheduledFuture<?> pushUpdateJob;
+    private boolean pushUpdateBluetooth = false;
+    private final Object pushUpdateLock = new Object();
     private @Nullable String wakeWord;
     private @Nullable String lastKnownRadioStationId;
     private @Nullable String lastKnownBluetoothMAC;
@@ -187,6 +192,13 @@ public class EchoHandler extends UpdatingBaseThingHandler implements AmazonHandl
             this.disableUpdate = false;
             updateStateJob.cancel(false);
         }
+        synchronized (pushUpdateLock) {
+            ScheduledFuture<?> pushUpdateJob = this.pushUpdateJob;
+            this.pushUpdateJob = null;
+            if (pushUpdateJob != null) {
+                pushUpdateJob.cancel(false);
+            }
+        }
         stopProgressTimer();
     }
 
@@ -1226,13 +1238,44 @@ public class EchoHandler extends UpdatingBaseThingHandler implements AmazonHandl
                 updateEqualizerState();
                 break;
             default:
-                AccountHandler account = this.account;
-                Device device = this.device;
-                if (account != null && device != null) {
-                    this.disableUpdate = false;
-                    updateState(account, device, null, null, null, null, null, null);
-                }
+                schedulePushUpdate(false);
+        }
+    }
+
+    /**
+     * Schedule an update of the player state after a push command. All push commands that are received until the
+     * update is executed are handled by the same update.
+     *
+     * @param bluetoothRefresh true if the bluetooth state of the device shall be requested, too
+     */
+    public void schedulePushUpdate(boolean bluetoothRefresh) {
+        synchronized (pushUpdateLock) {
+            pushUpdateBluetooth |= bluetoothRefresh;
+            if (pushUpdateJob == null) {
+                pushUpdateJob = scheduler.schedule(this::pushUpdate, PUSH_UPDATE_DELAY, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void pushUpdate() {
+        boolean bluetoothRefresh;
+        synchronized (pushUpdateLock) {
+            bluetoothRefresh = pushUpdateBluetooth;
+            pushUpdateBluetooth = false;
+            pushUpdateJob = null;
+        }
+        AccountHandler account = this.account;
+        Device device = this.device;
+        Connection connection = findConnection();
+        if (account == null || device == null || connection == null) {
+            return;
+        }
+        BluetoothState state = null;
+        if (bluetoothRefresh) {
+            state = connection.getBluetoothConnectionStates().findStateByDevice(device);
         }
+        this.disableUpdate = false;
+        updateState(account, device, state, null, null, null, null, null);
     }
 
     public void updateNotifications(ZonedDateTime currentTime, ZonedDateTime now,
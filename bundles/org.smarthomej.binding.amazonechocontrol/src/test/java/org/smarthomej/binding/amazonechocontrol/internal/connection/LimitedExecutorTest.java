@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.amazonechocontrol.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link LimitedExecutorTest} contains tests for the {@link LimitedExecutor}
+ *
+ * The tasks submitted to the underlying executor are collected and run manually.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class LimitedExecutorTest {
+    private static final int LIMIT = 2;
+
+    private final List<Runnable> submittedRunners = new ArrayList<>();
+    private final List<String> executedTasks = new ArrayList<>();
+
+    private @NonNullByDefault({}) LimitedExecutor limitedExecutor;
+
+    @BeforeEach
+    public void initialize() {
+        limitedExecutor = new LimitedExecutor(submittedRunners::add, LIMIT);
+    }
+
+    @Test
+    public void noMoreRunnersThanLimitAreSubmitted() {
+        limitedExecutor.execute(() -> executedTasks.add("a"));
+        limitedExecutor.execute(() -> executedTasks.add("b"));
+        limitedExecutor.execute(() -> executedTasks.add("c"));
+        limitedExecutor.execute(() -> executedTasks.add("d"));
+
+        assertEquals(LIMIT, submittedRunners.size());
+
+        // the first runner executes all queued tasks
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("a", "b", "c", "d"), executedTasks);
+
+        // the second runner finds an empty queue
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("a", "b", "c", "d"), executedTasks);
+    }
+
+    @Test
+    public void newRunnerIsSubmittedAfterRunnerFinished() {
+        limitedExecutor.execute(() -> executedTasks.add("a"));
+        limitedExecutor.execute(() -> executedTasks.add("b"));
+        submittedRunners.remove(0).run();
+        submittedRunners.remove(0).run();
+
+        limitedExecutor.execute(() -> executedTasks.add("c"));
+        assertEquals(1, submittedRunners.size());
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("a", "b", "c"), executedTasks);
+    }
+
+    @Test
+    public void failingTaskDoesNotStopQueue() {
+        limitedExecutor = new LimitedExecutor(submittedRunners::add, 1);
+        limitedExecutor.execute(() -> {
+            throw new IllegalStateException("failed");
+        });
+        limitedExecutor.execute(() -> executedTasks.add("b"));
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("b"), executedTasks);
+    }
+
+    @Test
+    public void rejectedTaskIsNotQueued() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        limitedExecutor = new LimitedExecutor(task -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("rejected");
+            }
+            submittedRunners.add(task);
+        }, 1);
+
+        assertThrows(RejectedExecutionException.class, () -> limitedExecutor.execute(() -> executedTasks.add("a")));
+
+        // the rejected task neither occupies the limit nor stays in the queue
+        reject.set(false);
+        limitedExecutor.execute(() -> executedTasks.add("b"));
+        assertEquals(1, submittedRunners.size());
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("b"), executedTasks);
+    }
+}
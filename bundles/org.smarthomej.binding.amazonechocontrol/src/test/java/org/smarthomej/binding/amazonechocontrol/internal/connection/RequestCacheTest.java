@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.amazonechocontrol.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.amazonechocontrol.internal.ConnectionException;
+
+/**
+ * The {@link RequestCacheTest} contains tests for the {@link RequestCache}
+ *
+ * The time of the cache is replaced by a manual clock.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class RequestCacheTest {
+    private static final long CACHE_TIME = 1000;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private long now = 10000;
+
+    private @NonNullByDefault({}) RequestCache requestCache;
+
+    @BeforeEach
+    public void initialize() {
+        requestCache = new RequestCache() {
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void resultIsCachedUntilExpired() throws ConnectionException {
+        assertEquals("a1", requestCache.get("a", CACHE_TIME, () -> request("a")));
+        now += CACHE_TIME - 1;
+        assertEquals("a1", requestCache.get("a", CACHE_TIME, () -> request("a")));
+        assertEquals(1, requestCount.get());
+
+        now += 1;
+        assertEquals("a2", requestCache.get("a", CACHE_TIME, () -> request("a")));
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    public void expiredEntriesAreRemoved() throws ConnectionException {
+        requestCache.get("a", CACHE_TIME, () -> request("a"));
+        requestCache.get("b", CACHE_TIME, () -> request("b"));
+        assertEquals(2, requestCache.size());
+
+        now += CACHE_TIME;
+        requestCache.get("c", CACHE_TIME, () -> request("c"));
+        assertEquals(1, requestCache.size());
+    }
+
+    @Test
+    public void failedRequestIsNotCached() throws ConnectionException {
+        requestCache.get("a", CACHE_TIME, () -> request("a"));
+        now += CACHE_TIME;
+
+        assertThrows(ConnectionException.class, () -> requestCache.get("a", CACHE_TIME, () -> {
+            throw new ConnectionException("failed");
+        }));
+        assertEquals(0, requestCache.size());
+
+        assertEquals("a2", requestCache.get("a", CACHE_TIME, () -> request("a")));
+    }
+
+    @Test
+    public void clearRemovesAllEntries() throws ConnectionException {
+        requestCache.get("a", CACHE_TIME, () -> request("a"));
+        requestCache.clear();
+
+        assertEquals(0, requestCache.size());
+        assertEquals("a2", requestCache.get("a", CACHE_TIME, () -> request("a")));
+    }
+
+    private String request(String key) {
+        return key + requestCount.incrementAndGet();
+    }
+}
@@ -56,6 +56,57 @@ public class GroupAction {
         xy = null;
     }
 
+    /**
+     * merge a newer group action into this group action
+     *
+     * All values of the newer action overwrite the values of this action. Color values of a different color mode are
+     * replaced as a whole. If the newer action switches the group off, all values of this action are dropped.
+     *
+     * @param newer the newer action
+     * @return a new group action with the merged values
+     */
+    public GroupAction merge(GroupAction newer) {
+        GroupAction merged = new GroupAction();
+        if (!Boolean.FALSE.equals(newer.on)) {
+            merged.on = on;
+            merged.toggle = toggle;
+            merged.bri = bri;
+            merged.alert = alert;
+            merged.effect = effect;
+            merged.colorloopspeed = colorloopspeed;
+            merged.transitiontime = transitiontime;
+            if (newer.hue == null && newer.sat == null && newer.ct == null && newer.xy == null) {
+                merged.colormode = colormode;
+                merged.hue = hue;
+                merged.sat = sat;
+                merged.ct = ct;
+                merged.xy = xy;
+            } else if (newer.ct == null && newer.xy == null) {
+                merged.hue = hue;
+                merged.sat = sat;
+            }
+        }
+
+        merged.on = newerOrOlder(newer.on, merged.on);
+        merged.toggle = newerOrOlder(newer.toggle, merged.toggle);
+        merged.bri = newerOrOlder(newer.bri, merged.bri);
+        merged.hue = newerOrOlder(newer.hue, merged.hue);
+        merged.sat = newerOrOlder(newer.sat, merged.sat);
+        merged.ct = newerOrOlder(newer.ct, merged.ct);
+        merged.xy = newer.xy != null ? newer.xy : merged.xy;
+        merged.alert = newerOrOlder(newer.alert, merged.alert);
+        merged.colormode = newerOrOlder(newer.colormode, merged.colormode);
+        merged.effect = newerOrOlder(newer.effect, merged.effect);
+        merged.colorloopspeed = newerOrOlder(newer.colorloopspeed, merged.colorloopspeed);
+        merged.transitiontime = newerOrOlder(newer.transitiontime, merged.transitiontime);
+
+        return merged;
+    }
+
+    private <T> @Nullable T newerOrOlder(@Nullable T newer, @Nullable T older) {
+        return newer != null ? newer : older;
+    }
+
     @Override
     public String toString() {
         return "GroupAction{on=" + on + ", toggle=" + toggle + ", bri=" + bri + ", hue=" + hue + ", sat=" + sat
@@ -85,6 +85,66 @@ public class LightState {
         transitiontime = null;
     }
 
+    /**
+     * merge a newer light state into this light state
+     *
+     * All values of the newer state overwrite the values of this state. Color values of a different color mode and
+     * window covering values are replaced as a whole. If the newer state switches the light off, all values of this
+     * state are dropped.
+     *
+     * @param newer the newer state
+     * @return a new light state with the merged values
+     */
+    public LightState merge(LightState newer) {
+        LightState merged = new LightState();
+        if (!Boolean.FALSE.equals(newer.on)) {
+            merged.on = on;
+            merged.bri = bri;
+            merged.alert = alert;
+            merged.effect = effect;
+            merged.effectSpeed = effectSpeed;
+            merged.ontime = ontime;
+            merged.transitiontime = transitiontime;
+            if (newer.hue == null && newer.sat == null && newer.ct == null && newer.xy == null) {
+                merged.colormode = colormode;
+                merged.hue = hue;
+                merged.sat = sat;
+                merged.ct = ct;
+                merged.xy = xy;
+            } else if (newer.ct == null && newer.xy == null) {
+                merged.hue = hue;
+                merged.sat = sat;
+            }
+            if (newer.open == null && newer.stop == null && newer.lift == null) {
+                merged.open = open;
+                merged.stop = stop;
+                merged.lift = lift;
+            }
+        }
+
+        merged.on = newerOrOlder(newer.on, merged.on);
+        merged.bri = newerOrOlder(newer.bri, merged.bri);
+        merged.alert = newerOrOlder(newer.alert, merged.alert);
+        merged.colormode = newerOrOlder(newer.colormode, merged.colormode);
+        merged.effect = newerOrOlder(newer.effect, merged.effect);
+        merged.effectSpeed = newerOrOlder(newer.effectSpeed, merged.effectSpeed);
+        merged.ontime = newerOrOlder(newer.ontime, merged.ontime);
+        merged.hue = newerOrOlder(newer.hue, merged.hue);
+        merged.sat = newerOrOlder(newer.sat, merged.sat);
+        merged.ct = newerOrOlder(newer.ct, merged.ct);
+        merged.xy = newer.xy != null ? newer.xy : merged.xy;
+        merged.open = newerOrOlder(newer.open, merged.open);
+        merged.stop = newerOrOlder(newer.stop, merged.stop);
+        merged.lift = newerOrOlder(newer.lift, merged.lift);
+        merged.transitiontime = newerOrOlder(newer.transitiontime, merged.transitiontime);
+
+        return merged;
+    }
+
+    private <T> @Nullable T newerOrOlder(@Nullable T newer, @Nullable T older) {
+        return newer != null ? newer : older;
+    }
+
     private <T> boolean equalsIgnoreNull(T o1, T o2) {
         return (o1 != null && o2 != null) ? o1.equals(o2) : true;
     }
@@ -17,6 +17,7 @@ import static org.smarthomej.binding.deconz.internal.BindingConstants.*;
 
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +41,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.deconz.internal.Util;
 import org.smarthomej.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.smarthomej.binding.deconz.internal.netutils.AsyncHttpClient;
 import org.smarthomej.binding.deconz.internal.netutils.WebSocketConnection;
 import org.smarthomej.binding.deconz.internal.netutils.WebSocketMessageListener;
 import org.smarthomej.binding.deconz.internal.types.ResourceType;
@@ -287,26 +289,72 @@ public abstract class DeconzBaseThingHandler extends UpdatingBaseThingHandler im
         if (bridgeHandler == null) {
             return;
         }
-        String endpoint = Stream.of(resourceType.getIdentifier(), config.id, commandUrl)
-                .collect(Collectors.joining("/"));
+        String endpoint = getCommandEndpoint(commandUrl);
 
         bridgeHandler.sendObject(endpoint, object, HttpMethod.PUT).thenAccept(v -> {
             if (acceptProcessing != null) {
                 acceptProcessing.run();
             }
-            if (v.getResponseCode() != java.net.HttpURLConnection.HTTP_OK) {
-                logger.warn("Sending command {} to channel {} failed: {} - {}", originalCommand, channelUID,
-                        v.getResponseCode(), v.getBody());
-            } else {
-                logger.trace("Result code={}, body={}", v.getResponseCode(), v.getBody());
-            }
+            logCommandResult(v, originalCommand, channelUID);
         }).exceptionally(e -> {
-            logger.warn("Sending command {} to channel {} failed: {} - {}", originalCommand, channelUID, e.getClass(),
-                    e.getMessage());
+            logCommandFailure(e, originalCommand, channelUID);
             return null;
         });
     }
 
+    /**
+     * queues a command to the bridge with the default command URL
+     *
+     * A command that is not sent yet is merged with newer commands and the bridge limits the rate of commands (see
+     * {@link DeconzBridgeHandler#queueCommand(String, Object, BinaryOperator)}).
+     *
+     * @param object must be serializable and contain the command
+     * @param merger merges a newer command into a waiting command
+     * @param originalCommand the original openHAB command (used for logging purposes)
+     * @param channelUID the channel that this command was send to (used for logging purposes)
+     * @param completeProcessing additional processing after the command was send or sending failed (might be null)
+     */
+    protected <T> void queueCommand(T object, BinaryOperator<T> merger, Command originalCommand, ChannelUID channelUID,
+            @Nullable Runnable completeProcessing) {
+        DeconzBridgeHandler bridgeHandler = getBridgeHandler();
+        if (bridgeHandler == null) {
+            if (completeProcessing != null) {
+                completeProcessing.run();
+            }
+            return;
+        }
+        String endpoint = getCommandEndpoint(resourceType.getCommandUrl());
+
+        bridgeHandler.queueCommand(endpoint, object, merger).whenComplete((v, e) -> {
+            if (completeProcessing != null) {
+                completeProcessing.run();
+            }
+            if (e != null) {
+                logCommandFailure(e, originalCommand, channelUID);
+            } else {
+                logCommandResult(v, originalCommand, channelUID);
+            }
+        });
+    }
+
+    private String getCommandEndpoint(String commandUrl) {
+        return Stream.of(resourceType.getIdentifier(), config.id, commandUrl).collect(Collectors.joining("/"));
+    }
+
+    private void logCommandResult(AsyncHttpClient.Result result, Command originalCommand, ChannelUID channelUID) {
+        if (result.getResponseCode() != java.net.HttpURLConnection.HTTP_OK) {
+            logger.warn("Sending command {} to channel {} failed: {} - {}", originalCommand, channelUID,
+                    result.getResponseCode(), result.getBody());
+        } else {
+            logger.trace("Result code={}, body={}", result.getResponseCode(), result.getBody());
+        }
+    }
+
+    private void logCommandFailure(Throwable e, Command originalCommand, ChannelUID channelUID) {
+        logger.warn("Sending command {} to channel {} failed: {} - {}", originalCommand, channelUID, e.getClass(),
+                e.getMessage());
+    }
+
     public void doNetwork(@Nullable Object object, String commandUrl, HttpMethod httpMethod,
             @Nullable Consumer<String> acceptProcessing) {
         DeconzBridgeHandler bridgeHandler = getBridgeHandler();
@@ -28,6 +28,8 @@ public class DeconzBridgeConfig {
     public int port = 0;
     public @Nullable String apikey;
     int timeout = 2000;
+    int commandInterval = 200;
+    int commandRate = 10;
 
     public String getHostWithoutPort() {
         String hostWithoutPort = host;
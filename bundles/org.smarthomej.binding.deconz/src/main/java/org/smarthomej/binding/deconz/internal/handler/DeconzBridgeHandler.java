@@ -28,6 +28,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BinaryOperator;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -50,6 +51,7 @@ import org.smarthomej.binding.deconz.internal.discovery.ThingDiscoveryService;
 import org.smarthomej.binding.deconz.internal.dto.ApiKeyMessage;
 import org.smarthomej.binding.deconz.internal.dto.BridgeFullState;
 import org.smarthomej.binding.deconz.internal.netutils.AsyncHttpClient;
+import org.smarthomej.binding.deconz.internal.netutils.CommandQueue;
 import org.smarthomej.binding.deconz.internal.netutils.WebSocketConnection;
 import org.smarthomej.binding.deconz.internal.netutils.WebSocketConnectionListener;
 
@@ -82,6 +84,7 @@ public class DeconzBridgeHandler extends BaseBridgeHandler implements WebSocketC
     private boolean ignoreConfigurationUpdate;
     private boolean thingDisposing = false;
     private WebSocketConnection webSocketConnection;
+    private @Nullable CommandQueue commandQueue;
 
     private final ExpiringCacheAsync<Optional<BridgeFullState>> fullStateCache = new ExpiringCacheAsync<>(1000);
 
@@ -297,6 +300,8 @@ public class DeconzBridgeHandler extends BaseBridgeHandler implements WebSocketC
         logger.debug("Start initializing bridge {}", thing.getUID());
         thingDisposing = false;
         config = getConfigAs(DeconzBridgeConfig.class);
+        commandQueue = new CommandQueue(scheduler, (endPoint, object) -> sendObject(endPoint, object, HttpMethod.PUT),
+                config.commandInterval, 1000 / Math.max(1, config.commandRate));
         updateStatus(ThingStatus.UNKNOWN);
         if (config.apikey == null) {
             requestApiKey();
@@ -310,6 +315,11 @@ public class DeconzBridgeHandler extends BaseBridgeHandler implements WebSocketC
         thingDisposing = true;
         stopTimer();
         webSocketConnection.dispose();
+        CommandQueue commandQueue = this.commandQueue;
+        if (commandQueue != null) {
+            commandQueue.dispose();
+            this.commandQueue = null;
+        }
     }
 
     @Override
@@ -362,4 +372,24 @@ public class DeconzBridgeHandler extends BaseBridgeHandler implements WebSocketC
 
         return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown HTTP Method"));
     }
+
+    /**
+     * Queue a state command for a resource
+     *
+     * Commands that are not sent yet are merged with newer commands for the same endpoint and all commands are paced
+     * (see {@link CommandQueue}).
+     *
+     * @param endPoint the endpoint (e.g. "lights/2/state")
+     * @param object the command
+     * @param merger merges a newer command into a waiting command
+     * @return CompletableFuture of the result
+     */
+    public <T> CompletableFuture<AsyncHttpClient.Result> queueCommand(String endPoint, T object,
+            BinaryOperator<T> merger) {
+        CommandQueue commandQueue = this.commandQueue;
+        if (commandQueue == null) {
+            return sendObject(endPoint, object, HttpMethod.PUT);
+        }
+        return commandQueue.queue(endPoint, object, merger);
+    }
 }
@@ -171,7 +171,7 @@ public class GroupThingHandler extends DeconzBaseThingHandler {
             newGroupAction.on = false;
         }
 
-        sendCommand(newGroupAction, command, channelUID, null);
+        queueCommand(newGroupAction, GroupAction::merge, command, channelUID, null);
     }
 
     @Override
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -90,6 +91,7 @@ public class LightThingHandler extends DeconzBaseThingHandler {
     private final CommandDescriptionProvider commandDescriptionProvider;
 
     private long lastCommandExpireTimestamp = 0;
+    private final AtomicInteger pendingCommandCount = new AtomicInteger();
     private boolean needsPropertyUpdate = false;
 
     /**
@@ -284,11 +286,18 @@ public class LightThingHandler extends DeconzBaseThingHandler {
             newLightState.ontime = onTime;
         }
 
-        sendCommand(newLightState, command, channelUID, () -> {
-            Integer transitionTime = newLightState.transitiontime;
+        // commands that are waiting are merged, so differing updates are ignored until the merged state expires
+        boolean commandActive = pendingCommandCount.get() > 0
+                || lastCommandExpireTimestamp > System.currentTimeMillis();
+        LightState commandState = commandActive ? lastCommand.merge(newLightState) : newLightState;
+        lastCommand = commandState;
+        pendingCommandCount.incrementAndGet();
+
+        queueCommand(newLightState, LightState::merge, command, channelUID, () -> {
+            Integer transitionTime = commandState.transitiontime;
             lastCommandExpireTimestamp = System.currentTimeMillis()
                     + (transitionTime != null ? transitionTime : DEFAULT_COMMAND_EXPIRY_TIME);
-            lastCommand = newLightState;
+            pendingCommandCount.decrementAndGet();
         });
     }
 
@@ -472,7 +481,7 @@ public class LightThingHandler extends DeconzBaseThingHandler {
             LightMessage lightMessage = (LightMessage) message;
             LightState lightState = lightMessage.state;
             if (lightState != null) {
-                if (lastCommandExpireTimestamp > System.currentTimeMillis()
+                if ((pendingCommandCount.get() > 0 || lastCommandExpireTimestamp > System.currentTimeMillis())
                         && !lightState.equalsIgnoreNull(lastCommand)) {
                     // skip for SKIP_UPDATE_TIMESPAN after last command if lightState is different from command
                     logger.trace("Ignoring differing update after last command until {}", lastCommandExpireTimestamp);
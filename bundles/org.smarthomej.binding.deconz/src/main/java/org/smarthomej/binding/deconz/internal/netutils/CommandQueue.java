@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.deconz.internal.netutils;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link CommandQueue} coalesces and paces the commands that are sent to the gateway
+ *
+ * A command for an endpoint that already has a command waiting is merged into the waiting command, so only the latest
+ * state is sent. Each endpoint receives at most one command per resource interval and all endpoints together receive
+ * at most one command per gateway interval, because the Zigbee network can only handle a limited number of commands.
+ * Commands are sent in the order they were first queued.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class CommandQueue {
+    private final ScheduledExecutorService scheduler;
+    private final BiFunction<String, Object, CompletableFuture<AsyncHttpClient.Result>> sender;
+    private final long resourceInterval;
+    private final long gatewayInterval;
+
+    private final Map<String, PendingCommand<?>> pendingCommands = new LinkedHashMap<>();
+    private final Map<String, Long> lastSendTimestamps = new HashMap<>();
+    private long nextSendTimestamp = 0;
+    private long sendJobTimestamp = 0;
+    private @Nullable ScheduledFuture<?> sendJob;
+    private boolean disposed = false;
+
+    /**
+     * create a command queue
+     *
+     * @param scheduler the scheduler for sending the commands
+     * @param sender sends a command to an endpoint
+     * @param resourceInterval the minimum time between two commands to the same endpoint (in ms)
+     * @param gatewayInterval the minimum time between two commands to the gateway (in ms)
+     */
+    public CommandQueue(ScheduledExecutorService scheduler,
+            BiFunction<String, Object, CompletableFuture<AsyncHttpClient.Result>> sender, long resourceInterval,
+            long gatewayInterval) {
+        this.scheduler = scheduler;
+        this.sender = sender;
+        this.resourceInterval = resourceInterval;
+        this.gatewayInterval = gatewayInterval;
+    }
+
+    /**
+     * queue a command
+     *
+     * @param endpoint the endpoint (e.g. "lights/2/state")
+     * @param command the command (commands for the same endpoint must be of the same type)
+     * @param merger merges a newer command into a waiting command
+     * @return CompletableFuture of the result (shared by all commands that are merged)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<AsyncHttpClient.Result> queue(String endpoint, T command, BinaryOperator<T> merger) {
+        synchronized (pendingCommands) {
+            if (disposed) {
+                return CompletableFuture.failedFuture(new CancellationException("Command queue is disposed"));
+            }
+            PendingCommand<T> pendingCommand = (PendingCommand<T>) pendingCommands.get(endpoint);
+            if (pendingCommand != null) {
+                pendingCommand.command = merger.apply(pendingCommand.command, command);
+                return pendingCommand.future;
+            }
+            pendingCommand = new PendingCommand<>(command);
+            pendingCommands.put(endpoint, pendingCommand);
+            scheduleSend();
+            return pendingCommand.future;
+        }
+    }
+
+    /**
+     * stop sending and cancel all waiting commands
+     */
+    public void dispose() {
+        synchronized (pendingCommands) {
+            disposed = true;
+            ScheduledFuture<?> sendJob = this.sendJob;
+            if (sendJob != null) {
+                sendJob.cancel(false);
+                this.sendJob = null;
+            }
+            pendingCommands.values().forEach(pendingCommand -> pendingCommand.future.cancel(false));
+            pendingCommands.clear();
+        }
+    }
+
+    private void sendNext() {
+        String endpoint = null;
+        PendingCommand<?> pendingCommand = null;
+        synchronized (pendingCommands) {
+            sendJob = null;
+            long now = currentTimeMillis();
+            Iterator<Map.Entry<String, PendingCommand<?>>> iterator = pendingCommands.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, PendingCommand<?>> entry = iterator.next();
+                if (getSendTimestamp(entry.getKey()) <= now) {
+                    iterator.remove();
+                    endpoint = entry.getKey();
+                    pendingCommand = entry.getValue();
+                    lastSendTimestamps.put(endpoint, now);
+                    nextSendTimestamp = now + gatewayInterval;
+                    break;
+                }
+            }
+            scheduleSend();
+        }
+
+        if (endpoint != null && pendingCommand != null) {
+            CompletableFuture<AsyncHttpClient.Result> future = pendingCommand.future;
+            sender.apply(endpoint, pendingCommand.command).whenComplete((result, e) -> {
+                if (e != null) {
+                    future.completeExceptionally(e);
+                } else {
+                    future.complete(result);
+                }
+            });
+        }
+    }
+
+    /**
+     * schedule sending the next command, must be called while holding the lock
+     */
+    private void scheduleSend() {
+        if (disposed || pendingCommands.isEmpty()) {
+            return;
+        }
+        long sendTimestamp = Long.MAX_VALUE;
+        for (String endpoint : pendingCommands.keySet()) {
+            sendTimestamp = Math.min(sendTimestamp, getSendTimestamp(endpoint));
+        }
+        ScheduledFuture<?> sendJob = this.sendJob;
+        if (sendJob != null) {
+            if (sendJobTimestamp <= sendTimestamp) {
+                return;
+            }
+            sendJob.cancel(false);
+        }
+        sendJobTimestamp = sendTimestamp;
+        long delay = Math.max(0, sendTimestamp - currentTimeMillis());
+        this.sendJob = scheduler.schedule(this::sendNext, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private long getSendTimestamp(String endpoint) {
+        return Math.max(nextSendTimestamp, lastSendTimestamps.getOrDefault(endpoint, 0L) + resourceInterval);
+    }
+
+    // Visible for testing
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private static class PendingCommand<T> {
+        private T command;
+        private final CompletableFuture<AsyncHttpClient.Result> future = new CompletableFuture<>();
+
+        private PendingCommand(T command) {
+            this.command = command;
+        }
+    }
+}
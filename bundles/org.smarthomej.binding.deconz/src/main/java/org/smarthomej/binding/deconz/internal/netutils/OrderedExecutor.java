@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.deconz.internal.netutils;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link OrderedExecutor} executes tasks on an {@link Executor}
+ *
+ * Tasks with the same key are executed one after another in the order they were submitted, tasks with different keys
+ * are executed in parallel.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class OrderedExecutor {
+    private final Logger logger = LoggerFactory.getLogger(OrderedExecutor.class);
+    private final Executor executor;
+    private final Map<String, Queue<Runnable>> queues = new HashMap<>();
+
+    public OrderedExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * submit a task
+     *
+     * @param key the key (tasks with the same key are executed in order)
+     * @param task the task
+     */
+    public void execute(String key, Runnable task) {
+        synchronized (queues) {
+            Queue<Runnable> queue = queues.get(key);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(key, queue);
+                executor.execute(() -> runQueue(key));
+            }
+            queue.add(task);
+        }
+    }
+
+    private void runQueue(String key) {
+        while (true) {
+            Runnable task;
+            synchronized (queues) {
+                Queue<Runnable> queue = queues.get(key);
+                task = queue != null ? queue.poll() : null;
+                if (task == null) {
+                    queues.remove(key);
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.warn("Task for {} failed: {}", key, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -38,6 +38,8 @@ import org.smarthomej.binding.deconz.internal.dto.DeconzBaseMessage;
 import org.smarthomej.binding.deconz.internal.types.ResourceType;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 /**
  * Establishes and keeps a websocket connection to the deCONZ software.
@@ -50,8 +52,10 @@ import com.google.gson.Gson;
 @NonNullByDefault
 public class WebSocketConnection {
     private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+    private static final String THREADPOOL_NAME = "deconz";
     private final Logger logger = LoggerFactory.getLogger(WebSocketConnection.class);
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("thingHandler");
+    private final OrderedExecutor messageExecutor = new OrderedExecutor(ThreadPoolManager.getPool(THREADPOOL_NAME));
 
     private final WebSocketClient client;
     private final String socketName;
@@ -163,40 +167,44 @@ public class WebSocketConnection {
         logger.trace("{} received raw data: {}", socketName, message);
 
         try {
-            DeconzBaseMessage changedMessage = Objects.requireNonNull(gson.fromJson(message, DeconzBaseMessage.class));
-            if (changedMessage.r == ResourceType.UNKNOWN) {
+            // parse the message once, the resource is read from the tree and the tree is bound to the message type
+            JsonObject json = Objects.requireNonNull(gson.fromJson(message, JsonObject.class));
+            ResourceType changedResourceType = getResourceType(json);
+            if (changedResourceType == ResourceType.UNKNOWN) {
                 logger.trace("Received message has unknown resource type. Skipping message.");
                 return;
             }
 
-            ResourceType resourceType = changedMessage.r;
-            String resourceId = changedMessage.id;
+            ResourceType resourceType = changedResourceType;
+            String resourceId = getString(json, "id");
 
             if (resourceType == ResourceType.SCENES) {
                 // scene recalls
                 resourceType = ResourceType.GROUPS;
-                resourceId = changedMessage.gid;
+                resourceId = getString(json, "gid");
             }
 
-            WebSocketMessageListener listener = listeners.get(getListenerId(resourceType, resourceId));
+            String listenerId = getListenerId(resourceType, resourceId);
+            WebSocketMessageListener listener = listeners.get(listenerId);
             if (listener == null) {
                 logger.debug(
                         "Couldn't find listener for id {} with resource type {}. Either no thing for this id has been defined or this is a bug.",
-                        changedMessage.id, changedMessage.r);
+                        getString(json, "id"), changedResourceType);
                 return;
             }
 
             // we still need the original resource type here
-            Class<? extends DeconzBaseMessage> expectedMessageType = changedMessage.r.getExpectedMessageType();
+            Class<? extends DeconzBaseMessage> expectedMessageType = changedResourceType.getExpectedMessageType();
             if (expectedMessageType == null) {
                 logger.warn(
                         "BUG! Could not get expected message type for resource type {}. Please report this incident.",
-                        changedMessage.r);
+                        changedResourceType);
                 return;
             }
 
-            DeconzBaseMessage deconzMessage = Objects.requireNonNull(gson.fromJson(message, expectedMessageType));
-            listener.messageReceived(deconzMessage);
+            DeconzBaseMessage deconzMessage = Objects.requireNonNull(gson.fromJson(json, expectedMessageType));
+            // messages of one resource are processed in order, messages of different resources in parallel
+            messageExecutor.execute(listenerId, () -> listener.messageReceived(deconzMessage));
         } catch (RuntimeException e) {
             // we need to catch all processing exceptions, otherwise they could affect the connection
             logger.warn("{} encountered an error while processing the message {}: {}", socketName, message,
@@ -204,6 +212,19 @@ public class WebSocketConnection {
         }
     }
 
+    private ResourceType getResourceType(JsonObject json) {
+        JsonElement element = json.get("r");
+        if (element == null || !element.isJsonPrimitive()) {
+            return ResourceType.UNKNOWN;
+        }
+        return ResourceType.fromString(element.getAsString());
+    }
+
+    private String getString(JsonObject json, String key) {
+        JsonElement element = json.get(key);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : "";
+    }
+
     @SuppressWarnings("unused")
     @OnWebSocketError
     public void onError(@Nullable Session session, Throwable cause) {
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.deconz;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.deconz.internal.netutils.AsyncHttpClient;
+import org.smarthomej.binding.deconz.internal.netutils.CommandQueue;
+
+/**
+ * The {@link CommandQueueTest} contains tests for the {@link CommandQueue}
+ *
+ * The scheduler is replaced by a manual scheduler that runs the scheduled tasks when the time is advanced.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class CommandQueueTest {
+    private static final long RESOURCE_INTERVAL = 500;
+    private static final long GATEWAY_INTERVAL = 100;
+    private static final AsyncHttpClient.Result RESULT = new AsyncHttpClient.Result("[]", 200);
+
+    private final List<ScheduledTask> scheduledTasks = new ArrayList<>();
+    private final List<String> sentCommands = new ArrayList<>();
+    private long now = 10000;
+
+    private @NonNullByDefault({}) CommandQueue commandQueue;
+
+    @BeforeEach
+    public void initialize() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS))).thenAnswer(invocation -> {
+            long delay = invocation.getArgument(1);
+            ScheduledTask task = new ScheduledTask(invocation.getArgument(0), now + delay);
+            scheduledTasks.add(task);
+            ScheduledFuture<?> future = mock(ScheduledFuture.class);
+            when(future.cancel(anyBoolean())).thenAnswer(i -> scheduledTasks.remove(task));
+            return future;
+        });
+
+        commandQueue = new CommandQueue(scheduler, this::send, RESOURCE_INTERVAL, GATEWAY_INTERVAL) {
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void commandsForPendingEndpointAreMerged() {
+        CompletableFuture<AsyncHttpClient.Result> future1 = commandQueue.queue("lights/1/state", "a", String::concat);
+        CompletableFuture<AsyncHttpClient.Result> future2 = commandQueue.queue("lights/1/state", "b", String::concat);
+
+        assertSame(future1, future2);
+        assertEquals(1, scheduledTasks.size());
+
+        advanceTime(0);
+        assertEquals(List.of("lights/1/state=ab@10000"), sentCommands);
+        assertSame(RESULT, future1.getNow(null));
+    }
+
+    @Test
+    public void commandsForSameEndpointArePacedByResourceInterval() {
+        commandQueue.queue("lights/1/state", "a", String::concat);
+        advanceTime(0);
+
+        commandQueue.queue("lights/1/state", "b", String::concat);
+        assertEquals(1, scheduledTasks.size());
+        assertEquals(10000 + RESOURCE_INTERVAL, scheduledTasks.get(0).time);
+
+        advanceTime(RESOURCE_INTERVAL - 1);
+        assertEquals(List.of("lights/1/state=a@10000"), sentCommands);
+
+        advanceTime(1);
+        assertEquals(List.of("lights/1/state=a@10000", "lights/1/state=b@10500"), sentCommands);
+    }
+
+    @Test
+    public void waitingEndpointDoesNotBlockOtherEndpoints() {
+        commandQueue.queue("lights/1/state", "a", String::concat);
+        advanceTime(0);
+
+        commandQueue.queue("lights/1/state", "b", String::concat);
+        commandQueue.queue("lights/2/state", "c", String::concat);
+
+        advanceTime(RESOURCE_INTERVAL);
+        assertEquals(List.of("lights/1/state=a@10000", "lights/2/state=c@10100", "lights/1/state=b@10500"),
+                sentCommands);
+    }
+
+    @Test
+    public void commandsForDifferentEndpointsArePacedByGatewayInterval() {
+        commandQueue.queue("lights/1/state", "a", String::concat);
+        commandQueue.queue("lights/2/state", "b", String::concat);
+        commandQueue.queue("groups/1/action", "c", String::concat);
+
+        advanceTime(0);
+        assertEquals(List.of("lights/1/state=a@10000"), sentCommands);
+        assertEquals(10000 + GATEWAY_INTERVAL, scheduledTasks.get(0).time);
+
+        advanceTime(2 * GATEWAY_INTERVAL);
+        assertEquals(List.of("lights/1/state=a@10000", "lights/2/state=b@10100", "groups/1/action=c@10200"),
+                sentCommands);
+        assertTrue(scheduledTasks.isEmpty());
+    }
+
+    @Test
+    public void disposeCancelsPendingCommands() {
+        CompletableFuture<AsyncHttpClient.Result> future = commandQueue.queue("lights/1/state", "a", String::concat);
+
+        commandQueue.dispose();
+        assertTrue(future.isCancelled());
+        assertTrue(scheduledTasks.isEmpty());
+
+        CompletableFuture<AsyncHttpClient.Result> laterFuture = commandQueue.queue("lights/1/state", "b",
+                String::concat);
+        assertTrue(laterFuture.isCompletedExceptionally());
+        assertTrue(sentCommands.isEmpty());
+    }
+
+    private CompletableFuture<AsyncHttpClient.Result> send(String endpoint, Object command) {
+        sentCommands.add(endpoint + "=" + command + "@" + now);
+        return CompletableFuture.completedFuture(RESULT);
+    }
+
+    /**
+     * advance the time and run all tasks that are due in the order of their scheduled time
+     *
+     * @param millis time to advance (in ms)
+     */
+    private void advanceTime(long millis) {
+        long target = now + millis;
+        while (true) {
+            @Nullable
+            ScheduledTask next = scheduledTasks.stream().filter(task -> task.time <= target)
+                    .min(Comparator.comparingLong(task -> task.time)).orElse(null);
+            if (next == null) {
+                break;
+            }
+            scheduledTasks.remove(next);
+            now = Math.max(now, next.time);
+            next.runnable.run();
+        }
+        now = target;
+    }
+
+    private static class ScheduledTask {
+        private final Runnable runnable;
+        private final long time;
+
+        private ScheduledTask(Runnable runnable, long time) {
+            this.runnable = runnable;
+            this.time = time;
+        }
+    }
+}
@@ -13,7 +13,7 @@
  */
 package org.smarthomej.binding.deconz;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.smarthomej.binding.deconz.internal.BindingConstants.*;
 import static org.smarthomej.commons.UpdatingBaseBridgeHandler.PROPERTY_THING_TYPE_VERSION;
@@ -42,6 +42,7 @@ import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.smarthomej.binding.deconz.internal.CommandDescriptionProvider;
 import org.smarthomej.binding.deconz.internal.StateDescriptionProvider;
 import org.smarthomej.binding.deconz.internal.dto.LightMessage;
+import org.smarthomej.binding.deconz.internal.dto.LightState;
 import org.smarthomej.binding.deconz.internal.handler.LightThingHandler;
 import org.smarthomej.binding.deconz.internal.types.LightType;
 import org.smarthomej.binding.deconz.internal.types.LightTypeDeserializer;
@@ -198,4 +199,29 @@ public class LightsTest {
         lightThingHandler.messageReceived(lightMessage);
         Mockito.verify(thingHandlerCallback).stateUpdated(eq(channelUIDPos), eq(new PercentType("41")));
     }
+
+    @Test
+    public void lightStateMergeTest() {
+        LightState older = new LightState();
+        older.on = true;
+        older.bri = 100;
+        older.ct = 300;
+        LightState newer = new LightState();
+        newer.bri = 150;
+        newer.xy = new double[] { 0.3, 0.4 };
+
+        LightState merged = older.merge(newer);
+        assertEquals(true, merged.on);
+        assertEquals(150, merged.bri);
+        assertNull(merged.ct);
+        assertArrayEquals(new double[] { 0.3, 0.4 }, merged.xy);
+        assertEquals(100, older.bri);
+
+        LightState off = new LightState();
+        off.on = false;
+        merged = merged.merge(off);
+        assertEquals(false, merged.on);
+        assertNull(merged.bri);
+        assertNull(merged.xy);
+    }
 }
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.deconz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.deconz.internal.netutils.OrderedExecutor;
+
+/**
+ * The {@link OrderedExecutorTest} contains tests for the {@link OrderedExecutor}
+ *
+ * The tasks submitted to the executor are collected and run manually.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class OrderedExecutorTest {
+    private final List<Runnable> submittedRunners = new ArrayList<>();
+    private final List<String> executedTasks = new ArrayList<>();
+
+    private @NonNullByDefault({}) OrderedExecutor orderedExecutor;
+
+    @BeforeEach
+    public void initialize() {
+        orderedExecutor = new OrderedExecutor(submittedRunners::add);
+    }
+
+    @Test
+    public void tasksWithSameKeyAreExecutedInOrder() {
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1a"));
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1b"));
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1c"));
+
+        // only one runner is submitted for a key
+        assertEquals(1, submittedRunners.size());
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("1a", "1b", "1c"), executedTasks);
+    }
+
+    @Test
+    public void tasksWithDifferentKeysAreExecutedIndependently() {
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1a"));
+        orderedExecutor.execute("lights/2", () -> executedTasks.add("2a"));
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1b"));
+
+        assertEquals(2, submittedRunners.size());
+
+        // run the runner of the second key first
+        submittedRunners.remove(1).run();
+        assertEquals(List.of("2a"), executedTasks);
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("2a", "1a", "1b"), executedTasks);
+    }
+
+    @Test
+    public void taskSubmittedWhileRunningIsExecutedByTheSameRunner() {
+        orderedExecutor.execute("lights/1", () -> {
+            executedTasks.add("1a");
+            orderedExecutor.execute("lights/1", () -> executedTasks.add("1b"));
+        });
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("1a", "1b"), executedTasks);
+        assertEquals(0, submittedRunners.size());
+    }
+
+    @Test
+    public void newRunnerIsSubmittedAfterQueueIsEmpty() {
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1a"));
+        submittedRunners.remove(0).run();
+
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1b"));
+        assertEquals(1, submittedRunners.size());
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("1a", "1b"), executedTasks);
+    }
+
+    @Test
+    public void failingTaskDoesNotStopQueue() {
+        orderedExecutor.execute("lights/1", () -> {
+            throw new IllegalStateException("failed");
+        });
+        orderedExecutor.execute("lights/1", () -> executedTasks.add("1b"));
+
+        submittedRunners.remove(0).run();
+        assertEquals(List.of("1b"), executedTasks);
+    }
+}
@@ -38,6 +38,10 @@ public class DmxBindingConstants {
 
     // List of all config options
     public static final String CONFIG_UNIVERSE = "universe";
+    public static final String CONFIG_UNIVERSE_COUNT = "universecount";
+    public static final String CONFIG_SYNCHRONIZATION = "synchronization";
+    public static final String CONFIG_INPUT = "input";
+    public static final String CONFIG_LTP_CHANNELS = "ltpchannels";
     public static final String CONFIG_DMX_ID = "dmxid";
     public static final String CONFIG_APPLY_CURVE = "applycurve";
     public static final String CONFIG_REFRESH_RATE = "refreshrate";
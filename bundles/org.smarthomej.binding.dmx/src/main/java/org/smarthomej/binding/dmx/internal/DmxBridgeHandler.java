@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -53,12 +54,17 @@ import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 @NonNullByDefault
 public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     public static final int DEFAULT_REFRESH_RATE = 20;
+    private static final int STATE_PUBLISH_INTERVAL = 100;
 
     private final Logger logger = LoggerFactory.getLogger(DmxBridgeHandler.class);
 
     protected Universe universe = new Universe(0); // default universe
+    protected List<Universe> additionalUniverses = List.of();
 
-    private @Nullable ScheduledFuture<?> senderJob;
+    private final DmxFrameClock frameClock = DmxFrameClock.getSharedInstance();
+    private DmxFrameClock.@Nullable Registration frameRegistration;
+    private @Nullable Future<?> connectJob;
+    private @Nullable ScheduledFuture<?> statePublishJob;
     private boolean isMuted = false;
     private int refreshTime = 1000 / DEFAULT_REFRESH_RATE;
 
@@ -90,20 +96,38 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      * @return a Channel object
      */
     public DmxChannel getDmxChannel(BaseDmxChannel channel, Thing thing) {
-        return universe.registerChannel(channel, thing);
+        return getUniverse(channel.getUniverseId()).registerChannel(channel, thing);
     }
 
     /**
-     * remove a thing from all channels in the universe
+     * remove a thing from all channels in all universes
      *
      * @param thing the thing that shall be removed
      */
     public void unregisterDmxChannels(Thing thing) {
         universe.unregisterChannels(thing);
+        for (Universe additionalUniverse : additionalUniverses) {
+            additionalUniverse.unregisterChannels(thing);
+        }
+    }
+
+    /**
+     * get the universe with the given id (the default universe if this bridge has no universe with that id)
+     *
+     * @param universeId the DMX universe id
+     * @return the universe
+     */
+    private Universe getUniverse(int universeId) {
+        for (Universe additionalUniverse : additionalUniverses) {
+            if (additionalUniverse.getUniverseId() == universeId) {
+                return additionalUniverse;
+            }
+        }
+        return universe;
     }
 
     /**
-     * get the universe associated with this bridge
+     * get the (first) universe associated with this bridge
      *
      * @return the DMX universe id
      */
@@ -147,47 +171,81 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * send the buffer of the current universe
+     * send the buffers of all universes (called by the frame clock only if the bridge is ONLINE, must not block)
      */
     protected abstract void sendDmxData();
 
     /**
-     * install the sending and updating scheduler
+     * called by the frame clock once per frame
+     */
+    private void processFrame() {
+        logger.trace("frame for universe {} called, state {}/{}", universe.getUniverseId(), getThing().getStatus(),
+                isMuted);
+        if (isMuted) {
+            logger.trace("bridge {} is muted", getThing().getUID());
+        } else if (getThing().getStatus() == ThingStatus.ONLINE) {
+            sendDmxData();
+        } else {
+            // opening the connection may block, so it is not done by the frame clock
+            Future<?> connectJob = this.connectJob;
+            if (connectJob == null || connectJob.isDone()) {
+                this.connectJob = scheduler.submit(this::openConnection);
+            }
+        }
+    }
+
+    /**
+     * send the state updates of all channels (called by the scheduler, so the frame clock never waits for listeners)
+     */
+    private void publishChannelStates() {
+        universe.publishChannelStates();
+        for (Universe additionalUniverse : additionalUniverses) {
+            additionalUniverse.publishChannelStates();
+        }
+    }
+
+    /**
+     * register the bridge with the frame clock and start publishing channel states
      */
     protected void installScheduler() {
         uninstallScheduler();
+        statePublishJob = scheduler.scheduleWithFixedDelay(this::publishChannelStates, STATE_PUBLISH_INTERVAL,
+                STATE_PUBLISH_INTERVAL, TimeUnit.MILLISECONDS);
         if (refreshTime > 0) {
-            senderJob = scheduler.scheduleAtFixedRate(() -> {
-                logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
-                        getThing().getStatus(), isMuted);
-                if (!isMuted) {
-                    sendDmxData();
-                } else {
-                    logger.trace("bridge {} is muted", getThing().getUID());
-                }
-            }, 1, refreshTime, TimeUnit.MILLISECONDS);
-            logger.trace("started scheduler for thing {}", this.thing.getUID());
+            frameRegistration = frameClock.register(this::processFrame, refreshTime);
+            logger.trace("registered thing {} with frame clock", this.thing.getUID());
         } else {
             logger.info("refresh disabled for thing {}", this.thing.getUID());
         }
     }
 
     /**
-     * uninstall the sending and updating scheduler
+     * unregister the bridge from the frame clock and stop publishing channel states
      */
     protected void uninstallScheduler() {
-        ScheduledFuture<?> senderJob = this.senderJob;
-        if (senderJob != null) {
-            senderJob.cancel(true);
-            this.senderJob = null;
+        ScheduledFuture<?> statePublishJob = this.statePublishJob;
+        if (statePublishJob != null) {
+            statePublishJob.cancel(false);
+            this.statePublishJob = null;
+        }
+        DmxFrameClock.Registration frameRegistration = this.frameRegistration;
+        if (frameRegistration != null) {
+            frameClock.unregister(frameRegistration);
+            this.frameRegistration = null;
+            Future<?> connectJob = this.connectJob;
+            if (connectJob != null) {
+                connectJob.cancel(true);
+                this.connectJob = null;
+            }
             closeConnection();
-            logger.trace("stopping scheduler for thing {}", this.thing.getUID());
+            logger.trace("unregistered thing {} from frame clock ({} missed frames)", this.thing.getUID(),
+                    frameRegistration.getMissedFrames());
         }
     }
 
     @Override
     public void childHandlerDisposed(ThingHandler thingHandler, Thing thing) {
-        universe.unregisterChannels(thing);
+        unregisterDmxChannels(thing);
     }
 
     /**
@@ -197,7 +255,12 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         DmxBridgeHandlerConfiguration configuration = getConfig().as(DmxBridgeHandlerConfiguration.class);
 
         if (!configuration.applycurve.isEmpty()) {
-            universe.setDimCurveChannels(configuration.applycurve);
+            List<BaseDmxChannel> dimCurveChannels = BaseDmxChannel.fromString(configuration.applycurve,
+                    getUniverseId());
+            universe.setDimCurveChannels(dimCurveChannels);
+            for (Universe additionalUniverse : additionalUniverses) {
+                additionalUniverse.setDimCurveChannels(dimCurveChannels);
+            }
         }
 
         int refreshRate = configuration.refreshrate;
@@ -230,6 +293,37 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         universe.rename(universeId);
     }
 
+    /**
+     * set the ids of a range of universes and make sure they observe the limits
+     *
+     * Existing universes (and their channels) are renamed, universes that are no longer needed are removed.
+     *
+     * @param universeConfig the id of the first universe
+     * @param universeCount the number of universes
+     * @param minUniverseId the minimum id allowed by the bridge
+     * @param maxUniverseId the maximum id allowed by the bridge
+     **/
+    protected void setUniverses(int universeConfig, int universeCount, int minUniverseId, int maxUniverseId) {
+        setUniverse(universeConfig, minUniverseId, maxUniverseId);
+
+        int universeId = universe.getUniverseId();
+        int count = Util.coerceToRange(universeCount, 1, maxUniverseId - universeId + 1, logger, "universeCount");
+        List<Universe> universes = new ArrayList<>();
+        for (int i = 1; i < count; i++) {
+            Universe additionalUniverse;
+            if (i <= additionalUniverses.size()) {
+                additionalUniverse = additionalUniverses.get(i - 1);
+                if (additionalUniverse.getUniverseId() != universeId + i) {
+                    additionalUniverse.rename(universeId + i);
+                }
+            } else {
+                additionalUniverse = new Universe(universeId + i);
+            }
+            universes.add(additionalUniverse);
+        }
+        additionalUniverses = List.copyOf(universes);
+    }
+
     /**
      * sends an immediate fade to the DMX output (for rule actions)
      *
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link DmxFrameClock} drives the output of all DMX bridges from a single dedicated thread
+ *
+ * Frame deadlines are calculated from {@link System#nanoTime()} and aligned to a common epoch, so all bridges with the
+ * same refresh rate calculate and send their frames in the same pass. The thread is started when the first frame task
+ * is registered and stopped when the last one is removed. Frame tasks must not block (e.g. by opening connections).
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class DmxFrameClock {
+    private static final DmxFrameClock SHARED_INSTANCE = new DmxFrameClock("OH-binding-dmx-frameclock");
+    private static final long IDLE_PARK_TIME = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(DmxFrameClock.class);
+    private final String threadName;
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private final long epoch = System.nanoTime();
+
+    private volatile @Nullable Thread thread;
+
+    /**
+     * create a new frame clock
+     *
+     * @param threadName the name of the frame thread
+     */
+    public DmxFrameClock(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * get the frame clock shared by all bridges
+     *
+     * @return the frame clock
+     */
+    public static DmxFrameClock getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * register a task that is executed once per frame
+     *
+     * @param frameTask the task
+     * @param period the frame period in ms
+     * @return the registration (needed for removing the task)
+     */
+    public synchronized Registration register(Runnable frameTask, int period) {
+        Registration registration = new Registration(frameTask, TimeUnit.MILLISECONDS.toNanos(period));
+        registration.scheduleNextFrame(System.nanoTime());
+        registrations.add(registration);
+
+        Thread thread = this.thread;
+        if (thread == null) {
+            thread = new Thread(this::run, threadName);
+            thread.setDaemon(true);
+            this.thread = thread;
+            thread.start();
+        } else {
+            LockSupport.unpark(thread);
+        }
+        return registration;
+    }
+
+    /**
+     * remove a task
+     *
+     * @param registration the registration returned by {@link #register(Runnable, int)}
+     */
+    public synchronized void unregister(Registration registration) {
+        registrations.remove(registration);
+        Thread thread = this.thread;
+        if (registrations.isEmpty() && thread != null) {
+            this.thread = null;
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        Thread currentThread = Thread.currentThread();
+        logger.debug("Frame clock started");
+        while (thread == currentThread) {
+            long now = System.nanoTime();
+            long parkTime = IDLE_PARK_TIME;
+            for (Registration registration : registrations) {
+                if (now - registration.nextFrame >= 0) {
+                    try {
+                        registration.frameTask.run();
+                    } catch (RuntimeException e) {
+                        logger.warn("Frame task failed: {}", e.getMessage(), e);
+                    }
+                    registration.scheduleNextFrame(now);
+                }
+                parkTime = Math.min(parkTime, registration.nextFrame - now);
+            }
+            if (parkTime > 0) {
+                LockSupport.parkNanos(this, parkTime);
+            }
+        }
+        logger.debug("Frame clock stopped");
+    }
+
+    /**
+     * a registered frame task
+     */
+    public final class Registration {
+        private final Runnable frameTask;
+        private final long period;
+        private long nextFrame;
+        private volatile long missedFrames = 0;
+
+        private Registration(Runnable frameTask, long period) {
+            this.frameTask = frameTask;
+            this.period = Math.max(1, period);
+        }
+
+        private void scheduleNextFrame(long now) {
+            long next = epoch + ((now - epoch) / period + 1) * period;
+            if (nextFrame != 0 && next - nextFrame > period) {
+                // the task (or another task) took longer than a frame, skip the missed frames
+                missedFrames += (next - nextFrame) / period - 1;
+                logger.trace("Frame clock skipped frames (total {})", missedFrames);
+            }
+            nextFrame = next;
+        }
+
+        /**
+         * get the number of frames that were skipped because a frame could not be finished in time
+         *
+         * @return number of frames
+         */
+        public long getMissedFrames() {
+            return missedFrames;
+        }
+    }
+}
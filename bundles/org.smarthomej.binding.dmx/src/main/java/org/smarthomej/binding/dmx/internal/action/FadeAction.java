@@ -23,6 +23,10 @@ import org.smarthomej.binding.dmx.internal.multiverse.DmxChannel;
  * state in the given amount of time. After the fade, the new state is held for
  * a given or indefinite time.
  *
+ * The calculation is done by the static methods {@link #calculateValue(int, int, float, long, long)} and
+ * {@link #calculateState(int, int, long, long, long)}, which are shared with the
+ * {@link org.smarthomej.binding.dmx.internal.multiverse.FadeEngine}.
+ *
  * @author Davy Vanherbergen - Initial contribution
  * @author Jan N. Klug - Refactoring for ESH
  */
@@ -42,8 +46,6 @@ public class FadeAction extends BaseAction {
 
     private float stepDuration;
 
-    private FadeDirection fadeDirection = FadeDirection.DOWN;
-
     /**
      * Create new fading action.
      *
@@ -76,68 +78,121 @@ public class FadeAction extends BaseAction {
 
     @Override
     public int getNewValue(DmxChannel channel, long currentTime) {
-        int newValue = channel.getHiResValue();
-
         if (startTime == 0) {
-            startTime = currentTime;
-            state = ActionState.RUNNING;
-
-            if (fadeTime != 0) {
-                startValue = channel.getHiResValue();
-
-                // calculate fade details
-                if (startValue == targetValue) {
-                    stepDuration = 1;
-                } else if (startValue > targetValue) {
-                    fadeDirection = FadeDirection.DOWN;
-                    stepDuration = (float) fadeTime / (startValue - targetValue);
-                } else {
-                    fadeDirection = FadeDirection.UP;
-                    stepDuration = (float) fadeTime / (targetValue - startValue);
-                }
-            } else {
-                newValue = targetValue;
-            }
+            start(channel.getHiResValue(), currentTime);
         }
 
         long duration = currentTime - startTime;
+        int newValue = calculateValue(startValue, targetValue, stepDuration, fadeTime, duration);
+        ActionState newState = calculateState(newValue, targetValue, fadeTime, holdTime, duration);
+        if (newState != ActionState.RUNNING) {
+            state = newState;
+        }
 
-        if ((fadeTime != 0) && (newValue != targetValue)) {
-            // calculate new fade value
-            if (stepDuration == 0) {
-                stepDuration = 1;
-            }
-            int currentStep = (int) (duration / stepDuration);
+        return newValue;
+    }
 
-            if (fadeDirection == FadeDirection.UP) {
-                newValue = startValue + currentStep;
-                if (newValue > targetValue) {
-                    newValue = targetValue;
-                }
-            } else {
-                newValue = startValue - currentStep;
-                if (newValue < targetValue) {
-                    newValue = targetValue;
-                }
-            }
+    /**
+     * Start the action.
+     *
+     * @param startValue the current value of the channel (0-65535)
+     * @param currentTime UNIX timestamp to use as start time
+     */
+    public void start(int startValue, long currentTime) {
+        this.startTime = currentTime;
+        this.state = ActionState.RUNNING;
+        this.startValue = startValue;
+
+        // calculate fade details
+        if (fadeTime == 0 || startValue == targetValue) {
+            stepDuration = 1;
         } else {
-            newValue = targetValue;
+            stepDuration = (float) fadeTime / Math.abs(startValue - targetValue);
+        }
+        if (stepDuration == 0) {
+            stepDuration = 1;
+        }
+    }
+
+    /**
+     * Mark the action as completed (if the value was calculated outside of the action).
+     *
+     * @param state the new state ({@link ActionState#COMPLETED} or {@link ActionState#COMPLETEDFINAL})
+     */
+    public void complete(ActionState state) {
+        this.state = state;
+    }
+
+    /**
+     * Calculate the value of a fade.
+     *
+     * @param startValue value on start of the fade (0-65535)
+     * @param targetValue target value (0-65535)
+     * @param stepDuration time in ms for a single step
+     * @param fadeTime time in ms for the fade
+     * @param duration time in ms since the start of the fade
+     * @return value 0-65535
+     */
+    public static int calculateValue(int startValue, int targetValue, float stepDuration, long fadeTime,
+            long duration) {
+        if (fadeTime == 0 || startValue == targetValue) {
+            return targetValue;
         }
+        int currentStep = (int) (duration / stepDuration);
+        if (currentStep >= Math.abs(targetValue - startValue)) {
+            return targetValue;
+        }
+        return targetValue > startValue ? startValue + currentStep : startValue - currentStep;
+    }
 
-        if (newValue == targetValue) {
+    /**
+     * Calculate the state of a fade.
+     *
+     * @param value the current value (0-65535)
+     * @param targetValue target value (0-65535)
+     * @param fadeTime time in ms for the fade
+     * @param holdTime time in ms to hold the target value (-1 is indefinite)
+     * @param duration time in ms since the start of the fade
+     * @return the state
+     */
+    public static ActionState calculateState(int value, int targetValue, long fadeTime, long holdTime,
+            long duration) {
+        if (value == targetValue) {
             if (holdTime > -1) {
                 // we reached the target already, check if we need to hold longer
                 if (((holdTime > 0 || fadeTime > 0) && (duration >= fadeTime + holdTime))
                         || (holdTime == 0 && fadeTime == 0)) {
-                    // mark action as completed
-                    state = ActionState.COMPLETED;
+                    return ActionState.COMPLETED;
                 }
             } else {
-                state = ActionState.COMPLETEDFINAL;
+                return ActionState.COMPLETEDFINAL;
             }
         }
+        return ActionState.RUNNING;
+    }
 
-        return newValue;
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public int getStartValue() {
+        return startValue;
+    }
+
+    public int getTargetValue() {
+        return targetValue;
+    }
+
+    public float getStepDuration() {
+        return stepDuration;
+    }
+
+    public long getFadeTime() {
+        return fadeTime;
+    }
+
+    public long getHoldTime() {
+        return holdTime;
     }
 
     @Override
@@ -24,6 +24,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class ArtnetBridgeHandlerConfiguration {
     public int universe;
+    public int universecount = 1;
+    public boolean synchronization = false;
+    public boolean input = false;
+    public String ltpchannels = "";
     public String address = "";
     public String localaddress = "";
     public String refreshmode = "standard";
@@ -24,6 +24,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class SacnBridgeHandlerConfiguration {
     public int universe;
+    public int universecount = 1;
+    public boolean synchronization = false;
+    public boolean input = false;
+    public String ltpchannels = "";
     public String mode = "multicast";
     public String address = "";
     public String localaddress = "";
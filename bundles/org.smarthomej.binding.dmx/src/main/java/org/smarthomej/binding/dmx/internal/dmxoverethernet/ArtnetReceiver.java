@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
+import org.smarthomej.binding.dmx.internal.multiverse.UniverseInput;
+
+/**
+ * The {@link ArtnetReceiver} receives ArtDmx packets
+ *
+ * ArtNet has no sender id and no priority, senders are identified by their address and merged with the default
+ * priority.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ArtnetReceiver extends DmxOverEthernetReceiver {
+    private static final byte[] ARTNET_ID = { 0x41, 0x72, 0x74, 0x2d, 0x4e, 0x65, 0x74, 0x00 };
+    private static final int OPCODE_DMX = 0x5000;
+    private static final int HEADER_LENGTH = 18;
+
+    private final int ownPort;
+
+    /**
+     * create a receiver
+     *
+     * @param universes the universes that shall receive data
+     * @param port the UDP port to listen on
+     * @param ownPort the port used for sending (packets from this port on the local host are ignored)
+     */
+    public ArtnetReceiver(List<Universe> universes, int port, int ownPort) {
+        super("OH-binding-dmx-artnet-input", port, universes);
+        this.ownPort = ownPort;
+    }
+
+    @Override
+    protected void handlePacket(ByteBuffer packet, SocketAddress sender, long now) {
+        byte[] data = packet.array();
+        int length = packet.limit();
+        if (length < HEADER_LENGTH || !hasArtnetId(data)) {
+            return;
+        }
+        int opCode = (data[8] & 0xff) | ((data[9] & 0xff) << 8);
+        if (opCode != OPCODE_DMX) {
+            return;
+        }
+        int universeId = (data[14] & 0xff) | ((data[15] & 0x7f) << 8);
+        Universe universe = getUniverse(universeId);
+        if (universe == null) {
+            return;
+        }
+        InetSocketAddress senderAddress = (InetSocketAddress) sender;
+        if (isOwnPacket(senderAddress)) {
+            return;
+        }
+        int sequenceNo = data[12] & 0xff;
+        int channelCount = Math.min(((data[16] & 0xff) << 8) | (data[17] & 0xff), length - HEADER_LENGTH);
+        if (channelCount <= 0) {
+            return;
+        }
+
+        // sequence number 0 means sequence numbers are disabled
+        universe.receiveInput(senderAddress.getAddress().hashCode(), senderAddress.getPort(),
+                UniverseInput.DEFAULT_PRIORITY, sequenceNo == 0 ? -1 : sequenceNo, data, HEADER_LENGTH, channelCount,
+                now);
+    }
+
+    private boolean hasArtnetId(byte[] data) {
+        for (int i = 0; i < ARTNET_ID.length; i++) {
+            if (data[i] != ARTNET_ID[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isOwnPacket(InetSocketAddress sender) {
+        if (sender.getPort() != ownPort) {
+            return false;
+        }
+        InetAddress address = sender.getAddress();
+        try {
+            return address.isLoopbackAddress() || NetworkInterface.getByInetAddress(address) != null;
+        } catch (SocketException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ArtnetSyncPacket} is an ArtSync packet
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ArtnetSyncPacket extends DmxOverEthernetSyncPacket {
+    public static final int ARTNET_SYNC_PACKET_LEN = 14;
+
+    /**
+     * default constructor, creates a packet
+     */
+    public ArtnetSyncPacket() {
+        rawPacket = new byte[ARTNET_SYNC_PACKET_LEN];
+
+        rawPacket[0] = 0x41; // packet identifier, 8 bytes
+        rawPacket[1] = 0x72;
+        rawPacket[2] = 0x74;
+        rawPacket[3] = 0x2d;
+        rawPacket[4] = 0x4e;
+        rawPacket[5] = 0x65;
+        rawPacket[6] = 0x74;
+        rawPacket[7] = 0x00;
+        rawPacket[8] = 0x00; // OpCode, 2 bytes
+        rawPacket[9] = 0x52;
+        rawPacket[10] = 0x00; // protocol version, 2 bytes
+        rawPacket[11] = 0x0e;
+        rawPacket[12] = 0x00; // aux1, 1 byte
+        rawPacket[13] = 0x00; // aux2, 1 byte
+    }
+
+    @Override
+    public void setSequence(int sequenceNo) {
+        // ArtSync has no sequence number
+    }
+}
@@ -28,27 +28,36 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.DmxBridgeHandler;
+import org.smarthomej.binding.dmx.internal.multiverse.BaseDmxChannel;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link DmxOverEthernetHandler} is an abstract class with base functions
  * for DMX over Ethernet Bridges (ArtNet, sACN)
  *
+ * A bridge can send several consecutive universes. All universes are calculated first and then sent, optionally
+ * followed by a synchronization packet. If input is enabled, DMX data for the same universes received from other
+ * senders is merged with the own output.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     private final Logger logger = LoggerFactory.getLogger(DmxOverEthernetHandler.class);
 
-    protected @Nullable DmxOverEthernetPacket packetTemplate;
     protected IpNode senderNode = new IpNode();
     protected List<IpNode> receiverNodes = new ArrayList<>();
 
     protected boolean refreshAlways = false;
+    protected boolean synchronization = false;
+    protected boolean input = false;
+    protected String ltpChannels = "";
 
     protected @Nullable DatagramSocket socket = null;
-    private long lastSend = 0;
-    private int repeatCounter = 0;
-    private int sequenceNo = 0;
+    private @Nullable DmxOverEthernetReceiver receiver = null;
+
+    private volatile List<UniverseSender> universeSenders = List.of();
+    private volatile @Nullable SyncSender syncSender = null;
 
     @Override
     protected void openConnection() {
@@ -68,6 +77,9 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                 } else {
                     socket = new DatagramSocket(senderNode.getPort(), senderNode.getAddress());
                 }
+                if (input && !startReceiver()) {
+                    return;
+                }
                 updateStatus(ThingStatus.ONLINE);
                 logger.debug("opened socket {} in bridge {}", senderNode, this.thing.getUID());
             } catch (SocketException e) {
@@ -78,8 +90,34 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
         }
     }
 
+    private boolean startReceiver() {
+        List<Universe> universes = new ArrayList<>();
+        universes.add(universe);
+        universes.addAll(additionalUniverses);
+        DmxOverEthernetReceiver receiver = createReceiver(universes);
+        try {
+            receiver.start();
+            this.receiver = receiver;
+            return true;
+        } catch (IOException e) {
+            logger.debug("could not start receiving in bridge {}: {}", this.thing.getUID(), e.getMessage());
+            DatagramSocket socket = this.socket;
+            if (socket != null) {
+                socket.close();
+                this.socket = null;
+            }
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "opening input failed");
+            return false;
+        }
+    }
+
     @Override
     protected void closeConnection() {
+        DmxOverEthernetReceiver receiver = this.receiver;
+        if (receiver != null) {
+            receiver.stop();
+            this.receiver = null;
+        }
         DatagramSocket socket = this.socket;
         if (socket != null) {
             logger.debug("closing socket {} in bridge {}", senderNode, this.thing.getUID());
@@ -91,59 +129,180 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "UDP socket closed");
     }
 
+    /**
+     * create the packet template for a universe
+     *
+     * @param universeId the DMX universe id
+     * @return the packet template
+     */
+    protected abstract DmxOverEthernetPacket createPacket(int universeId);
+
+    /**
+     * create the synchronization packet (only called if synchronization is enabled)
+     *
+     * @return the synchronization packet
+     */
+    protected abstract DmxOverEthernetSyncPacket createSyncPacket();
+
+    /**
+     * create the receiver for DMX data from other senders (only called if input is enabled)
+     *
+     * @param universes the universes that shall receive data
+     * @return the receiver
+     */
+    protected abstract DmxOverEthernetReceiver createReceiver(List<Universe> universes);
+
+    /**
+     * get the receivers for a universe
+     *
+     * @param universeId the DMX universe id
+     * @return list of receivers
+     */
+    protected List<IpNode> getReceiverNodes(int universeId) {
+        return receiverNodes;
+    }
+
+    /**
+     * get the receivers for synchronization packets
+     *
+     * @return list of receivers
+     */
+    protected List<IpNode> getSyncReceiverNodes() {
+        return receiverNodes;
+    }
+
+    @Override
+    protected void updateConfiguration() {
+        List<UniverseSender> universeSenders = new ArrayList<>();
+        universeSenders.add(new UniverseSender(universe));
+        for (Universe additionalUniverse : additionalUniverses) {
+            universeSenders.add(new UniverseSender(additionalUniverse));
+        }
+        this.universeSenders = List.copyOf(universeSenders);
+        syncSender = synchronization ? new SyncSender(createSyncPacket(), getSyncReceiverNodes()) : null;
+
+        List<BaseDmxChannel> ltpChannelList = List.of();
+        if (input && !ltpChannels.isEmpty()) {
+            try {
+                ltpChannelList = BaseDmxChannel.fromString(ltpChannels, getUniverseId());
+            } catch (IllegalArgumentException e) {
+                logger.warn("invalid LTP channel configuration '{}' in bridge {}", ltpChannels, this.thing.getUID());
+            }
+        }
+        universe.setLtpChannels(ltpChannelList);
+        for (Universe additionalUniverse : additionalUniverses) {
+            additionalUniverse.setLtpChannels(ltpChannelList);
+        }
+        logger.debug("sending {} universe(s), synchronization: {} for {}", universeSenders.size(), synchronization,
+                this.thing.getUID());
+
+        super.updateConfiguration();
+    }
+
     @Override
     protected void sendDmxData() {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
-            boolean needsSending = false;
             long now = System.currentTimeMillis();
-            universe.calculateBuffer(now);
-            if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
-                needsSending = true;
-                repeatCounter = 0;
-            } else if (now - lastSend > 800) {
-                needsSending = true;
-            } else if (repeatCounter < 3) {
-                needsSending = true;
-                repeatCounter++;
+            List<UniverseSender> universeSenders = this.universeSenders;
+            for (UniverseSender universeSender : universeSenders) {
+                universeSender.universe.calculateBuffer(now);
             }
-            if (needsSending) {
-                DmxOverEthernetPacket packetTemplate = this.packetTemplate;
-                if (packetTemplate == null) {
-                    logger.warn("Packet template missing when trying to send data for '{}'. This is a bug.",
-                            thing.getUID());
-                    return;
-                }
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
-                packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
-                for (IpNode receiverNode : receiverNodes) {
-                    sendPacket.setAddress(receiverNode.getAddress());
-                    sendPacket.setPort(receiverNode.getPort());
-                    logger.trace("sending packet with length {} to {}", packetTemplate.getPacketLength(),
-                            receiverNode.toString());
-                    try {
-                        DatagramSocket socket = this.socket;
-                        if (socket != null) {
-                            socket.send(sendPacket);
-                        } else {
-                            throw new IOException("Socket for sending not set.");
-                        }
-                    } catch (IOException e) {
-                        logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
-                                e.getMessage());
-                        closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+            boolean sent = false;
+            for (UniverseSender universeSender : universeSenders) {
+                if (universeSender.needsSending(now)) {
+                    DmxOverEthernetPacket packet = universeSender.packet;
+                    packet.setPayload(universeSender.universe);
+                    packet.setSequence(universeSender.sequenceNo);
+                    universeSender.datagramPacket.setLength(packet.getPacketLength());
+                    if (!send(universeSender.datagramPacket, universeSender.receiverNodes)) {
+                        return;
                     }
+                    universeSender.lastSend = now;
+                    universeSender.sequenceNo = (universeSender.sequenceNo + 1) % 256;
+                    sent = true;
                 }
-                lastSend = now;
-                sequenceNo = (sequenceNo + 1) % 256;
             }
-        } else {
-            openConnection();
+            SyncSender syncSender = this.syncSender;
+            if (sent && syncSender != null) {
+                syncSender.packet.setSequence(syncSender.sequenceNo);
+                send(syncSender.datagramPacket, syncSender.receiverNodes);
+                syncSender.sequenceNo = (syncSender.sequenceNo + 1) % 256;
+            }
         }
     }
 
+    private boolean send(DatagramPacket sendPacket, List<IpNode> receiverNodes) {
+        for (IpNode receiverNode : receiverNodes) {
+            sendPacket.setAddress(receiverNode.getAddress());
+            sendPacket.setPort(receiverNode.getPort());
+            logger.trace("sending packet with length {} to {}", sendPacket.getLength(), receiverNode);
+            try {
+                DatagramSocket socket = this.socket;
+                if (socket != null) {
+                    socket.send(sendPacket);
+                } else {
+                    throw new IOException("Socket for sending not set.");
+                }
+            } catch (IOException e) {
+                logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(), e.getMessage());
+                closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+                return false;
+            }
+        }
+        return true;
+    }
+
     public DmxOverEthernetHandler(Bridge sacnBridge) {
         super(sacnBridge);
     }
+
+    /**
+     * the packet and transmission state of a single universe
+     */
+    private class UniverseSender {
+        private final Universe universe;
+        private final DmxOverEthernetPacket packet;
+        // wraps the packet's raw data, so it can be re-used for every frame
+        private final DatagramPacket datagramPacket;
+        private final List<IpNode> receiverNodes;
+        private long lastSend = 0;
+        private int repeatCounter = 0;
+        private int sequenceNo = 0;
+
+        public UniverseSender(Universe universe) {
+            this.universe = universe;
+            this.packet = createPacket(universe.getUniverseId());
+            this.datagramPacket = new DatagramPacket(packet.getRawPacket(), packet.getPacketLength());
+            this.receiverNodes = getReceiverNodes(universe.getUniverseId());
+        }
+
+        public boolean needsSending(long now) {
+            if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
+                repeatCounter = 0;
+                return true;
+            } else if (now - lastSend > 800) {
+                return true;
+            } else if (repeatCounter < 3) {
+                repeatCounter++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * the synchronization packet and its transmission state
+     */
+    private static class SyncSender {
+        private final DmxOverEthernetSyncPacket packet;
+        private final DatagramPacket datagramPacket;
+        private final List<IpNode> receiverNodes;
+        private int sequenceNo = 0;
+
+        public SyncSender(DmxOverEthernetSyncPacket packet, List<IpNode> receiverNodes) {
+            this.packet = packet;
+            this.datagramPacket = new DatagramPacket(packet.getRawPacket(), packet.getPacketLength());
+            this.receiverNodes = receiverNodes;
+        }
+    }
 }
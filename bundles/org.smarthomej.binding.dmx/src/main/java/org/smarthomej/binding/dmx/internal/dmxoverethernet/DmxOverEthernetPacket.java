@@ -14,6 +14,7 @@
 package org.smarthomej.binding.dmx.internal.dmxoverethernet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link DmxOverEthernetPacket} is an abstract class for
@@ -63,6 +64,26 @@ public abstract class DmxOverEthernetPacket {
      */
     public abstract void setPayload(byte[] payload, int payloadSize);
 
+    /**
+     * set payload data directly from the universe buffer (without intermediate copy)
+     *
+     * @param universe the universe
+     */
+    public void setPayload(Universe universe) {
+        int bufferSize = universe.getBufferSize();
+        if (bufferSize != payloadSize) {
+            setPayloadSize(bufferSize);
+        }
+        universe.writeBuffer(rawPacket, getPayloadOffset());
+    }
+
+    /**
+     * get position of the DMX data in the raw packet
+     *
+     * @return offset of the first DMX channel
+     */
+    protected abstract int getPayloadOffset();
+
     /**
      * get packet for transmission
      *
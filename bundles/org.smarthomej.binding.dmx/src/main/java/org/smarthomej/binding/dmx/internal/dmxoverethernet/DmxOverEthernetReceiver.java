@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
+
+/**
+ * The {@link DmxOverEthernetReceiver} is an abstract class with base functions for receiving DMX over Ethernet
+ * (ArtNet, sACN)
+ *
+ * A single thread waits for packets on a non-blocking channel. Packets are received into a preallocated buffer and
+ * parsed in place, the DMX data is passed to the universes of the bridge for merging.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public abstract class DmxOverEthernetReceiver {
+    private static final int RECEIVE_BUFFER_SIZE = 1024;
+    private static final long SELECT_TIMEOUT = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(DmxOverEthernetReceiver.class);
+    private final String name;
+    private final int port;
+    private final List<Universe> universes;
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocate(RECEIVE_BUFFER_SIZE);
+
+    private @Nullable DatagramChannel channel;
+    private @Nullable Selector selector;
+    private volatile @Nullable Thread thread;
+
+    /**
+     * create a receiver
+     *
+     * @param name the name of the receiver thread
+     * @param port the UDP port to listen on
+     * @param universes the universes that shall receive data
+     */
+    protected DmxOverEthernetReceiver(String name, int port, List<Universe> universes) {
+        this.name = name;
+        this.port = port;
+        this.universes = universes;
+    }
+
+    /**
+     * open the channel and start receiving
+     *
+     * @throws IOException if the channel could not be opened
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        DatagramChannel channel = DatagramChannel.open(StandardProtocolFamily.INET);
+        Selector selector;
+        try {
+            channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            channel.bind(new InetSocketAddress(port));
+            channel.configureBlocking(false);
+            joinGroups(channel);
+            selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.channel = channel;
+        this.selector = selector;
+
+        Thread thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+        logger.debug("started receiving on port {}", port);
+    }
+
+    /**
+     * stop receiving and close the channel
+     */
+    public synchronized void stop() {
+        Thread thread = this.thread;
+        if (thread == null) {
+            return;
+        }
+        this.thread = null;
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        try {
+            thread.join(SELECT_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            DatagramChannel channel = this.channel;
+            if (channel != null) {
+                channel.close();
+            }
+            if (selector != null) {
+                selector.close();
+            }
+        } catch (IOException e) {
+            logger.debug("closing receiver on port {} failed: {}", port, e.getMessage());
+        }
+        this.channel = null;
+        this.selector = null;
+        logger.debug("stopped receiving on port {}", port);
+    }
+
+    private void run() {
+        Thread currentThread = Thread.currentThread();
+        DatagramChannel channel = this.channel;
+        Selector selector = this.selector;
+        if (channel == null || selector == null) {
+            return;
+        }
+        while (thread == currentThread) {
+            try {
+                selector.select(SELECT_TIMEOUT);
+                selector.selectedKeys().clear();
+                while (true) {
+                    receiveBuffer.clear();
+                    SocketAddress sender = channel.receive(receiveBuffer);
+                    if (sender == null) {
+                        break;
+                    }
+                    receiveBuffer.flip();
+                    handlePacket(receiveBuffer, sender, System.currentTimeMillis());
+                }
+            } catch (IOException e) {
+                if (thread == currentThread) {
+                    logger.debug("receiving on port {} failed: {}", port, e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                logger.warn("handling received packet failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * join multicast groups (if needed by the protocol)
+     *
+     * @param channel the channel for receiving
+     * @throws IOException if joining failed
+     */
+    protected void joinGroups(DatagramChannel channel) throws IOException {
+    }
+
+    /**
+     * parse a packet and pass the DMX data to the universe
+     *
+     * @param packet the packet (position 0, limit is the packet length, backed by an array)
+     * @param sender the sender of the packet
+     * @param now the time of reception
+     */
+    protected abstract void handlePacket(ByteBuffer packet, SocketAddress sender, long now);
+
+    /**
+     * get the universe with the given id
+     *
+     * @param universeId the DMX universe id
+     * @return the universe or null if data for this universe is not received
+     */
+    protected @Nullable Universe getUniverse(int universeId) {
+        for (Universe universe : universes) {
+            if (universe.getUniverseId() == universeId) {
+                return universe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * get the universe ids of this receiver
+     *
+     * @return list of universes
+     */
+    protected List<Universe> getUniverses() {
+        return universes;
+    }
+}
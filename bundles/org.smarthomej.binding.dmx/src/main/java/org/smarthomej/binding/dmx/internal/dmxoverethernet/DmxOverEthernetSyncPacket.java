@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link DmxOverEthernetSyncPacket} is an abstract class for
+ * DMX over Ethernet synchronization packets (ArtSync, sACN/E1.31 universe synchronization)
+ *
+ * Receivers that support synchronization hold the received data until the synchronization packet is received, so
+ * all universes are updated at the same time.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public abstract class DmxOverEthernetSyncPacket {
+    protected byte[] rawPacket = new byte[0];
+
+    /**
+     * set sequence number
+     *
+     * @param sequenceNo sequence number (0-255)
+     */
+    public abstract void setSequence(int sequenceNo);
+
+    /**
+     * get packet for transmission
+     *
+     * @return byte array with raw packet data
+     */
+    public byte[] getRawPacket() {
+        return rawPacket;
+    }
+
+    /**
+     * get packet length
+     *
+     * @return full packet length
+     */
+    public int getPacketLength() {
+        return rawPacket.length;
+    }
+}
@@ -87,7 +87,7 @@ public class SacnPacket extends DmxOverEthernetPacket {
             rawPacket[i] = 0x00;
         }
         rawPacket[108] = 0x64; // priority (default 100), 1 byte
-        rawPacket[109] = 0x00; // reserved, 2 bytes
+        rawPacket[109] = 0x00; // synchronization address, 2 bytes
         rawPacket[110] = 0x00;
         rawPacket[111] = 0x00; // sequence number, 1 byte
         rawPacket[112] = 0x00; // options, 1 byte
@@ -104,7 +104,7 @@ public class SacnPacket extends DmxOverEthernetPacket {
         rawPacket[121] = 0x00; // address increment, 2 bytes
         rawPacket[122] = 0x01;
         rawPacket[123] = 0x02; // payload size, 2 bytes (including start code)
-        rawPacket[123] = 0x01;
+        rawPacket[124] = 0x01;
         rawPacket[125] = 0x00; // DMX start code, 1 byte
     }
 
@@ -167,6 +167,16 @@ public class SacnPacket extends DmxOverEthernetPacket {
         logger.debug("set packet priority to {}", priority);
     }
 
+    /**
+     * set synchronization address
+     *
+     * @param syncAddress the universe used for synchronization packets (0 = no synchronization)
+     */
+    public void setSynchronizationAddress(int syncAddress) {
+        rawPacket[109] = (byte) (syncAddress / 256);
+        rawPacket[110] = (byte) (syncAddress % 256);
+    }
+
     @Override
     public void setPayload(byte[] payload) {
         System.arraycopy(payload, 0, rawPacket, 126, payloadSize);
@@ -180,6 +190,11 @@ public class SacnPacket extends DmxOverEthernetPacket {
         setPayload(payload);
     }
 
+    @Override
+    protected int getPayloadOffset() {
+        return 126;
+    }
+
     @Override
     public int getPacketLength() {
         return (126 + this.payloadSize);
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
+
+/**
+ * The {@link SacnReceiver} receives sACN/E1.31 data packets
+ *
+ * Senders are identified by their CID, the priority of the packets is used for merging. Preview data and packets with
+ * other start codes than 0 are ignored.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SacnReceiver extends DmxOverEthernetReceiver {
+    private static final byte[] ACN_ID = { 0x41, 0x53, 0x43, 0x2d, 0x45, 0x31, 0x2e, 0x31, 0x37, 0x00, 0x00, 0x00 };
+    private static final int VECTOR_ROOT_E131_DATA = 0x00000004;
+    private static final int VECTOR_E131_DATA_PACKET = 0x00000002;
+    private static final int OPTION_PREVIEW_DATA = 0x80;
+    private static final int OPTION_STREAM_TERMINATED = 0x40;
+    private static final int HEADER_LENGTH = 126;
+
+    private final Logger logger = LoggerFactory.getLogger(SacnReceiver.class);
+    private final @Nullable InetAddress localAddress;
+    private final boolean multicast;
+    private final long ownCidHigh;
+    private final long ownCidLow;
+
+    /**
+     * create a receiver
+     *
+     * @param universes the universes that shall receive data
+     * @param port the UDP port to listen on
+     * @param multicast true if the multicast groups of the universes shall be joined
+     * @param localAddress the address of the network interface used for multicast (null for all interfaces)
+     * @param ownCid the CID used for sending (packets with this CID are ignored)
+     */
+    public SacnReceiver(List<Universe> universes, int port, boolean multicast, @Nullable InetAddress localAddress,
+            UUID ownCid) {
+        super("OH-binding-dmx-sacn-input", port, universes);
+        this.multicast = multicast;
+        this.localAddress = localAddress;
+        this.ownCidHigh = ownCid.getMostSignificantBits();
+        this.ownCidLow = ownCid.getLeastSignificantBits();
+    }
+
+    @Override
+    protected void joinGroups(DatagramChannel channel) throws IOException {
+        if (!multicast) {
+            return;
+        }
+        List<NetworkInterface> networkInterfaces = new ArrayList<>();
+        InetAddress localAddress = this.localAddress;
+        if (localAddress != null && !localAddress.isAnyLocalAddress()) {
+            NetworkInterface networkInterface = NetworkInterface.getByInetAddress(localAddress);
+            if (networkInterface == null) {
+                throw new IOException("no network interface for address " + localAddress.getHostAddress());
+            }
+            networkInterfaces.add(networkInterface);
+        } else {
+            for (NetworkInterface networkInterface : Collections.list(NetworkInterface.getNetworkInterfaces())) {
+                if (networkInterface.isUp() && networkInterface.supportsMulticast()
+                        && !networkInterface.isLoopback()) {
+                    networkInterfaces.add(networkInterface);
+                }
+            }
+        }
+        for (Universe universe : getUniverses()) {
+            InetAddress group = SacnNode.getBroadcastNode(universe.getUniverseId()).getAddress();
+            if (group == null) {
+                continue;
+            }
+            for (NetworkInterface networkInterface : networkInterfaces) {
+                try {
+                    channel.join(group, networkInterface);
+                    logger.trace("joined {} on {}", group, networkInterface.getName());
+                } catch (IOException e) {
+                    logger.debug("could not join {} on {}: {}", group, networkInterface.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void handlePacket(ByteBuffer packet, SocketAddress sender, long now) {
+        byte[] data = packet.array();
+        int length = packet.limit();
+        if (length < HEADER_LENGTH || data[0] != 0x00 || data[1] != 0x10 || !hasAcnId(data)
+                || packet.getInt(18) != VECTOR_ROOT_E131_DATA || packet.getInt(40) != VECTOR_E131_DATA_PACKET) {
+            return;
+        }
+        long cidHigh = packet.getLong(22);
+        long cidLow = packet.getLong(30);
+        if (cidHigh == ownCidHigh && cidLow == ownCidLow) {
+            return;
+        }
+        Universe universe = getUniverse(packet.getShort(113) & 0xffff);
+        if (universe == null) {
+            return;
+        }
+        int options = data[112] & 0xff;
+        if ((options & OPTION_STREAM_TERMINATED) != 0) {
+            universe.removeInput(cidHigh, cidLow);
+            return;
+        }
+        // only DMX data (start code 0) is merged
+        if ((options & OPTION_PREVIEW_DATA) != 0 || data[125] != 0x00) {
+            return;
+        }
+        int priority = data[108] & 0xff;
+        int sequenceNo = data[111] & 0xff;
+        int channelCount = Math.min((packet.getShort(123) & 0xffff) - 1, length - HEADER_LENGTH);
+        if (channelCount <= 0) {
+            return;
+        }
+
+        universe.receiveInput(cidHigh, cidLow, priority, sequenceNo, data, HEADER_LENGTH, channelCount, now);
+    }
+
+    private boolean hasAcnId(byte[] data) {
+        for (int i = 0; i < ACN_ID.length; i++) {
+            if (data[4 + i] != ACN_ID[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -15,6 +15,7 @@ package org.smarthomej.binding.dmx.internal.handler;
 
 import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.THING_TYPE_ARTNET_BRIDGE;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,9 +28,14 @@ import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.config.ArtnetBridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetNode;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetPacket;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetReceiver;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetSyncPacket;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetReceiver;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetSyncPacket;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.IpNode;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link ArtnetBridgeHandler} is responsible for handling the communication
@@ -53,13 +59,7 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
     protected void updateConfiguration() {
         ArtnetBridgeHandlerConfiguration configuration = getConfig().as(ArtnetBridgeHandlerConfiguration.class);
 
-        setUniverse(configuration.universe, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
-        DmxOverEthernetPacket packetTemplate = this.packetTemplate;
-        if (packetTemplate == null) {
-            packetTemplate = new ArtnetPacket();
-            this.packetTemplate = packetTemplate;
-        }
-        packetTemplate.setUniverse(universe.getUniverseId());
+        setUniverses(configuration.universe, configuration.universecount, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
 
         receiverNodes.clear();
         if (configuration.address.isEmpty()) {
@@ -84,6 +84,9 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
         logger.debug("originating address is {} for {}", senderNode, this.thing.getUID());
 
         refreshAlways = configuration.refreshmode.equals("always");
+        synchronization = configuration.synchronization;
+        input = configuration.input;
+        ltpChannels = configuration.ltpchannels;
 
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
@@ -93,11 +96,27 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
         logger.debug("updated configuration for ArtNet bridge {}", this.thing.getUID());
     }
 
+    @Override
+    protected DmxOverEthernetPacket createPacket(int universeId) {
+        DmxOverEthernetPacket packet = new ArtnetPacket();
+        packet.setUniverse(universeId);
+        return packet;
+    }
+
+    @Override
+    protected DmxOverEthernetSyncPacket createSyncPacket() {
+        return new ArtnetSyncPacket();
+    }
+
+    @Override
+    protected DmxOverEthernetReceiver createReceiver(List<Universe> universes) {
+        return new ArtnetReceiver(universes, ArtnetNode.DEFAULT_PORT, senderNode.getPort());
+    }
+
     @Override
     public void initialize() {
         logger.debug("initializing ArtNet bridge {}", this.thing.getUID());
 
-        packetTemplate = new ArtnetPacket();
         updateConfiguration();
     }
 }
@@ -18,11 +18,16 @@ import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.THING_TYPE
 import java.io.IOException;
 import java.net.Socket;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -38,6 +43,9 @@ import org.smarthomej.binding.dmx.internal.multiverse.Universe;
  * The {@link Lib485BridgeHandler} is responsible for communication with
  * an Lib485 instance
  *
+ * Frames are written to the TCP connections by a sender thread of the bridge, so a slow receiver does not block the
+ * frame clock. Frames are skipped while the previous frame is still being written.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -46,19 +54,31 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
     public static final int MIN_UNIVERSE_ID = 0;
     public static final int MAX_UNIVERSE_ID = 0;
     public static final int DEFAULT_PORT = 9020;
+    private static final int KEEP_ALIVE_INTERVAL = 800;
+    private static final int WRITE_TIMEOUT = 1000;
 
     private final Logger logger = LoggerFactory.getLogger(Lib485BridgeHandler.class);
-    private final Map<IpNode, @Nullable Socket> receiverNodes = new HashMap<>();
+    // the receivers are replaced on configuration updates, the sockets are used by the frame clock and the sender
+    private volatile List<IpNode> receiverNodes = List.of();
+    private final Map<IpNode, Socket> receiverSockets = new ConcurrentHashMap<>();
+    private final byte[] frame = new byte[Universe.MAX_UNIVERSE_SIZE];
+    private volatile long lastSend = 0;
+
+    private final ExecutorService sender;
+    private final AtomicBoolean writePending = new AtomicBoolean();
+    private volatile long writeStart = 0;
 
     public Lib485BridgeHandler(Bridge lib485Bridge) {
         super(lib485Bridge);
+        sender = Executors.newSingleThreadExecutor(
+                new NamedThreadFactory("binding-dmx-lib485-" + lib485Bridge.getUID().getId()));
     }
 
     @Override
     protected void openConnection() {
         if (getThing().getStatus() != ThingStatus.ONLINE) {
-            for (IpNode receiverNode : receiverNodes.keySet()) {
-                Socket socket = receiverNodes.get(receiverNode);
+            for (IpNode receiverNode : receiverNodes) {
+                Socket socket = receiverSockets.get(receiverNode);
                 if (socket == null) {
                     try {
                         socket = new Socket(receiverNode.getAddressString(), receiverNode.getPort());
@@ -72,10 +92,10 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
                 }
 
                 if (socket.isConnected()) {
-                    receiverNodes.put(receiverNode, socket);
+                    receiverSockets.put(receiverNode, socket);
                 } else {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR);
-                    receiverNodes.put(receiverNode, null);
+                    receiverSockets.remove(receiverNode);
                     return;
                 }
             }
@@ -85,8 +105,10 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
 
     @Override
     protected void closeConnection() {
-        for (IpNode receiverNode : receiverNodes.keySet()) {
-            Socket socket = receiverNodes.get(receiverNode);
+        lastSend = 0;
+        // also closes the sockets of receivers that were removed by a configuration update
+        for (IpNode receiverNode : receiverSockets.keySet()) {
+            Socket socket = receiverSockets.remove(receiverNode);
             if ((socket != null) && (!socket.isClosed())) {
                 try {
                     socket.close();
@@ -95,7 +117,6 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
                             e.getMessage());
                 }
             }
-            receiverNodes.put(receiverNode, null);
         }
     }
 
@@ -104,24 +125,59 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
             long now = System.currentTimeMillis();
             universe.calculateBuffer(now);
-            for (IpNode receiverNode : receiverNodes.keySet()) {
-                Socket socket = receiverNodes.get(receiverNode);
+            if (universe.getLastBufferChanged() <= lastSend && now - lastSend <= KEEP_ALIVE_INTERVAL) {
+                return;
+            }
+            if (writePending.get()) {
+                // the frame buffer is still used by the sender, so this frame is skipped
+                if (now - writeStart > WRITE_TIMEOUT) {
+                    logger.debug("Sending DMX data in {} timed out", this.thing.getUID());
+                    closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data (timeout)");
+                } else {
+                    logger.trace("skipping frame in {}, previous frame is still being sent", this.thing.getUID());
+                }
+                return;
+            }
+            Map<IpNode, Socket> sockets = new HashMap<>();
+            for (IpNode receiverNode : receiverNodes) {
+                Socket socket = receiverSockets.get(receiverNode);
                 if (socket != null && socket.isConnected()) {
-                    try {
-                        socket.getOutputStream().write(universe.getBuffer());
-                    } catch (IOException e) {
-                        logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
-                                e.getMessage());
-                        closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
-                        return;
-                    }
+                    sockets.put(receiverNode, socket);
                 } else {
                     closeConnection(ThingStatusDetail.NONE, "reconnect");
                     return;
                 }
             }
-        } else {
-            openConnection();
+            int frameSize = universe.writeBuffer(frame, 0);
+            lastSend = now;
+            writeStart = now;
+            writePending.set(true);
+            sender.execute(() -> writeFrame(sockets, frameSize));
+        }
+    }
+
+    /**
+     * write the frame buffer to all receivers (called by the sender)
+     *
+     * @param sockets the sockets of the receivers
+     * @param frameSize the number of bytes in the frame buffer
+     */
+    private void writeFrame(Map<IpNode, Socket> sockets, int frameSize) {
+        try {
+            for (Map.Entry<IpNode, Socket> entry : sockets.entrySet()) {
+                try {
+                    entry.getValue().getOutputStream().write(frame, 0, frameSize);
+                } catch (IOException e) {
+                    logger.debug("Could not send to {} in {}: {}", entry.getKey(), this.thing.getUID(), e.getMessage());
+                    // the connection may already be closed because of a timeout
+                    if (getThing().getStatus() == ThingStatus.ONLINE) {
+                        closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+                    }
+                    return;
+                }
+            }
+        } finally {
+            writePending.set(false);
         }
     }
 
@@ -131,17 +187,15 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
 
         universe = new Universe(MIN_UNIVERSE_ID);
 
-        receiverNodes.clear();
         if (configuration.address.isEmpty()) {
-            receiverNodes.put(new IpNode("localhost:9020"), null);
+            receiverNodes = List.of(new IpNode("localhost:9020"));
             logger.debug("sending to {} for {}", receiverNodes, this.thing.getUID());
         } else {
             try {
-                for (IpNode receiverNode : IpNode.fromString(configuration.address, DEFAULT_PORT)) {
-                    receiverNodes.put(receiverNode, null);
-                    logger.debug("sending to {} for {}", receiverNode, this.thing.getUID());
-                }
+                receiverNodes = List.copyOf(IpNode.fromString(configuration.address, DEFAULT_PORT));
+                logger.debug("sending to {} for {}", receiverNodes, this.thing.getUID());
             } catch (IllegalArgumentException e) {
+                receiverNodes = List.of();
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
                 return;
             }
@@ -159,4 +213,10 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
 
         updateConfiguration();
     }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        sender.shutdownNow();
+    }
 }
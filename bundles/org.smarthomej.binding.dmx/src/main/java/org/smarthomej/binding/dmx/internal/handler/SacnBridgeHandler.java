@@ -15,7 +15,7 @@ package org.smarthomej.binding.dmx.internal.handler;
 
 import static org.smarthomej.binding.dmx.internal.DmxBindingConstants.THING_TYPE_SACN_BRIDGE;
 
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -29,9 +29,14 @@ import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.config.SacnBridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetReceiver;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetSyncPacket;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.IpNode;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.SacnNode;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.SacnPacket;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.SacnReceiver;
+import org.smarthomej.binding.dmx.internal.dmxoverethernet.SacnSyncPacket;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link SacnBridgeHandler} is responsible for handling the communication
@@ -47,6 +52,7 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
 
     private final Logger logger = LoggerFactory.getLogger(SacnBridgeHandler.class);
     private final UUID senderUUID;
+    private boolean multicast = true;
 
     public SacnBridgeHandler(Bridge sacnBridge) {
         super(sacnBridge);
@@ -57,16 +63,11 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
     protected void updateConfiguration() {
         SacnBridgeHandlerConfiguration configuration = getConfig().as(SacnBridgeHandlerConfiguration.class);
 
-        setUniverse(configuration.universe, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
-        DmxOverEthernetPacket packetTemplate = this.packetTemplate;
-        if (packetTemplate == null) {
-            packetTemplate = new SacnPacket(senderUUID);
-            this.packetTemplate = packetTemplate;
-        }
-        packetTemplate.setUniverse(universe.getUniverseId());
+        setUniverses(configuration.universe, configuration.universecount, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
 
         receiverNodes.clear();
-        if ((configuration.mode.equals("unicast"))) {
+        multicast = !configuration.mode.equals("unicast");
+        if (!multicast) {
             if (configuration.address.isEmpty()) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                         "Could not initialize unicast sender (address not set)");
@@ -81,9 +82,7 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
                 }
             }
         } else {
-            receiverNodes = new ArrayList<>();
-            receiverNodes.add(SacnNode.getBroadcastNode(universe.getUniverseId()));
-            logger.debug("using multicast mode to {} for {}", receiverNodes, this.thing.getUID());
+            logger.debug("using multicast mode for {}", this.thing.getUID());
         }
 
         if (!configuration.localaddress.isEmpty()) {
@@ -92,6 +91,9 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         logger.debug("originating address is {} for {}", senderNode, this.thing.getUID());
 
         refreshAlways = configuration.refreshmode.equals("always");
+        synchronization = configuration.synchronization;
+        input = configuration.input;
+        ltpChannels = configuration.ltpchannels;
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
         updateStatus(ThingStatus.UNKNOWN);
@@ -100,11 +102,41 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         logger.debug("updated configuration for sACN/E1.31 bridge {}", this.thing.getUID());
     }
 
+    @Override
+    protected DmxOverEthernetPacket createPacket(int universeId) {
+        SacnPacket packet = new SacnPacket(senderUUID);
+        packet.setUniverse(universeId);
+        if (synchronization) {
+            // the first universe of the bridge is used as synchronization address
+            packet.setSynchronizationAddress(universe.getUniverseId());
+        }
+        return packet;
+    }
+
+    @Override
+    protected DmxOverEthernetSyncPacket createSyncPacket() {
+        return new SacnSyncPacket(senderUUID, universe.getUniverseId());
+    }
+
+    @Override
+    protected List<IpNode> getReceiverNodes(int universeId) {
+        return multicast ? List.of(SacnNode.getBroadcastNode(universeId)) : receiverNodes;
+    }
+
+    @Override
+    protected List<IpNode> getSyncReceiverNodes() {
+        return getReceiverNodes(universe.getUniverseId());
+    }
+
+    @Override
+    protected DmxOverEthernetReceiver createReceiver(List<Universe> universes) {
+        return new SacnReceiver(universes, SacnNode.DEFAULT_PORT, multicast, senderNode.getAddress(), senderUUID);
+    }
+
     @Override
     public void initialize() {
         logger.debug("initializing sACN/E1.31 bridge {}", this.thing.getUID());
 
-        packetTemplate = new SacnPacket(senderUUID);
         updateConfiguration();
     }
 }
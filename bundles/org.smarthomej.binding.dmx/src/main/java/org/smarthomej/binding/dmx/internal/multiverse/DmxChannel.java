@@ -32,11 +32,15 @@ import org.smarthomej.binding.dmx.internal.DmxThingHandler;
 import org.smarthomej.binding.dmx.internal.Util;
 import org.smarthomej.binding.dmx.internal.action.ActionState;
 import org.smarthomej.binding.dmx.internal.action.BaseAction;
+import org.smarthomej.binding.dmx.internal.action.FadeAction;
 
 /**
  * The {@link DmxChannel} extends {@link BaseDmxChannel} with actions and values
  * handlers.
  *
+ * Running {@link FadeAction}s are calculated by the {@link FadeEngine} of the universe, other actions are calculated
+ * by the channel itself. State updates are not sent while calculating, but by {@link #publishState()}.
+ *
  * @author Jan N. Klug - Initial contribution
  * @author Davy Vanherbergen - Initial contribution
  */
@@ -50,6 +54,11 @@ public class DmxChannel extends BaseDmxChannel {
     private int value = MIN_VALUE;
     private int suspendedValue = MIN_VALUE;
     private int lastStateValue = -1;
+    private int lastCalculatedValue = -1;
+    private int mergedValue = -1;
+    private long lastCalculationTime = 0;
+    // incremented on every change of the action list, used to detect changes in the frame calculation
+    private volatile int actionVersion = 0;
 
     private boolean isSuspended = false;
     private int refreshTime = 0;
@@ -62,6 +71,7 @@ public class DmxChannel extends BaseDmxChannel {
     private final Map<ChannelUID, DmxThingHandler> onOffListeners = new HashMap<>();
     private final Map<ChannelUID, DmxThingHandler> valueListeners = new HashMap<>();
     private @Nullable Entry<ChannelUID, DmxThingHandler> actionListener = null;
+    private @Nullable Entry<ChannelUID, DmxThingHandler> completedActionListener = null;
 
     public DmxChannel(int universeId, int dmxChannelId, int refreshTime) {
         super(universeId, dmxChannelId);
@@ -168,7 +178,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public synchronized void resumeAction() throws IllegalStateException {
         if (isSuspended) {
-            clearAction();
+            clearAction(false);
             if (!suspendedActions.isEmpty()) {
                 actions.addAll(suspendedActions);
                 suspendedActions.clear();
@@ -178,6 +188,7 @@ public class DmxChannel extends BaseDmxChannel {
                 logger.trace("resuming suspended value for DMX channel {}", this);
             }
             isSuspended = false;
+            actionVersion++;
         } else {
             throw new IllegalStateException("trying to resume actions in non-suspended DMX channel " + this.toString());
         }
@@ -196,12 +207,27 @@ public class DmxChannel extends BaseDmxChannel {
      * clear all running actions
      */
     public synchronized void clearAction() {
+        clearAction(true);
+    }
+
+    /**
+     * clear all running actions
+     *
+     * @param notifyNow if the action listener shall be notified immediately (otherwise on the next
+     *            {@link #publishState()}, needed while calculating the output)
+     */
+    private void clearAction(boolean notifyNow) {
         logger.trace("clearing all actions for DMX channel {}", this);
         actions.clear();
+        actionVersion++;
         // remove action listener
         Map.Entry<ChannelUID, DmxThingHandler> actionListener = this.actionListener;
         if (actionListener != null) {
-            actionListener.getValue().updateSwitchState(actionListener.getKey(), OnOffType.OFF);
+            if (notifyNow) {
+                actionListener.getValue().updateSwitchState(actionListener.getKey(), OnOffType.OFF);
+            } else {
+                completedActionListener = actionListener;
+            }
             this.actionListener = null;
         }
     }
@@ -214,6 +240,7 @@ public class DmxChannel extends BaseDmxChannel {
     public synchronized void setChannelAction(BaseAction channelAction) {
         clearAction();
         actions.add(channelAction);
+        actionVersion++;
         logger.trace("set action {} for DMX channel {}", channelAction, this);
     }
 
@@ -224,6 +251,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public synchronized void addChannelAction(BaseAction channelAction) {
         actions.add(channelAction);
+        actionVersion++;
         logger.trace("added action {} to channel {} (total {} actions)", channelAction, this, actions.size());
     }
 
@@ -246,6 +274,7 @@ public class DmxChannel extends BaseDmxChannel {
         actions.remove(0);
         action.reset();
         actions.add(action);
+        actionVersion++;
         logger.trace("switching to next action {} on channel {}", actions.get(0), this);
     }
 
@@ -256,7 +285,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-255
      */
-    public synchronized Integer getNewValue(long calculationTime) {
+    public synchronized int getNewValue(long calculationTime) {
         return (getNewHiResValue(calculationTime) >> 8);
     }
 
@@ -267,7 +296,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-65535
      */
-    public synchronized Integer getNewHiResValue(long calculationTime) {
+    public synchronized int getNewHiResValue(long calculationTime) {
         if (hasRunningActions()) {
             logger.trace("checking actions, list is {}", actions);
             BaseAction action = actions.get(0);
@@ -275,35 +304,155 @@ public class DmxChannel extends BaseDmxChannel {
             if (action.getState() == ActionState.COMPLETED && hasRunningActions()) {
                 switchToNextAction();
             } else if (action.getState() == ActionState.COMPLETEDFINAL) {
-                clearAction();
+                clearAction(false);
             }
         }
 
-        // send updates not more than once in a second, and only on value change
-        if ((lastStateValue != value) && (calculationTime - lastStateTimestamp > refreshTime)) {
-            // notify value listeners if value changed
-            for (Entry<ChannelUID, DmxThingHandler> listener : valueListeners.entrySet()) {
-                int dmxValue = Util.toDmxValue(value >> 8);
-                (listener.getValue()).updateChannelValue(listener.getKey(), dmxValue);
-                logger.trace("sending VALUE={} (raw={}) status update to listener {} ({})", dmxValue, value,
-                        listener.getValue(), listener.getKey());
-            }
+        lastCalculationTime = calculationTime;
+        lastCalculatedValue = value;
+        return value;
+    }
 
-            // notify on/off listeners if on/off state changed
-            if ((lastStateValue == 0) || (value == 0)) {
-                OnOffType state = (value == 0) ? OnOffType.OFF : OnOffType.ON;
-                for (Entry<ChannelUID, DmxThingHandler> listener : onOffListeners.entrySet()) {
-                    (listener.getValue()).updateSwitchState(listener.getKey(), state);
-                    logger.trace("sending ONOFF={} (raw={}), status update to listener {}", state, value,
-                            listener.getKey());
+    /**
+     * send state updates to the listeners
+     *
+     * Updates are sent only on value change and not more often than the refresh time (based on the time of the last
+     * calculation). The listeners are called without holding the channel's lock, so a slow listener does not block
+     * the output calculation.
+     */
+    public void publishState() {
+        Map.Entry<ChannelUID, DmxThingHandler> completedActionListener;
+        List<Entry<ChannelUID, DmxThingHandler>> notifyValueListeners = List.of();
+        List<Entry<ChannelUID, DmxThingHandler>> notifyOnOffListeners = List.of();
+        int stateValue;
+        synchronized (this) {
+            completedActionListener = this.completedActionListener;
+            this.completedActionListener = null;
+            stateValue = getStateValue();
+            if ((lastStateValue != stateValue) && (lastCalculationTime - lastStateTimestamp > refreshTime)) {
+                notifyValueListeners = List.copyOf(valueListeners.entrySet());
+                // notify on/off listeners if on/off state changed
+                if ((lastStateValue == 0) || (stateValue == 0)) {
+                    notifyOnOffListeners = List.copyOf(onOffListeners.entrySet());
                 }
+                lastStateValue = stateValue;
+                lastStateTimestamp = lastCalculationTime;
             }
+        }
+
+        if (completedActionListener != null) {
+            completedActionListener.getValue().updateSwitchState(completedActionListener.getKey(), OnOffType.OFF);
+        }
+        int dmxValue = Util.toDmxValue(stateValue >> 8);
+        for (Entry<ChannelUID, DmxThingHandler> listener : notifyValueListeners) {
+            listener.getValue().updateChannelValue(listener.getKey(), dmxValue);
+            logger.trace("sending VALUE={} (raw={}) status update to listener {} ({})", dmxValue, stateValue,
+                    listener.getValue(), listener.getKey());
+        }
+        OnOffType state = (stateValue == 0) ? OnOffType.OFF : OnOffType.ON;
+        for (Entry<ChannelUID, DmxThingHandler> listener : notifyOnOffListeners) {
+            listener.getValue().updateSwitchState(listener.getKey(), state);
+            logger.trace("sending ONOFF={} (raw={}), status update to listener {}", state, stateValue,
+                    listener.getKey());
+        }
+    }
+
+    /**
+     * get the version of the action list (changes whenever actions are added, removed or switched)
+     *
+     * @return the version
+     */
+    int getActionVersion() {
+        return actionVersion;
+    }
 
-            lastStateValue = value;
-            lastStateTimestamp = calculationTime;
+    /**
+     * assign the current action to the fade engine (if it is a {@link FadeAction}) or remove the channel from it
+     *
+     * @param fadeEngine the fade engine of the universe
+     * @param index the index of the channel in the fade engine
+     * @param calculationTime UNIX timestamp
+     */
+    synchronized void assignAction(FadeEngine fadeEngine, int index, long calculationTime) {
+        fadeEngine.setActionVersion(index, actionVersion);
+        if (!actions.isEmpty() && actions.get(0) instanceof FadeAction) {
+            FadeAction action = (FadeAction) actions.get(0);
+            if (action.getState() == ActionState.WAITING) {
+                action.start(value, calculationTime);
+            }
+            fadeEngine.start(index, action);
+        } else {
+            fadeEngine.stop(index);
         }
+    }
 
-        return value;
+    /**
+     * set the value calculated by the fade engine
+     *
+     * @param value the new value (0-65535)
+     * @param version the version of the action list the value was calculated for
+     * @param calculationTime UNIX timestamp
+     */
+    void setFadeValue(int value, int version, long calculationTime) {
+        // the action list was changed after the fade was assigned, the value is outdated
+        if (version == actionVersion) {
+            this.value = value;
+            lastCalculatedValue = value;
+            lastCalculationTime = calculationTime;
+        }
+    }
+
+    /**
+     * switch to the next action after the fade engine completed a fade
+     *
+     * @param state the state of the completed fade
+     * @param version the version of the action list the fade was calculated for
+     */
+    synchronized void completeFade(ActionState state, int version) {
+        if (version != actionVersion || actions.isEmpty()) {
+            // the action list was changed in the meantime, it is assigned again in the next calculation
+            return;
+        }
+        BaseAction action = actions.get(0);
+        if (action instanceof FadeAction) {
+            ((FadeAction) action).complete(state);
+        }
+        if (state == ActionState.COMPLETED) {
+            switchToNextAction();
+        } else {
+            clearAction(false);
+        }
+    }
+
+    /**
+     * check if a new calculation would change neither the value nor the listeners' state
+     *
+     * @return true if the channel has no running actions and no pending changes
+     */
+    public synchronized boolean isIdle() {
+        return !hasRunningActions() && value == lastCalculatedValue && getStateValue() == lastStateValue;
+    }
+
+    /**
+     * set the value of this channel in the output after merging with DMX data received from other senders
+     *
+     * @param mergedValue the merged value (0-255) or -1 if the own value is output
+     */
+    public synchronized void setMergedValue(int mergedValue) {
+        this.mergedValue = mergedValue < 0 ? -1 : Util.toDmxValue(mergedValue) << 8;
+    }
+
+    /**
+     * get the value of this DMX channel in the output (including values merged from other senders)
+     *
+     * @return value as Integer (0-255)
+     */
+    public synchronized int getOutputValue() {
+        return Util.toDmxValue(getStateValue() >> 8);
+    }
+
+    private int getStateValue() {
+        return mergedValue >= 0 ? mergedValue : value;
     }
 
     /**
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.multiverse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.dmx.internal.action.ActionState;
+import org.smarthomej.binding.dmx.internal.action.FadeAction;
+
+/**
+ * The {@link FadeEngine} calculates all running fades of a universe
+ *
+ * The parameters of the {@link FadeAction}s are copied to primitive arrays (indexed by channel id - 1) when the action
+ * starts, so all fades are calculated in one loop without synchronization or calls to the channels. Only when a fade
+ * completes, the channel is needed to switch to the next action. The engine is only used by the thread calculating the
+ * universe.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class FadeEngine {
+    private static final int SIZE = Universe.MAX_UNIVERSE_SIZE;
+
+    private final int[] startValue = new int[SIZE];
+    private final int[] targetValue = new int[SIZE];
+    private final float[] stepDuration = new float[SIZE];
+    private final long[] startTime = new long[SIZE];
+    private final long[] fadeTime = new long[SIZE];
+    private final long[] holdTime = new long[SIZE];
+    private final int[] value = new int[SIZE];
+    private final int[] actionVersion = new int[SIZE];
+
+    // dense list of the running fades, position holds the index in that list (or -1 if not running)
+    private final int[] running = new int[SIZE];
+    private final int[] position = new int[SIZE];
+    private int runningCount = 0;
+
+    private final int[] completed = new int[SIZE];
+    private final ActionState[] completedState = new ActionState[SIZE];
+    private int completedCount = 0;
+
+    public FadeEngine() {
+        for (int i = 0; i < SIZE; i++) {
+            position[i] = -1;
+            actionVersion[i] = -1;
+        }
+    }
+
+    /**
+     * start (or continue) a fade
+     *
+     * @param index the channel index (channel id - 1)
+     * @param action the (already started) action
+     */
+    public void start(int index, FadeAction action) {
+        startValue[index] = action.getStartValue();
+        targetValue[index] = action.getTargetValue();
+        stepDuration[index] = action.getStepDuration();
+        startTime[index] = action.getStartTime();
+        fadeTime[index] = action.getFadeTime();
+        holdTime[index] = action.getHoldTime();
+        if (position[index] < 0) {
+            position[index] = runningCount;
+            running[runningCount++] = index;
+        }
+    }
+
+    /**
+     * stop a fade
+     *
+     * @param index the channel index (channel id - 1)
+     */
+    public void stop(int index) {
+        int pos = position[index];
+        if (pos >= 0) {
+            int last = running[--runningCount];
+            running[pos] = last;
+            position[last] = pos;
+            position[index] = -1;
+        }
+    }
+
+    /**
+     * check if a fade is running
+     *
+     * @param index the channel index (channel id - 1)
+     * @return true if running
+     */
+    public boolean isRunning(int index) {
+        return position[index] >= 0;
+    }
+
+    /**
+     * calculate all running fades
+     *
+     * @param time the timestamp used for calculation
+     * @return the number of completed fades (see {@link #getCompleted(int)})
+     */
+    public int calculate(long time) {
+        completedCount = 0;
+        for (int n = 0; n < runningCount; n++) {
+            int i = running[n];
+            long duration = time - startTime[i];
+            int newValue = FadeAction.calculateValue(startValue[i], targetValue[i], stepDuration[i], fadeTime[i],
+                    duration);
+            value[i] = newValue;
+            if (newValue == targetValue[i]) {
+                ActionState state = FadeAction.calculateState(newValue, targetValue[i], fadeTime[i], holdTime[i],
+                        duration);
+                if (state != ActionState.RUNNING) {
+                    completed[completedCount] = i;
+                    completedState[completedCount] = state;
+                    completedCount++;
+                }
+            }
+        }
+        return completedCount;
+    }
+
+    /**
+     * get the current value of a fade
+     *
+     * @param index the channel index (channel id - 1)
+     * @return the value calculated by the last {@link #calculate(long)} (0-65535)
+     */
+    public int getValue(int index) {
+        return value[index];
+    }
+
+    /**
+     * get a fade that completed in the last calculation
+     *
+     * @param n number of the completed fade (0 to the result of {@link #calculate(long)} - 1)
+     * @return the channel index
+     */
+    public int getCompleted(int n) {
+        return completed[n];
+    }
+
+    /**
+     * get the state of a fade that completed in the last calculation
+     *
+     * @param n number of the completed fade (0 to the result of {@link #calculate(long)} - 1)
+     * @return the state
+     */
+    public ActionState getCompletedState(int n) {
+        return completedState[n];
+    }
+
+    /**
+     * get the version of the channel's action list that was last assigned
+     *
+     * @param index the channel index (channel id - 1)
+     * @return the version (-1 if never assigned)
+     */
+    public int getActionVersion(int index) {
+        return actionVersion[index];
+    }
+
+    /**
+     * set the version of the channel's action list that was assigned
+     *
+     * @param index the channel index (channel id - 1)
+     * @param version the version
+     */
+    public void setActionVersion(int index, int version) {
+        actionVersion[index] = version;
+    }
+
+    /**
+     * remove a channel from the engine (e.g. because it was removed from the universe)
+     *
+     * @param index the channel index (channel id - 1)
+     */
+    public void reset(int index) {
+        stop(index);
+        actionVersion[index] = -1;
+    }
+}
@@ -13,12 +13,15 @@
  */
 package org.smarthomej.binding.dmx.internal.multiverse;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.Thing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +30,15 @@ import org.slf4j.LoggerFactory;
  * The {@link Universe} represents a single DMX universes with all its channels and provides a buffer for sending by the
  * bridges
  *
+ * The buffer is preallocated and only updated for channels that are not idle. Bridges copy it directly into their
+ * packet (see {@link #writeBuffer(byte[], int)}), so no allocation is needed per frame.
+ *
+ * Running fades of all channels are calculated together by the {@link FadeEngine}. State updates of the channels are
+ * sent by {@link #publishChannelStates()}, which is called independently of the buffer calculation.
+ *
+ * If DMX data for this universe is received from other senders (see {@link UniverseInput}), it is merged with the own
+ * values and the merged buffer is sent instead.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -41,14 +53,26 @@ public class Universe {
     private int universeId;
     private int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
+    private final byte[] buffer = new byte[MAX_UNIVERSE_SIZE];
+    private final long[] bufferChangedAt = new long[MAX_UNIVERSE_SIZE];
+    private final byte[] mergeBuffer = new byte[MAX_UNIVERSE_SIZE];
+    private final byte[] mergedBuffer = new byte[MAX_UNIVERSE_SIZE];
+    private final UniverseInput input = new UniverseInput();
+    private int mergedSize = 0;
+    private volatile boolean merging = false;
     private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
 
     private long bufferChanged;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
-    private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private final List<DmxChannel> channels = new CopyOnWriteArrayList<>();
+    // indexed by channel id - 1
+    private final @Nullable DmxChannel[] channelIndex = new DmxChannel[MAX_UNIVERSE_SIZE];
+    private final FadeEngine fadeEngine = new FadeEngine();
+    // indexed by channel id, channel 0 is not used
+    private volatile boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
+    private volatile boolean[] latestTakesPrecedence = new boolean[MAX_UNIVERSE_SIZE + 1];
+    private volatile boolean recalculateAll = true;
 
     /**
      * universe constructor
@@ -97,13 +121,13 @@ public class Universe {
     public synchronized void unregisterChannels(Thing thing) {
         universeLock.lock();
         try {
-            Iterator<DmxChannel> channelIterator = channels.iterator();
-
-            while (channelIterator.hasNext()) {
-                DmxChannel channel = channelIterator.next();
+            for (DmxChannel channel : channels) {
                 channel.unregisterThing(thing);
                 if (!channel.hasRegisteredThings()) {
-                    channelIterator.remove();
+                    channels.remove(channel);
+                    int index = channel.getChannelId() - 1;
+                    channelIndex[index] = null;
+                    fadeEngine.reset(index);
                     logger.trace("Removing channel {}, no more things", channel);
                 }
             }
@@ -122,6 +146,9 @@ public class Universe {
             universeLock.lock();
             try {
                 channels.add(channel);
+                channelIndex[channel.getChannelId() - 1] = channel;
+                fadeEngine.reset(channel.getChannelId() - 1);
+                recalculateAll = true;
                 if (channel.getChannelId() > bufferSize) {
                     bufferSize = channel.getChannelId();
                 }
@@ -149,7 +176,7 @@ public class Universe {
      * @return value between {@link MIN_UNIVERSE_SIZE} and 512
      */
     public int getBufferSize() {
-        return bufferSize;
+        return merging ? mergedSize : bufferSize;
     }
 
     /**
@@ -175,49 +202,184 @@ public class Universe {
     }
 
     /**
-     * calculate this universe buffer (run all channel actions) for a given time
+     * calculate this universe buffer (run all channel actions and merge received data) for a given time
      *
      * @param time the timestamp used for calculation
      */
     public void calculateBuffer(long time) {
         universeLock.lock();
         try {
+            boolean[] applyCurve = this.applyCurve;
+            boolean recalculateAll = this.recalculateAll;
+            this.recalculateAll = false;
+
+            // assign changed actions to the fade engine and calculate all running fades at once
+            for (DmxChannel channel : channels) {
+                int index = channel.getChannelId() - 1;
+                if (channel.getActionVersion() != fadeEngine.getActionVersion(index)) {
+                    channel.assignAction(fadeEngine, index, time);
+                }
+            }
+            int completedCount = fadeEngine.calculate(time);
+
+            boolean ownChanged = false;
             for (DmxChannel channel : channels) {
-                logger.trace("calculating new value for {}", channel);
                 int channelId = channel.getChannelId();
-                int vx = channel.getNewHiResValue(time);
-                int value;
-                if (applyCurve.contains(channelId)) {
-                    value = cie1931Curve[vx];
+                int vx;
+                if (fadeEngine.isRunning(channelId - 1)) {
+                    vx = fadeEngine.getValue(channelId - 1);
+                    channel.setFadeValue(vx, fadeEngine.getActionVersion(channelId - 1), time);
+                } else if (!recalculateAll && channel.isIdle()) {
+                    continue;
+                } else {
+                    // other actions than fades are calculated by the channel
+                    vx = channel.getNewHiResValue(time);
+                }
+                byte value;
+                if (applyCurve[channelId]) {
+                    value = (byte) cie1931Curve[vx];
                 } else {
-                    value = vx >> 8;
+                    value = (byte) (vx >> 8);
                 }
                 if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
-                    bufferChanged = time;
+                    buffer[channelId - 1] = value;
+                    bufferChangedAt[channelId - 1] = time;
+                    ownChanged = true;
+                }
+            }
+
+            // switch channels with completed fades to their next action
+            for (int n = 0; n < completedCount; n++) {
+                int index = fadeEngine.getCompleted(n);
+                fadeEngine.stop(index);
+                DmxChannel channel = channelIndex[index];
+                if (channel != null) {
+                    channel.completeFade(fadeEngine.getCompletedState(n), fadeEngine.getActionVersion(index));
+                }
+            }
+
+            mergeInput(time, ownChanged);
+        } finally {
+            universeLock.unlock();
+        }
+    }
+
+    private void mergeInput(long time, boolean ownChanged) {
+        int size = input.merge(buffer, bufferChangedAt, bufferSize, UniverseInput.DEFAULT_PRIORITY,
+                latestTakesPrecedence, mergeBuffer, time);
+        if (size > 0) {
+            boolean mergedChanged = !merging || size != mergedSize
+                    || Arrays.mismatch(mergeBuffer, 0, size, mergedBuffer, 0, size) >= 0;
+            if (mergedChanged) {
+                System.arraycopy(mergeBuffer, 0, mergedBuffer, 0, size);
+                mergedSize = size;
+                bufferChanged = time;
+                if (!merging) {
+                    logger.debug("Merging received data into universe {}", universeId);
+                    merging = true;
                 }
             }
+            if (mergedChanged || ownChanged) {
+                // expose the merged value to channels where it differs from the own value
+                for (DmxChannel channel : channels) {
+                    int index = channel.getChannelId() - 1;
+                    int mergedValue = index < size ? mergedBuffer[index] & 0xff : 0;
+                    channel.setMergedValue(mergedValue != (buffer[index] & 0xff) ? mergedValue : -1);
+                }
+            }
+        } else if (merging) {
+            logger.debug("No more received data for universe {}", universeId);
+            merging = false;
+            bufferChanged = time;
+            for (DmxChannel channel : channels) {
+                channel.setMergedValue(-1);
+            }
+        } else if (ownChanged) {
+            bufferChanged = time;
+        }
+    }
+
+    /**
+     * send state updates of all channels to their listeners (must not be called while calculating the buffer)
+     */
+    public void publishChannelStates() {
+        for (DmxChannel channel : channels) {
+            channel.publishState();
+        }
+    }
+
+    /**
+     * add DMX data received from another sender for this universe
+     *
+     * @param sourceIdHigh first part of the unique id of the sender
+     * @param sourceIdLow second part of the unique id of the sender
+     * @param priority the priority of the data (0-200)
+     * @param sequenceNo the sequence number of the packet (-1 if the protocol does not use sequence numbers)
+     * @param data the array containing the DMX data
+     * @param offset position of the first channel in data
+     * @param length number of channels
+     * @param now the time of reception
+     * @return true if the data was accepted
+     */
+    public boolean receiveInput(long sourceIdHigh, long sourceIdLow, int priority, int sequenceNo, byte[] data,
+            int offset, int length, long now) {
+        return input.receive(sourceIdHigh, sourceIdLow, priority, sequenceNo, data, offset, length, now);
+    }
+
+    /**
+     * remove another sender from this universe (e.g. because it terminated its stream)
+     *
+     * @param sourceIdHigh first part of the unique id of the sender
+     * @param sourceIdLow second part of the unique id of the sender
+     */
+    public void removeInput(long sourceIdHigh, long sourceIdLow) {
+        input.remove(sourceIdHigh, sourceIdLow);
+    }
+
+    /**
+     * get the number of other senders currently merged into this universe
+     *
+     * @return number of senders
+     */
+    public int getInputSourceCount() {
+        return input.getSourceCount();
+    }
+
+    /**
+     * copy the universe buffer to a target array (e.g. the payload of a packet)
+     *
+     * @param target the target array
+     * @param offset the position of the first channel in the target array
+     * @return the number of copied channels (the buffer size)
+     */
+    public int writeBuffer(byte[] target, int offset) {
+        universeLock.lock();
+        try {
+            if (merging) {
+                System.arraycopy(mergedBuffer, 0, target, offset, mergedSize);
+                return mergedSize;
+            }
+            System.arraycopy(buffer, 0, target, offset, bufferSize);
+            return bufferSize;
         } finally {
             universeLock.unlock();
         }
     }
 
     /**
-     * get the full universe buffer
+     * get a copy of the full universe buffer
      *
      * @return byte array with channel values
      */
     public byte[] getBuffer() {
-        byte[] b = new byte[bufferSize];
         universeLock.lock();
         try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
+            byte[] b = new byte[getBufferSize()];
+            writeBuffer(b, 0);
+            return b;
         } finally {
             universeLock.unlock();
         }
-        return b;
     }
 
     /**
@@ -226,11 +388,43 @@ public class Universe {
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
-        for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+        setDimCurveChannels(BaseDmxChannel.fromString(listString, universeId));
+    }
+
+    /**
+     * set list of channels that should use the LED dim curve (channels of other universes are ignored)
+     *
+     * @param dimCurveChannels list of channels
+     */
+    public void setDimCurveChannels(List<BaseDmxChannel> dimCurveChannels) {
+        boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
+        for (BaseDmxChannel channel : dimCurveChannels) {
+            if (channel.getUniverseId() == universeId) {
+                applyCurve[channel.getChannelId()] = true;
+            }
+        }
+        this.applyCurve = applyCurve;
+        recalculateAll = true;
+        if (logger.isDebugEnabled()) {
+            logger.debug("applying dim curve in universe {} to channels {}", universeId, IntStream
+                    .rangeClosed(1, MAX_UNIVERSE_SIZE).filter(i -> applyCurve[i]).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * set list of channels that are merged latest takes precedence (LTP) with received data, all other channels are
+     * merged highest takes precedence (HTP) (channels of other universes are ignored)
+     *
+     * @param ltpChannels list of channels
+     */
+    public void setLtpChannels(List<BaseDmxChannel> ltpChannels) {
+        boolean[] latestTakesPrecedence = new boolean[MAX_UNIVERSE_SIZE + 1];
+        for (BaseDmxChannel channel : ltpChannels) {
+            if (channel.getUniverseId() == universeId) {
+                latestTakesPrecedence[channel.getChannelId()] = true;
+            }
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        this.latestTakesPrecedence = latestTakesPrecedence;
     }
 
     /**
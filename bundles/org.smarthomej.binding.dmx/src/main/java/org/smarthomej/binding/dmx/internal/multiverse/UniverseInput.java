@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.multiverse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link UniverseInput} keeps the DMX data received from other senders for a single universe and merges it with
+ * the universe's own output
+ *
+ * Only sources with the highest priority (including the own output) are merged. Channels are merged highest takes
+ * precedence (HTP) or, if configured, latest takes precedence (LTP). Sources that are not received for
+ * {@link #SOURCE_TIMEOUT} ms are dropped. All buffers are preallocated, so receiving and merging does not allocate.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseInput {
+    public static final int MAX_SOURCES = 8;
+    public static final int DEFAULT_PRIORITY = 100;
+    public static final long SOURCE_TIMEOUT = 2500;
+
+    private final Logger logger = LoggerFactory.getLogger(UniverseInput.class);
+    private final Source[] sources = new Source[MAX_SOURCES];
+
+    public UniverseInput() {
+        for (int i = 0; i < MAX_SOURCES; i++) {
+            sources[i] = new Source();
+        }
+    }
+
+    /**
+     * add received DMX data
+     *
+     * @param sourceIdHigh first part of the unique id of the sender
+     * @param sourceIdLow second part of the unique id of the sender
+     * @param priority the priority of the data (0-200)
+     * @param sequenceNo the sequence number of the packet (-1 if the protocol does not use sequence numbers)
+     * @param data the array containing the DMX data
+     * @param offset position of the first channel in data
+     * @param length number of channels
+     * @param now the time of reception
+     * @return true if the data was accepted, false if it was out of order or no source slot is available
+     */
+    public synchronized boolean receive(long sourceIdHigh, long sourceIdLow, int priority, int sequenceNo, byte[] data,
+            int offset, int length, long now) {
+        Source source = findSource(sourceIdHigh, sourceIdLow);
+        int channelCount = Math.min(length, Universe.MAX_UNIVERSE_SIZE);
+        if (source == null) {
+            source = findFreeSource(now);
+            if (source == null) {
+                logger.debug("Ignoring new source {}/{}, too many sources", sourceIdHigh, sourceIdLow);
+                return false;
+            }
+            source.active = true;
+            source.idHigh = sourceIdHigh;
+            source.idLow = sourceIdLow;
+            System.arraycopy(data, offset, source.values, 0, channelCount);
+            for (int i = 0; i < channelCount; i++) {
+                source.changed[i] = now;
+            }
+            logger.debug("New source {}/{}", sourceIdHigh, sourceIdLow);
+        } else {
+            if (sequenceNo >= 0 && source.sequenceNo >= 0) {
+                // packets up to 20 sequence numbers older than the last one are considered out of order
+                int diff = (byte) (sequenceNo - source.sequenceNo);
+                if (diff <= 0 && diff > -20) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < channelCount; i++) {
+                byte value = data[offset + i];
+                if (source.values[i] != value) {
+                    source.values[i] = value;
+                    source.changed[i] = now;
+                }
+            }
+            for (int i = channelCount; i < source.length; i++) {
+                source.values[i] = 0;
+            }
+        }
+        source.length = channelCount;
+        source.priority = priority;
+        source.sequenceNo = sequenceNo;
+        source.lastReceived = now;
+        return true;
+    }
+
+    /**
+     * remove a source (e.g. because it terminated the stream)
+     *
+     * @param sourceIdHigh first part of the unique id of the sender
+     * @param sourceIdLow second part of the unique id of the sender
+     */
+    public synchronized void remove(long sourceIdHigh, long sourceIdLow) {
+        Source source = findSource(sourceIdHigh, sourceIdLow);
+        if (source != null) {
+            source.active = false;
+            logger.debug("Source {}/{} terminated", sourceIdHigh, sourceIdLow);
+        }
+    }
+
+    /**
+     * merge the own output with all received data
+     *
+     * @param own the own output values
+     * @param ownChanged the timestamps of the last change of each own output value
+     * @param ownSize number of channels in the own output
+     * @param ownPriority the priority of the own output
+     * @param ltp the channels (indexed by channel id) that are merged LTP instead of HTP
+     * @param output the array for the merged values
+     * @param now the current time
+     * @return the number of channels in output or 0 if no source is active (output is unchanged in that case)
+     */
+    public synchronized int merge(byte[] own, long[] ownChanged, int ownSize, int ownPriority, boolean[] ltp,
+            byte[] output, long now) {
+        int maxPriority = ownPriority;
+        boolean active = false;
+        for (Source source : sources) {
+            if (source.active) {
+                if (now - source.lastReceived > SOURCE_TIMEOUT) {
+                    source.active = false;
+                    logger.debug("Source {}/{} timed out", source.idHigh, source.idLow);
+                } else {
+                    active = true;
+                    maxPriority = Math.max(maxPriority, source.priority);
+                }
+            }
+        }
+        if (!active) {
+            return 0;
+        }
+
+        boolean ownParticipates = ownPriority >= maxPriority;
+        int size = ownParticipates ? ownSize : 0;
+        for (Source source : sources) {
+            if (source.active && source.priority == maxPriority) {
+                size = Math.max(size, source.length);
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            boolean hasValue = ownParticipates && i < ownSize;
+            int value = hasValue ? own[i] & 0xff : 0;
+            long changed = hasValue ? ownChanged[i] : 0;
+            boolean latestTakesPrecedence = ltp[i + 1];
+            for (Source source : sources) {
+                if (!source.active || source.priority != maxPriority || i >= source.length) {
+                    continue;
+                }
+                int sourceValue = source.values[i] & 0xff;
+                if (latestTakesPrecedence) {
+                    if (!hasValue || source.changed[i] > changed) {
+                        value = sourceValue;
+                        changed = source.changed[i];
+                        hasValue = true;
+                    }
+                } else if (sourceValue > value) {
+                    value = sourceValue;
+                }
+            }
+            output[i] = (byte) value;
+        }
+        return size;
+    }
+
+    /**
+     * get the number of active sources
+     *
+     * @return number of sources
+     */
+    public synchronized int getSourceCount() {
+        int count = 0;
+        for (Source source : sources) {
+            if (source.active) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private @Nullable Source findSource(long sourceIdHigh, long sourceIdLow) {
+        for (Source source : sources) {
+            if (source.active && source.idHigh == sourceIdHigh && source.idLow == sourceIdLow) {
+                return source;
+            }
+        }
+        return null;
+    }
+
+    private @Nullable Source findFreeSource(long now) {
+        for (Source source : sources) {
+            if (!source.active || now - source.lastReceived > SOURCE_TIMEOUT) {
+                source.sequenceNo = -1;
+                source.length = 0;
+                return source;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * a single sender of DMX data for this universe
+     */
+    private static class Source {
+        private boolean active = false;
+        private long idHigh;
+        private long idLow;
+        private int priority = DEFAULT_PRIORITY;
+        private int sequenceNo = -1;
+        private long lastReceived;
+        private int length = 0;
+        private final byte[] values = new byte[Universe.MAX_UNIVERSE_SIZE];
+        private final long[] changed = new long[Universe.MAX_UNIVERSE_SIZE];
+    }
+}
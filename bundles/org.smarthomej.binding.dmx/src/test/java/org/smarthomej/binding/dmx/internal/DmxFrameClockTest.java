@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests cases for DmxFrameClock
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class DmxFrameClockTest extends JavaTest {
+
+    @Test
+    public void framesOfSameRateAreProcessedInLockstep() {
+        DmxFrameClock frameClock = new DmxFrameClock("test-frameclock");
+        List<String> frames = new CopyOnWriteArrayList<>();
+
+        DmxFrameClock.Registration registration1 = frameClock.register(() -> frames.add("1"), 20);
+        DmxFrameClock.Registration registration2 = frameClock.register(() -> frames.add("2"), 20);
+
+        waitForAssert(() -> assertTrue(frames.size() >= 10));
+        frameClock.unregister(registration1);
+        frameClock.unregister(registration2);
+
+        // both tasks are executed once per frame
+        List<String> snapshot = List.copyOf(frames);
+        long count1 = snapshot.stream().filter("1"::equals).count();
+        long count2 = snapshot.stream().filter("2"::equals).count();
+        assertTrue(Math.abs(count1 - count2) <= 1);
+    }
+
+    @Test
+    public void unregisteredTasksAreNotExecuted() throws InterruptedException {
+        DmxFrameClock frameClock = new DmxFrameClock("test-frameclock");
+        AtomicInteger counter = new AtomicInteger();
+
+        DmxFrameClock.Registration registration = frameClock.register(counter::incrementAndGet, 10);
+        waitForAssert(() -> assertTrue(counter.get() > 2));
+        frameClock.unregister(registration);
+
+        Thread.sleep(50);
+        int count = counter.get();
+        Thread.sleep(100);
+        assertThat(counter.get(), is(count));
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.dmxoverethernet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
+
+/**
+ * Tests cases for receiving sACN/E1.31 packets
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SacnReceiverTest {
+    private static final InetSocketAddress SENDER = new InetSocketAddress("127.0.0.1", 5568);
+
+    private final UUID ownUUID = UUID.randomUUID();
+    private @NonNullByDefault({}) Universe universe;
+    private @NonNullByDefault({}) SacnReceiver receiver;
+
+    @BeforeEach
+    public void setup() {
+        universe = new Universe(2);
+        receiver = new SacnReceiver(List.of(universe), SacnNode.DEFAULT_PORT, false, null, ownUUID);
+    }
+
+    private ByteBuffer createPacket(UUID uuid, int universeId, int value) {
+        SacnPacket packet = new SacnPacket(uuid);
+        packet.setUniverse(universeId);
+        byte[] payload = new byte[SacnPacket.SACN_MAX_PAYLOAD_SIZE];
+        payload[0] = (byte) value;
+        packet.setPayload(payload);
+        return ByteBuffer.wrap(packet.getRawPacket(), 0, packet.getPacketLength());
+    }
+
+    @Test
+    public void dataPacketIsMerged() {
+        long now = System.currentTimeMillis();
+        receiver.handlePacket(createPacket(UUID.randomUUID(), 2, 123), SENDER, now);
+        universe.calculateBuffer(now);
+
+        assertThat(universe.getInputSourceCount(), is(1));
+        assertThat(universe.getBufferSize(), is(SacnPacket.SACN_MAX_PAYLOAD_SIZE));
+        assertThat(universe.getBuffer()[0] & 0xFF, is(123));
+    }
+
+    @Test
+    public void ownAndOtherUniversePacketsAreIgnored() {
+        long now = System.currentTimeMillis();
+        receiver.handlePacket(createPacket(ownUUID, 2, 123), SENDER, now);
+        receiver.handlePacket(createPacket(UUID.randomUUID(), 3, 123), SENDER, now);
+
+        assertThat(universe.getInputSourceCount(), is(0));
+    }
+
+    @Test
+    public void terminatedStreamIsRemoved() {
+        long now = System.currentTimeMillis();
+        UUID uuid = UUID.randomUUID();
+        receiver.handlePacket(createPacket(uuid, 2, 123), SENDER, now);
+        assertThat(universe.getInputSourceCount(), is(1));
+
+        ByteBuffer terminationPacket = createPacket(uuid, 2, 0);
+        terminationPacket.array()[112] = 0x40;
+        receiver.handlePacket(terminationPacket, SENDER, now);
+        assertThat(universe.getInputSourceCount(), is(0));
+    }
+}
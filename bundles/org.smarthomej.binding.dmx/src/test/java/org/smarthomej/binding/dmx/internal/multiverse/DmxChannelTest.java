@@ -48,10 +48,15 @@ public class DmxChannelTest {
         currentTime = System.currentTimeMillis();
     }
 
+    private void calculateAndPublish(long time) {
+        dmxChannel.getNewValue(time);
+        dmxChannel.publishState();
+    }
+
     @Test
     public void checkValueSettingAndReporting() {
         dmxChannel.setValue(125);
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
 
         assertThat(dmxChannel.getValue(), is(125));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 125);
@@ -81,11 +86,11 @@ public class DmxChannelTest {
     public void checkSingleFadeAction() {
         dmxChannel.addChannelAction(new FadeAction(1000, 243, -1));
 
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(true));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 0);
 
-        dmxChannel.getNewValue(currentTime + 1000);
+        calculateAndPublish(currentTime + 1000);
         assertThat(dmxChannel.hasRunningActions(), is(false));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 243);
     }
@@ -95,27 +100,27 @@ public class DmxChannelTest {
         dmxChannel.addChannelAction(new FadeAction(1000, 243, 0));
         dmxChannel.addChannelAction(new FadeAction(1000, 127, 0));
 
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(true));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 0);
 
         // check first action completes
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         currentTime += 1000;
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(true));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 243);
 
         // check second action completes
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         currentTime += 1000;
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(true));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 127);
 
         // check first action completes again
         currentTime += 1000;
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(true));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 243);
     }
@@ -128,19 +133,19 @@ public class DmxChannelTest {
         dmxChannel.addChannelAction(new FadeAction(1000, 243, 0));
         dmxChannel.addChannelAction(new ResumeAction());
 
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(true));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 127);
 
         // check action completes
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         currentTime += 1000;
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(true));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 243);
 
         // check state is restored
-        dmxChannel.getNewValue(currentTime);
+        calculateAndPublish(currentTime);
         assertThat(dmxChannel.hasRunningActions(), is(false));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 127);
     }
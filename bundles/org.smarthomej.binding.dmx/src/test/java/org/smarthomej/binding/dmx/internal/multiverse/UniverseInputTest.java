@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openhab.core.thing.Thing;
+
+/**
+ * Tests cases for merging received data into a universe
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseInputTest {
+    private @NonNullByDefault({}) Universe universe;
+    private @NonNullByDefault({}) DmxChannel dmxChannel;
+    private final byte[] input = new byte[Universe.MAX_UNIVERSE_SIZE];
+    private long currentTime;
+
+    @BeforeEach
+    public void setup() {
+        universe = new Universe(1);
+        dmxChannel = universe.registerChannel(new BaseDmxChannel(1, 5), Mockito.mock(Thing.class));
+        currentTime = System.currentTimeMillis();
+    }
+
+    @Test
+    public void highestTakesPrecedence() {
+        dmxChannel.setValue(100);
+        input[4] = (byte) 150;
+        input[9] = (byte) 20;
+        universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY, -1, input, 0, 16, currentTime);
+        universe.calculateBuffer(currentTime);
+
+        assertThat(universe.getBuffer()[4] & 0xFF, is(150));
+        assertThat(universe.getBuffer()[9] & 0xFF, is(20));
+        assertThat(universe.getLastBufferChanged(), is(currentTime));
+        assertThat(dmxChannel.getOutputValue(), is(150));
+
+        dmxChannel.setValue(200);
+        universe.calculateBuffer(currentTime + 100);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(200));
+        assertThat(dmxChannel.getOutputValue(), is(200));
+    }
+
+    @Test
+    public void latestTakesPrecedence() {
+        universe.setLtpChannels(List.of(new BaseDmxChannel(1, 5)));
+        dmxChannel.setValue(100);
+        universe.calculateBuffer(currentTime);
+
+        input[4] = (byte) 50;
+        universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY, -1, input, 0, 16, currentTime + 100);
+        universe.calculateBuffer(currentTime + 100);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(50));
+        assertThat(dmxChannel.getOutputValue(), is(50));
+
+        // unchanged input does not override a newer own value
+        dmxChannel.setValue(80);
+        universe.calculateBuffer(currentTime + 200);
+        universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY, -1, input, 0, 16, currentTime + 300);
+        universe.calculateBuffer(currentTime + 300);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(80));
+        assertThat(dmxChannel.getOutputValue(), is(80));
+    }
+
+    @Test
+    public void higherPriorityOverridesOwnOutput() {
+        dmxChannel.setValue(200);
+        input[4] = (byte) 10;
+        universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY + 1, -1, input, 0, 512, currentTime);
+        universe.calculateBuffer(currentTime);
+
+        assertThat(universe.getBufferSize(), is(512));
+        assertThat(universe.getBuffer()[4] & 0xFF, is(10));
+    }
+
+    @Test
+    public void timedOutSourceIsRemoved() {
+        dmxChannel.setValue(100);
+        input[4] = (byte) 150;
+        universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY, -1, input, 0, 512, currentTime);
+        universe.calculateBuffer(currentTime);
+        assertThat(universe.getInputSourceCount(), is(1));
+        assertThat(universe.getBufferSize(), is(512));
+
+        universe.calculateBuffer(currentTime + UniverseInput.SOURCE_TIMEOUT + 1);
+        assertThat(universe.getInputSourceCount(), is(0));
+        assertThat(universe.getBufferSize(), is(Universe.MIN_UNIVERSE_SIZE));
+        assertThat(universe.getBuffer()[4] & 0xFF, is(100));
+        assertThat(universe.getLastBufferChanged(), is(currentTime + UniverseInput.SOURCE_TIMEOUT + 1));
+    }
+
+    @Test
+    public void outOfOrderPacketsAreIgnored() {
+        input[4] = (byte) 150;
+        assertThat(universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY, 10, input, 0, 16, currentTime),
+                is(true));
+        input[4] = (byte) 50;
+        assertThat(universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY, 9, input, 0, 16, currentTime),
+                is(false));
+        assertThat(universe.receiveInput(1, 1, UniverseInput.DEFAULT_PRIORITY, 11, input, 0, 16, currentTime),
+                is(true));
+
+        universe.calculateBuffer(currentTime);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(50));
+    }
+}
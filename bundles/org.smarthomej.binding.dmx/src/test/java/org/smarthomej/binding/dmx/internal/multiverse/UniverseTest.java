@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.smarthomej.binding.dmx.internal.DmxBindingConstants.ListenerType;
+import org.smarthomej.binding.dmx.internal.DmxThingHandler;
+import org.smarthomej.binding.dmx.internal.action.FadeAction;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseTest {
+    private @NonNullByDefault({}) Universe universe;
+    private @NonNullByDefault({}) DmxChannel dmxChannel;
+    private long currentTime;
+
+    @BeforeEach
+    public void setup() {
+        universe = new Universe(1);
+        dmxChannel = universe.registerChannel(new BaseDmxChannel(1, 5), Mockito.mock(Thing.class));
+        currentTime = System.currentTimeMillis();
+    }
+
+    @Test
+    public void bufferIsWrittenInPlace() {
+        dmxChannel.setValue(128);
+        universe.calculateBuffer(currentTime);
+
+        byte[] packet = new byte[Universe.MAX_UNIVERSE_SIZE + 10];
+        int size = universe.writeBuffer(packet, 10);
+
+        assertThat(size, is(Universe.MIN_UNIVERSE_SIZE));
+        assertThat(packet[14] & 0xFF, is(128));
+        assertThat(universe.getLastBufferChanged(), is(currentTime));
+    }
+
+    @Test
+    public void idleChannelsDoNotChangeBuffer() {
+        dmxChannel.setValue(128);
+        universe.calculateBuffer(currentTime);
+        universe.calculateBuffer(currentTime + 100);
+        assertThat(universe.getLastBufferChanged(), is(currentTime));
+
+        dmxChannel.setValue(200);
+        universe.calculateBuffer(currentTime + 200);
+        assertThat(universe.getLastBufferChanged(), is(currentTime + 200));
+        assertThat(universe.getBuffer()[4] & 0xFF, is(200));
+    }
+
+    @Test
+    public void dimCurveIsAppliedToConfiguredChannels() {
+        BaseDmxChannel otherChannel = new BaseDmxChannel(1, 6);
+        universe.registerChannel(otherChannel, Mockito.mock(Thing.class)).setValue(128);
+        dmxChannel.setValue(128);
+        universe.calculateBuffer(currentTime);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(128));
+
+        // changing the dim curve channels needs to update idle channels
+        universe.setDimCurveChannels("5");
+        universe.calculateBuffer(currentTime + 100);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(47));
+        assertThat(universe.getBuffer()[5] & 0xFF, is(128));
+    }
+
+    @Test
+    public void fadesAreCalculatedAndSwitched() {
+        dmxChannel.addChannelAction(new FadeAction(1000, 200, 0));
+        dmxChannel.addChannelAction(new FadeAction(1000, 100, -1));
+
+        universe.calculateBuffer(currentTime);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(0));
+        universe.calculateBuffer(currentTime + 500);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(100));
+        universe.calculateBuffer(currentTime + 1000);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(200));
+
+        // second fade starts in the next calculation
+        universe.calculateBuffer(currentTime + 1000);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(200));
+        universe.calculateBuffer(currentTime + 1500);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(150));
+        universe.calculateBuffer(currentTime + 2000);
+        assertThat(universe.getBuffer()[4] & 0xFF, is(100));
+        assertThat(dmxChannel.hasRunningActions(), is(false));
+        assertThat(dmxChannel.getValue(), is(100));
+    }
+
+    @Test
+    public void statesArePublishedSeparately() {
+        ChannelUID channelUID = new ChannelUID("dmx:testBridge:testThing:valueChannel");
+        DmxThingHandler listener = Mockito.mock(DmxThingHandler.class);
+        dmxChannel.addListener(channelUID, listener, ListenerType.VALUE);
+
+        dmxChannel.setValue(100);
+        universe.calculateBuffer(currentTime);
+        Mockito.verify(listener, Mockito.never()).updateChannelValue(channelUID, 100);
+
+        universe.publishChannelStates();
+        Mockito.verify(listener).updateChannelValue(channelUID, 100);
+    }
+}
@@ -33,4 +33,10 @@ public class HttpBindingConstants {
             "requestDateTime");
     public static final String CHANNEL_LAST_SUCCESS = "lastSuccess";
     public static final String CHANNEL_LAST_FAILURE = "lastFailure";
+
+    public static final ChannelTypeUID QUEUE_DEPTH_CHANNELTYPE_UID = new ChannelTypeUID(BINDING_ID, "queueDepth");
+    public static final ChannelTypeUID QUEUE_WAIT_TIME_CHANNELTYPE_UID = new ChannelTypeUID(BINDING_ID,
+            "queueWaitTime");
+    public static final String CHANNEL_QUEUE_DEPTH = "queueDepth";
+    public static final String CHANNEL_QUEUE_WAIT_TIME = "queueWaitTime";
 }
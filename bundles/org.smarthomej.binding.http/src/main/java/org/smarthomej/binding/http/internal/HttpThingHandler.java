@@ -15,6 +15,10 @@ package org.smarthomej.binding.http.internal;
 
 import static org.smarthomej.binding.http.internal.HttpBindingConstants.CHANNEL_LAST_FAILURE;
 import static org.smarthomej.binding.http.internal.HttpBindingConstants.CHANNEL_LAST_SUCCESS;
+import static org.smarthomej.binding.http.internal.HttpBindingConstants.CHANNEL_QUEUE_DEPTH;
+import static org.smarthomej.binding.http.internal.HttpBindingConstants.CHANNEL_QUEUE_WAIT_TIME;
+import static org.smarthomej.binding.http.internal.HttpBindingConstants.QUEUE_DEPTH_CHANNELTYPE_UID;
+import static org.smarthomej.binding.http.internal.HttpBindingConstants.QUEUE_WAIT_TIME_CHANNELTYPE_UID;
 import static org.smarthomej.binding.http.internal.HttpBindingConstants.REQUEST_DATE_TIME_CHANNELTYPE_UID;
 
 import java.net.MalformedURLException;
@@ -27,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -37,8 +42,12 @@ import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.util.BasicAuthentication;
 import org.eclipse.jetty.client.util.DigestAuthentication;
 import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.MetricPrefix;
+import org.openhab.core.library.unit.Units;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -94,6 +103,7 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
     private final Map<ChannelUID, ItemValueConverter> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
+    private @Nullable ScheduledFuture<?> queueStatisticsJob;
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
             ValueTransformationProvider valueTransformationProvider,
@@ -165,7 +175,12 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
             logger.info("Using the secure client for thing '{}'.", thing.getUID());
             rateLimitedHttpClient.setHttpClient(httpClientProvider.getSecureClient());
         }
-        rateLimitedHttpClient.setDelay(config.delay);
+        try {
+            rateLimitedHttpClient.setRateLimit(config.delay, config.burst, config.maxConcurrentRequests);
+        } catch (IllegalArgumentException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+            return;
+        }
 
         int channelCount = thing.getChannels().size();
         if (channelCount * config.delay > config.refresh * 1000) {
@@ -224,12 +239,20 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
         // create channels
         thing.getChannels().forEach(this::createChannel);
 
+        queueStatisticsJob = scheduler.scheduleWithFixedDelay(this::updateQueueStatistics, config.refresh,
+                config.refresh, TimeUnit.SECONDS);
+
         updateStatus(ThingStatus.UNKNOWN);
     }
 
     @Override
     public void dispose() {
         // stop update tasks
+        ScheduledFuture<?> queueStatisticsJob = this.queueStatisticsJob;
+        if (queueStatisticsJob != null) {
+            queueStatisticsJob.cancel(true);
+            this.queueStatisticsJob = null;
+        }
         urlHandlers.values().forEach(RefreshingUrlCache::stop);
         rateLimitedHttpClient.shutdown();
 
@@ -250,8 +273,10 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
      * @param channel a thing channel
      */
     private void createChannel(Channel channel) {
-        if (REQUEST_DATE_TIME_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())) {
-            // do not generate refreshUrls for lastSuccess / lastFailure channels
+        if (REQUEST_DATE_TIME_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())
+                || QUEUE_DEPTH_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())
+                || QUEUE_WAIT_TIME_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())) {
+            // do not generate refreshUrls for lastSuccess / lastFailure and queue statistics channels
             return;
         }
         ChannelUID channelUID = channel.getUID();
@@ -348,6 +373,12 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
         updateStatus(ThingStatus.ONLINE);
     }
 
+    private void updateQueueStatistics() {
+        updateState(CHANNEL_QUEUE_DEPTH, new DecimalType(rateLimitedHttpClient.getQueueDepth()));
+        updateState(CHANNEL_QUEUE_WAIT_TIME,
+                new QuantityType<>(rateLimitedHttpClient.pollAverageWaitTime(), MetricPrefix.MILLI(Units.SECOND)));
+    }
+
     private void sendHttpValue(String commandUrl, String command) {
         sendHttpValue(commandUrl, command, false);
     }
@@ -11,17 +11,24 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.smarthomej.binding.dmx.internal.action;
+package org.smarthomej.binding.http.internal.http;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
- * The {@link FadeDirection} gives the direction for fading
+ * The {@link HttpNotModifiedException} is an exception if the requested content was not modified
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
-enum FadeDirection {
-    UP,
-    DOWN
+public class HttpNotModifiedException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public HttpNotModifiedException() {
+        super();
+    }
+
+    public HttpNotModifiedException(String message) {
+        super(message);
+    }
 }
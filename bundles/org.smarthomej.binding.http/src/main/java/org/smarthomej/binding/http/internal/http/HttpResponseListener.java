@@ -13,7 +13,12 @@
  */
 package org.smarthomej.binding.http.internal.http;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -22,8 +27,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.api.Result;
-import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,14 +37,30 @@ import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
 /**
  * The {@link HttpResponseListener} is responsible for processing the result of a HTTP request
  *
+ * The content is received directly into a buffer that is handed over to the {@link ContentWrapper} without further
+ * copies. If a reference content is given, received chunks are compared to it and no buffer is allocated as long as
+ * they are identical. If the complete response is equal to the reference, the new content shares the data of the
+ * reference. A new {@link ContentWrapper} is always created, because cached transformation results must not survive a
+ * refresh.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
-public class HttpResponseListener extends BufferingResponseListener {
+public class HttpResponseListener extends Response.Listener.Adapter {
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
     private final Logger logger = LoggerFactory.getLogger(HttpResponseListener.class);
     private final CompletableFuture<@Nullable ContentWrapper> future;
     private final HttpStatusListener httpStatusListener;
     private final String fallbackEncoding;
+    private final int maxLength;
+
+    private @Nullable ContentWrapper referenceContent;
+    private byte @Nullable [] buffer;
+    private int length = 0;
+    private long contentLength = -1;
+    private @Nullable String mediaType;
+    private @Nullable String encoding;
 
     /**
      * the HttpResponseListener is responsible
@@ -50,10 +71,139 @@ public class HttpResponseListener extends BufferingResponseListener {
      */
     public HttpResponseListener(CompletableFuture<@Nullable ContentWrapper> future, @Nullable String fallbackEncoding,
             int bufferSize, HttpStatusListener httpStatusListener) {
-        super(bufferSize * 1024);
+        this(future, fallbackEncoding, bufferSize, httpStatusListener, null);
+    }
+
+    /**
+     * the HttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the buffer size for the content in kB (default 2048 kB)
+     * @param referenceContent the last content received for the same request (or null)
+     */
+    public HttpResponseListener(CompletableFuture<@Nullable ContentWrapper> future, @Nullable String fallbackEncoding,
+            int bufferSize, HttpStatusListener httpStatusListener, @Nullable ContentWrapper referenceContent) {
         this.future = future;
         this.fallbackEncoding = fallbackEncoding != null ? fallbackEncoding : StandardCharsets.UTF_8.name();
         this.httpStatusListener = httpStatusListener;
+        this.maxLength = bufferSize * 1024;
+        this.referenceContent = referenceContent;
+    }
+
+    @Override
+    public void onHeaders(Response response) {
+        if (response.getHeaders().containsKey(HttpHeader.CONTENT_ENCODING.asString())) {
+            // the length of an encoded (e.g. gzip) response differs from the decoded length we receive
+            contentLength = -1;
+        } else {
+            contentLength = response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH.asString());
+        }
+        if (contentLength > maxLength) {
+            response.abort(new IllegalArgumentException("Buffering capacity " + maxLength + " exceeded"));
+            return;
+        }
+
+        String contentType = response.getHeaders().get(HttpHeader.CONTENT_TYPE);
+        if (contentType != null) {
+            String[] parts = contentType.split(";");
+            mediaType = parts[0].trim();
+            for (int i = 1; i < parts.length; i++) {
+                String[] parameter = parts[i].trim().split("=", 2);
+                if (parameter.length == 2 && "charset".equals(parameter[0].trim().toLowerCase(Locale.ROOT))) {
+                    encoding = parameter[1].trim().replace("\"", "");
+                }
+            }
+        }
+
+        ContentWrapper referenceContent = this.referenceContent;
+        if (referenceContent != null
+                && ((contentLength >= 0 && contentLength != referenceContent.getRawContent().length)
+                        || !Objects.equals(mediaType, referenceContent.getMediaType())
+                        || !getCharset().equals(referenceContent.getEncoding()))) {
+            // reference can't be used if the length or the encoding differs
+            this.referenceContent = null;
+        }
+    }
+
+    @Override
+    public void onContent(Response response, ByteBuffer content) {
+        int remaining = content.remaining();
+        if (length + remaining > maxLength) {
+            response.abort(new IllegalArgumentException("Buffering capacity " + maxLength + " exceeded"));
+            return;
+        }
+
+        ContentWrapper referenceContent = this.referenceContent;
+        if (referenceContent != null) {
+            byte[] reference = referenceContent.getRawContent();
+            if (length + remaining <= reference.length
+                    && ByteBuffer.wrap(reference, length, remaining).equals(content)) {
+                // content is identical to the reference so far, no need to copy it
+                length += remaining;
+                return;
+            }
+            this.referenceContent = null;
+        }
+
+        byte[] buffer = ensureCapacity(length + remaining, referenceContent);
+        content.get(buffer, length, remaining);
+        length += remaining;
+    }
+
+    /**
+     * make sure the buffer can hold the requested number of bytes
+     *
+     * @param capacity the required capacity
+     * @param referenceContent if not null, the already received data is copied from this content
+     * @return the buffer
+     */
+    private byte[] ensureCapacity(int capacity, @Nullable ContentWrapper referenceContent) {
+        byte[] buffer = this.buffer;
+        if (buffer == null) {
+            int size = contentLength >= 0 ? (int) contentLength : Math.min(maxLength, INITIAL_BUFFER_SIZE);
+            buffer = new byte[Math.max(size, capacity)];
+            if (referenceContent != null && length > 0) {
+                System.arraycopy(referenceContent.getRawContent(), 0, buffer, 0, length);
+            }
+        } else if (buffer.length < capacity) {
+            buffer = Arrays.copyOf(buffer, Math.min(maxLength, Math.max(capacity, buffer.length * 2)));
+        }
+        this.buffer = buffer;
+        return buffer;
+    }
+
+    private Charset getCharset() {
+        String encoding = this.encoding;
+        try {
+            return Charset.forName(encoding == null ? fallbackEncoding : encoding);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * get the received content
+     *
+     * @return a new content (sharing the data of the reference content if the received data is identical)
+     */
+    private ContentWrapper getContentWrapper() {
+        ContentWrapper referenceContent = this.referenceContent;
+        byte[] buffer = this.buffer;
+        if (buffer == null) {
+            if (referenceContent != null) {
+                byte[] reference = referenceContent.getRawContent();
+                buffer = length == reference.length ? reference : Arrays.copyOf(reference, length);
+            } else {
+                buffer = new byte[0];
+            }
+            this.buffer = buffer;
+        } else if (buffer.length != length) {
+            buffer = Arrays.copyOf(buffer, length);
+            this.buffer = buffer;
+        }
+        String encoding = this.encoding;
+        return new ContentWrapper(buffer, encoding == null ? fallbackEncoding : encoding, mediaType);
     }
 
     @Override
@@ -78,14 +228,11 @@ public class HttpResponseListener extends BufferingResponseListener {
                 case HttpStatus.RESET_CONTENT_205:
                 case HttpStatus.PARTIAL_CONTENT_206:
                 case HttpStatus.MULTI_STATUS_207:
-                    byte[] content = getContent();
-                    String encoding = getEncoding();
-                    if (content != null) {
-                        future.complete(new ContentWrapper(content, encoding == null ? fallbackEncoding : encoding,
-                                getMediaType()));
-                    } else {
-                        future.complete(null);
-                    }
+                    future.complete(getContentWrapper());
+                    httpStatusListener.onHttpSuccess();
+                    break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    future.completeExceptionally(new HttpNotModifiedException());
                     httpStatusListener.onHttpSuccess();
                     break;
                 case HttpStatus.UNAUTHORIZED_401:
@@ -105,7 +252,7 @@ public class HttpResponseListener extends BufferingResponseListener {
     private String responseToLogString(Response response) {
         String logString = "Code = {" + response.getStatus() + "}, Headers = {"
                 + response.getHeaders().stream().map(HttpField::toString).collect(Collectors.joining(", "))
-                + "}, Content = {" + getContentAsString() + "}";
+                + "}, Content = {" + getContentWrapper().getAsString() + "}";
         return logString;
     }
 }
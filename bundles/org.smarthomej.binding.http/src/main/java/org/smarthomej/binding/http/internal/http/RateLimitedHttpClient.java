@@ -14,13 +14,21 @@
 package org.smarthomej.binding.http.internal.http;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,6 +36,7 @@ import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
 import org.eclipse.jetty.client.util.StringContentProvider;
 import org.eclipse.jetty.http.HttpMethod;
 import org.slf4j.Logger;
@@ -37,19 +46,32 @@ import org.slf4j.LoggerFactory;
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
  * the request creation
  *
+ * The rate is limited by a token bucket: a new token is available every {@code delay} ms, at most {@code burst} tokens
+ * can be stored. Additionally, the number of concurrent requests can be limited.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
     private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
+    private static final long REQUEST_SEND_TIMEOUT = 5000; // in ms, time until an unsent request expires
     private final Logger logger = LoggerFactory.getLogger(RateLimitedHttpClient.class);
 
     private HttpClient httpClient;
     private int delay = 0; // in ms
+    private int burst = 1;
+    private int maxConcurrentRequests = 0; // 0 = unlimited
     private final ScheduledExecutorService scheduler;
     private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
     private final LinkedBlockingQueue<RequestQueueEntry> priorityRequestQueue = new LinkedBlockingQueue<>(
             MAX_QUEUE_SIZE);
+    private final Map<String, RequestQueueEntry> queuedRequests = new ConcurrentHashMap<>();
+
+    // theoretical release time (System.nanoTime) of the next request if the bucket is empty
+    private long nextReleaseTime = System.nanoTime();
+    private final AtomicInteger runningRequests = new AtomicInteger();
+    private final AtomicLong waitTimeSum = new AtomicLong(); // in ns
+    private final AtomicInteger releasedRequests = new AtomicInteger();
 
     private @Nullable ScheduledFuture<?> processJob;
 
@@ -61,9 +83,13 @@ public class RateLimitedHttpClient {
     /**
      * Stop processing the queue and clear it
      */
-    public void shutdown() {
+    public synchronized void shutdown() {
         stopProcessJob();
+        priorityRequestQueue.forEach(RequestQueueEntry::cancel);
+        priorityRequestQueue.clear();
         requestQueue.forEach(RequestQueueEntry::cancel);
+        requestQueue.clear();
+        queuedRequests.clear();
     }
 
     /**
@@ -72,14 +98,32 @@ public class RateLimitedHttpClient {
      * @param delay in ms between to requests
      */
     public void setDelay(int delay) {
+        setRateLimit(delay, 1, 0);
+    }
+
+    /**
+     * Set new rate limits
+     *
+     * @param delay in ms between two requests (if the burst capacity is exhausted)
+     * @param burst number of requests that can be sent without delay after an idle period
+     * @param maxConcurrentRequests maximum number of requests that are processed at the same time (0 = unlimited)
+     */
+    public synchronized void setRateLimit(int delay, int burst, int maxConcurrentRequests) {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay needs to be larger or equal to zero");
         }
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst needs to be larger than zero");
+        }
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("Maximum concurrent requests needs to be larger or equal to zero");
+        }
         this.delay = delay;
+        this.burst = burst;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.nextReleaseTime = System.nanoTime();
         stopProcessJob();
-        if (delay != 0) {
-            processJob = scheduler.scheduleWithFixedDelay(this::processQueue, 0, delay, TimeUnit.MILLISECONDS);
-        }
+        triggerProcessQueue();
     }
 
     /**
@@ -101,7 +145,25 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, requestQueue);
+        return queueRequest(finalUrl, method, content, contentType, requestQueue, null);
+    }
+
+    /**
+     * Create a new request to the given URL respecting rate-limits
+     *
+     * If an identical GET request is already waiting in the queue, the new request is not queued and the returned
+     * future completes with a {@link CancellationException}. The response listener receives the response of the queued
+     * request instead. Otherwise the caller has to send the request with the given response listener.
+     *
+     * @param finalUrl the request URL
+     * @param method http request method GET/PUT/POST
+     * @param content the content (if method PUT/POST)
+     * @param responseListener the listener for the response
+     * @return a {@link CompletableFuture} that completes with the request
+     */
+    public CompletableFuture<Request> newRequest(URI finalUrl, HttpMethod method, String content,
+            @Nullable String contentType, Response.Listener responseListener) {
+        return queueRequest(finalUrl, method, content, contentType, requestQueue, responseListener);
     }
 
     /**
@@ -114,25 +176,46 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newPriorityRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, priorityRequestQueue);
+        return queueRequest(finalUrl, method, content, contentType, priorityRequestQueue, null);
     }
 
     private CompletableFuture<Request> queueRequest(URI finalUrl, HttpMethod method, String content,
-            @Nullable String contentType, LinkedBlockingQueue<RequestQueueEntry> queue) {
-        // if no delay is set, return a completed CompletableFuture
+            @Nullable String contentType, LinkedBlockingQueue<RequestQueueEntry> queue,
+            Response.@Nullable Listener responseListener) {
+        // if no limit is set, return a completed CompletableFuture
         CompletableFuture<Request> future = new CompletableFuture<>();
-        RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType, future);
-        if (delay == 0) {
-            queueEntry.completeFuture(httpClient);
+        RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType, future,
+                responseListener, queue == requestQueue && method == HttpMethod.GET && responseListener != null);
+        if (delay == 0 && maxConcurrentRequests == 0) {
+            future.complete(queueEntry.createRequest(httpClient));
         } else {
-            if (!queue.offer(queueEntry)) {
+            if (queueEntry.mergeable && mergeIntoQueuedEntry(queueEntry)) {
+                logger.trace("Merged request to '{}' with identical request already in queue", finalUrl);
+                future.completeExceptionally(new CancellationException("Identical request already queued."));
+            } else if (!queue.offer(queueEntry)) {
+                if (queueEntry.mergeable) {
+                    queuedRequests.remove(queueEntry.key, queueEntry);
+                }
                 future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
+            } else {
+                triggerProcessQueue();
             }
-
         }
         return future;
     }
 
+    /**
+     * Merge an entry into an identical entry that is waiting in the queue
+     *
+     * @param queueEntry the new entry
+     * @return true if the entry was merged, false if no identical entry is waiting (the entry is registered instead)
+     */
+    private boolean mergeIntoQueuedEntry(RequestQueueEntry queueEntry) {
+        RequestQueueEntry queuedEntry = queuedRequests.compute(queueEntry.key,
+                (key, entry) -> entry == null ? queueEntry : entry.merge(queueEntry));
+        return queuedEntry != queueEntry;
+    }
+
     /**
      * Get the {@link AuthenticationStore} from the wrapped {@link HttpClient}
      *
@@ -161,6 +244,26 @@ public class RateLimitedHttpClient {
         }
     }
 
+    /**
+     * Get the number of requests waiting in the queues
+     *
+     * @return number of queued requests
+     */
+    public int getQueueDepth() {
+        return requestQueue.size() + priorityRequestQueue.size();
+    }
+
+    /**
+     * Get the average time requests waited in the queue since the last call of this method
+     *
+     * @return the average waiting time in ms (0 if no requests were released)
+     */
+    public double pollAverageWaitTime() {
+        int count = releasedRequests.getAndSet(0);
+        long sum = waitTimeSum.getAndSet(0);
+        return count == 0 ? 0.0 : sum / (count * 1000000.0);
+    }
+
     private void stopProcessJob() {
         ScheduledFuture<?> processJob = this.processJob;
         if (processJob != null) {
@@ -169,17 +272,80 @@ public class RateLimitedHttpClient {
         }
     }
 
+    private synchronized void triggerProcessQueue() {
+        if (processJob == null && getQueueDepth() > 0) {
+            processJob = scheduler.schedule(this::processQueue, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
     /**
-     * Gets an request from either the priority queue or tge regular queue and creates the request
+     * Gets requests from either the priority queue or the regular queue and creates the requests as long as tokens
+     * are available. If the bucket is empty, processing is re-scheduled for the time the next token is available.
      */
-    private void processQueue() {
-        RequestQueueEntry queueEntry = priorityRequestQueue.poll();
-        if (queueEntry == null) {
-            // no entry in priorityRequestQueue, try the regular queue
-            queueEntry = requestQueue.poll();
+    private synchronized void processQueue() {
+        processJob = null;
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+
+        while (true) {
+            LinkedBlockingQueue<RequestQueueEntry> queue = priorityRequestQueue.isEmpty() ? requestQueue
+                    : priorityRequestQueue;
+            RequestQueueEntry queueEntry = queue.peek();
+            if (queueEntry == null) {
+                return;
+            }
+            if (maxConcurrentRequests > 0 && runningRequests.get() >= maxConcurrentRequests) {
+                // processing is triggered again when a running request completes
+                return;
+            }
+
+            long now = System.nanoTime();
+            long earliestReleaseTime = nextReleaseTime - (burst - 1) * delayNanos;
+            if (earliestReleaseTime - now > 0) {
+                processJob = scheduler.schedule(this::processQueue, earliestReleaseTime - now,
+                        TimeUnit.NANOSECONDS);
+                return;
+            }
+            nextReleaseTime = (nextReleaseTime - now > 0 ? nextReleaseTime : now) + delayNanos;
+
+            queue.poll();
+            if (queueEntry.mergeable) {
+                // no further request can be merged after the entry is removed
+                queuedRequests.remove(queueEntry.key, queueEntry);
+            }
+            waitTimeSum.addAndGet(now - queueEntry.queueTime);
+            releasedRequests.incrementAndGet();
+
+            Request request = queueEntry.createRequest(httpClient);
+            queueEntry.getMergedEntries().forEach(mergedEntry -> mergedEntry.addResponseListenerTo(request));
+            runningRequests.incrementAndGet();
+            AtomicBoolean slotReleased = new AtomicBoolean();
+            AtomicBoolean sendDecided = new AtomicBoolean();
+            request.onRequestQueued(r -> {
+                if (!sendDecided.compareAndSet(false, true)) {
+                    // the slot was already released, sending now would exceed the concurrency limit
+                    r.abort(new TimeoutException("Request was not sent within " + REQUEST_SEND_TIMEOUT + " ms"));
+                }
+            });
+            request.onComplete(result -> releaseSlot(slotReleased));
+            if (!queueEntry.future.complete(request)) {
+                // nobody will send this request (e.g. the future was cancelled)
+                releaseSlot(slotReleased);
+            } else {
+                // a caller that does not send the request must not block the slot forever, the request expires
+                scheduler.schedule(() -> {
+                    if (sendDecided.compareAndSet(false, true)) {
+                        logger.debug("Request to '{}' was not sent, releasing its slot", queueEntry.finalUrl);
+                        releaseSlot(slotReleased);
+                    }
+                }, REQUEST_SEND_TIMEOUT, TimeUnit.MILLISECONDS);
+            }
         }
-        if (queueEntry != null) {
-            queueEntry.completeFuture(httpClient);
+    }
+
+    private void releaseSlot(AtomicBoolean slotReleased) {
+        if (slotReleased.compareAndSet(false, true)) {
+            runningRequests.decrementAndGet();
+            triggerProcessQueue();
         }
     }
 
@@ -189,22 +355,65 @@ public class RateLimitedHttpClient {
         private String content;
         private @Nullable String contentType;
         private CompletableFuture<Request> future;
+        private final Response.@Nullable Listener responseListener;
+        private final boolean mergeable;
+        private final String key;
+        private final long queueTime = System.nanoTime();
+        private final List<RequestQueueEntry> mergedEntries = new ArrayList<>();
 
         public RequestQueueEntry(URI finalUrl, HttpMethod method, String content, @Nullable String contentType,
-                CompletableFuture<Request> future) {
+                CompletableFuture<Request> future, Response.@Nullable Listener responseListener, boolean mergeable) {
             this.finalUrl = finalUrl;
             this.method = method;
             this.content = content;
             this.contentType = contentType;
             this.future = future;
+            this.responseListener = responseListener;
+            this.mergeable = mergeable;
+            this.key = method + " " + finalUrl + "\n" + contentType + "\n" + content;
+        }
+
+        /**
+         * merge an identical entry into this entry, must only be called while the entry is in the queued requests map
+         *
+         * @param entry the identical entry
+         * @return this entry
+         */
+        public RequestQueueEntry merge(RequestQueueEntry entry) {
+            mergedEntries.add(entry);
+            return this;
+        }
+
+        /**
+         * get the merged entries, must only be called after the entry was removed from the queued requests map
+         *
+         * @return the list of merged entries
+         */
+        public List<RequestQueueEntry> getMergedEntries() {
+            return mergedEntries;
+        }
+
+        /**
+         * add the response listener of this entry to a request, so it receives the response of that request
+         *
+         * @param request the request
+         */
+        public void addResponseListenerTo(Request request) {
+            Response.Listener listener = responseListener;
+            if (listener != null) {
+                request.onResponseBegin(listener).onResponseHeader(listener).onResponseHeaders(listener)
+                        .onResponseContent((response, content) -> listener.onContent(response, content.slice()))
+                        .onResponseSuccess(listener).onResponseFailure(listener).onComplete(listener);
+            }
         }
 
         /**
-         * complete the future with a request
+         * create the request for this entry
          *
          * @param httpClient the client to create the request
+         * @return the request
          */
-        public void completeFuture(HttpClient httpClient) {
+        public Request createRequest(HttpClient httpClient) {
             Request request = httpClient.newRequest(finalUrl).method(method);
             if (method != HttpMethod.GET && !content.isEmpty()) {
                 if (contentType == null) {
@@ -213,7 +422,7 @@ public class RateLimitedHttpClient {
                     request.content(new StringContentProvider(content), contentType);
                 }
             }
-            future.complete(request);
+            return request;
         }
 
         /**
@@ -16,6 +16,7 @@ package org.smarthomej.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
@@ -30,7 +31,10 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.http.internal.Util;
@@ -50,6 +54,7 @@ public class RefreshingUrlCache {
     private final String url;
     private final RateLimitedHttpClient httpClient;
     private final boolean strictErrorHandling;
+    private final boolean conditionalRefresh;
     private final int timeout;
     private final int bufferSize;
     private final @Nullable String fallbackEncoding;
@@ -61,12 +66,15 @@ public class RefreshingUrlCache {
 
     private final ScheduledFuture<?> future;
     private @Nullable ContentWrapper lastContent;
+    private volatile @Nullable String lastETag;
+    private volatile @Nullable String lastModified;
 
     public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient, String url,
             HttpThingConfig thingConfig, String httpContent, HttpStatusListener httpStatusListener) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
+        this.conditionalRefresh = thingConfig.conditionalRefresh;
         this.timeout = thingConfig.timeout;
         this.bufferSize = thingConfig.bufferSize;
         this.httpMethod = thingConfig.stateMethod;
@@ -94,32 +102,41 @@ public class RefreshingUrlCache {
             URI uri = Util.uriFromString(String.format(this.url, new Date()));
             logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
 
-            httpClient.newRequest(uri, httpMethod, httpContent, null).thenAccept(request -> {
+            CompletableFuture<@Nullable ContentWrapper> responseContentFuture = new CompletableFuture<>();
+            responseContentFuture.exceptionally(t -> {
+                if (t instanceof HttpNotModifiedException) {
+                    logger.trace("Content of '{}' not modified", uri);
+                    return lastContent;
+                } else if (t instanceof HttpAuthException) {
+                    if (isRetry || !httpClient.reAuth(uri)) {
+                        logger.debug("Authentication failure failed for '{}', retry=", uri, isRetry);
+                        httpStatusListener.onHttpError("Authorization failed");
+                    } else {
+                        refresh(true);
+                    }
+                }
+                return null;
+            }).thenAccept(this::processResult);
+            // if the request is merged with a queued request, the listener receives the response of that request
+            HttpResponseListener responseListener = new HttpResponseListener(responseContentFuture, fallbackEncoding,
+                    bufferSize, httpStatusListener, lastContent);
+
+            httpClient.newRequest(uri, httpMethod, httpContent, null, responseListener).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
-
-                CompletableFuture<@Nullable ContentWrapper> responseContentFuture = new CompletableFuture<>();
-                responseContentFuture.exceptionally(t -> {
-                    if (t instanceof HttpAuthException) {
-                        if (isRetry || !httpClient.reAuth(uri)) {
-                            logger.debug("Authentication failure failed for '{}', retry=", uri, isRetry);
-                            httpStatusListener.onHttpError("Authorization failed");
-                        } else {
-                            refresh(true);
-                        }
-                    }
-                    return null;
-                }).thenAccept(this::processResult);
+                if (conditionalRefresh) {
+                    addConditionalHeaders(request);
+                }
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                request.send(responseListener);
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
-                    logger.debug("Request to URL {} was cancelled by thing handler.", uri);
+                    logger.debug("Request to URL {} was cancelled by thing handler or merged with a queued request.",
+                            uri);
                 } else {
                     logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
                 }
@@ -130,6 +147,30 @@ public class RefreshingUrlCache {
         }
     }
 
+    /**
+     * add the validators of the last response to the request and store the validators of the new response
+     *
+     * @param request the request
+     */
+    private void addConditionalHeaders(Request request) {
+        if (lastContent != null) {
+            String lastETag = this.lastETag;
+            if (lastETag != null) {
+                request.header(HttpHeader.IF_NONE_MATCH, lastETag);
+            }
+            String lastModified = this.lastModified;
+            if (lastModified != null) {
+                request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+        request.onResponseHeaders(response -> {
+            if (response.getStatus() == HttpStatus.OK_200) {
+                lastETag = response.getHeaders().get(HttpHeader.ETAG);
+                lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+            }
+        });
+    }
+
     public void stop() {
         // clearing all listeners to prevent further updates
         consumers.clear();
@@ -146,6 +187,12 @@ public class RefreshingUrlCache {
     }
 
     private void processResult(@Nullable ContentWrapper content) {
+        ContentWrapper lastContent = this.lastContent;
+        if (conditionalRefresh && content != null && lastContent != null && (content == lastContent
+                || Arrays.equals(content.getRawContent(), lastContent.getRawContent()))) {
+            logger.trace("Content of '{}' unchanged, skipping update of consumers", url);
+            return;
+        }
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ContentWrapper> consumer : consumers) {
                 try {
@@ -155,6 +202,6 @@ public class RefreshingUrlCache {
                 }
             }
         }
-        lastContent = content;
+        this.lastContent = content;
     }
 }
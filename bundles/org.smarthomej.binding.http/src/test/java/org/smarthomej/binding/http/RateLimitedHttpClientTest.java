@@ -14,8 +14,10 @@ package org.smarthomej.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -24,15 +26,21 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.http.HttpMethod;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -99,11 +107,87 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         assertThat((int) msBetween, allOf(greaterThanOrEqualTo(1000), lessThan(1100)));
     }
 
-    private List<Response> doLimitTest(int setDelay, List<Boolean> config) {
+    @Test
+    public void testWithLimitAndBurst() {
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setRateLimit(500, 2, 0);
+        doLimitTest(rateLimitedHttpClient, List.of(false, false, false));
+
+        // we expect the first two requests to be sent without delay
+        long msBetween = responses.get(1).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(0), lessThan(100)));
+
+        // we expect at least 500ms delay between first and third request, but less than 500+100=600ms
+        msBetween = responses.get(2).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(500), lessThan(600)));
+    }
+
+    @Test
+    public void testIdenticalQueuedRequestsAreMerged() {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
 
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setDelay(500);
+
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+        List<String> contents = new CopyOnWriteArrayList<>();
+        BufferingResponseListener listener1 = createContentListener(contents);
+        BufferingResponseListener listener2 = createContentListener(contents);
+
+        // the first request consumes the token, so the following requests have to wait in the queue
+        rateLimitedHttpClient.newRequest(URI.create("http://localhost:" + port + "/other"), HttpMethod.GET, "", null);
+        CompletableFuture<Request> requestFuture1 = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null,
+                listener1);
+        CompletableFuture<Request> requestFuture2 = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null,
+                listener2);
+
+        assertThrows(CancellationException.class, requestFuture2::join);
+        requestFuture1.join().send(listener1);
+
+        // the request is sent once and both listeners receive the response
+        waitForAssert(() -> assertEquals(List.of(TEST_CONTENT, TEST_CONTENT), contents));
+        verify(1, getRequestedFor(urlEqualTo(TEST_LOCATION)));
+
+        rateLimitedHttpClient.shutdown();
+    }
+
+    @Test
+    public void testUnsentRequestReleasesConcurrencySlot() {
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setRateLimit(0, 1, 1);
+
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+
+        // the first request is not sent in time, the second request must be released anyway
+        Request unsentRequest = rateLimitedHttpClient.newRequest(url, HttpMethod.GET, "", null).join();
+        CompletableFuture<Request> requestFuture = rateLimitedHttpClient.newRequest(url, HttpMethod.PUT, "", null);
+
+        waitForAssert(() -> assertTrue(requestFuture.isDone()));
+        assertEquals(url, requestFuture.join().getURI());
+
+        // the expired request must not be sent anymore, it would exceed the concurrency limit
+        assertThrows(ExecutionException.class, unsentRequest::send);
+
+        rateLimitedHttpClient.shutdown();
+    }
+
+    private BufferingResponseListener createContentListener(List<String> contents) {
+        return new BufferingResponseListener() {
+            @Override
+            public void onComplete(Result result) {
+                contents.add(getContentAsString());
+            }
+        };
+    }
+
+    private List<Response> doLimitTest(int setDelay, List<Boolean> config) {
         RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
         rateLimitedHttpClient.setDelay(setDelay);
+        return doLimitTest(rateLimitedHttpClient, config);
+    }
+
+    private List<Response> doLimitTest(RateLimitedHttpClient rateLimitedHttpClient, List<Boolean> config) {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
 
         URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
         int seqNumber = 0;
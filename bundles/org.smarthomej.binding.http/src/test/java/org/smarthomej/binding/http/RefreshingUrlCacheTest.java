@@ -13,6 +13,7 @@
 package org.smarthomej.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
@@ -20,6 +21,8 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -29,10 +32,14 @@ import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -111,6 +118,81 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
                 .allMatch(TEST_CONTENT::equals));
     }
 
+    @Test
+    public void testIdenticalContentIsReused() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least two results or timeout (after 10s)
+        waitForAssert(() -> assertTrue(contentWrappers.size() >= 2));
+        urlCache.stop();
+
+        // assert the data of the first response is re-used for the second (identical) response, but the wrapper is new
+        ContentWrapper first = Objects.requireNonNull(contentWrappers.get(0));
+        ContentWrapper second = Objects.requireNonNull(contentWrappers.get(1));
+        assertNotSame(first, second);
+        assertSame(first.getRawContent(), second.getRawContent());
+    }
+
+    @Test
+    public void testIdenticalCompressedContentIsReused() throws IOException {
+        String content = TEST_CONTENT.repeat(100);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        stubFor(get(urlEqualTo(TEST_LOCATION))
+                .willReturn(aResponse().withHeader("Content-Encoding", "gzip").withBody(compressed.toByteArray())));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least two results or timeout (after 10s)
+        waitForAssert(() -> assertTrue(contentWrappers.size() >= 2));
+        urlCache.stop();
+
+        // the length of the compressed response must not prevent re-using the decoded data
+        ContentWrapper first = Objects.requireNonNull(contentWrappers.get(0));
+        ContentWrapper second = Objects.requireNonNull(contentWrappers.get(1));
+        assertEquals(content, first.getAsString());
+        assertSame(first.getRawContent(), second.getRawContent());
+    }
+
+    @Test
+    public void testNoUpdateOnNotModifiedInConditionalMode() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", "\"1\"").withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(1).withHeader("If-None-Match", equalTo("\"1\""))
+                .willReturn(aResponse().withStatus(304)));
+        thingConfig.conditionalRefresh = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // verify we get at least three successful requests in 4s
+        verify(statusListener, timeout(4000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        // assert only the first response was passed to the consumer
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testNoUpdateOnUnchangedContentInConditionalMode() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.conditionalRefresh = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // verify we get at least three successful requests in 4s
+        verify(statusListener, timeout(4000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        // assert only the first response was passed to the consumer
+        assertEquals(1, contentWrappers.size());
+    }
+
     @Test
     public void testNoUpdateOn404ErrorInNormalMode() {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withStatus(404)));
@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.*;
 import static org.smarthomej.binding.knx.internal.KNXBindingConstants.CONTROL_CHANNEL_TYPES;
 import static org.smarthomej.binding.knx.internal.KNXBindingConstants.GA;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -52,6 +53,7 @@ public abstract class KNXChannel {
     private final Map<String, GroupAddressConfiguration> groupAddressConfigurations = new HashMap<>();
     private final Set<GroupAddress> listenAddresses = new HashSet<>();
     private final Set<GroupAddress> writeAddresses = new HashSet<>();
+    private final List<InboundSpec> listenSpecs = new ArrayList<>();
     private final String channelType;
     private final ChannelUID channelUID;
     private final boolean isControl;
@@ -91,6 +93,8 @@ public abstract class KNXChannel {
                 writeAddresses.add(groupAddressConfiguration.getMainGA());
             }
         });
+        groupAddressConfigurations.forEach((key, groupAddressConfiguration) -> listenSpecs
+                .add(new ListenSpecImpl(groupAddressConfiguration, getDefaultDPT(key))));
     }
 
     public String getChannelType() {
@@ -138,10 +142,13 @@ public abstract class KNXChannel {
                 .filter(spec -> !spec.getGroupAddresses().isEmpty()).collect(toList());
     }
 
+    public final List<InboundSpec> getListenSpecs() {
+        return listenSpecs;
+    }
+
     public final @Nullable InboundSpec getListenSpec(GroupAddress groupAddress) {
-        return groupAddressConfigurations.entrySet().stream()
-                .map(entry -> new ListenSpecImpl(entry.getValue(), getDefaultDPT(entry.getKey())))
-                .filter(spec -> spec.getGroupAddresses().contains(groupAddress)).findFirst().orElse(null);
+        return listenSpecs.stream().filter(spec -> spec.getGroupAddresses().contains(groupAddress)).findFirst()
+                .orElse(null);
     }
 
     public final @Nullable OutboundSpec getResponseSpec(GroupAddress groupAddress, Type value) {
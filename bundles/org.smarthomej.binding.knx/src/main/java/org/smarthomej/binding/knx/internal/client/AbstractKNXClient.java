@@ -16,9 +16,8 @@ package org.smarthomej.binding.knx.internal.client;
 import static org.smarthomej.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -32,6 +31,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.types.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.knx.internal.dpt.ValueDecoder;
 import org.smarthomej.binding.knx.internal.dpt.ValueEncoder;
 import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
 
@@ -69,14 +69,15 @@ import tuwien.auto.calimero.secure.Security;
 public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClient {
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    // the read scheduler paces the read requests, the bus job only polls it
+    private static final int MAX_BUS_JOB_INTERVAL = 20;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
     private final ThingUID thingUID;
     private final int responseTimeout;
-    private final int readingPause;
     private final int autoReconnectPeriod;
-    private final int readRetriesLimit;
+    private final int busJobInterval;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
 
@@ -89,12 +90,13 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressRoutingIndex routingIndex = new GroupAddressRoutingIndex();
+    private final ReadScheduler readScheduler;
 
     @FunctionalInterface
     private interface ListenerNotification {
-        void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, byte[] asdu);
+        void apply(BusMessageListener listener, IndividualAddress source, GroupAddressRoute route, byte[] asdu,
+                @Nullable Type value);
     }
 
     @NonNullByDefault({})
@@ -107,20 +109,29 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
-            processEvent("Group Write", e, (listener, source, destination, asdu) -> listener
-                    .onGroupWrite(AbstractKNXClient.this, source, destination, asdu));
+            readScheduler.onTelegram(System.nanoTime());
+            processEvent("Group Write", e, true, (listener, source, route, asdu, value) -> listener
+                    .onGroupWrite(AbstractKNXClient.this, source, route, asdu, value));
         }
 
         @Override
         public void groupReadRequest(ProcessEvent e) {
-            processEvent("Group Read Request", e, (listener, source, destination, asdu) -> listener
-                    .onGroupRead(AbstractKNXClient.this, source, destination, asdu));
+            readScheduler.onTelegram(System.nanoTime());
+            processEvent("Group Read Request", e, false, (listener, source, route, asdu, value) -> listener
+                    .onGroupRead(AbstractKNXClient.this, source, route));
         }
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
-            processEvent("Group Read Response", e, (listener, source, destination, asdu) -> listener
-                    .onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu));
+            long now = System.nanoTime();
+            readScheduler.onTelegram(now);
+            ReadStatistics statistics = readScheduler.onReadResponse(e.getDestination(), now);
+            if (statistics != null) {
+                logger.trace("Read response for '{}' received after {} ms ({})", e.getDestination(),
+                        statistics.getLast(), statistics);
+            }
+            processEvent("Group Read Response", e, true, (listener, source, route, asdu, value) -> listener
+                    .onGroupReadResponse(AbstractKNXClient.this, source, route, asdu, value));
         }
     };
 
@@ -129,8 +140,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
-        this.readingPause = readingPause;
-        this.readRetriesLimit = readRetriesLimit;
+        this.readScheduler = new ReadScheduler(readingPause, readRetriesLimit);
+        this.busJobInterval = Math.max(1, Math.min(readingPause, MAX_BUS_JOB_INTERVAL));
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
     }
@@ -192,7 +203,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
             link.addLinkListener(this);
 
-            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
+            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, busJobInterval,
                     TimeUnit.MILLISECONDS);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
@@ -219,7 +230,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
+        readScheduler.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -242,14 +253,37 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         return null;
     }
 
-    private void processEvent(String task, ProcessEvent event, ListenerNotification action) {
+    private void processEvent(String task, ProcessEvent event, boolean decode, ListenerNotification action) {
         GroupAddress destination = event.getDestination();
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
+        List<GroupAddressRoute> routes = routingIndex.getRoutes(destination);
+        if (!routes.isEmpty()) {
+            knxScheduler.execute(() -> dispatchEvent(routes, source, asdu, decode, action));
+        }
+    }
+
+    private void dispatchEvent(List<GroupAddressRoute> routes, IndividualAddress source, byte[] asdu, boolean decode,
+            ListenerNotification action) {
+        @Nullable
+        Type[] values = new @Nullable Type[routes.size()];
+        for (int i = 0; i < routes.size(); i++) {
+            GroupAddressRoute route = routes.get(i);
+            if (decode) {
+                // channels with the same DPT and preferred type share the decoded value
+                int j = 0;
+                while (j < i && !routes.get(j).decodesLike(route)) {
+                    j++;
+                }
+                values[i] = j < i ? values[j]
+                        : ValueDecoder.decode(route.getListenSpec().getDPT(), asdu,
+                                route.getKnxChannel().preferredType());
+            }
+            try {
+                action.apply(route.getListener(), source, route, asdu, values[i]);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to process telegram for {}: {}", route, e.getMessage(), e);
             }
         }
     }
@@ -262,15 +296,14 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readScheduler.poll(System.nanoTime());
         if (datapoint != null) {
             datapoint.incrementRetries();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
             } catch (KNXException e) {
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                if (readScheduler.retry(datapoint)) {
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -348,23 +381,34 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readScheduler.add(datapoint, priority);
+    }
+
+    @Override
+    public void schedulePeriodicRead(GroupAddressListener owner, Datapoint datapoint, int interval) {
+        readScheduler.addPeriodic(owner, datapoint, interval);
+    }
+
+    @Override
+    public void cancelPeriodicReads(GroupAddressListener owner) {
+        readScheduler.cancelPeriodic(owner);
+    }
+
+    @Override
+    public Map<GroupAddress, ReadStatistics> getReadStatistics() {
+        return readScheduler.getReadStatistics();
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        routingIndex.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        routingIndex.unregister(listener);
+        readScheduler.cancelPeriodic(listener);
     }
 
     @Override
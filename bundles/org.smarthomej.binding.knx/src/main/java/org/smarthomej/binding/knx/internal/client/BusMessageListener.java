@@ -14,13 +14,16 @@
 package org.smarthomej.binding.knx.internal.client;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.Type;
 
-import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
 
 /**
  * Callback interface for KNX bus messages
  *
+ * Telegrams are delivered once per {@link GroupAddressRoute}, i.e. for each channel listening to the destination.
+ *
  * @author Simon Kaufmann - Initial contribution and API
  */
 @NonNullByDefault
@@ -31,28 +34,31 @@ public interface BusMessageListener {
      *
      * @param client
      * @param source
-     * @param destination
+     * @param route the route (destination and channel) of the telegram
      * @param asdu
+     * @param value the decoded value (or null if the data could not be decoded)
      */
-    void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu);
+    void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddressRoute route, byte[] asdu,
+            @Nullable Type value);
 
     /**
      * Called when the KNX bridge receives a group read telegram
      *
      * @param client
      * @param source
-     * @param destination
-     * @param asdu
+     * @param route the route (destination and channel) of the telegram
      */
-    void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu);
+    void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddressRoute route);
 
     /**
      * Called when the KNX bridge receives a group read response telegram
      *
      * @param client
      * @param source
-     * @param destination
+     * @param route the route (destination and channel) of the telegram
      * @param asdu
+     * @param value the decoded value (or null if the data could not be decoded)
      */
-    void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu);
+    void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddressRoute route, byte[] asdu,
+            @Nullable Type value);
 }
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.knx.internal.channel.KNXChannel;
+import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link GroupAddressRoute} connects a group address to a channel of a {@link GroupAddressListener}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressRoute {
+    private final GroupAddress groupAddress;
+    private final GroupAddressListener listener;
+    private final KNXChannel knxChannel;
+    private final InboundSpec listenSpec;
+
+    public GroupAddressRoute(GroupAddress groupAddress, GroupAddressListener listener, KNXChannel knxChannel,
+            InboundSpec listenSpec) {
+        this.groupAddress = groupAddress;
+        this.listener = listener;
+        this.knxChannel = knxChannel;
+        this.listenSpec = listenSpec;
+    }
+
+    public GroupAddress getGroupAddress() {
+        return groupAddress;
+    }
+
+    public GroupAddressListener getListener() {
+        return listener;
+    }
+
+    public KNXChannel getKnxChannel() {
+        return knxChannel;
+    }
+
+    public InboundSpec getListenSpec() {
+        return listenSpec;
+    }
+
+    /**
+     * check if the decoded value of this route can be re-used for another route
+     *
+     * @param other the other route
+     * @return true if both routes decode to the same value
+     */
+    public boolean decodesLike(GroupAddressRoute other) {
+        return listenSpec.getDPT().equals(other.listenSpec.getDPT())
+                && knxChannel.preferredType().equals(other.knxChannel.preferredType());
+    }
+
+    @Override
+    public String toString() {
+        return "GroupAddressRoute{groupAddress=" + groupAddress + ", channel=" + knxChannel.getChannelUID() + ", dpt="
+                + listenSpec.getDPT() + "}";
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.knx.internal.channel.KNXChannel;
+import org.smarthomej.binding.knx.internal.dpt.DPTUtil;
+import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link GroupAddressRoutingIndex} maps group addresses to the channels listening to them
+ *
+ * The index is updated when listeners are (un-)registered, lookups for received telegrams are lock-free and return
+ * immutable lists.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressRoutingIndex {
+    private final Logger logger = LoggerFactory.getLogger(GroupAddressRoutingIndex.class);
+
+    private final Map<GroupAddress, List<GroupAddressRoute>> routes = new ConcurrentHashMap<>();
+
+    /**
+     * add routes for all channels of a listener (existing routes of this listener are replaced)
+     *
+     * @param listener the listener
+     */
+    public synchronized void register(GroupAddressListener listener) {
+        removeRoutes(listener);
+        for (KNXChannel knxChannel : listener.getKNXChannels()) {
+            Set<GroupAddress> routedAddresses = new HashSet<>();
+            for (InboundSpec listenSpec : knxChannel.getListenSpecs()) {
+                if (DPTUtil.getAllowedTypes(listenSpec.getDPT()).isEmpty()) {
+                    logger.warn("DPT '{}' is not supported by the KNX binding, ignoring it for channel '{}'.",
+                            listenSpec.getDPT(), knxChannel.getChannelUID());
+                    continue;
+                }
+                for (GroupAddress groupAddress : listenSpec.getGroupAddresses()) {
+                    // only the first matching spec of a channel receives the telegram
+                    if (routedAddresses.add(groupAddress)) {
+                        addRoute(new GroupAddressRoute(groupAddress, listener, knxChannel, listenSpec));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * remove all routes of a listener
+     *
+     * @param listener the listener
+     */
+    public synchronized void unregister(GroupAddressListener listener) {
+        removeRoutes(listener);
+    }
+
+    /**
+     * get all routes for a group address
+     *
+     * @param groupAddress the group address
+     * @return immutable list of routes (empty if no channel listens to this group address)
+     */
+    public List<GroupAddressRoute> getRoutes(GroupAddress groupAddress) {
+        return routes.getOrDefault(groupAddress, List.of());
+    }
+
+    private void addRoute(GroupAddressRoute route) {
+        routes.compute(route.getGroupAddress(), (groupAddress, oldRoutes) -> {
+            List<GroupAddressRoute> newRoutes = oldRoutes == null ? new ArrayList<>(1) : new ArrayList<>(oldRoutes);
+            newRoutes.add(route);
+            return List.copyOf(newRoutes);
+        });
+    }
+
+    private void removeRoutes(GroupAddressListener listener) {
+        for (GroupAddress groupAddress : Set.copyOf(routes.keySet())) {
+            routes.computeIfPresent(groupAddress, (k, oldRoutes) -> {
+                List<GroupAddressRoute> newRoutes = oldRoutes.stream().filter(r -> r.getListener() != listener)
+                        .collect(Collectors.toList());
+                if (newRoutes.isEmpty()) {
+                    return null;
+                }
+                return newRoutes.size() == oldRoutes.size() ? oldRoutes : List.copyOf(newRoutes);
+            });
+        }
+    }
+}
@@ -13,10 +13,13 @@
  */
 package org.smarthomej.binding.knx.internal.client;
 
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
 
+import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.datapoint.Datapoint;
@@ -62,7 +65,9 @@ public interface KNXClient {
     void restartNetworkDevice(@Nullable IndividualAddress address);
 
     /**
-     * Register the given listener to be informed on KNX bus traffic.
+     * Register the given listener to be informed on KNX bus traffic for the group addresses of its channels.
+     *
+     * Registering an already registered listener updates its group addresses.
      *
      * @param listener the listener
      */
@@ -78,9 +83,37 @@ public interface KNXClient {
     /**
      * Schedule the given data point for asynchronous reading.
      *
+     * If a read request for the same group address is already queued, it is only upgraded to the given priority.
+     *
+     * @param datapoint the datapoint
+     * @param priority the priority of the read request
+     */
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
+
+    /**
+     * Read the given data point periodically (the first read request is queued immediately).
+     *
+     * If several owners request periodic reads of the same group address, the shortest interval is used.
+     *
+     * @param owner the owner of the periodic read
      * @param datapoint the datapoint
+     * @param interval the interval in s
+     */
+    void schedulePeriodicRead(GroupAddressListener owner, Datapoint datapoint, int interval);
+
+    /**
+     * Stop all periodic reads of the given owner.
+     *
+     * @param owner the owner
+     */
+    void cancelPeriodicReads(GroupAddressListener owner);
+
+    /**
+     * Get the latency statistics of answered read requests.
+     *
+     * @return map of group address to statistics
      */
-    void readDatapoint(Datapoint datapoint);
+    Map<GroupAddress, ReadStatistics> getReadStatistics();
 
     /**
      * Write a command to the KNX bus.
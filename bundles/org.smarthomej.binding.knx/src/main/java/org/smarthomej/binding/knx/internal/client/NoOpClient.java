@@ -13,10 +13,13 @@
  */
 package org.smarthomej.binding.knx.internal.client;
 
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
 
+import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.datapoint.Datapoint;
@@ -58,7 +61,20 @@ public class NoOpClient implements KNXClient {
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+    }
+
+    @Override
+    public void schedulePeriodicRead(GroupAddressListener owner, Datapoint datapoint, int interval) {
+    }
+
+    @Override
+    public void cancelPeriodicReads(GroupAddressListener owner) {
+    }
+
+    @Override
+    public Map<GroupAddress, ReadStatistics> getReadStatistics() {
+        return Map.of();
     }
 
     @Override
@@ -29,11 +29,13 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private ReadPriority priority;
 
-    public ReadDatapoint(Datapoint datapoint, int limit) {
+    public ReadDatapoint(Datapoint datapoint, int limit, ReadPriority priority) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.priority = priority;
     }
 
     public Datapoint getDatapoint() {
@@ -52,6 +54,14 @@ public class ReadDatapoint {
         return limit;
     }
 
+    public ReadPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(ReadPriority priority) {
+        this.priority = priority;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ReadPriority} defines the order in which queued read requests are sent to the KNX bus (highest first)
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public enum ReadPriority {
+    /** read requested by the user (REFRESH command) */
+    REFRESH,
+    /** initial read after a channel was linked or the client (re-)connected */
+    STARTUP,
+    /** periodic read */
+    PERIODIC
+}
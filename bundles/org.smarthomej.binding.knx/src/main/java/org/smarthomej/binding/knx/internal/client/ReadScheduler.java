@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link ReadScheduler} decides which group address is read next and when
+ *
+ * Read requests are de-duplicated by group address and sent in order of their {@link ReadPriority}. Periodic reads
+ * are managed here, too, so no task per group address is needed. The pause between two read requests is adapted to
+ * the observed bus load: the more telegrams are received, the longer the pause. The time between a read request and
+ * the response is recorded per group address.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+    // approximate maximum telegram rate of a TP1 line
+    private static final double MAX_TELEGRAM_RATE = 50.0;
+    // the pause is at most 1 / MIN_IDLE_FRACTION times the configured reading pause
+    private static final double MIN_IDLE_FRACTION = 0.1;
+    private static final long RATE_WINDOW = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_READ_LATENCY = TimeUnit.SECONDS.toNanos(10);
+
+    private final long readingPause;
+    private final int readRetriesLimit;
+
+    private final Map<GroupAddress, ReadDatapoint> pendingReads = new HashMap<>();
+    private final List<Deque<ReadDatapoint>> queues = new ArrayList<>();
+    private final Map<GroupAddress, PeriodicRead> periodicReads = new HashMap<>();
+    private final PriorityQueue<PeriodicRead> periodicQueue = new PriorityQueue<>(
+            Comparator.comparingLong(periodicRead -> periodicRead.nextRead));
+    private final Map<GroupAddress, Long> outstandingReads = new HashMap<>();
+    private final Map<GroupAddress, ReadStatistics> readStatistics = new ConcurrentHashMap<>();
+
+    private long windowStart = System.nanoTime();
+    private int windowTelegrams = 0;
+    private double telegramRate = 0.0;
+    private long nextReadTime = System.nanoTime();
+
+    /**
+     * create a new read scheduler
+     *
+     * @param readingPause the minimum pause between two read requests in ms
+     * @param readRetriesLimit the number of attempts for a read request
+     */
+    public ReadScheduler(int readingPause, int readRetriesLimit) {
+        this.readingPause = TimeUnit.MILLISECONDS.toNanos(readingPause);
+        this.readRetriesLimit = readRetriesLimit;
+        for (int i = 0; i < ReadPriority.values().length; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * queue a read request (if the group address is already queued, the higher priority is used)
+     *
+     * @param datapoint the datapoint to read
+     * @param priority the priority
+     */
+    public synchronized void add(Datapoint datapoint, ReadPriority priority) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        ReadDatapoint readDatapoint = pendingReads.get(groupAddress);
+        if (readDatapoint == null) {
+            readDatapoint = new ReadDatapoint(datapoint, readRetriesLimit, priority);
+            pendingReads.put(groupAddress, readDatapoint);
+        } else if (priority.compareTo(readDatapoint.getPriority()) < 0) {
+            // the entry in the old queue becomes stale and is skipped when polled
+            readDatapoint.setPriority(priority);
+        } else {
+            return;
+        }
+        queues.get(priority.ordinal()).add(readDatapoint);
+    }
+
+    /**
+     * queue a failed read request again
+     *
+     * @param readDatapoint the failed read request
+     * @return true if the request was queued, false if the maximum number of retries is reached
+     */
+    public synchronized boolean retry(ReadDatapoint readDatapoint) {
+        if (readDatapoint.getRetries() >= readDatapoint.getLimit()) {
+            return false;
+        }
+        GroupAddress groupAddress = readDatapoint.getDatapoint().getMainAddress();
+        outstandingReads.remove(groupAddress);
+        if (pendingReads.putIfAbsent(groupAddress, readDatapoint) == null) {
+            queues.get(readDatapoint.getPriority().ordinal()).add(readDatapoint);
+        }
+        return true;
+    }
+
+    /**
+     * read a datapoint periodically (the first read is queued immediately)
+     *
+     * @param owner the owner of the periodic read
+     * @param datapoint the datapoint
+     * @param interval the interval in s
+     */
+    public synchronized void addPeriodic(Object owner, Datapoint datapoint, int interval) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        PeriodicRead periodicRead = periodicReads.computeIfAbsent(groupAddress, ga -> new PeriodicRead(datapoint));
+        periodicQueue.remove(periodicRead);
+        periodicRead.intervals.put(owner, TimeUnit.SECONDS.toNanos(interval));
+        periodicRead.nextRead = System.nanoTime() + periodicRead.getInterval();
+        periodicQueue.add(periodicRead);
+
+        add(datapoint, ReadPriority.STARTUP);
+    }
+
+    /**
+     * stop all periodic reads of an owner
+     *
+     * @param owner the owner
+     */
+    public synchronized void cancelPeriodic(Object owner) {
+        periodicReads.values().removeIf(periodicRead -> {
+            if (periodicRead.intervals.remove(owner) == null) {
+                return false;
+            }
+            periodicQueue.remove(periodicRead);
+            if (periodicRead.intervals.isEmpty()) {
+                return true;
+            }
+            periodicQueue.add(periodicRead);
+            return false;
+        });
+    }
+
+    /**
+     * get the next read request, if it may be sent now
+     *
+     * @param now the current time (from {@link System#nanoTime()})
+     * @return the read request or null if no request is pending or the bus needs a pause
+     */
+    public synchronized @Nullable ReadDatapoint poll(long now) {
+        if (now - nextReadTime < 0) {
+            return null;
+        }
+
+        PeriodicRead periodicRead;
+        while ((periodicRead = periodicQueue.peek()) != null && now - periodicRead.nextRead >= 0) {
+            periodicQueue.poll();
+            periodicRead.nextRead = now + periodicRead.getInterval();
+            periodicQueue.add(periodicRead);
+            add(periodicRead.datapoint, ReadPriority.PERIODIC);
+        }
+
+        for (ReadPriority priority : ReadPriority.values()) {
+            Deque<ReadDatapoint> queue = queues.get(priority.ordinal());
+            ReadDatapoint readDatapoint;
+            while ((readDatapoint = queue.poll()) != null) {
+                GroupAddress groupAddress = readDatapoint.getDatapoint().getMainAddress();
+                if (readDatapoint.getPriority() == priority && pendingReads.get(groupAddress) == readDatapoint) {
+                    pendingReads.remove(groupAddress);
+                    outstandingReads.put(groupAddress, now);
+                    nextReadTime = now + getReadingPause(now);
+                    return readDatapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * record a received telegram (for bus load estimation)
+     *
+     * @param now the current time (from {@link System#nanoTime()})
+     */
+    public synchronized void onTelegram(long now) {
+        updateTelegramRate(now);
+        windowTelegrams++;
+    }
+
+    /**
+     * record a received read response
+     *
+     * @param groupAddress the group address
+     * @param now the current time (from {@link System#nanoTime()})
+     * @return the updated statistics or null if no read request was outstanding for this group address
+     */
+    public synchronized @Nullable ReadStatistics onReadResponse(GroupAddress groupAddress, long now) {
+        Long sent = outstandingReads.remove(groupAddress);
+        if (sent == null || now - sent > MAX_READ_LATENCY) {
+            return null;
+        }
+        ReadStatistics statistics = readStatistics.computeIfAbsent(groupAddress, ga -> new ReadStatistics());
+        statistics.add(TimeUnit.NANOSECONDS.toMillis(now - sent));
+        return statistics;
+    }
+
+    /**
+     * remove all queued and outstanding read requests (periodic reads are kept)
+     */
+    public synchronized void clear() {
+        pendingReads.clear();
+        outstandingReads.clear();
+        for (Deque<ReadDatapoint> queue : queues) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * get the number of queued read requests
+     *
+     * @return number of read requests
+     */
+    public synchronized int getQueueSize() {
+        return pendingReads.size();
+    }
+
+    /**
+     * get the estimated number of telegrams per second
+     *
+     * @return the telegram rate
+     */
+    public synchronized double getTelegramRate() {
+        return telegramRate;
+    }
+
+    /**
+     * get the read latency statistics for all group addresses
+     *
+     * @return map of group address to statistics
+     */
+    public Map<GroupAddress, ReadStatistics> getReadStatistics() {
+        return Map.copyOf(readStatistics);
+    }
+
+    private long getReadingPause(long now) {
+        updateTelegramRate(now);
+        double idleFraction = Math.max(MIN_IDLE_FRACTION, 1.0 - telegramRate / MAX_TELEGRAM_RATE);
+        return (long) (readingPause / idleFraction);
+    }
+
+    private void updateTelegramRate(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed >= RATE_WINDOW) {
+            double windowRate = windowTelegrams * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            // smooth the rate so a single burst doesn't stop reading
+            telegramRate = (telegramRate + windowRate) / 2.0;
+            windowStart = now;
+            windowTelegrams = 0;
+        }
+    }
+
+    private static class PeriodicRead {
+        private final Datapoint datapoint;
+        private final Map<Object, Long> intervals = new HashMap<>();
+        private long nextRead;
+
+        public PeriodicRead(Datapoint datapoint) {
+            this.datapoint = datapoint;
+        }
+
+        public long getInterval() {
+            return intervals.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+    }
+}
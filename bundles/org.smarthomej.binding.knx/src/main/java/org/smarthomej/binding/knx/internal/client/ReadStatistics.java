@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ReadStatistics} contains the latency statistics of read requests for a group address
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ReadStatistics {
+    private int count = 0;
+    private long last = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+    private long total = 0;
+
+    synchronized void add(long latency) {
+        count++;
+        last = latency;
+        min = Math.min(min, latency);
+        max = Math.max(max, latency);
+        total += latency;
+    }
+
+    /**
+     * get the number of answered read requests
+     *
+     * @return number of responses
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * get the latency of the last read request
+     *
+     * @return latency in ms
+     */
+    public synchronized long getLast() {
+        return last;
+    }
+
+    /**
+     * get the minimum latency
+     *
+     * @return latency in ms (0 if no response was received)
+     */
+    public synchronized long getMin() {
+        return count > 0 ? min : 0;
+    }
+
+    /**
+     * get the maximum latency
+     *
+     * @return latency in ms
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * get the average latency
+     *
+     * @return latency in ms (0 if no response was received)
+     */
+    public synchronized long getAverage() {
+        return count > 0 ? total / count : 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ReadStatistics{count=" + count + ", last=" + last + " ms, min=" + getMin() + " ms, max=" + max
+                + " ms, avg=" + getAverage() + " ms}";
+    }
+}
@@ -17,9 +17,17 @@ import static org.smarthomej.binding.knx.internal.KNXBindingConstants.DISABLE_UO
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -49,6 +57,7 @@ import tuwien.auto.calimero.dptxlator.DPTXlator;
 import tuwien.auto.calimero.dptxlator.DPTXlator1BitControlled;
 import tuwien.auto.calimero.dptxlator.DPTXlator3BitControlled;
 import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
+import tuwien.auto.calimero.dptxlator.DPTXlatorDate;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorSceneControl;
 import tuwien.auto.calimero.dptxlator.TranslatorTypes;
@@ -65,9 +74,6 @@ public class ValueDecoder {
     private static final Logger LOGGER = LoggerFactory.getLogger(ValueDecoder.class);
 
     private static final String TIME_DAY_FORMAT = "EEE, HH:mm:ss";
-    private static final String DATE_FORMAT = "yyyy-MM-dd";
-    // RGB: "r:123 g:123 b:123" value-range: 0-255
-    private static final Pattern RGB_PATTERN = Pattern.compile("r:(?<r>\\d+) g:(?<g>\\d+) b:(?<b>\\d+)");
     // RGBW: "100 27 25 12 %", value range: 0-100, invalid values: "-"
     private static final Pattern RGBW_PATTERN = Pattern
             .compile("(?:(?<r>\\d+)|-)\\s(?:(?<g>\\d+)|-)\\s(?:(?<b>\\d+)|-)\\s(?:(?<w>\\d+)|-)\\s%");
@@ -75,6 +81,9 @@ public class ValueDecoder {
     private static final Pattern XYY_PATTERN = Pattern
             .compile("(?:\\((?<x>\\d+(?:,\\d+)?) (?<y>\\d+(?:,\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:,\\d+)?)\\s%)?");
 
+    // decoding plans are created on first use of a DPT
+    private static final Map<String, DecodingPlan> DECODING_PLANS = new ConcurrentHashMap<>();
+
     /**
      * convert the raw value received to the corresponding openHAB value
      *
@@ -84,49 +93,42 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        DecodingPlan plan;
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(0,
-                    DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
-            translator.setData(data);
-            String value = translator.getValue();
-
-            String id = dptId; // prefer using the user-supplied DPT
-
-            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
-            if (!m.matches() || m.groupCount() != 2) {
-                LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
-                        id);
-                id = translator.getType().getID();
-                m = DPTUtil.DPT_PATTERN.matcher(id);
-                if (!m.matches() || m.groupCount() != 2) {
-                    LOGGER.warn("couldn't identify main/sub number in dptID '{}'", id);
-                    return null;
-                }
-            }
-            LOGGER.trace("Finally using datapoint DPT = {}", id);
+            plan = getDecodingPlan(dptId);
+        } catch (KNXException e) {
+            LOGGER.warn("Failed creating a translator for datapoint type '{}'.", dptId, e);
+            return null;
+        }
+        if (plan == null) {
+            return null;
+        }
 
-            String mainType = m.group("main");
-            String subType = m.group("sub");
+        DPTXlator translator = null;
+        try {
+            translator = plan.acquireTranslator();
+            translator.setData(data);
 
-            switch (mainType) {
+            switch (plan.mainType) {
                 case "1":
-                    return handleDpt1(subType, translator);
+                    return handleDpt1(plan.subType, translator);
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
                             + (translator1BitControlled.getValueBit() ? 1 : 0);
                     return new DecimalType(decValue);
                 case "3":
-                    return handleDpt3(subType, translator);
+                    return handleDpt3(plan.subType, translator);
                 case "10":
-                    return handleDpt10(value);
+                    return handleDpt10(translator.getValue());
                 case "11":
-                    return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN)
-                            .format(new SimpleDateFormat(DATE_FORMAT).parse(value)));
+                    DPTXlatorDate translatorDate = (DPTXlatorDate) translator;
+                    return new DateTimeType(ZonedDateTime.of(translatorDate.getYear(), translatorDate.getMonth(),
+                            translatorDate.getDay(), 0, 0, 0, 0, ZoneId.systemDefault()));
                 case "18":
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
+                    if (translator.getValue().startsWith("learn")) {
                         decimalValue += 0x80;
                     }
                     return new DecimalType(decimalValue);
@@ -137,25 +139,64 @@ public class ValueDecoder {
                 case "21":
                 case "22":
                 case "28":
-                    return StringType.valueOf(value);
+                    return StringType.valueOf(translator.getValue());
                 case "232":
-                    return handleDpt232(value, subType);
+                    return handleDpt232(data, plan.subType);
                 case "242":
-                    return handleDpt242(value);
+                    return handleDpt242(translator.getValue());
                 case "251":
-                    return handleDpt251(value, preferredType);
+                    return handleDpt251(translator.getValue(), preferredType);
                 default:
-                    return handleNumericDpt(id, translator, preferredType);
+                    return handleNumericDpt(plan, translator, preferredType);
             }
-        } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException e) {
+        } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException
+                | DateTimeException e) {
             LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId, e.getClass());
         } catch (KNXException e) {
             LOGGER.warn("Failed creating a translator for datapoint type '{}'.", dptId, e);
+        } finally {
+            if (translator != null) {
+                plan.releaseTranslator(translator);
+            }
         }
 
         return null;
     }
 
+    private static @Nullable DecodingPlan getDecodingPlan(String dptId) throws KNXException {
+        DecodingPlan plan = DECODING_PLANS.get(dptId);
+        if (plan == null) {
+            plan = createDecodingPlan(dptId);
+            if (plan != null) {
+                DECODING_PLANS.putIfAbsent(dptId, plan);
+            }
+        }
+        return plan;
+    }
+
+    private static @Nullable DecodingPlan createDecodingPlan(String dptId) throws KNXException {
+        String translatorId = DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId);
+        DPTXlator translator = TranslatorTypes.createTranslator(0, translatorId);
+
+        String id = dptId; // prefer using the user-supplied DPT
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
+        if (!m.matches() || m.groupCount() != 2) {
+            LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator", id);
+            id = translator.getType().getID();
+            m = DPTUtil.DPT_PATTERN.matcher(id);
+            if (!m.matches() || m.groupCount() != 2) {
+                LOGGER.warn("couldn't identify main/sub number in dptID '{}'", id);
+                return null;
+            }
+        }
+        LOGGER.trace("Finally using datapoint DPT = {}", id);
+
+        DecodingPlan plan = new DecodingPlan(id, translatorId, m.group("main"),
+                Objects.requireNonNullElse(m.group("sub"), ""));
+        plan.releaseTranslator(translator);
+        return plan;
+    }
+
     private static Type handleDpt1(String subType, DPTXlator translator) {
         DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
         switch (subType) {
@@ -264,29 +305,25 @@ public class ValueDecoder {
         }
     }
 
-    private static @Nullable Type handleDpt232(String value, String subType) {
-        Matcher rgb = RGB_PATTERN.matcher(value);
-        if (rgb.matches()) {
-            int r = Integer.parseInt(rgb.group("r"));
-            int g = Integer.parseInt(rgb.group("g"));
-            int b = Integer.parseInt(rgb.group("b"));
-
-            switch (subType) {
-                case "600":
-                    return HSBType.fromRGB(r, g, b);
-                case "60000":
-                    // MDT specific: mis-use 232.600 for hsv instead of rgb
-                    DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
-                    PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
-                    PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
-                    return new HSBType(hue, sat, bright);
-                default:
-                    LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
-                    return null;
-            }
+    private static @Nullable Type handleDpt232(byte[] data, String subType) {
+        // the translator already checked that the data is long enough, so we can use the bytes directly
+        int r = data[0] & 0xff;
+        int g = data[1] & 0xff;
+        int b = data[2] & 0xff;
+
+        switch (subType) {
+            case "600":
+                return HSBType.fromRGB(r, g, b);
+            case "60000":
+                // MDT specific: mis-use 232.600 for hsv instead of rgb
+                DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
+                PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
+                PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
+                return new HSBType(hue, sat, bright);
+            default:
+                LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
+                return null;
         }
-        LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
-        return null;
     }
 
     private static @Nullable Type handleDpt242(String value) {
@@ -337,25 +374,25 @@ public class ValueDecoder {
         return null;
     }
 
-    private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
-            throws KNXFormatException {
-        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
+    private static @Nullable Type handleNumericDpt(DecodingPlan plan, DPTXlator translator,
+            Class<? extends Type> preferredType) throws KNXFormatException {
+        Set<Class<? extends Type>> allowedTypes = plan.allowedTypes;
 
         double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
         } else if (allowedTypes.contains(QuantityType.class) && !DISABLE_UOM) {
-            String unit = DPTUnits.getUnitForDpt(id);
+            String unit = plan.unit;
             if (unit != null) {
                 return new QuantityType<>(value + " " + unit);
             } else {
-                LOGGER.trace("Could not determine unit for DPT '{}', fallback to plain decimal", id);
+                LOGGER.trace("Could not determine unit for DPT '{}', fallback to plain decimal", plan.id);
             }
         } else if (allowedTypes.contains(DecimalType.class)) {
             return new DecimalType(value);
         }
-        LOGGER.warn("Failed to convert '{}' (DPT '{}'): no matching type found", value, id);
+        LOGGER.warn("Failed to convert '{}' (DPT '{}'): no matching type found", value, plan.id);
         return null;
     }
 
@@ -366,4 +403,39 @@ public class ValueDecoder {
     private static int coerceToRange(int value, int min, int max) {
         return Math.min(Math.max(value, min), max);
     }
+
+    /**
+     * The {@link DecodingPlan} contains everything needed for decoding data of a DPT that can be determined in advance
+     *
+     * Translators are stateful, so each decoding needs its own instance. Instances are re-used via a small pool.
+     */
+    private static class DecodingPlan {
+        private static final int POOL_SIZE = 4;
+
+        private final String id;
+        private final String translatorId;
+        private final String mainType;
+        private final String subType;
+        private final Set<Class<? extends Type>> allowedTypes;
+        private final @Nullable String unit;
+        private final BlockingQueue<DPTXlator> translators = new ArrayBlockingQueue<>(POOL_SIZE);
+
+        public DecodingPlan(String id, String translatorId, String mainType, String subType) {
+            this.id = id;
+            this.translatorId = translatorId;
+            this.mainType = mainType;
+            this.subType = subType;
+            this.allowedTypes = DPTUtil.getAllowedTypes(id);
+            this.unit = DPTUnits.getUnitForDpt(id);
+        }
+
+        public DPTXlator acquireTranslator() throws KNXException {
+            DPTXlator translator = translators.poll();
+            return translator != null ? translator : TranslatorTypes.createTranslator(0, translatorId);
+        }
+
+        public void releaseTranslator(DPTXlator translator) {
+            translators.offer(translator);
+        }
+    }
 }
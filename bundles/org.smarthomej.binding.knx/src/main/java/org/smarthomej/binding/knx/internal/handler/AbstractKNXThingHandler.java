@@ -85,6 +85,22 @@ public abstract class AbstractKNXThingHandler extends BaseThingHandler implement
         return getBridgeHandler().getClient();
     }
 
+    /**
+     * get the client without requiring an initialized bridge (e.g. during disposal)
+     *
+     * @return the client or null if the bridge handler is not available
+     */
+    protected final @Nullable KNXClient getClientIfPresent() {
+        Bridge bridge = getBridge();
+        if (bridge != null) {
+            KNXBridgeBaseThingHandler handler = (KNXBridgeBaseThingHandler) bridge.getHandler();
+            if (handler != null) {
+                return handler.getClient();
+            }
+        }
+        return null;
+    }
+
     protected final boolean describeDevice(@Nullable IndividualAddress address) {
         if (address == null) {
             return false;
@@ -202,12 +218,9 @@ public abstract class AbstractKNXThingHandler extends BaseThingHandler implement
             this.descriptionJob = null;
         }
         cancelReadFutures();
-        Bridge bridge = getBridge();
-        if (bridge != null) {
-            KNXBridgeBaseThingHandler handler = (KNXBridgeBaseThingHandler) bridge.getHandler();
-            if (handler != null) {
-                handler.getClient().unregisterGroupAddressListener(this);
-            }
+        KNXClient client = getClientIfPresent();
+        if (client != null) {
+            client.unregisterGroupAddressListener(this);
         }
     }
 }
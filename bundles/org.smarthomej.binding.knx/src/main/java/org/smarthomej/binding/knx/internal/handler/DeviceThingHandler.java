@@ -16,6 +16,7 @@ package org.smarthomej.binding.knx.internal.handler;
 import static org.smarthomej.binding.knx.internal.KNXBindingConstants.*;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -26,6 +27,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.IncreaseDecreaseType;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -42,11 +44,13 @@ import org.smarthomej.binding.knx.internal.KNXBindingConstants;
 import org.smarthomej.binding.knx.internal.channel.KNXChannel;
 import org.smarthomej.binding.knx.internal.channel.KNXChannelFactory;
 import org.smarthomej.binding.knx.internal.client.AbstractKNXClient;
+import org.smarthomej.binding.knx.internal.client.GroupAddressRoute;
 import org.smarthomej.binding.knx.internal.client.InboundSpec;
+import org.smarthomej.binding.knx.internal.client.KNXClient;
 import org.smarthomej.binding.knx.internal.client.OutboundSpec;
+import org.smarthomej.binding.knx.internal.client.ReadPriority;
 import org.smarthomej.binding.knx.internal.config.DeviceConfig;
 import org.smarthomej.binding.knx.internal.dpt.DPTUtil;
-import org.smarthomej.binding.knx.internal.dpt.ValueDecoder;
 
 import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
@@ -66,10 +70,8 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
 
     private final Logger logger = LoggerFactory.getLogger(DeviceThingHandler.class);
 
-    private final Set<GroupAddress> groupAddresses = ConcurrentHashMap.newKeySet();
     private final Set<GroupAddress> groupAddressesWriteBlockedOnce = ConcurrentHashMap.newKeySet();
     private final Set<OutboundSpec> groupAddressesRespondingSpec = ConcurrentHashMap.newKeySet();
-    private final Map<GroupAddress, ScheduledFuture<?>> readFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, ScheduledFuture<?>> channelFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, KNXChannel> knxChannels = new ConcurrentHashMap<>();
     private int readInterval;
@@ -80,16 +82,16 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
 
     @Override
     public void initialize() {
-        super.initialize();
         DeviceConfig config = getConfigAs(DeviceConfig.class);
         readInterval = config.getReadInterval();
 
-        // gather all GAs from channel configurations and create channels
+        // create channels before attaching to the client, their GAs are routed on registration
         getThing().getChannels().forEach(channel -> {
             KNXChannel knxChannel = KNXChannelFactory.createKnxChannel(channel);
             knxChannels.put(channel.getUID(), knxChannel);
-            groupAddresses.addAll(knxChannel.getAllGroupAddresses());
         });
+
+        super.initialize();
     }
 
     @Override
@@ -101,7 +103,6 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
             });
         }
 
-        groupAddresses.clear();
         groupAddressesWriteBlockedOnce.clear();
         groupAddressesRespondingSpec.clear();
         knxChannels.clear();
@@ -111,11 +112,9 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
 
     @Override
     protected void cancelReadFutures() {
-        for (GroupAddress groupAddress : readFutures.keySet()) {
-            readFutures.computeIfPresent(groupAddress, (k, v) -> {
-                v.cancel(true);
-                return null;
-            });
+        KNXClient client = getClientIfPresent();
+        if (client != null) {
+            client.cancelPeriodicReads(this);
         }
     }
 
@@ -127,7 +126,7 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
             return;
         }
         if (!knxChannel.isControl()) {
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, ReadPriority.STARTUP);
         }
     }
 
@@ -136,45 +135,35 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         cancelReadFutures();
         for (KNXChannel knxChannel : knxChannels.values()) {
             if (isLinked(knxChannel.getChannelUID()) && knxChannel.isControl()) {
-                scheduleRead(knxChannel);
+                scheduleRead(knxChannel, ReadPriority.STARTUP);
             }
         }
     }
 
-    private void scheduleRead(KNXChannel knxChannel) {
+    private void scheduleRead(KNXChannel knxChannel, ReadPriority priority) {
         List<InboundSpec> readSpecs = knxChannel.getReadSpec();
         for (InboundSpec readSpec : readSpecs) {
-            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT()));
+            readSpec.getGroupAddresses().forEach(ga -> readDatapoint(ga, readSpec.getDPT(), priority));
         }
     }
 
-    private void scheduleReadJob(GroupAddress groupAddress, String dpt) {
-        if (readInterval > 0) {
-            ScheduledFuture<?> future = readFutures.get(groupAddress);
-            if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
-                        TimeUnit.SECONDS);
-                readFutures.put(groupAddress, future);
-            }
-        } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
+    private void readDatapoint(GroupAddress groupAddress, String dpt, ReadPriority priority) {
+        if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
+            logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
+            return;
         }
-    }
-
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
-        if (getClient().isConnected()) {
-            if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
-                logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
-                return;
-            }
-            Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+        Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
+        // the read scheduler de-duplicates requests, so periodic and one-time reads can be added unconditionally
+        if (readInterval > 0 && priority != ReadPriority.REFRESH) {
+            getClient().schedulePeriodicRead(this, datapoint, readInterval);
+        } else if (getClient().isConnected()) {
+            getClient().readDatapoint(datapoint, priority);
         }
     }
 
     @Override
-    public boolean listensTo(GroupAddress destination) {
-        return groupAddresses.contains(destination);
+    public Collection<KNXChannel> getKNXChannels() {
+        return knxChannels.values();
     }
 
     /** KNXIO remember controls, removeIf may be null */
@@ -197,7 +186,7 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         }
         if (command instanceof RefreshType && !knxChannel.isControl()) {
             logger.debug("Refreshing channel '{}'", channelUID);
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, ReadPriority.REFRESH);
         } else {
             if (CHANNEL_RESET.equals(channelUID.getId())) {
                 if (address != null) {
@@ -252,77 +241,62 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
      * KNXIO, extended with the ability to respond on "GroupValueRead" telegrams with "GroupValueResponse" telegram
      */
     @Override
-    public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu) {
+    public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddressRoute route) {
+        GroupAddress destination = route.getGroupAddress();
+        KNXChannel knxChannel = route.getKnxChannel();
         logger.trace("onGroupRead Thing '{}' received a GroupValueRead telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
-        for (KNXChannel knxChannel : knxChannels.values()) {
-            if (knxChannel.isControl()) {
-                OutboundSpec responseSpec = knxChannel.getResponseSpec(destination, RefreshType.REFRESH);
-                if (responseSpec != null) {
-                    logger.trace("onGroupRead isControl -> postCommand");
-                    // This event should be sent to KNX as GroupValueResponse immediately.
-                    sendGroupValueResponse(knxChannel.getChannelUID(), destination);
-                    // Send REFRESH to openHAB to get this event for scripting with postCommand
-                    // and remember to ignore/block this REFRESH to be sent back to KNX as GroupValueWrite after
-                    // postCommand is done!
-                    groupAddressesWriteBlockedOnce.add(destination);
-                    postCommand(knxChannel.getChannelUID(), RefreshType.REFRESH);
-                }
+        if (knxChannel.isControl()) {
+            OutboundSpec responseSpec = knxChannel.getResponseSpec(destination, RefreshType.REFRESH);
+            if (responseSpec != null) {
+                logger.trace("onGroupRead isControl -> postCommand");
+                // This event should be sent to KNX as GroupValueResponse immediately.
+                sendGroupValueResponse(knxChannel.getChannelUID(), destination);
+                // Send REFRESH to openHAB to get this event for scripting with postCommand
+                // and remember to ignore/block this REFRESH to be sent back to KNX as GroupValueWrite after
+                // postCommand is done!
+                groupAddressesWriteBlockedOnce.add(destination);
+                postCommand(knxChannel.getChannelUID(), RefreshType.REFRESH);
             }
         }
     }
 
     @Override
-    public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
-            byte[] asdu) {
+    public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddressRoute route,
+            byte[] asdu, @Nullable Type value) {
         // GroupValueResponses are treated the same as GroupValueWrite telegrams
         logger.trace("onGroupReadResponse Thing '{}' processes a GroupValueResponse telegram for destination '{}'",
-                getThing().getUID(), destination);
-        onGroupWrite(client, source, destination, asdu);
+                getThing().getUID(), route.getGroupAddress());
+        onGroupWrite(client, source, route, asdu, value);
     }
 
     /**
      * KNXIO, here value changes are set, coming from KNX OR openHAB.
      */
     @Override
-    public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
-            byte[] asdu) {
-        logger.debug("onGroupWrite Thing '{}' received a GroupValueWrite telegram from '{}' for destination '{}'",
-                getThing().getUID(), source, destination);
+    public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddressRoute route, byte[] asdu,
+            @Nullable Type value) {
+        GroupAddress destination = route.getGroupAddress();
+        KNXChannel knxChannel = route.getKnxChannel();
+        logger.debug(
+                "onGroupWrite Thing '{}' received a GroupValueWrite telegram from '{}' for destination '{}' for channel '{}'",
+                getThing().getUID(), source, destination, knxChannel.getChannelUID());
 
-        for (KNXChannel knxChannel : knxChannels.values()) {
-            InboundSpec listenSpec = knxChannel.getListenSpec(destination);
-            if (listenSpec != null) {
-                logger.trace(
-                        "onGroupWrite Thing '{}' processes a GroupValueWrite telegram for destination '{}' for channel '{}'",
-                        getThing().getUID(), destination, knxChannel.getChannelUID());
-                /**
-                 * Remember current KNXIO outboundSpec only if it is a control channel.
-                 */
-                if (knxChannel.isControl()) {
-                    logger.trace("onGroupWrite isControl");
-                    Type value = ValueDecoder.decode(listenSpec.getDPT(), asdu, knxChannel.preferredType());
-                    if (value != null) {
-                        OutboundSpec commandSpec = knxChannel.getCommandSpec(value);
-                        if (commandSpec != null) {
-                            rememberRespondingSpec(commandSpec);
-                        }
-                    }
-                }
-                processDataReceived(destination, asdu, listenSpec, knxChannel);
+        /**
+         * Remember current KNXIO outboundSpec only if it is a control channel.
+         */
+        if (knxChannel.isControl() && value != null) {
+            logger.trace("onGroupWrite isControl");
+            OutboundSpec commandSpec = knxChannel.getCommandSpec(value);
+            if (commandSpec != null) {
+                rememberRespondingSpec(commandSpec);
             }
-
         }
+        processDataReceived(destination, asdu, route.getListenSpec(), knxChannel, value);
     }
 
     private void processDataReceived(GroupAddress destination, byte[] asdu, InboundSpec listenSpec,
-            KNXChannel knxChannel) {
-        if (DPTUtil.getAllowedTypes(listenSpec.getDPT()).isEmpty()) {
-            logger.warn("DPT '{}' is not supported by the KNX binding.", listenSpec.getDPT());
-            return;
-        }
-
-        Type value = ValueDecoder.decode(listenSpec.getDPT(), asdu, knxChannel.preferredType());
+            KNXChannel knxChannel, @Nullable Type value) {
         if (value != null) {
             if (knxChannel.isControl()) {
                 ChannelUID channelUID = knxChannel.getChannelUID();
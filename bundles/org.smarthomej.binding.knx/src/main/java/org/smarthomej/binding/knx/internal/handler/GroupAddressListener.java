@@ -13,11 +13,12 @@
  */
 package org.smarthomej.binding.knx.internal.handler;
 
+import java.util.Collection;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.knx.internal.channel.KNXChannel;
 import org.smarthomej.binding.knx.internal.client.BusMessageListener;
 
-import tuwien.auto.calimero.GroupAddress;
-
 /**
  * The {@link GroupAddressListener} is an interface that needs to be
  * implemented by classes that want to listen to Group Addresses
@@ -29,9 +30,9 @@ import tuwien.auto.calimero.GroupAddress;
 public interface GroupAddressListener extends BusMessageListener {
 
     /**
-     * Called to verify if the GroupAddressListener has an interest in the given GroupAddress
+     * Called on registration to get the channels (and their group addresses) the GroupAddressListener is interested in
      *
-     * @param destination
+     * @return the channels
      */
-    public boolean listensTo(GroupAddress destination);
+    public Collection<KNXChannel> getKNXChannels();
 }
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.type.ChannelTypeUID;
+import org.smarthomej.binding.knx.internal.KNXBindingConstants;
+import org.smarthomej.binding.knx.internal.channel.KNXChannel;
+import org.smarthomej.binding.knx.internal.channel.KNXChannelFactory;
+import org.smarthomej.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+
+/**
+ * The {@link GroupAddressRoutingIndexTest} contains tests for the {@link GroupAddressRoutingIndex}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressRoutingIndexTest {
+    private final GroupAddressRoutingIndex routingIndex = new GroupAddressRoutingIndex();
+
+    @Test
+    public void routesAreAddedAndRemovedPerListener() throws KNXFormatException {
+        GroupAddress switchGA = new GroupAddress("1/2/3");
+        GroupAddress numberGA = new GroupAddress("1/2/4");
+
+        KNXChannel switch1 = createChannel("switch1", KNXBindingConstants.CHANNEL_SWITCH, "1/2/3");
+        KNXChannel switch2 = createChannel("switch2", KNXBindingConstants.CHANNEL_SWITCH, "1/2/5+1/2/3");
+        KNXChannel number = createChannel("number", KNXBindingConstants.CHANNEL_NUMBER, "9.001:1/2/4");
+
+        GroupAddressListener listener1 = createListener(switch1, number);
+        GroupAddressListener listener2 = createListener(switch2);
+
+        routingIndex.register(listener1);
+        routingIndex.register(listener2);
+
+        List<GroupAddressRoute> switchRoutes = routingIndex.getRoutes(switchGA);
+        assertEquals(2, switchRoutes.size());
+        assertTrue(switchRoutes.get(0).decodesLike(switchRoutes.get(1)));
+        assertEquals(1, routingIndex.getRoutes(numberGA).size());
+        assertEquals("9.001", routingIndex.getRoutes(numberGA).get(0).getListenSpec().getDPT());
+
+        // registering again must not duplicate routes
+        routingIndex.register(listener1);
+        assertEquals(2, routingIndex.getRoutes(switchGA).size());
+
+        routingIndex.unregister(listener1);
+        switchRoutes = routingIndex.getRoutes(switchGA);
+        assertEquals(1, switchRoutes.size());
+        assertSame(listener2, switchRoutes.get(0).getListener());
+        assertTrue(routingIndex.getRoutes(numberGA).isEmpty());
+    }
+
+    private KNXChannel createChannel(String id, String channelType, String ga) {
+        Channel channel = mock(Channel.class);
+        when(channel.getUID()).thenReturn(new ChannelUID("knx:device:bridge:thing:" + id));
+        when(channel.getChannelTypeUID()).thenReturn(new ChannelTypeUID(KNXBindingConstants.BINDING_ID, channelType));
+        when(channel.getConfiguration()).thenReturn(new Configuration(Map.of(KNXBindingConstants.GA, ga)));
+        return KNXChannelFactory.createKnxChannel(channel);
+    }
+
+    private GroupAddressListener createListener(KNXChannel... knxChannels) {
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getKNXChannels()).thenReturn(List.of(knxChannels));
+        return listener;
+    }
+}
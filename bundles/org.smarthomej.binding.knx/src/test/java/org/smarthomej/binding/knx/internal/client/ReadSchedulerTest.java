@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link ReadSchedulerTest} contains tests for the {@link ReadScheduler}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ReadSchedulerTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void readsAreDeduplicatedAndOrderedByPriority() throws KNXFormatException {
+        ReadScheduler readScheduler = new ReadScheduler(0, 3);
+        Datapoint periodic = createDatapoint("1/2/3");
+        Datapoint startup = createDatapoint("1/2/4");
+
+        readScheduler.add(periodic, ReadPriority.PERIODIC);
+        readScheduler.add(startup, ReadPriority.STARTUP);
+        readScheduler.add(startup, ReadPriority.PERIODIC);
+        // upgrade an already queued read
+        readScheduler.add(periodic, ReadPriority.REFRESH);
+        assertEquals(2, readScheduler.getQueueSize());
+
+        long now = System.nanoTime();
+        assertEquals(periodic.getMainAddress(), getMainAddress(readScheduler.poll(now)));
+        assertEquals(startup.getMainAddress(), getMainAddress(readScheduler.poll(now)));
+        assertNull(readScheduler.poll(now));
+    }
+
+    @Test
+    public void failedReadsAreRetriedUntilLimit() throws KNXFormatException {
+        ReadScheduler readScheduler = new ReadScheduler(0, 2);
+        readScheduler.add(createDatapoint("1/2/3"), ReadPriority.STARTUP);
+
+        long now = System.nanoTime();
+        ReadDatapoint readDatapoint = readScheduler.poll(now);
+        assertNotNull(readDatapoint);
+        readDatapoint.incrementRetries();
+        assertTrue(readScheduler.retry(readDatapoint));
+
+        readDatapoint = readScheduler.poll(now);
+        assertNotNull(readDatapoint);
+        readDatapoint.incrementRetries();
+        assertFalse(readScheduler.retry(readDatapoint));
+        assertNull(readScheduler.poll(now));
+    }
+
+    @Test
+    public void periodicReadsUseShortestIntervalAndAreCancelledPerOwner() throws KNXFormatException {
+        ReadScheduler readScheduler = new ReadScheduler(0, 3);
+        Object owner1 = new Object();
+        Object owner2 = new Object();
+        Datapoint datapoint = createDatapoint("1/2/3");
+
+        readScheduler.addPeriodic(owner1, datapoint, 60);
+        readScheduler.addPeriodic(owner2, datapoint, 10);
+
+        // the first read is queued immediately (and only once)
+        long now = System.nanoTime();
+        assertNotNull(readScheduler.poll(now));
+        assertNull(readScheduler.poll(now));
+
+        assertNotNull(readScheduler.poll(now + 11 * SECOND));
+
+        // the next read was already planned with the shorter interval
+        readScheduler.cancelPeriodic(owner2);
+        assertNotNull(readScheduler.poll(now + 22 * SECOND));
+        assertNull(readScheduler.poll(now + 50 * SECOND));
+
+        readScheduler.cancelPeriodic(owner1);
+        assertNull(readScheduler.poll(now + 200 * SECOND));
+    }
+
+    @Test
+    public void readingPauseIncreasesWithBusLoad() throws KNXFormatException {
+        ReadScheduler readScheduler = new ReadScheduler(100, 3);
+        readScheduler.add(createDatapoint("1/2/3"), ReadPriority.STARTUP);
+        readScheduler.add(createDatapoint("1/2/4"), ReadPriority.STARTUP);
+        readScheduler.add(createDatapoint("1/2/5"), ReadPriority.STARTUP);
+
+        long now = System.nanoTime();
+        assertNotNull(readScheduler.poll(now));
+        // idle bus: the configured pause is used
+        assertNull(readScheduler.poll(now + TimeUnit.MILLISECONDS.toNanos(99)));
+        now += TimeUnit.MILLISECONDS.toNanos(100);
+
+        // simulate a fully loaded bus for two seconds
+        for (int i = 0; i < 100; i++) {
+            readScheduler.onTelegram(now + i * SECOND / 50);
+        }
+        now += 2 * SECOND;
+        assertNotNull(readScheduler.poll(now));
+        assertTrue(readScheduler.getTelegramRate() > 25.0);
+        assertNull(readScheduler.poll(now + TimeUnit.MILLISECONDS.toNanos(150)));
+    }
+
+    @Test
+    public void readLatencyIsRecorded() throws KNXFormatException {
+        ReadScheduler readScheduler = new ReadScheduler(0, 3);
+        Datapoint datapoint = createDatapoint("1/2/3");
+        readScheduler.add(datapoint, ReadPriority.STARTUP);
+
+        long now = System.nanoTime();
+        assertNotNull(readScheduler.poll(now));
+        ReadStatistics statistics = readScheduler.onReadResponse(datapoint.getMainAddress(),
+                now + TimeUnit.MILLISECONDS.toNanos(40));
+        assertNotNull(statistics);
+        assertEquals(1, statistics.getCount());
+        assertEquals(40, statistics.getLast());
+
+        // responses without a request are not counted
+        assertNull(readScheduler.onReadResponse(datapoint.getMainAddress(), now));
+        assertEquals(statistics, readScheduler.getReadStatistics().get(datapoint.getMainAddress()));
+    }
+
+    private Datapoint createDatapoint(String groupAddress) throws KNXFormatException {
+        return new CommandDP(new GroupAddress(groupAddress), "test", 0, "1.001");
+    }
+
+    private @Nullable GroupAddress getMainAddress(@Nullable ReadDatapoint readDatapoint) {
+        return readDatapoint != null ? readDatapoint.getDatapoint().getMainAddress() : null;
+    }
+}
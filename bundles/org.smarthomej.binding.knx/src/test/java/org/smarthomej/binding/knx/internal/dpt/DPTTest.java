@@ -15,7 +15,9 @@ package org.smarthomej.binding.knx.internal.dpt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -24,9 +26,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
 
 /**
  *
@@ -81,6 +87,46 @@ public class DPTTest {
         assertEquals(26.3, hsbType.getBrightness().doubleValue(), 0.1);
     }
 
+    @Test
+    public void dpt1ValueWithReusedTranslator() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(OnOffType.ON, ValueDecoder.decode("1.001", new byte[] { 1 }, OnOffType.class));
+            assertEquals(OnOffType.OFF, ValueDecoder.decode("1.001", new byte[] { 0 }, OnOffType.class));
+        }
+    }
+
+    @Test
+    public void dpt5ScalingValue() {
+        assertEquals(new PercentType(100), ValueDecoder.decode("5.001", new byte[] { (byte) 0xff }, PercentType.class));
+    }
+
+    @Test
+    public void dpt9TemperatureValue() {
+        // 0x0c1a = 0.01 * 1050 * 2^1 = 21.0
+        Type value = ValueDecoder.decode("9.001", new byte[] { 0x0c, 0x1a }, QuantityType.class);
+
+        assertTrue(value instanceof QuantityType);
+        assertEquals(21.0, ((QuantityType<?>) value).doubleValue(), 0.001);
+        assertEquals("°C", ((QuantityType<?>) value).getUnit().toString());
+    }
+
+    @Test
+    public void dpt11DateValue() {
+        Type value = ValueDecoder.decode("11.001", new byte[] { 15, 6, 21 }, DateTimeType.class);
+
+        assertTrue(value instanceof DateTimeType);
+        assertEquals(LocalDate.of(2021, 6, 15), ((DateTimeType) value).getZonedDateTime().toLocalDate());
+    }
+
+    @Test
+    public void dpt14PowerValue() {
+        byte[] data = ByteBuffer.allocate(4).putFloat(12.5f).array();
+        Type value = ValueDecoder.decode("14.056", data, QuantityType.class);
+
+        assertTrue(value instanceof QuantityType);
+        assertEquals(12.5, ((QuantityType<?>) value).doubleValue(), 0.001);
+    }
+
     @SuppressWarnings("unused")
     private static Stream<String> unitProvider() {
         return DPTUnits.getAllUnitStrings();
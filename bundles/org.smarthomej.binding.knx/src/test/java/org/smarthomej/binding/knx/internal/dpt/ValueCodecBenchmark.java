@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.dpt;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * The {@link ValueCodecBenchmark} measures the throughput of the {@link ValueDecoder} and {@link ValueEncoder} for
+ * common DPTs
+ *
+ * The baseline repeats the work that was done for every telegram before decoding plans were cached (creating a
+ * translator, formatting its value and matching the DPT), without the conversion to an openHAB type. It is therefore
+ * a lower bound of the former cost of {@link ValueDecoder#decode(String, byte[], Class)}.
+ *
+ * The benchmark is not run by the build. Run it from the IDE or with
+ * {@code java -cp <test classpath> org.smarthomej.binding.knx.internal.dpt.ValueCodecBenchmark}.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValueCodecBenchmark {
+    private static final Map<String, Telegram> TELEGRAMS = Map.of( //
+            "1.001", new Telegram(new byte[] { 1 }, OnOffType.class, OnOffType.ON), //
+            "5.001", new Telegram(new byte[] { (byte) 0x80 }, PercentType.class, new PercentType(50)), //
+            "9.001", new Telegram(new byte[] { 0x0c, 0x1a }, QuantityType.class, new QuantityType<>("21.5 °C")), //
+            "14.056", new Telegram(new byte[] { 0x45, 0x1c, 0x40, 0x00 }, QuantityType.class,
+                    new QuantityType<>("2500 W")), //
+            "232.600", new Telegram(new byte[] { 123, 45, 67 }, HSBType.class, HSBType.fromRGB(123, 45, 67)));
+
+    @Param({ "1.001", "5.001", "9.001", "14.056", "232.600" })
+    public String dptId = "";
+
+    private Telegram telegram = Objects.requireNonNull(TELEGRAMS.get("1.001"));
+
+    @Setup
+    public void setup() {
+        telegram = Objects.requireNonNull(TELEGRAMS.get(dptId));
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        blackhole.consume(ValueDecoder.decode(dptId, telegram.data, telegram.preferredType));
+    }
+
+    @Benchmark
+    public void decodeBaseline(Blackhole blackhole) throws KNXException {
+        DPTXlator translator = TranslatorTypes.createTranslator(0,
+                DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+        translator.setData(telegram.data);
+        blackhole.consume(translator.getValue());
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        blackhole.consume(m.matches() ? m.group("sub") : null);
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) {
+        blackhole.consume(ValueEncoder.encode(telegram.value, dptId));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValueCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static class Telegram {
+        private final byte[] data;
+        private final Class<? extends Type> preferredType;
+        private final Type value;
+
+        private Telegram(byte[] data, Class<? extends Type> preferredType, Type value) {
+            this.data = data;
+            this.preferredType = preferredType;
+            this.value = value;
+        }
+    }
+}
@@ -52,6 +52,8 @@ public class OwBindingConstants {
     // List of all config options
     public static final String CONFIG_ADDRESS = "network-address";
     public static final String CONFIG_PORT = "port";
+    public static final String CONFIG_CONNECTIONS = "connections";
+    public static final String CONFIG_TEMPERATURE_SWEEP = "temperaturesweep";
 
     public static final String CONFIG_ID = "id";
     public static final String CONFIG_RESOLUTION = "resolution";
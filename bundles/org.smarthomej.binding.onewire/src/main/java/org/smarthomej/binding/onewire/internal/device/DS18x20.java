@@ -41,6 +41,9 @@ import org.smarthomej.binding.onewire.internal.owserver.OwserverDeviceParameter;
 public class DS18x20 extends AbstractOwDevice {
     private final Logger logger = LoggerFactory.getLogger(DS18x20.class);
 
+    private static final OwserverDeviceParameter LATEST_TEMPERATURE_PARAMETER = new OwserverDeviceParameter(
+            "uncached/", "/latesttemp");
+
     private OwserverDeviceParameter temperatureParameter = new OwserverDeviceParameter("/temperature");
 
     private boolean ignorePOR = false;
@@ -74,12 +77,25 @@ public class DS18x20 extends AbstractOwDevice {
         isConfigured = true;
     }
 
+    /**
+     * check if the temperature of this sensor shall be converted in a simultaneous conversion of the bridge
+     *
+     * @return true if the temperature channel is enabled
+     */
+    public boolean isSimultaneousConversionEnabled() {
+        return isConfigured && enabledChannels.contains(CHANNEL_TEMPERATURE);
+    }
+
     @Override
     public void refresh(OwserverBridgeHandler bridgeHandler, Boolean forcedRefresh) throws OwException {
         if (isConfigured && enabledChannels.contains(CHANNEL_TEMPERATURE)) {
             logger.trace("refresh of sensor {} started", sensorId);
+            // if the bridge already started a conversion on this branch, only the result needs to be read
+            OwserverDeviceParameter parameter = bridgeHandler.isTemperatureConverted(sensorId)
+                    ? LATEST_TEMPERATURE_PARAMETER
+                    : temperatureParameter;
             QuantityType<Temperature> temperature = new QuantityType<>(
-                    (DecimalType) bridgeHandler.readDecimalType(sensorId, temperatureParameter), SIUnits.CELSIUS);
+                    (DecimalType) bridgeHandler.readDecimalType(sensorId, parameter), SIUnits.CELSIUS);
             logger.trace("read temperature {} from {}", temperature, sensorId);
             if (ignorePOR && (Double.compare(temperature.doubleValue(), 85.0) == 0)) {
                 logger.trace("ignored POR value from sensor {}", sensorId);
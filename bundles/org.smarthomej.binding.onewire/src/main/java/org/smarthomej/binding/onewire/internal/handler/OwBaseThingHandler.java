@@ -49,6 +49,7 @@ import org.smarthomej.binding.onewire.internal.OwException;
 import org.smarthomej.binding.onewire.internal.SensorId;
 import org.smarthomej.binding.onewire.internal.config.BaseHandlerConfiguration;
 import org.smarthomej.binding.onewire.internal.device.AbstractOwDevice;
+import org.smarthomej.binding.onewire.internal.device.DS18x20;
 import org.smarthomej.binding.onewire.internal.device.OwChannelConfig;
 import org.smarthomej.binding.onewire.internal.device.OwSensorType;
 
@@ -203,6 +204,40 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
                 && this.thing.getStatusInfo().getStatusDetail() != ThingStatusDetail.BRIDGE_OFFLINE;
     }
 
+    /**
+     * get the sensor id of this thing
+     *
+     * @return the sensor id (null if the thing is not configured)
+     */
+    public @Nullable SensorId getSensorId() {
+        return sensorId;
+    }
+
+    /**
+     * check if this thing needs to be refreshed
+     *
+     * @param now current time
+     * @return true if the refresh interval has passed
+     */
+    public boolean isRefreshDue(long now) {
+        return now >= (lastRefresh + refreshInterval);
+    }
+
+    /**
+     * get all temperature sensors of this thing that support a simultaneous conversion
+     *
+     * @return list of sensor ids
+     */
+    public List<SensorId> getSimultaneousTemperatureSensors() {
+        List<SensorId> sensorIds = new ArrayList<>();
+        for (AbstractOwDevice sensor : sensors) {
+            if (sensor instanceof DS18x20 && ((DS18x20) sensor).isSimultaneousConversionEnabled()) {
+                sensorIds.add(sensor.getSensorId());
+            }
+        }
+        return sensorIds;
+    }
+
     /**
      * refresh this thing
      *
@@ -214,7 +249,7 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
     public void refresh(OwserverBridgeHandler bridgeHandler, long now) {
         try {
             Boolean forcedRefresh = lastRefresh == 0;
-            if (now >= (lastRefresh + refreshInterval)) {
+            if (isRefreshDue(now)) {
                 logger.trace("refreshing {}", this.thing.getUID());
 
                 lastRefresh = now;
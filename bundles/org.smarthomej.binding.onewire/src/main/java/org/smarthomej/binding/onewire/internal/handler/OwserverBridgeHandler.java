@@ -20,16 +20,23 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.StringType;
@@ -59,6 +66,14 @@ import org.smarthomej.binding.onewire.internal.owserver.OwserverDeviceParameter;
 /**
  * The {@link OwserverBridgeHandler} class implements the refresher and the interface for reading from the bridge
  *
+ * Besides the main connection (used for discovery, property updates and bridge channels), additional reader
+ * connections to the owserver can be configured. Each bus branch (the hub path of a sensor) is assigned to one of
+ * them, so sensors on different branches are refreshed in parallel and a slow sensor only delays sensors on the same
+ * branch.
+ *
+ * If the temperature sweep is enabled, the temperature conversion of all DS18x20 sensors that are due for a refresh is
+ * started simultaneously on each branch, so the conversion time is only needed once per refresh cycle.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -75,7 +90,17 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
     private final Queue<@Nullable Thing> thingPropertiesUpdateQueue = new ConcurrentLinkedQueue<>();
 
     private static final int RECONNECT_AFTER_FAIL_TIME = 5000; // in ms
+    private static final int DEFAULT_CONNECTIONS = 1;
+    private static final String THREADPOOL_NAME = "onewire";
+    private static final long TEMPERATURE_CONVERSION_TIME = 800; // in ms, 750ms for 12 bit resolution + margin
+
     private final OwserverConnection owserverConnection;
+    private final ExecutorService readerExecutor = ThreadPoolManager.getPool(THREADPOOL_NAME);
+    private volatile List<OwserverConnection> readerConnections = List.of();
+    private final Map<String, OwserverConnection> branchConnections = new ConcurrentHashMap<>();
+
+    private boolean temperatureSweep = false;
+    private final Set<String> convertedBranches = ConcurrentHashMap.newKeySet();
 
     private final List<OwfsDirectChannelConfig> channelConfigs = new ArrayList<>();
 
@@ -84,6 +109,12 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
         this.owserverConnection = new OwserverConnection(this);
     }
 
+    /**
+     * create a bridge handler that uses the given main connection
+     *
+     * @param bridge the bridge
+     * @param owserverConnection the connection
+     */
     public OwserverBridgeHandler(Bridge bridge, OwserverConnection owserverConnection) {
         super(bridge);
         this.owserverConnection = owserverConnection;
@@ -97,11 +128,23 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
     public void initialize() {
         Configuration configuration = getConfig();
 
-        if (configuration.get(CONFIG_ADDRESS) != null) {
-            owserverConnection.setHost((String) configuration.get(CONFIG_ADDRESS));
+        configureConnection(owserverConnection, configuration);
+
+        int connections = DEFAULT_CONNECTIONS;
+        if (configuration.get(CONFIG_CONNECTIONS) != null) {
+            connections = ((BigDecimal) configuration.get(CONFIG_CONNECTIONS)).intValue();
         }
-        if (configuration.get(CONFIG_PORT) != null) {
-            owserverConnection.setPort(((BigDecimal) configuration.get(CONFIG_PORT)).intValue());
+        temperatureSweep = configuration.get(CONFIG_TEMPERATURE_SWEEP) != null
+                && (Boolean) configuration.get(CONFIG_TEMPERATURE_SWEEP);
+
+        if (connections > 1) {
+            List<OwserverConnection> readerConnections = new ArrayList<>();
+            for (int i = 1; i < connections; i++) {
+                OwserverConnection readerConnection = createReaderConnection();
+                configureConnection(readerConnection, configuration);
+                readerConnections.add(readerConnection);
+            }
+            this.readerConnections = List.copyOf(readerConnections);
         }
 
         for (Channel channel : thing.getChannels()) {
@@ -121,6 +164,7 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
         // postponed update through the owserverConnection:
         updateStatus(ThingStatus.UNKNOWN);
 
+        // the reader connections are started as soon as the main connection is opened
         scheduler.execute(() -> {
             synchronized (owserverConnection) {
                 owserverConnection.start();
@@ -144,28 +188,54 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
                 return;
             }
 
-            // refresh thing channels
-            List<Thing> thingList = getThing().getThings();
-            int thingCount = thingList.size();
-            Iterator<Thing> childListIterator = thingList.iterator();
-            logger.trace("refreshTask with thread ID {} starts at {}, {} childs", Thread.currentThread().getId(), now,
-                    thingCount);
-            while (childListIterator.hasNext() && refreshable) {
-                Thing owThing = childListIterator.next();
-
-                logger.trace("refresh: getting handler for {} ({} to go)", owThing.getUID(), thingCount);
+            // refresh thing channels, things on different bus branches are refreshed in parallel
+            Map<OwserverConnection, List<OwBaseThingHandler>> refreshGroups = new LinkedHashMap<>();
+            for (Thing owThing : getThing().getThings()) {
                 OwBaseThingHandler owHandler = (OwBaseThingHandler) owThing.getHandler();
                 if (owHandler != null) {
                     if (owHandler.isRefreshable()) {
-                        logger.trace("{} initialized, refreshing", owThing.getUID());
-                        owHandler.refresh(OwserverBridgeHandler.this, now);
+                        SensorId sensorId = owHandler.getSensorId();
+                        OwserverConnection connection = sensorId != null ? getConnection(sensorId)
+                                : owserverConnection;
+                        refreshGroups.computeIfAbsent(connection, c -> new ArrayList<>()).add(owHandler);
                     } else {
                         logger.trace("{} not initialized, skipping refresh", owThing.getUID());
                     }
                 } else {
                     logger.debug("{} handler missing", owThing.getUID());
                 }
-                thingCount--;
+            }
+            logger.trace("refreshTask with thread ID {} starts at {}, {} groups", Thread.currentThread().getId(), now,
+                    refreshGroups.size());
+
+            convertedBranches.clear();
+            if (temperatureSweep && !convertTemperatures(refreshGroups.values(), now)) {
+                return;
+            }
+
+            List<Future<?>> groupRefreshTasks = new ArrayList<>();
+            List<OwBaseThingHandler> ownGroup = null;
+            for (List<OwBaseThingHandler> group : refreshGroups.values()) {
+                if (ownGroup == null) {
+                    ownGroup = group;
+                } else {
+                    groupRefreshTasks.add(readerExecutor.submit(() -> refreshThings(group, now)));
+                }
+            }
+            if (ownGroup != null) {
+                refreshThings(ownGroup, now);
+            }
+            for (Future<?> groupRefreshTask : groupRefreshTasks) {
+                try {
+                    groupRefreshTask.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    logger.error("refresh encountered exception of {}: {}, please report bug",
+                            cause == null ? null : cause.getClass(), e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
             }
 
             if (!refreshable) {
@@ -206,6 +276,79 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * start a simultaneous temperature conversion on all branches with DS18x20 sensors that are due for a refresh
+     *
+     * The converted branches are added to {@link #convertedBranches}. If starting the conversion fails on a branch,
+     * the sensors on that branch are converted one by one when they are read.
+     *
+     * @param refreshGroups the things that are refreshed in this cycle
+     * @param now current time
+     * @return false if the refresh was interrupted
+     */
+    private boolean convertTemperatures(Collection<List<OwBaseThingHandler>> refreshGroups, long now) {
+        Map<String, SensorId> branches = new HashMap<>();
+        for (List<OwBaseThingHandler> group : refreshGroups) {
+            for (OwBaseThingHandler owHandler : group) {
+                if (owHandler.isRefreshDue(now)) {
+                    owHandler.getSimultaneousTemperatureSensors()
+                            .forEach(sensorId -> branches.putIfAbsent(sensorId.getPath(), sensorId));
+                }
+            }
+        }
+
+        for (Map.Entry<String, SensorId> branch : branches.entrySet()) {
+            OwserverConnection connection = getConnection(branch.getValue());
+            try {
+                synchronized (connection) {
+                    connection.writeDecimalType("/" + branch.getKey() + "simultaneous/temperature",
+                            new DecimalType(1));
+                }
+                convertedBranches.add(branch.getKey());
+            } catch (OwException e) {
+                logger.debug("could not start simultaneous conversion on branch '/{}': {}", branch.getKey(),
+                        e.getMessage());
+            }
+        }
+
+        if (!convertedBranches.isEmpty()) {
+            try {
+                Thread.sleep(TEMPERATURE_CONVERSION_TIME);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * check if the temperature of a sensor was already converted in the current refresh cycle
+     *
+     * @param sensorId the sensor's full ID
+     * @return true if the latest temperature can be read without a new conversion
+     */
+    public boolean isTemperatureConverted(SensorId sensorId) {
+        return convertedBranches.contains(sensorId.getPath());
+    }
+
+    /**
+     * refresh a group of things (that are read via the same connection)
+     *
+     * @param owHandlers the handlers of the things
+     * @param now current time
+     */
+    private void refreshThings(List<OwBaseThingHandler> owHandlers, long now) {
+        for (OwBaseThingHandler owHandler : owHandlers) {
+            if (!refreshable) {
+                logger.trace("refresh aborted, as brige became non-refresheable.");
+                return;
+            }
+            logger.trace("{} initialized, refreshing", owHandler.getThing().getUID());
+            owHandler.refresh(this, now);
+        }
+    }
+
     @Override
     public void dispose() {
         refreshable = false;
@@ -213,6 +356,90 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
             refreshTask.cancel(false);
         }
         owserverConnection.stop();
+
+        List<OwserverConnection> readerConnections = this.readerConnections;
+        this.readerConnections = List.of();
+        branchConnections.clear();
+        readerConnections.forEach(OwserverConnection::stop);
+    }
+
+    // Visible for testing
+    protected OwserverConnection createReaderConnection() {
+        return new OwserverConnection(this::reportReaderConnectionState);
+    }
+
+    private void configureConnection(OwserverConnection connection, Configuration configuration) {
+        if (configuration.get(CONFIG_ADDRESS) != null) {
+            connection.setHost((String) configuration.get(CONFIG_ADDRESS));
+        }
+        if (configuration.get(CONFIG_PORT) != null) {
+            connection.setPort(((BigDecimal) configuration.get(CONFIG_PORT)).intValue());
+        }
+    }
+
+    /**
+     * get the connection for reading a sensor
+     *
+     * Each bus branch is assigned to a reader connection when it is first used. If that connection is not available,
+     * the main connection is used.
+     *
+     * @param sensorId the sensor's full ID
+     * @return the connection
+     */
+    private OwserverConnection getConnection(SensorId sensorId) {
+        List<OwserverConnection> readerConnections = this.readerConnections;
+        if (readerConnections.isEmpty()) {
+            return owserverConnection;
+        }
+        OwserverConnection connection = branchConnections.computeIfAbsent(sensorId.getPath(),
+                path -> readerConnections.get(branchConnections.size() % readerConnections.size()));
+        OwserverConnectionState connectionState = connection.getConnectionState();
+        if (connectionState == OwserverConnectionState.FAILED || connectionState == OwserverConnectionState.STOPPED) {
+            return owserverConnection;
+        }
+        return connection;
+    }
+
+    private void startReaderConnection(OwserverConnection readerConnection) {
+        synchronized (readerConnection) {
+            // the state is checked again, the connection may have been started by a concurrent task
+            OwserverConnectionState connectionState = readerConnection.getConnectionState();
+            if (connectionState == OwserverConnectionState.STOPPED
+                    || connectionState == OwserverConnectionState.FAILED) {
+                readerConnection.start();
+            }
+        }
+    }
+
+    /**
+     * start all reader connections that are not running (never started or failed)
+     *
+     * Starting a connection blocks, so this is done by the scheduler.
+     */
+    private void startReaderConnections() {
+        List<OwserverConnection> readerConnections = this.readerConnections;
+        if (readerConnections.stream().map(OwserverConnection::getConnectionState)
+                .anyMatch(s -> s == OwserverConnectionState.STOPPED || s == OwserverConnectionState.FAILED)) {
+            scheduler.execute(() -> readerConnections.forEach(this::startReaderConnection));
+        }
+    }
+
+    /**
+     * handles state changes of the reader connections (the thing status only depends on the main connection)
+     *
+     * @param connectionState current connection state
+     */
+    private void reportReaderConnectionState(OwserverConnectionState connectionState) {
+        logger.debug("Updating reader connection state to {}", connectionState);
+        if (connectionState == OwserverConnectionState.FAILED) {
+            scheduler.schedule(() -> {
+                for (OwserverConnection readerConnection : readerConnections) {
+                    if (readerConnection.getConnectionState() == OwserverConnectionState.FAILED) {
+                        startReaderConnection(readerConnection);
+                    }
+                }
+            }, RECONNECT_AFTER_FAIL_TIME, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -243,8 +470,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public State checkPresence(SensorId sensorId) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.checkPresence(sensorId.getFullPath());
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.checkPresence(sensorId.getFullPath());
         }
     }
 
@@ -257,9 +485,10 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      */
     public OwSensorType getType(SensorId sensorId) throws OwException {
         OwSensorType sensorType = OwSensorType.UNKNOWN;
-        synchronized (owserverConnection) {
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
             try {
-                sensorType = OwSensorType.valueOf(owserverConnection.readString(sensorId + "/type"));
+                sensorType = OwSensorType.valueOf(connection.readString(sensorId + "/type"));
             } catch (IllegalArgumentException e) {
             }
         }
@@ -274,8 +503,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public OwPageBuffer readPages(SensorId sensorId) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readPages(sensorId.getFullPath());
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readPages(sensorId.getFullPath());
         }
     }
 
@@ -288,8 +518,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public State readDecimalType(SensorId sensorId, OwserverDeviceParameter parameter) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readDecimalType(parameter.getPath(sensorId));
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readDecimalType(parameter.getPath(sensorId));
         }
     }
 
@@ -314,8 +545,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public List<State> readDecimalTypeArray(SensorId sensorId, OwserverDeviceParameter parameter) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readDecimalTypeArray(parameter.getPath(sensorId));
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readDecimalTypeArray(parameter.getPath(sensorId));
         }
     }
 
@@ -328,8 +560,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public String readString(SensorId sensorId, OwserverDeviceParameter parameter) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readString(parameter.getPath(sensorId));
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readString(parameter.getPath(sensorId));
         }
     }
 
@@ -342,8 +575,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      */
     public void writeDecimalType(SensorId sensorId, OwserverDeviceParameter parameter, DecimalType value)
             throws OwException {
-        synchronized (owserverConnection) {
-            owserverConnection.writeDecimalType(parameter.getPath(sensorId), value);
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            connection.writeDecimalType(parameter.getPath(sensorId), value);
         }
     }
 
@@ -388,6 +622,11 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
                 refreshable = false;
                 break;
             case OPENED:
+                refreshable = true;
+                updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE);
+                // (re)start the reader connections, they are not started if the owserver was not reachable before
+                startReaderConnections();
+                break;
             case CLOSED:
                 refreshable = true;
                 updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE);
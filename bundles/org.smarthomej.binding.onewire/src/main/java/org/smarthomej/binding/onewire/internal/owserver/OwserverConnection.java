@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -64,21 +65,30 @@ public class OwserverConnection {
 
     private final Logger logger = LoggerFactory.getLogger(OwserverConnection.class);
 
-    private final OwserverBridgeHandler thingHandlerCallback;
+    private final Consumer<OwserverConnectionState> connectionStateCallback;
     private String owserverAddress = "";
     private int owserverPort = DEFAULT_PORT;
 
     private @Nullable Socket owserverSocket = null;
     private @Nullable DataInputStream owserverInputStream = null;
     private @Nullable DataOutputStream owserverOutputStream = null;
-    private OwserverConnectionState owserverConnectionState = OwserverConnectionState.STOPPED;
+    private volatile OwserverConnectionState owserverConnectionState = OwserverConnectionState.STOPPED;
     private boolean tryingConnectionRecovery = false;
 
     // reset to 0 after successful request
     private int connectionErrorCounter = 0;
 
     public OwserverConnection(OwserverBridgeHandler owBaseBridgeHandler) {
-        this.thingHandlerCallback = owBaseBridgeHandler;
+        this(owBaseBridgeHandler::reportConnectionState);
+    }
+
+    /**
+     * create a connection that reports its state to the given callback
+     *
+     * @param connectionStateCallback called on every change of the {@link OwserverConnectionState}
+     */
+    public OwserverConnection(Consumer<OwserverConnectionState> connectionStateCallback) {
+        this.connectionStateCallback = connectionStateCallback;
     }
 
     /**
@@ -123,12 +133,22 @@ public class OwserverConnection {
     }
 
     /**
-     * stop the owserver connection and report new {@link OwserverConnectionState} to {@link #thingHandlerCallback}.
+     * stop the owserver connection and report new {@link OwserverConnectionState} to
+     * {@link #connectionStateCallback}.
      */
     public void stop() {
         close();
         owserverConnectionState = OwserverConnectionState.STOPPED;
-        thingHandlerCallback.reportConnectionState(owserverConnectionState);
+        connectionStateCallback.accept(owserverConnectionState);
+    }
+
+    /**
+     * get the current state of this connection
+     *
+     * @return the connection state
+     */
+    public OwserverConnectionState getConnectionState() {
+        return owserverConnectionState;
     }
 
     /**
@@ -342,7 +362,7 @@ public class OwserverConnection {
                 owserverOutputStream = new DataOutputStream(owserverSocket.getOutputStream());
 
                 owserverConnectionState = OwserverConnectionState.OPENED;
-                thingHandlerCallback.reportConnectionState(owserverConnectionState);
+                connectionStateCallback.accept(owserverConnectionState);
 
                 logger.debug("OW connection state: opened to {}:{}", owserverAddress, owserverPort);
                 return true;
@@ -399,7 +419,7 @@ public class OwserverConnection {
         this.owserverOutputStream = null;
 
         if (reportConnectionState) {
-            thingHandlerCallback.reportConnectionState(owserverConnectionState);
+            connectionStateCallback.accept(owserverConnectionState);
         }
     }
 
@@ -428,10 +448,10 @@ public class OwserverConnection {
             logger.debug("OW connection state: set to failed as max retries exceeded.");
             owserverConnectionState = OwserverConnectionState.FAILED;
             tryingConnectionRecovery = false;
-            thingHandlerCallback.reportConnectionState(owserverConnectionState);
+            connectionStateCallback.accept(owserverConnectionState);
         } else if (!tryingConnectionRecovery) {
             // as close did not report connections state and we are not trying to recover ...
-            thingHandlerCallback.reportConnectionState(owserverConnectionState);
+            connectionStateCallback.accept(owserverConnectionState);
         }
     }
 
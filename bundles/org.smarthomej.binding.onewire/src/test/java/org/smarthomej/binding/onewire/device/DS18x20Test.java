@@ -31,6 +31,7 @@ import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.smarthomej.binding.onewire.internal.OwException;
 import org.smarthomej.binding.onewire.internal.device.DS18x20;
+import org.smarthomej.binding.onewire.internal.owserver.OwserverDeviceParameter;
 
 /**
  * Tests cases for {@link DS18x20}.
@@ -80,4 +81,21 @@ public class DS18x20Test extends DeviceTestParent<DS18x20> {
         inOrder.verify(mockBridgeHandler, times(1)).readDecimalType(eq(testSensorId), any());
         inOrder.verify(mockThingHandler, times(0)).postUpdate(eq(CHANNEL_TEMPERATURE), any());
     }
+
+    @Test
+    public void temperatureAfterSimultaneousConversionTest() throws OwException {
+        final DS18x20 testDevice = instantiateDevice();
+        final InOrder inOrder = Mockito.inOrder(mockThingHandler, mockBridgeHandler);
+
+        Mockito.when(mockBridgeHandler.isTemperatureConverted(testSensorId)).thenReturn(true);
+        Mockito.when(mockBridgeHandler.readDecimalType(eq(testSensorId), any())).thenReturn(new DecimalType(15.0));
+
+        testDevice.enableChannel(CHANNEL_TEMPERATURE);
+        testDevice.configureChannels();
+        testDevice.refresh(mockBridgeHandler, true);
+
+        inOrder.verify(mockBridgeHandler, times(1)).readDecimalType(eq(testSensorId),
+                eq(new OwserverDeviceParameter("uncached/", "/latesttemp")));
+        inOrder.verify(mockThingHandler).postUpdate(eq(CHANNEL_TEMPERATURE), eq(new QuantityType<>("15.0 °C")));
+    }
 }
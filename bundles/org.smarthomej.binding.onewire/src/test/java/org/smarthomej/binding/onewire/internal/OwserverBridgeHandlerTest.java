@@ -20,7 +20,10 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.smarthomej.binding.onewire.internal.OwBindingConstants.*;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -42,6 +45,7 @@ import org.openhab.core.thing.ThingStatusInfo;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.thing.binding.builder.BridgeBuilder;
 import org.smarthomej.binding.onewire.internal.handler.OwserverBridgeHandler;
+import org.smarthomej.binding.onewire.internal.owserver.OwException;
 import org.smarthomej.binding.onewire.internal.owserver.OwserverConnection;
 import org.smarthomej.binding.onewire.internal.owserver.OwserverConnectionState;
 
@@ -163,4 +167,63 @@ public class OwserverBridgeHandlerTest extends JavaTest {
 
         waitForAssert(() -> assertFalse(bridgeHandler.isRefreshable()));
     }
+
+    @Test
+    public void testSingleConnectionIsUsedByDefault() throws OwException {
+        final OwserverBridgeHandler bridgeHandler = this.bridgeHandler;
+        if (bridgeHandler == null) {
+            fail("bridgeHandler is null");
+            return;
+        }
+
+        bridgeHandler.initialize();
+        bridgeHandler.checkPresence(new SensorId("1F.0123456789ab/main/28.0123456789ab"));
+
+        verify(owserverConnection).checkPresence("/1F.0123456789ab/main/28.0123456789ab");
+    }
+
+    @Test
+    public void testBranchesAreAssignedToReaderConnections() throws OwException {
+        final Bridge bridge = this.bridge;
+        final OwserverBridgeHandler defaultBridgeHandler = this.bridgeHandler;
+        if (bridge == null || defaultBridgeHandler == null) {
+            fail("bridge or bridgeHandler is null");
+            return;
+        }
+        defaultBridgeHandler.dispose();
+        bridge.getConfiguration().put(CONFIG_CONNECTIONS, new BigDecimal(3));
+
+        List<OwserverConnection> readerConnections = new ArrayList<>();
+        OwserverBridgeHandler bridgeHandler = new OwserverBridgeHandler(bridge, owserverConnection) {
+            @Override
+            protected OwserverConnection createReaderConnection() {
+                OwserverConnection readerConnection = mock(OwserverConnection.class);
+                when(readerConnection.getConnectionState()).thenReturn(OwserverConnectionState.OPENED);
+                readerConnections.add(readerConnection);
+                return readerConnection;
+            }
+        };
+        bridgeHandler.getThing().setHandler(bridgeHandler);
+        bridgeHandler.setCallback(thingHandlerCallback);
+        this.bridgeHandler = bridgeHandler;
+        bridgeHandler.initialize();
+        assertEquals(2, readerConnections.size());
+
+        // each new branch is assigned to the next reader connection, sensors on the same branch share the connection
+        bridgeHandler.checkPresence(new SensorId("1F.0123456789ab/main/28.0123456789ab"));
+        bridgeHandler.checkPresence(new SensorId("1F.0123456789ab/aux/28.0123456789ac"));
+        bridgeHandler.checkPresence(new SensorId("1F.0123456789ab/main/28.0123456789ad"));
+        bridgeHandler.checkPresence(new SensorId("28.0123456789ae"));
+
+        verify(readerConnections.get(0)).checkPresence("/1F.0123456789ab/main/28.0123456789ab");
+        verify(readerConnections.get(1)).checkPresence("/1F.0123456789ab/aux/28.0123456789ac");
+        verify(readerConnections.get(0)).checkPresence("/1F.0123456789ab/main/28.0123456789ad");
+        verify(readerConnections.get(0)).checkPresence("/28.0123456789ae");
+        verify(owserverConnection, never()).checkPresence(anyString());
+
+        // the main connection is used while the assigned reader connection is not available
+        when(readerConnections.get(1).getConnectionState()).thenReturn(OwserverConnectionState.FAILED);
+        bridgeHandler.checkPresence(new SensorId("1F.0123456789ab/aux/28.0123456789ac"));
+        verify(owserverConnection).checkPresence("/1F.0123456789ab/aux/28.0123456789ac");
+    }
 }
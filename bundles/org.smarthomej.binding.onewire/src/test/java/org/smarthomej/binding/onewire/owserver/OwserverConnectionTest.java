@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -117,6 +118,25 @@ public class OwserverConnectionTest extends JavaTest {
         Mockito.verify(bridgeHandler, timeout(100)).reportConnectionState(OwserverConnectionState.FAILED);
     }
 
+    @Test
+    public void connectionStateReportedToCallback() throws OwException {
+        List<OwserverConnectionState> reportedStates = new ArrayList<>();
+        OwserverConnection readerConnection = new OwserverConnection(reportedStates::add);
+        readerConnection.setHost(TEST_HOST);
+        readerConnection.setPort(testPort);
+
+        assertEquals(OwserverConnectionState.STOPPED, readerConnection.getConnectionState());
+        readerConnection.start();
+        assertEquals(OwserverConnectionState.OPENED, readerConnection.getConnectionState());
+
+        assertEquals(17.4, ((DecimalType) readerConnection.readDecimalType("testsensor/decimal")).doubleValue(), 0.01);
+        readerConnection.stop();
+
+        assertEquals(OwserverConnectionState.OPENED, reportedStates.get(0));
+        assertEquals(OwserverConnectionState.STOPPED, reportedStates.get(reportedStates.size() - 1));
+        Mockito.verifyNoInteractions(bridgeHandler);
+    }
+
     @Test
     public void testGetDirectory() throws OwException {
         final OwserverConnection owserverConnection = this.owserverConnection;
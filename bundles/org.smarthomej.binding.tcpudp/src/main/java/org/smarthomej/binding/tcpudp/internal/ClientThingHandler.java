@@ -12,7 +12,7 @@
  */
 package org.smarthomej.binding.tcpudp.internal;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -20,12 +20,17 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.Socket;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -44,6 +49,8 @@ import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.tcpudp.internal.client.FrameReader;
+import org.smarthomej.binding.tcpudp.internal.client.TcpClientConnection;
 import org.smarthomej.binding.tcpudp.internal.config.ClientConfiguration;
 import org.smarthomej.binding.tcpudp.internal.config.TcpUdpChannelConfig;
 import org.smarthomej.commons.SimpleDynamicStateDescriptionProvider;
@@ -68,6 +75,8 @@ public class ClientThingHandler extends BaseThingHandler {
     private Function<String, Optional<ContentWrapper>> doSyncRequest = this::doTcpSyncRequest;
     private ItemValueConverterFactory itemValueConverterFactory;
     private @Nullable ScheduledFuture<?> refreshJob = null;
+    private @Nullable TcpClientConnection tcpClientConnection = null;
+    private @Nullable FrameReader frameReader = null;
 
     protected ClientConfiguration config = new ClientConfiguration();
 
@@ -123,9 +132,26 @@ public class ClientThingHandler extends BaseThingHandler {
             itemValueConverterFactory.setSendValue(this::doUdpAsyncSend);
             logger.debug("Configured '{}' for UDP connections.", thing.getUID());
         } else if (config.protocol == ClientConfiguration.Protocol.TCP) {
-            doSyncRequest = this::doTcpSyncRequest;
-            itemValueConverterFactory.setSendValue(this::doTcpAsyncSend);
-            logger.debug("Configured '{}' for TCP connections.", thing.getUID());
+            FrameReader frameReader;
+            try {
+                frameReader = new FrameReader(config.framing, config.frameDelimiter, config.frameLength,
+                        config.bufferSize, getCharset());
+            } catch (IllegalArgumentException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+                return;
+            }
+            this.frameReader = frameReader;
+            if (config.persistentConnection) {
+                tcpClientConnection = new TcpClientConnection(config.host, config.port, config.timeout, frameReader,
+                        config.commandResponse);
+                doSyncRequest = this::doPersistentTcpSyncRequest;
+                itemValueConverterFactory.setSendValue(this::doPersistentTcpAsyncSend);
+                logger.debug("Configured '{}' for persistent TCP connections.", thing.getUID());
+            } else {
+                doSyncRequest = this::doTcpSyncRequest;
+                itemValueConverterFactory.setSendValue(this::doTcpAsyncSend);
+                logger.debug("Configured '{}' for TCP connections.", thing.getUID());
+            }
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                     "Protocol for connection not set!");
@@ -140,8 +166,7 @@ public class ClientThingHandler extends BaseThingHandler {
         }
 
         stopRefresh();
-        refreshJob = scheduler.scheduleWithFixedDelay(() -> readCommands.forEach(this::refreshChannel), 0,
-                config.refresh, TimeUnit.SECONDS);
+        refreshJob = scheduler.scheduleWithFixedDelay(this::refreshChannels, 0, config.refresh, TimeUnit.SECONDS);
 
         updateStatus(ThingStatus.UNKNOWN);
     }
@@ -157,6 +182,12 @@ public class ClientThingHandler extends BaseThingHandler {
     public void dispose() {
         stopRefresh();
 
+        TcpClientConnection tcpClientConnection = this.tcpClientConnection;
+        if (tcpClientConnection != null) {
+            tcpClientConnection.close();
+            this.tcpClientConnection = null;
+        }
+
         channels.clear();
         readCommands.clear();
 
@@ -166,6 +197,60 @@ public class ClientThingHandler extends BaseThingHandler {
         super.dispose();
     }
 
+    private void refreshChannels() {
+        TcpClientConnection tcpClientConnection = this.tcpClientConnection;
+        if (tcpClientConnection == null) {
+            readCommands.forEach(this::refreshChannel);
+            return;
+        }
+
+        // send the requests for all channels in one batch
+        List<ChannelUID> channelUIDs = new ArrayList<>(readCommands.size());
+        List<byte[]> requests = new ArrayList<>(readCommands.size());
+        readCommands.forEach((channelUID, stateContent) -> {
+            channelUIDs.add(channelUID);
+            requests.add(stateContent.getBytes(getCharset()));
+        });
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<byte[]>> responses;
+        try {
+            responses = tcpClientConnection.request(requests);
+        } catch (IOException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+            logger.debug("Failed to refresh channels in thing '{}': {}", thing.getUID(), e.getMessage());
+            return;
+        }
+
+        // each channel is updated independently, a missing response only affects its own channel
+        for (int i = 0; i < channelUIDs.size(); i++) {
+            ChannelUID channelUID = channelUIDs.get(i);
+            responses.get(i).thenAccept(response -> processResponse(channelUID, response)).exceptionally(e -> {
+                logger.debug("Failed to refresh channel '{}': {}", channelUID, e.getMessage());
+                return null;
+            });
+        }
+
+        if (responses.stream().allMatch(CompletableFuture::isCompletedExceptionally)) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "No response received");
+        } else {
+            updateStatus(ThingStatus.ONLINE);
+        }
+    }
+
+    private void processResponse(ChannelUID channelUID, byte[] response) {
+        ItemValueConverter itemValueConverter = channels.get(channelUID);
+        if (itemValueConverter != null) {
+            try {
+                itemValueConverter.process(new ContentWrapper(response, getEncoding(), null));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                logger.warn("Failed processing result for channel {}: {}", channelUID, e.getMessage());
+            }
+        }
+    }
+
     private void refreshChannel(ChannelUID channelUID, String stateContent) {
         logger.trace("Refreshing '{}' with command '{}'", channelUID, stateContent);
         ItemValueConverter itemValueConverter = channels.get(channelUID);
@@ -216,6 +301,52 @@ public class ClientThingHandler extends BaseThingHandler {
         return Objects.requireNonNullElse(config.encoding, StandardCharsets.UTF_8.name());
     }
 
+    private Charset getCharset() {
+        try {
+            return Charset.forName(getEncoding());
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    protected void doPersistentTcpAsyncSend(String command) {
+        scheduler.execute(() -> {
+            TcpClientConnection tcpClientConnection = this.tcpClientConnection;
+            if (tcpClientConnection == null) {
+                return;
+            }
+            try {
+                tcpClientConnection.send(command.getBytes(getCharset()));
+                updateStatus(ThingStatus.ONLINE);
+            } catch (IOException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+                logger.debug("Failed sending '{}' in thing '{}': {}", command, thing.getUID(), e.getMessage());
+            }
+        });
+    }
+
+    protected Optional<ContentWrapper> doPersistentTcpSyncRequest(String request) {
+        TcpClientConnection tcpClientConnection = this.tcpClientConnection;
+        if (tcpClientConnection == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] response = tcpClientConnection.request(List.of(request.getBytes(getCharset()))).get(0).join();
+            updateStatus(ThingStatus.ONLINE);
+            return Optional.of(new ContentWrapper(response, getEncoding(), null));
+        } catch (IOException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+            logger.debug("Failed to request '{}' in thing '{}': {}", request, thing.getUID(), e.getMessage());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            String message = cause != null ? cause.getMessage() : e.getMessage();
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, message);
+            logger.debug("Failed to request '{}' in thing '{}': {}", request, thing.getUID(), message);
+        }
+
+        return Optional.empty();
+    }
+
     protected void doTcpAsyncSend(String command) {
         scheduler.execute(() -> {
             try (Socket socket = new Socket(config.host, config.port); OutputStream out = socket.getOutputStream()) {
@@ -232,25 +363,18 @@ public class ClientThingHandler extends BaseThingHandler {
     }
 
     protected Optional<ContentWrapper> doTcpSyncRequest(String request) {
+        FrameReader frameReader = this.frameReader;
+        if (frameReader == null) {
+            return Optional.empty();
+        }
         try (Socket socket = new Socket(config.host, config.port);
                 OutputStream out = socket.getOutputStream();
-                InputStream in = socket.getInputStream();
-                ByteArrayOutputStream outputByteArrayStream = new ByteArrayOutputStream()) {
+                InputStream in = new BufferedInputStream(socket.getInputStream())) {
             socket.setSoTimeout(config.timeout);
             out.write(request.getBytes(getEncoding()));
             out.flush();
-            byte[] buffer = new byte[config.bufferSize];
-            int len;
-
-            do {
-                len = in.read(buffer);
-                if (len != -1) {
-                    outputByteArrayStream.write(buffer, 0, len);
-                }
-            } while (len == config.bufferSize);
-            outputByteArrayStream.flush();
 
-            ContentWrapper contentWrapper = new ContentWrapper(outputByteArrayStream.toByteArray(),
+            ContentWrapper contentWrapper = new ContentWrapper(frameReader.readFrame(in),
                     Objects.requireNonNullElse(config.encoding, StandardCharsets.UTF_8.name()), null);
 
             updateStatus(ThingStatus.ONLINE);
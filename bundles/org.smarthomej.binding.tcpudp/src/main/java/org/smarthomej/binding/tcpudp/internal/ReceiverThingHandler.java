@@ -12,22 +12,31 @@
  */
 package org.smarthomej.binding.tcpudp.internal;
 
+import static org.smarthomej.binding.tcpudp.internal.TcpUdpBindingConstants.*;
+
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.type.ChannelTypeUID;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
@@ -36,7 +45,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.tcpudp.internal.config.ReceiverConfiguration;
 import org.smarthomej.binding.tcpudp.internal.config.TcpUdpChannelConfig;
+import org.smarthomej.binding.tcpudp.internal.receiver.FrameDecoder;
 import org.smarthomej.binding.tcpudp.internal.receiver.Receiver;
+import org.smarthomej.binding.tcpudp.internal.receiver.SenderStatistics;
 import org.smarthomej.binding.tcpudp.internal.receiver.TcpReceiver;
 import org.smarthomej.binding.tcpudp.internal.receiver.UdpReceiver;
 import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
@@ -50,13 +61,21 @@ import org.smarthomej.commons.transform.ValueTransformationProvider;
  */
 @NonNullByDefault
 public class ReceiverThingHandler extends BaseThingHandler implements Receiver.ReceiverListener {
+    private static final Set<ChannelTypeUID> STATISTICS_CHANNEL_TYPE_UIDS = Set.of(
+            CHANNEL_TYPE_UID_RECEIVER_PACKET_RATE, CHANNEL_TYPE_UID_RECEIVER_DROPPED_PACKETS,
+            CHANNEL_TYPE_UID_RECEIVER_QUEUE_DEPTH);
+    private static final int STATISTICS_INTERVAL = 10;
+
     private final Logger logger = LoggerFactory.getLogger(ReceiverThingHandler.class);
 
     private final ItemValueConverterFactory itemValueConverterFactory;
     private final Set<ContentListener> contentListeners = new HashSet<>();
     private final Map<ChannelUID, State> stateCache = new ConcurrentHashMap<>();
+    private final Map<ChannelUID, StatisticsChannel> statisticsChannels = new HashMap<>();
+    private final Map<String, Long> lastReceivedCount = new HashMap<>();
 
     private @Nullable Future<?> refreshJob;
+    private @Nullable ScheduledFuture<?> statisticsJob;
     private @Nullable Receiver receiver;
 
     protected ReceiverConfiguration config = new ReceiverConfiguration();
@@ -91,10 +110,19 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
         // set methods depending on thing-type
         if (config.protocol == ReceiverConfiguration.Protocol.UDP) {
             logger.debug("Configured '{}' for UDP connections.", thing.getUID());
-            receiver = new UdpReceiver(this, config.localAddress, config.port, config.bufferSize);
+            receiver = new UdpReceiver(this, config.localAddress, config.port, config.bufferSize, config.queueSize,
+                    scheduler);
         } else if (config.protocol == ReceiverConfiguration.Protocol.TCP) {
             logger.debug("Configured '{}' for TCP connections.", thing.getUID());
-            receiver = new TcpReceiver(this, config.localAddress, config.port, config.bufferSize);
+            try {
+                FrameDecoder frameDecoder = new FrameDecoder(config.framing, config.frameDelimiter, config.frameLength,
+                        config.bufferSize, getCharset());
+                receiver = new TcpReceiver(this, config.localAddress, config.port, frameDecoder, config.maxConnections,
+                        config.idleTimeout * 1000L);
+            } catch (IllegalArgumentException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+                return;
+            }
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                     "Protocol for connection not set!");
@@ -103,12 +131,18 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
 
         thing.getChannels().forEach(channel -> {
             TcpUdpChannelConfig channelConfig = channel.getConfiguration().as(TcpUdpChannelConfig.class);
+            ChannelTypeUID channelTypeUID = channel.getChannelTypeUID();
+            if (channelTypeUID != null && STATISTICS_CHANNEL_TYPE_UIDS.contains(channelTypeUID)) {
+                statisticsChannels.put(channel.getUID(),
+                        new StatisticsChannel(channelTypeUID, channelConfig.addressFilter));
+                return;
+            }
             itemValueConverterFactory.create(channel.getUID(), channel.getAcceptedItemType(), channelConfig)
                     .ifPresent(itemValueConverter -> contentListeners
                             .add(new ContentListener(itemValueConverter, channelConfig.addressFilter)));
         });
 
-        if (contentListeners.isEmpty()) {
+        if (contentListeners.isEmpty() && statisticsChannels.isEmpty()) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "No channels defined.");
             return;
         }
@@ -117,6 +151,11 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
 
         this.receiver = receiver;
         this.refreshJob = scheduler.submit(receiver);
+
+        if (!statisticsChannels.isEmpty()) {
+            statisticsJob = scheduler.scheduleWithFixedDelay(this::updateStatistics, STATISTICS_INTERVAL,
+                    STATISTICS_INTERVAL, TimeUnit.SECONDS);
+        }
     }
 
     @Override
@@ -135,7 +174,14 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
         if (refreshJob != null) {
             refreshJob.cancel(true);
         }
+        ScheduledFuture<?> statisticsJob = this.statisticsJob;
+        if (statisticsJob != null) {
+            statisticsJob.cancel(true);
+            this.statisticsJob = null;
+        }
         contentListeners.clear();
+        statisticsChannels.clear();
+        lastReceivedCount.clear();
         stateCache.clear();
         super.dispose();
     }
@@ -144,6 +190,14 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
         return Objects.requireNonNullElse(config.encoding, StandardCharsets.UTF_8.name());
     }
 
+    private Charset getCharset() {
+        try {
+            return Charset.forName(getEncoding());
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
     @Override
     public void onReceive(String sender, byte[] content) {
         ContentWrapper contentWrapper = new ContentWrapper(content, getEncoding(), null);
@@ -152,6 +206,41 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
                 .forEach(listener -> listener.itemValueConverter.process(contentWrapper));
     }
 
+    private void updateStatistics() {
+        Receiver receiver = this.receiver;
+        if (receiver == null) {
+            return;
+        }
+        Collection<SenderStatistics> senderStatistics = receiver.getSenderStatistics();
+
+        // packet rate per sender since the last update
+        Map<String, Double> packetRates = new HashMap<>();
+        for (SenderStatistics statistics : senderStatistics) {
+            long received = statistics.getReceived();
+            Long lastReceived = lastReceivedCount.put(statistics.getSender(), received);
+            long count = lastReceived == null ? 0 : Math.max(0, received - lastReceived);
+            packetRates.put(statistics.getSender(), (double) count / STATISTICS_INTERVAL);
+        }
+        lastReceivedCount.keySet().retainAll(packetRates.keySet());
+
+        statisticsChannels.forEach((channelUID, statisticsChannel) -> {
+            double value = 0;
+            for (SenderStatistics statistics : senderStatistics) {
+                if (!statisticsChannel.addressFilter.matcher(statistics.getSender()).matches()) {
+                    continue;
+                }
+                if (CHANNEL_TYPE_UID_RECEIVER_PACKET_RATE.equals(statisticsChannel.channelTypeUID)) {
+                    value += packetRates.getOrDefault(statistics.getSender(), 0.0);
+                } else if (CHANNEL_TYPE_UID_RECEIVER_DROPPED_PACKETS.equals(statisticsChannel.channelTypeUID)) {
+                    value += statistics.getDropped();
+                } else {
+                    value += statistics.getQueued();
+                }
+            }
+            updateState(channelUID, new DecimalType(value));
+        });
+    }
+
     @Override
     public void reportConnectionState(boolean state, @Nullable String message) {
         if (state) {
@@ -161,6 +250,29 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
         }
     }
 
+    /**
+     * The {@link StatisticsChannel} is a class that groups the type of a statistics channel and its address filter
+     */
+    private static class StatisticsChannel {
+        private final ChannelTypeUID channelTypeUID;
+        private final Pattern addressFilter;
+
+        public StatisticsChannel(ChannelTypeUID channelTypeUID, String addressFilter) {
+            this.channelTypeUID = channelTypeUID;
+            this.addressFilter = toPattern(addressFilter);
+        }
+    }
+
+    /**
+     * convert an address filter to regex, using only * as wildcard
+     *
+     * @param addressFilter the address filter
+     * @return the compiled pattern
+     */
+    private static Pattern toPattern(String addressFilter) {
+        return Pattern.compile(Pattern.quote(addressFilter).replace("*", "\\E.*?\\Q"));
+    }
+
     /**
      * The {@link ContentListener} is a class that groups an {@link ItemValueConverter} and an associated address filter
      */
@@ -170,8 +282,7 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
 
         public ContentListener(ItemValueConverter itemValueConverter, String addressFilter) {
             this.itemValueConverter = itemValueConverter;
-            // convert input pattern to regex, using only * as wildcard
-            this.addressFilter = Pattern.compile(Pattern.quote(addressFilter).replace("*", "\\E.*?\\Q"));
+            this.addressFilter = toPattern(addressFilter);
         }
     }
 }
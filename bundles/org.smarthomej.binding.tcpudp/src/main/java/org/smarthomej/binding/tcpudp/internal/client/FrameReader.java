@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.tcpudp.internal.config.Framing;
+
+/**
+ * The {@link FrameReader} reads a single response from a TCP stream according to the configured {@link Framing}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class FrameReader {
+    private final Framing framing;
+    private final byte[] delimiter;
+    private final int frameLength;
+    private final int bufferSize;
+
+    /**
+     * create a new frame reader
+     *
+     * @param framing the framing mode
+     * @param delimiter the delimiter (only used for {@link Framing#DELIMITER}), supports \r, \n, \t and \0 escapes
+     * @param frameLength the message length for {@link Framing#FIXED_LENGTH} or the size of the length field for
+     *            {@link Framing#LENGTH_PREFIX}
+     * @param bufferSize the read buffer size and maximum message size
+     * @param encoding the encoding used for converting the delimiter
+     * @throws IllegalArgumentException if the configuration is invalid
+     */
+    public FrameReader(Framing framing, String delimiter, int frameLength, int bufferSize, Charset encoding) {
+        this.framing = framing;
+        this.delimiter = Framing.getDelimiterBytes(delimiter, encoding);
+        this.frameLength = frameLength;
+        this.bufferSize = bufferSize;
+
+        framing.validate(this.delimiter, frameLength, bufferSize);
+    }
+
+    /**
+     * check if responses can be separated in a stream (i.e. several requests can be sent before reading responses)
+     *
+     * @return true if the framing allows pipelining
+     */
+    public boolean supportsPipelining() {
+        return framing != Framing.NONE;
+    }
+
+    /**
+     * read a single message from the stream (delimiters or length fields are removed)
+     *
+     * @param in the stream, should be buffered for {@link Framing#DELIMITER}
+     * @return the message
+     * @throws IOException if reading failed, the stream ended or the message exceeded the buffer size
+     */
+    public byte[] readFrame(InputStream in) throws IOException {
+        switch (framing) {
+            case DELIMITER:
+                return readDelimitedFrame(in);
+            case FIXED_LENGTH:
+                return readFully(in, frameLength);
+            case LENGTH_PREFIX:
+                byte[] lengthField = readFully(in, frameLength);
+                long length = 0;
+                for (byte b : lengthField) {
+                    length = (length << 8) | (b & 0xff);
+                }
+                if (length > bufferSize) {
+                    throw new IOException("Message length " + length + " exceeds buffer size " + bufferSize);
+                }
+                return readFully(in, (int) length);
+            case NONE:
+            default:
+                return readUnframed(in);
+        }
+    }
+
+    private byte[] readUnframed(InputStream in) throws IOException {
+        ByteArrayOutputStream outputByteArrayStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[bufferSize];
+        int len;
+
+        do {
+            len = in.read(buffer);
+            if (len != -1) {
+                outputByteArrayStream.write(buffer, 0, len);
+            }
+        } while (len == bufferSize);
+
+        return outputByteArrayStream.toByteArray();
+    }
+
+    private byte[] readDelimitedFrame(InputStream in) throws IOException {
+        byte[] buffer = new byte[Math.min(bufferSize, 256)];
+        int length = 0;
+        int lastByte = delimiter[delimiter.length - 1];
+
+        while (true) {
+            int b = in.read();
+            if (b == -1) {
+                throw new EOFException("Stream closed before delimiter was received");
+            }
+            if (length == buffer.length) {
+                if (length >= bufferSize + delimiter.length) {
+                    throw new IOException("Message exceeds buffer size " + bufferSize);
+                }
+                buffer = Arrays.copyOf(buffer, Math.min(length * 2, bufferSize + delimiter.length));
+            }
+            buffer[length++] = (byte) b;
+            if ((byte) b == lastByte && length >= delimiter.length && Arrays.equals(buffer,
+                    length - delimiter.length, length, delimiter, 0, delimiter.length)) {
+                return Arrays.copyOf(buffer, length - delimiter.length);
+            }
+        }
+    }
+
+    private byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] data = in.readNBytes(length);
+        if (data.length != length) {
+            throw new EOFException("Stream closed after " + data.length + " of " + length + " bytes");
+        }
+        return data;
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.client;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TcpClientConnection} is a persistent TCP connection to a remote host
+ *
+ * The connection is established on first use and re-established after failures. Reconnects are delayed with an
+ * exponential backoff. If the {@link FrameReader} supports it, several requests are pipelined. If the remote host
+ * answers commands, the response is read right after the command is sent, so it is never mistaken for the response to
+ * a request.
+ *
+ * A missing response only fails the requests that are affected, the connection is kept. Data that is received later
+ * is discarded before the next request is sent. The connection is only closed on framing or IO errors.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TcpClientConnection {
+    private static final long INITIAL_BACKOFF = 1000; // in ms
+    private static final long MAX_BACKOFF = 60000; // in ms
+
+    private final Logger logger = LoggerFactory.getLogger(TcpClientConnection.class);
+
+    private final String host;
+    private final int port;
+    private final int timeout;
+    private final FrameReader frameReader;
+    private final boolean commandResponse;
+
+    private @Nullable Socket socket;
+    private @Nullable InputStream in;
+    private @Nullable OutputStream out;
+
+    private long backoff = 0;
+    private long nextConnectTime = 0;
+
+    /**
+     * create a new connection
+     *
+     * @param host the remote host
+     * @param port the remote port
+     * @param timeout the connect and read timeout (in ms)
+     * @param frameReader the reader for responses
+     * @param commandResponse true if the remote host sends a response to commands
+     */
+    public TcpClientConnection(String host, int port, int timeout, FrameReader frameReader, boolean commandResponse) {
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+        this.frameReader = frameReader;
+        this.commandResponse = commandResponse;
+    }
+
+    /**
+     * send a list of requests and read the responses
+     *
+     * Each future is completed with the response to its request or fails if the response was not received. If a
+     * pipelined response is not received within the timeout, the responses to the following requests are missing, too
+     * (the remote host answers in order).
+     *
+     * @param requests the requests
+     * @return a list of futures for the responses in the same order as the requests
+     * @throws IOException if the connection failed or is delayed due to a previous failure (no request was sent)
+     */
+    public synchronized List<CompletableFuture<byte[]>> request(List<byte[]> requests) throws IOException {
+        checkBackoff();
+        boolean pipelining = frameReader.supportsPipelining();
+        InputStream in;
+        OutputStream out;
+        try {
+            connect();
+            in = this.in;
+            out = this.out;
+            if (in == null || out == null) {
+                throw new IOException("Connection not available");
+            }
+            discardLateData(in);
+            if (pipelining) {
+                for (byte[] request : requests) {
+                    out.write(request);
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            disconnect(true);
+            throw e;
+        }
+
+        List<CompletableFuture<byte[]>> responses = new ArrayList<>(requests.size());
+        requests.forEach(request -> responses.add(new CompletableFuture<>()));
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                if (!pipelining) {
+                    out.write(requests.get(i));
+                    out.flush();
+                }
+                if (!readResponse(in, responses.get(i)) && pipelining) {
+                    SocketTimeoutException e = new SocketTimeoutException("Response to a previous request is missing");
+                    responses.forEach(response -> response.completeExceptionally(e));
+                    break;
+                }
+            }
+            backoff = 0;
+        } catch (IOException e) {
+            // the stream is out of sync after framing or IO errors
+            disconnect(true);
+            responses.forEach(response -> response.completeExceptionally(e));
+        }
+        return responses;
+    }
+
+    /**
+     * send a command (the response is read and discarded if the remote host answers commands)
+     *
+     * @param data the data
+     * @throws IOException if the connection failed or is delayed due to a previous failure
+     */
+    public synchronized void send(byte[] data) throws IOException {
+        checkBackoff();
+        try {
+            connect();
+            InputStream in = this.in;
+            OutputStream out = this.out;
+            if (in == null || out == null) {
+                throw new IOException("Connection not available");
+            }
+            discardLateData(in);
+            out.write(data);
+            out.flush();
+            if (commandResponse) {
+                try {
+                    byte[] response = frameReader.readFrame(in);
+                    logger.trace("Discarding {} bytes command response from {}:{}", response.length, host, port);
+                } catch (SocketTimeoutException e) {
+                    logger.debug("No response to command received from {}:{}: {}", host, port, e.getMessage());
+                }
+            }
+            backoff = 0;
+        } catch (IOException e) {
+            disconnect(true);
+            throw e;
+        }
+    }
+
+    /**
+     * close the connection
+     */
+    public synchronized void close() {
+        disconnect(false);
+    }
+
+    /**
+     * read the response to a request
+     *
+     * @param in the stream
+     * @param response the future for the response
+     * @return true if the response was received, false if it was not received within the timeout
+     * @throws IOException if a framing or IO error occurred
+     */
+    private boolean readResponse(InputStream in, CompletableFuture<byte[]> response) throws IOException {
+        try {
+            response.complete(frameReader.readFrame(in));
+            return true;
+        } catch (SocketTimeoutException e) {
+            response.completeExceptionally(e);
+            return false;
+        }
+    }
+
+    /**
+     * discard data that was received after a timeout (it would be mistaken for the response to the next request)
+     *
+     * @param in the stream
+     * @throws IOException if reading failed
+     */
+    private void discardLateData(InputStream in) throws IOException {
+        long discarded = 0;
+        int available;
+        while ((available = in.available()) > 0) {
+            discarded += in.skip(available);
+        }
+        if (discarded > 0) {
+            logger.debug("Discarded {} bytes of late responses from {}:{}", discarded, host, port);
+        }
+    }
+
+    private void checkBackoff() throws IOException {
+        long delay = nextConnectTime - System.currentTimeMillis();
+        if (socket == null && delay > 0) {
+            throw new IOException("Reconnect to " + host + ":" + port + " delayed for " + delay + " ms");
+        }
+    }
+
+    private void connect() throws IOException {
+        Socket socket = this.socket;
+        if (socket != null && !socket.isClosed()) {
+            return;
+        }
+
+        socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), timeout);
+            socket.setSoTimeout(timeout);
+            socket.setKeepAlive(true);
+            socket.setTcpNoDelay(true);
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = socket.getOutputStream();
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        this.socket = socket;
+        logger.debug("Connected to {}:{}", host, port);
+    }
+
+    private void disconnect(boolean failed) {
+        Socket socket = this.socket;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close connection to {}:{}: {}", host, port, e.getMessage());
+            }
+        }
+        this.socket = null;
+        this.in = null;
+        this.out = null;
+
+        if (failed) {
+            backoff = backoff == 0 ? INITIAL_BACKOFF : Math.min(backoff * 2, MAX_BACKOFF);
+            nextConnectTime = System.currentTimeMillis() + backoff;
+        }
+    }
+}
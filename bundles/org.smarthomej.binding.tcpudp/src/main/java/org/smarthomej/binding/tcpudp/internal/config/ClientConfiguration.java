@@ -34,6 +34,12 @@ public class ClientConfiguration {
 
     public @Nullable String encoding = null;
 
+    public boolean persistentConnection = false;
+    public boolean commandResponse = false;
+    public Framing framing = Framing.NONE;
+    public String frameDelimiter = "\\n";
+    public int frameLength = 0;
+
     public enum Protocol {
         UDP,
         TCP
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.config;
+
+import java.nio.charset.Charset;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link Framing} defines how messages are separated in a TCP stream
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public enum Framing {
+    /**
+     * read until less data than the buffer size is received
+     */
+    NONE,
+    /**
+     * messages are terminated by a delimiter
+     */
+    DELIMITER,
+    /**
+     * all messages have the same length
+     */
+    FIXED_LENGTH,
+    /**
+     * messages are prefixed by their length (big endian)
+     */
+    LENGTH_PREFIX;
+
+    /**
+     * check the framing parameters
+     *
+     * @param delimiter the delimiter (as byte array)
+     * @param frameLength the message length or size of the length field
+     * @param bufferSize the buffer size
+     * @throws IllegalArgumentException if the parameters are not valid for this framing
+     */
+    public void validate(byte[] delimiter, int frameLength, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        if (this == DELIMITER && delimiter.length == 0) {
+            throw new IllegalArgumentException("frameDelimiter must not be empty");
+        } else if (this == FIXED_LENGTH && (frameLength <= 0 || frameLength > bufferSize)) {
+            throw new IllegalArgumentException("frameLength must be between 1 and bufferSize");
+        } else if (this == LENGTH_PREFIX && frameLength != 1 && frameLength != 2 && frameLength != 4) {
+            throw new IllegalArgumentException("frameLength must be 1, 2 or 4 for length prefixed messages");
+        }
+    }
+
+    /**
+     * convert the configured delimiter to a byte array
+     *
+     * @param delimiter the delimiter, supports \r, \n, \t and \0 escapes
+     * @param encoding the encoding
+     * @return the delimiter bytes
+     */
+    public static byte[] getDelimiterBytes(String delimiter, Charset encoding) {
+        return delimiter.replace("\\r", "\r").replace("\\n", "\n").replace("\\t", "\t").replace("\\0", "\0")
+                .getBytes(encoding);
+    }
+}
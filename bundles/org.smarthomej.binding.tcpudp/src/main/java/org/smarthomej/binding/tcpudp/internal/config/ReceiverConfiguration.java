@@ -31,6 +31,15 @@ public class ReceiverConfiguration {
 
     public @Nullable String encoding = null;
 
+    public int queueSize = 64;
+
+    public Framing framing = Framing.NONE;
+    public String frameDelimiter = "\\n";
+    public int frameLength = 0;
+
+    public int maxConnections = 32;
+    public int idleTimeout = 300;
+
     public enum Protocol {
         UDP,
         TCP
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.receiver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.tcpudp.internal.config.Framing;
+
+/**
+ * The {@link FrameDecoder} extracts messages from a {@link ByteBuffer} according to the configured {@link Framing}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class FrameDecoder {
+    private final Framing framing;
+    private final byte[] delimiter;
+    private final int frameLength;
+    private final int bufferSize;
+
+    /**
+     * create a new frame decoder
+     *
+     * @param framing the framing mode ({@link Framing#NONE} delivers the data of each read as message)
+     * @param delimiter the delimiter (only used for {@link Framing#DELIMITER})
+     * @param frameLength the message length for {@link Framing#FIXED_LENGTH} or the size of the length field for
+     *            {@link Framing#LENGTH_PREFIX}
+     * @param bufferSize the buffer size and maximum message size
+     * @param encoding the encoding used for converting the delimiter
+     * @throws IllegalArgumentException if the configuration is invalid
+     */
+    public FrameDecoder(Framing framing, String delimiter, int frameLength, int bufferSize, Charset encoding) {
+        this.framing = framing;
+        this.delimiter = Framing.getDelimiterBytes(delimiter, encoding);
+        this.frameLength = frameLength;
+        this.bufferSize = bufferSize;
+
+        framing.validate(this.delimiter, frameLength, bufferSize);
+    }
+
+    /**
+     * get the required buffer size for a connection
+     *
+     * @return the buffer size in bytes
+     */
+    public int getBufferSize() {
+        switch (framing) {
+            case DELIMITER:
+                return bufferSize + delimiter.length;
+            case LENGTH_PREFIX:
+                return bufferSize + frameLength;
+            default:
+                return bufferSize;
+        }
+    }
+
+    /**
+     * extract all complete messages from the buffer
+     *
+     * The buffer needs to be in read mode (flipped). After returning, the position of the buffer is set to the start
+     * of the first incomplete message.
+     *
+     * @param buffer the buffer
+     * @param frameConsumer consumer for the messages (delimiters or length fields are removed)
+     * @throws IOException if a message exceeds the buffer size
+     */
+    public void decode(ByteBuffer buffer, Consumer<byte[]> frameConsumer) throws IOException {
+        switch (framing) {
+            case DELIMITER:
+                decodeDelimited(buffer, frameConsumer);
+                break;
+            case FIXED_LENGTH:
+                while (buffer.remaining() >= frameLength) {
+                    frameConsumer.accept(getBytes(buffer, frameLength));
+                }
+                break;
+            case LENGTH_PREFIX:
+                decodeLengthPrefixed(buffer, frameConsumer);
+                break;
+            case NONE:
+            default:
+                if (buffer.hasRemaining()) {
+                    frameConsumer.accept(getBytes(buffer, buffer.remaining()));
+                }
+        }
+
+        if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+            throw new IOException("Message exceeds buffer size " + bufferSize);
+        }
+    }
+
+    private void decodeDelimited(ByteBuffer buffer, Consumer<byte[]> frameConsumer) {
+        byte lastByte = delimiter[delimiter.length - 1];
+        int frameStart = buffer.position();
+        for (int i = frameStart + delimiter.length - 1; i < buffer.limit(); i++) {
+            if (buffer.get(i) == lastByte && endsWithDelimiter(buffer, i + 1)) {
+                frameConsumer.accept(getBytes(buffer, i + 1 - delimiter.length - frameStart));
+                buffer.position(i + 1);
+                frameStart = i + 1;
+                i = frameStart + delimiter.length - 2;
+            }
+        }
+    }
+
+    private boolean endsWithDelimiter(ByteBuffer buffer, int end) {
+        int start = end - delimiter.length;
+        for (int j = 0; j < delimiter.length; j++) {
+            if (buffer.get(start + j) != delimiter[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void decodeLengthPrefixed(ByteBuffer buffer, Consumer<byte[]> frameConsumer) throws IOException {
+        while (buffer.remaining() >= frameLength) {
+            int start = buffer.position();
+            long length = 0;
+            for (int i = 0; i < frameLength; i++) {
+                length = (length << 8) | (buffer.get(start + i) & 0xff);
+            }
+            if (length > bufferSize) {
+                throw new IOException("Message length " + length + " exceeds buffer size " + bufferSize);
+            }
+            if (buffer.remaining() < frameLength + length) {
+                return;
+            }
+            buffer.position(start + frameLength);
+            frameConsumer.accept(getBytes(buffer, (int) length));
+        }
+    }
+
+    private byte[] getBytes(ByteBuffer buffer, int length) {
+        byte[] data = new byte[length];
+        buffer.get(data);
+        return data;
+    }
+}
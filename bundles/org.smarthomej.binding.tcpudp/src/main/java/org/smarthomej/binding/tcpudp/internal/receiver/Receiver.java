@@ -12,6 +12,9 @@
  */
 package org.smarthomej.binding.tcpudp.internal.receiver;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -27,6 +30,15 @@ public interface Receiver extends Runnable {
      */
     void stop();
 
+    /**
+     * get the packet statistics for all senders known to this receiver
+     *
+     * @return a collection of {@link SenderStatistics} (empty if not supported by this receiver)
+     */
+    default Collection<SenderStatistics> getSenderStatistics() {
+        return List.of();
+    }
+
     /**
      * The {@link ReceiverListener} is an interface for TCP and UDP receiver listeners for reporting connection state
      * and received data
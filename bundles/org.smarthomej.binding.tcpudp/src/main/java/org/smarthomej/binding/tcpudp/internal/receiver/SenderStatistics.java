@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.receiver;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SenderStatistics} holds the (interned) address and the packet counters of a single sender
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SenderStatistics {
+    private final String sender;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile long lastReceived = System.nanoTime();
+
+    public SenderStatistics(InetSocketAddress address) {
+        this.sender = address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * get the sender address
+     *
+     * @return String containing the IP address and port of the sender
+     */
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * get the number of packets received from this sender (including dropped packets)
+     *
+     * @return number of packets
+     */
+    public long getReceived() {
+        return received.get();
+    }
+
+    /**
+     * get the number of packets dropped because the receive queue was full
+     *
+     * @return number of packets
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * get the number of packets from this sender waiting for dispatch
+     *
+     * @return number of packets
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * get the time of the last received packet
+     *
+     * @return the time in ns (as returned by {@link System#nanoTime()})
+     */
+    public long getLastReceived() {
+        return lastReceived;
+    }
+
+    void onReceived() {
+        received.incrementAndGet();
+        lastReceived = System.nanoTime();
+    }
+
+    void onDropped() {
+        dropped.incrementAndGet();
+    }
+
+    void onQueued() {
+        queued.incrementAndGet();
+    }
+
+    void onDispatched() {
+        queued.decrementAndGet();
+    }
+}
@@ -13,12 +13,16 @@
 package org.smarthomej.binding.tcpudp.internal.receiver;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
 import java.net.SocketAddress;
-import java.util.Arrays;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,23 +32,50 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link TcpReceiver} is a receiver for TCP connections
  *
+ * All client connections are served by a single thread using a {@link Selector}. Connections are kept open until
+ * closed by the client or idle for longer than the idle timeout, messages are extracted by the {@link FrameDecoder}.
+ * If the maximum number of connections is reached or accepting a connection fails (e.g. because no file descriptors
+ * are left), new connections are not accepted for a while. Existing connections are not affected.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class TcpReceiver implements Receiver {
+    private static final long SELECT_TIMEOUT = 1000; // in ms
+    private static final long ACCEPT_PAUSE = 1000; // in ms
+    private static final long INITIAL_BACKOFF = 1000; // in ms
+    private static final long MAX_BACKOFF = 60000; // in ms
+
     private final Logger logger = LoggerFactory.getLogger(TcpReceiver.class);
 
-    private @Nullable ServerSocket socket;
+    private @Nullable Selector selector;
     private final SocketAddress socketAddress;
     private final ReceiverListener receiverListener;
-    private byte[] buf;
+    private final FrameDecoder frameDecoder;
+    private final int maxConnections;
+    private final long idleTimeout;
 
-    private boolean reconnect;
+    private volatile boolean reconnect;
+    private int connectionCount = 0;
+    private long acceptPausedUntil = 0;
 
-    public TcpReceiver(ReceiverListener receiverListener, String localAddress, int port, int bufferSize) {
+    /**
+     * create a TCP receiver
+     *
+     * @param receiverListener the listener for received messages and the connection state
+     * @param localAddress the local address to bind to
+     * @param port the local port
+     * @param frameDecoder the decoder for messages
+     * @param maxConnections the maximum number of client connections
+     * @param idleTimeout the time after which a connection without data is closed (in ms, 0 = never)
+     */
+    public TcpReceiver(ReceiverListener receiverListener, String localAddress, int port, FrameDecoder frameDecoder,
+            int maxConnections, long idleTimeout) {
         this.socketAddress = new InetSocketAddress(localAddress, port);
         this.receiverListener = receiverListener;
-        this.buf = new byte[bufferSize];
+        this.frameDecoder = frameDecoder;
+        this.maxConnections = maxConnections;
+        this.idleTimeout = idleTimeout;
         reconnect = true;
     }
 
@@ -54,29 +85,160 @@ public class TcpReceiver implements Receiver {
 
     @Override
     public void run() {
+        long backoff = 0;
         while (enabled()) {
-            try (ServerSocket serverSocket = new ServerSocket()) {
-                this.socket = serverSocket;
-                serverSocket.setReuseAddress(true);
-                serverSocket.bind(socketAddress);
+            try (Selector selector = Selector.open(); ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+                this.selector = selector;
+                serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+                serverChannel.bind(socketAddress);
+                serverChannel.configureBlocking(false);
+                SelectionKey serverKey = serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+                connectionCount = 0;
+                acceptPausedUntil = 0;
+                backoff = 0;
                 receiverListener.reportConnectionState(true, null);
                 while (enabled()) {
-                    try (Socket clientSocket = serverSocket.accept(); InputStream in = clientSocket.getInputStream()) {
-                        String sender = clientSocket.getInetAddress().getHostAddress() + ":" + clientSocket.getPort();
-
-                        int byteCount = in.read(buf);
-                        if (byteCount == -1) {
-                            logger.warn("Did not receive data from {}", sender);
-                        } else {
-                            byte[] data = Arrays.copyOfRange(buf, 0, byteCount);
-
-                            logger.trace("Received {} bytes from {}: {}", byteCount, sender, data);
-                            receiverListener.onReceive(sender, data);
+                    selector.select(SELECT_TIMEOUT);
+                    long now = System.currentTimeMillis();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept(serverKey, selector, now);
+                        } else if (key.isReadable()) {
+                            read(key, now);
                         }
                     }
+                    closeIdleConnections(selector, now);
+                    updateAcceptState(serverKey, now);
                 }
-            } catch (IOException e) {
+                closeClientConnections(selector);
+            } catch (IOException | ClosedSelectorException e) {
                 receiverListener.reportConnectionState(false, e.getMessage());
+                // delay the next attempt, so a permanent failure (e.g. port in use) does not result in a busy loop
+                backoff = backoff == 0 ? INITIAL_BACKOFF : Math.min(backoff * 2, MAX_BACKOFF);
+                waitForReconnect(backoff);
+            } finally {
+                this.selector = null;
+            }
+        }
+    }
+
+    private synchronized void waitForReconnect(long delay) {
+        try {
+            if (reconnect) {
+                wait(delay);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void accept(SelectionKey serverKey, Selector selector, long now) {
+        ServerSocketChannel serverChannel = (ServerSocketChannel) serverKey.channel();
+        SocketChannel clientChannel;
+        try {
+            clientChannel = serverChannel.accept();
+        } catch (IOException e) {
+            // e.g. no more file descriptors, retry later without affecting the existing connections
+            logger.warn("Failed to accept connection, pausing for {} ms: {}", ACCEPT_PAUSE, e.getMessage());
+            acceptPausedUntil = now + ACCEPT_PAUSE;
+            serverKey.interestOps(0);
+            return;
+        }
+        if (clientChannel == null) {
+            return;
+        }
+        try {
+            InetSocketAddress remoteAddress = (InetSocketAddress) clientChannel.getRemoteAddress();
+            String sender = remoteAddress.getAddress().getHostAddress() + ":" + remoteAddress.getPort();
+            clientChannel.configureBlocking(false);
+            clientChannel.register(selector, SelectionKey.OP_READ,
+                    new Connection(sender, ByteBuffer.allocateDirect(frameDecoder.getBufferSize()), now));
+            connectionCount++;
+            logger.trace("Accepted connection from {}", sender);
+        } catch (IOException e) {
+            logger.debug("Failed to accept connection: {}", e.getMessage());
+            try {
+                clientChannel.close();
+            } catch (IOException ignored) {
+            }
+        }
+        if (connectionCount >= maxConnections) {
+            logger.debug("Maximum number of {} connections reached, not accepting new connections", maxConnections);
+            serverKey.interestOps(0);
+        }
+    }
+
+    private void updateAcceptState(SelectionKey serverKey, long now) {
+        if (serverKey.interestOps() == 0 && now >= acceptPausedUntil && connectionCount < maxConnections) {
+            serverKey.interestOps(SelectionKey.OP_ACCEPT);
+        }
+    }
+
+    private void read(SelectionKey key, long now) {
+        SocketChannel clientChannel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer buffer = connection.buffer;
+        try {
+            int byteCount = clientChannel.read(buffer);
+            if (byteCount > 0) {
+                logger.trace("Received {} bytes from {}", byteCount, connection.sender);
+                connection.lastActivity = now;
+                buffer.flip();
+                frameDecoder.decode(buffer, data -> receiverListener.onReceive(connection.sender, data));
+                buffer.compact();
+            }
+            if (byteCount == -1) {
+                if (buffer.position() > 0) {
+                    logger.debug("Discarding {} bytes of incomplete message from {}", buffer.position(),
+                            connection.sender);
+                }
+                logger.trace("Connection from {} closed", connection.sender);
+                closeConnection(key);
+            }
+        } catch (IOException e) {
+            logger.debug("Closing connection from {}: {}", connection.sender, e.getMessage());
+            closeConnection(key);
+        }
+    }
+
+    private void closeIdleConnections(Selector selector, long now) {
+        if (idleTimeout <= 0) {
+            return;
+        }
+        for (SelectionKey key : selector.keys()) {
+            Object attachment = key.attachment();
+            if (key.isValid() && attachment instanceof Connection
+                    && now - ((Connection) attachment).lastActivity > idleTimeout) {
+                logger.debug("Closing idle connection from {}", ((Connection) attachment).sender);
+                closeConnection(key);
+            }
+        }
+    }
+
+    private void closeConnection(SelectionKey key) {
+        key.cancel();
+        connectionCount--;
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            logger.debug("Could not close connection: {}", e.getMessage());
+        }
+    }
+
+    private void closeClientConnections(Selector selector) {
+        for (SelectionKey key : selector.keys()) {
+            if (key.channel() instanceof SocketChannel) {
+                try {
+                    key.channel().close();
+                } catch (IOException e) {
+                    logger.debug("Could not close connection: {}", e.getMessage());
+                }
             }
         }
     }
@@ -84,13 +246,24 @@ public class TcpReceiver implements Receiver {
     @Override
     public void stop() {
         reconnect = false;
-        ServerSocket socket = this.socket;
-        if (socket != null) {
-            try {
-                socket.close();
-            } catch (IOException e) {
-                logger.warn("Could not close connection: {}", e.getMessage());
-            }
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    private static class Connection {
+        private final String sender;
+        private final ByteBuffer buffer;
+        private long lastActivity;
+
+        public Connection(String sender, ByteBuffer buffer, long lastActivity) {
+            this.sender = sender;
+            this.buffer = buffer;
+            this.lastActivity = lastActivity;
         }
     }
 }
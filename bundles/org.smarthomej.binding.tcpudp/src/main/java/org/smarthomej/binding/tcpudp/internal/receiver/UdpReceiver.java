@@ -13,11 +13,23 @@
 package org.smarthomej.binding.tcpudp.internal.receiver;
 
 import java.io.IOException;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.Arrays;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -27,23 +39,58 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link UdpReceiver} is a receiver for UDP connections
  *
+ * Datagrams are drained in batches from a non-blocking {@link DatagramChannel} directly into a fixed ring of
+ * pre-allocated buffers and dispatched to the listener on the given executor, so a slow listener does not stop the
+ * receive loop. If all buffers are in use, further datagrams are dropped and counted per sender.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class UdpReceiver implements Receiver {
+    private static final int DISPATCH_BATCH_SIZE = 32;
+    private static final long SENDER_EXPIRY_TIME = Duration.ofMinutes(10).toNanos();
+    private static final long SENDER_EXPIRY_INTERVAL = Duration.ofMinutes(1).toNanos();
+
     private final Logger logger = LoggerFactory.getLogger(UdpReceiver.class);
 
-    private @Nullable DatagramSocket socket;
+    private @Nullable Selector selector;
     private final SocketAddress socketAddress;
     private final ReceiverListener receiverListener;
-    private byte[] buf;
+    private final Executor dispatchExecutor;
+
+    private final BlockingQueue<Slot> freeSlots;
+    private final BlockingQueue<Slot> filledSlots;
+    private final ByteBuffer discardBuffer;
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final Map<SocketAddress, SenderStatistics> senders = new ConcurrentHashMap<>();
+    private long nextSenderExpiry = System.nanoTime() + SENDER_EXPIRY_INTERVAL;
 
-    private boolean reconnect;
+    private volatile boolean reconnect;
 
-    public UdpReceiver(ReceiverListener receiverListener, String localAddress, int port, int bufferSize) {
+    /**
+     * create a new UDP receiver
+     *
+     * @param receiverListener the listener for received data
+     * @param localAddress the local address to bind to
+     * @param port the local port to bind to
+     * @param bufferSize the maximum size of a datagram (longer datagrams are truncated)
+     * @param queueSize the number of datagrams that can wait for dispatch
+     * @param dispatchExecutor the executor used for calling the listener
+     */
+    public UdpReceiver(ReceiverListener receiverListener, String localAddress, int port, int bufferSize, int queueSize,
+            Executor dispatchExecutor) {
         this.socketAddress = new InetSocketAddress(localAddress, port);
         this.receiverListener = receiverListener;
-        this.buf = new byte[bufferSize];
+        this.dispatchExecutor = dispatchExecutor;
+
+        int slotCount = Math.max(1, queueSize);
+        freeSlots = new ArrayBlockingQueue<>(slotCount);
+        filledSlots = new ArrayBlockingQueue<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            freeSlots.add(new Slot(ByteBuffer.allocateDirect(bufferSize)));
+        }
+        discardBuffer = ByteBuffer.allocateDirect(bufferSize);
+
         reconnect = true;
     }
 
@@ -54,33 +101,144 @@ public class UdpReceiver implements Receiver {
     @Override
     public void run() {
         while (enabled()) {
-            try (DatagramSocket socket = new DatagramSocket(null)) {
-                this.socket = socket;
-                socket.setReuseAddress(true);
-                socket.bind(socketAddress);
+            try (Selector selector = Selector.open(); DatagramChannel channel = DatagramChannel.open()) {
+                this.selector = selector;
+                channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+                channel.bind(socketAddress);
+                channel.configureBlocking(false);
+                channel.register(selector, SelectionKey.OP_READ);
                 receiverListener.reportConnectionState(true, null);
                 while (enabled()) {
-                    DatagramPacket packet = new DatagramPacket(buf, buf.length);
-                    socket.receive(packet);
+                    selector.select();
+                    selector.selectedKeys().clear();
+                    int batchCount = 0;
+                    while (receive(channel)) {
+                        if (++batchCount % DISPATCH_BATCH_SIZE == 0) {
+                            triggerDispatch();
+                        }
+                    }
+                    if (batchCount > 0) {
+                        logger.trace("Received batch of {} datagrams", batchCount);
+                        triggerDispatch();
+                        expireSendersPeriodically();
+                    }
+                }
+            } catch (IOException | ClosedSelectorException e) {
+                receiverListener.reportConnectionState(false, e.getMessage());
+            } finally {
+                this.selector = null;
+            }
+        }
+    }
+
+    /**
+     * receive a single datagram into the next free slot (or discard it if no slot is available)
+     *
+     * @param channel the channel to receive from
+     * @return true if a datagram was received, false if no more datagrams are available
+     * @throws IOException if receiving failed
+     */
+    private boolean receive(DatagramChannel channel) throws IOException {
+        // only this thread takes from freeSlots, so the slot found by peek is still available afterwards
+        Slot slot = freeSlots.peek();
+        ByteBuffer buffer = slot != null ? slot.buffer : discardBuffer;
+        buffer.clear();
+
+        SocketAddress address = channel.receive(buffer);
+        if (address == null) {
+            return false;
+        }
+
+        SenderStatistics senderStatistics = senders.computeIfAbsent(address,
+                a -> new SenderStatistics((InetSocketAddress) a));
+        senderStatistics.onReceived();
+        if (slot == null) {
+            senderStatistics.onDropped();
+            logger.trace("Dropped {} bytes from {}, receive queue is full", buffer.position(),
+                    senderStatistics.getSender());
+            return true;
+        }
 
-                    String sender = packet.getAddress().getHostAddress() + ":" + packet.getPort();
-                    byte[] data = Arrays.copyOfRange(packet.getData(), 0, packet.getLength());
+        freeSlots.poll();
+        buffer.flip();
+        slot.sender = senderStatistics;
+        senderStatistics.onQueued();
+        filledSlots.add(slot);
+        return true;
+    }
 
-                    logger.trace("Received {} bytes from {}: {}", packet.getLength(), sender, data);
-                    receiverListener.onReceive(sender, data);
+    private void triggerDispatch() {
+        if (dispatching.compareAndSet(false, true)) {
+            dispatchExecutor.execute(this::dispatch);
+        }
+    }
+
+    private void dispatch() {
+        do {
+            Slot slot;
+            while ((slot = filledSlots.poll()) != null) {
+                SenderStatistics senderStatistics = slot.sender;
+                if (senderStatistics != null) {
+                    byte[] data = new byte[slot.buffer.remaining()];
+                    slot.buffer.get(data);
+                    senderStatistics.onDispatched();
+                    slot.sender = null;
+                    freeSlots.add(slot);
+
+                    logger.trace("Received {} bytes from {}: {}", data.length, senderStatistics.getSender(), data);
+                    try {
+                        receiverListener.onReceive(senderStatistics.getSender(), data);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to process data from {}: {}", senderStatistics.getSender(),
+                                e.getMessage());
+                    }
+                } else {
+                    freeSlots.add(slot);
                 }
-            } catch (IOException e) {
-                receiverListener.reportConnectionState(false, e.getMessage());
             }
+            dispatching.set(false);
+            // re-check: datagrams may have been queued after the last poll but before resetting the flag
+        } while (!filledSlots.isEmpty() && dispatching.compareAndSet(false, true));
+    }
+
+    /**
+     * remove expired senders from the receive thread, so the sender map does not grow even if the statistics are never
+     * requested
+     */
+    private void expireSendersPeriodically() {
+        long now = System.nanoTime();
+        if (now - nextSenderExpiry >= 0) {
+            nextSenderExpiry = now + SENDER_EXPIRY_INTERVAL;
+            expireSenders(now);
         }
     }
 
+    private void expireSenders(long now) {
+        long expiry = now - SENDER_EXPIRY_TIME;
+        senders.values().removeIf(s -> s.getQueued() == 0 && s.getLastReceived() - expiry < 0);
+    }
+
+    @Override
+    public Collection<SenderStatistics> getSenderStatistics() {
+        expireSenders(System.nanoTime());
+        return new ArrayList<>(senders.values());
+    }
+
     @Override
     public void stop() {
         reconnect = false;
-        DatagramSocket socket = this.socket;
-        if (socket != null) {
-            socket.close();
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private static class Slot {
+        private final ByteBuffer buffer;
+        private @Nullable SenderStatistics sender;
+
+        public Slot(ByteBuffer buffer) {
+            this.buffer = buffer;
         }
     }
 }
@@ -48,6 +48,7 @@ import org.openhab.core.thing.binding.builder.ChannelBuilder;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.type.ChannelTypeUID;
 import org.smarthomej.binding.tcpudp.internal.config.ClientConfiguration;
+import org.smarthomej.binding.tcpudp.internal.config.Framing;
 import org.smarthomej.binding.tcpudp.internal.config.TcpUdpChannelConfig;
 import org.smarthomej.binding.tcpudp.internal.test.EchoServer;
 import org.smarthomej.binding.tcpudp.internal.test.TestUtil;
@@ -95,6 +96,37 @@ public class ClientThingHandlerTest extends JavaTest {
         requestTest(ClientConfiguration.Protocol.UDP);
     }
 
+    @Test
+    public void tcpPersistentRequestTest() {
+        EchoServer echoServer = new EchoServer(ClientConfiguration.Protocol.TCP, true);
+        waitForAssert(() -> assertNotEquals(0, echoServer.getPort(), "Could not start EchoServer"));
+
+        ClientConfiguration clientConfiguration = new ClientConfiguration();
+        clientConfiguration.host = "127.0.0.1";
+        clientConfiguration.port = echoServer.getPort();
+        clientConfiguration.refresh = 1;
+        clientConfiguration.protocol = ClientConfiguration.Protocol.TCP;
+        clientConfiguration.persistentConnection = true;
+        clientConfiguration.framing = Framing.DELIMITER;
+
+        TcpUdpChannelConfig tcpUdpChannelConfig = new TcpUdpChannelConfig();
+        tcpUdpChannelConfig.stateContent = TEST_STATE_CONTENT + "\n";
+
+        ClientThingHandler clientThingHandler = getClientThingHandler(clientConfiguration, tcpUdpChannelConfig);
+
+        // wait until we have at least three calls and stop the thing handler
+        waitForAssert(() -> assertEquals(3, echoServer.getReceivedValues().size()));
+        clientThingHandler.dispose();
+
+        // check the delimiter was removed and all requests used the same connection
+        int calls = echoServer.getReceivedValues().size();
+        verify(thingHandlerCallback, times(calls)).stateUpdated(eq(TEST_CHANNEL_UID),
+                eq(new StringType(TEST_STATE_CONTENT)));
+        assertEquals(1, echoServer.getConnectionCount());
+
+        echoServer.stop();
+    }
+
     @Test
     public void udpSendTest() {
         sendTest(ClientConfiguration.Protocol.UDP);
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+import org.smarthomej.binding.tcpudp.internal.config.ClientConfiguration;
+import org.smarthomej.binding.tcpudp.internal.config.Framing;
+import org.smarthomej.binding.tcpudp.internal.test.EchoServer;
+
+/**
+ * The {@link TcpClientConnectionTest} is a test class for {@link TcpClientConnection}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TcpClientConnectionTest extends JavaTest {
+
+    @Test
+    public void commandResponseIsNotReadAsRequestResponse() throws IOException {
+        EchoServer echoServer = new EchoServer(ClientConfiguration.Protocol.TCP, true);
+        waitForAssert(() -> assertNotEquals(0, echoServer.getPort(), "Could not start EchoServer"));
+
+        FrameReader frameReader = new FrameReader(Framing.DELIMITER, "\\n", 0, 2048, StandardCharsets.UTF_8);
+        TcpClientConnection connection = new TcpClientConnection("127.0.0.1", echoServer.getPort(), 3000, frameReader,
+                true);
+        try {
+            connection.send("command\n".getBytes(StandardCharsets.UTF_8));
+            List<CompletableFuture<byte[]>> responses = connection
+                    .request(List.of("request\n".getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals("request", new String(responses.get(0).join(), StandardCharsets.UTF_8));
+            assertEquals(1, echoServer.getConnectionCount());
+        } finally {
+            connection.close();
+            echoServer.stop();
+        }
+    }
+
+    @Test
+    public void missingResponseOnlyFailsAffectedRequest() throws IOException {
+        EchoServer echoServer = new EchoServer(ClientConfiguration.Protocol.TCP, true);
+        waitForAssert(() -> assertNotEquals(0, echoServer.getPort(), "Could not start EchoServer"));
+
+        FrameReader frameReader = new FrameReader(Framing.DELIMITER, "\\n", 0, 2048, StandardCharsets.UTF_8);
+        TcpClientConnection connection = new TcpClientConnection("127.0.0.1", echoServer.getPort(), 500, frameReader,
+                false);
+        try {
+            // the response to the second request is not terminated by a delimiter
+            List<CompletableFuture<byte[]>> responses = connection.request(
+                    List.of("one\n".getBytes(StandardCharsets.UTF_8), "two".getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals("one", new String(responses.get(0).join(), StandardCharsets.UTF_8));
+            CompletionException e = assertThrows(CompletionException.class, () -> responses.get(1).join());
+            assertTrue(e.getCause() instanceof SocketTimeoutException);
+
+            // the connection is kept
+            List<CompletableFuture<byte[]>> nextResponses = connection
+                    .request(List.of("three\n".getBytes(StandardCharsets.UTF_8)));
+            assertEquals("three", new String(nextResponses.get(0).join(), StandardCharsets.UTF_8));
+            assertEquals(1, echoServer.getConnectionCount());
+        } finally {
+            connection.close();
+            echoServer.stop();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.receiver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.tcpudp.internal.config.Framing;
+
+/**
+ * The {@link FrameDecoderTest} contains tests for the {@link FrameDecoder}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class FrameDecoderTest {
+
+    @Test
+    public void delimitedMessagesAcrossReads() throws IOException {
+        FrameDecoder frameDecoder = new FrameDecoder(Framing.DELIMITER, "\\r\\n", 0, 32, StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(frameDecoder.getBufferSize());
+        List<String> messages = new ArrayList<>();
+
+        decode(frameDecoder, buffer, "foo\r\nba", messages);
+        assertEquals(List.of("foo"), messages);
+
+        decode(frameDecoder, buffer, "r\r\n\r\nbaz\r", messages);
+        assertEquals(List.of("foo", "bar", ""), messages);
+
+        decode(frameDecoder, buffer, "\n", messages);
+        assertEquals(List.of("foo", "bar", "", "baz"), messages);
+    }
+
+    @Test
+    public void lengthPrefixedMessages() throws IOException {
+        FrameDecoder frameDecoder = new FrameDecoder(Framing.LENGTH_PREFIX, "", 2, 32, StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(frameDecoder.getBufferSize());
+        List<String> messages = new ArrayList<>();
+
+        decode(frameDecoder, buffer, "\0\3foo\0", messages);
+        assertEquals(List.of("foo"), messages);
+
+        decode(frameDecoder, buffer, "\3bar", messages);
+        assertEquals(List.of("foo", "bar"), messages);
+    }
+
+    @Test
+    public void fixedLengthMessages() throws IOException {
+        FrameDecoder frameDecoder = new FrameDecoder(Framing.FIXED_LENGTH, "", 3, 32, StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(frameDecoder.getBufferSize());
+        List<String> messages = new ArrayList<>();
+
+        decode(frameDecoder, buffer, "foobarb", messages);
+        assertEquals(List.of("foo", "bar"), messages);
+
+        decode(frameDecoder, buffer, "az", messages);
+        assertEquals(List.of("foo", "bar", "baz"), messages);
+    }
+
+    @Test
+    public void oversizedMessageFails() {
+        FrameDecoder frameDecoder = new FrameDecoder(Framing.DELIMITER, "\\n", 0, 4, StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(frameDecoder.getBufferSize());
+
+        assertThrows(IOException.class, () -> decode(frameDecoder, buffer, "abcde", new ArrayList<>()));
+    }
+
+    @Test
+    public void invalidConfigurationFails() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new FrameDecoder(Framing.LENGTH_PREFIX, "", 3, 32, StandardCharsets.UTF_8));
+    }
+
+    private void decode(FrameDecoder frameDecoder, ByteBuffer buffer, String data, List<String> messages)
+            throws IOException {
+        buffer.put(data.getBytes(StandardCharsets.ISO_8859_1));
+        buffer.flip();
+        frameDecoder.decode(buffer, frame -> messages.add(new String(frame, StandardCharsets.UTF_8)));
+        buffer.compact();
+    }
+}
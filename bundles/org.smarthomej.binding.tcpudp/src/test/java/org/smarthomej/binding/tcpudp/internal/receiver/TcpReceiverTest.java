@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.receiver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+import org.smarthomej.binding.tcpudp.internal.config.Framing;
+
+/**
+ * The {@link TcpReceiverTest} contains tests for the {@link TcpReceiver}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TcpReceiverTest extends JavaTest {
+    private static final long IDLE_TIMEOUT = 2000; // in ms
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch boundLatch = new CountDownLatch(1);
+    private final List<String> receivedMessages = new CopyOnWriteArrayList<>();
+    private int port;
+
+    private @Nullable TcpReceiver tcpReceiver;
+
+    @BeforeEach
+    public void startReceiver() throws IOException, InterruptedException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        FrameDecoder frameDecoder = new FrameDecoder(Framing.DELIMITER, "\\n", 0, 64, StandardCharsets.UTF_8);
+        TcpReceiver tcpReceiver = new TcpReceiver(new Receiver.ReceiverListener() {
+            @Override
+            public void reportConnectionState(boolean state, @Nullable String message) {
+                if (state) {
+                    boundLatch.countDown();
+                }
+            }
+
+            @Override
+            public void onReceive(String sender, byte[] content) {
+                receivedMessages.add(new String(content, StandardCharsets.UTF_8));
+            }
+        }, "127.0.0.1", port, frameDecoder, 1, IDLE_TIMEOUT);
+        this.tcpReceiver = tcpReceiver;
+        executor.submit(tcpReceiver);
+        assertTrue(boundLatch.await(10, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    public void stopReceiver() {
+        TcpReceiver tcpReceiver = this.tcpReceiver;
+        if (tcpReceiver != null) {
+            tcpReceiver.stop();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void idleConnectionIsClosedAndFreesConnectionSlot() throws IOException, InterruptedException {
+        try (Socket socket1 = new Socket("127.0.0.1", port); Socket socket2 = new Socket("127.0.0.1", port)) {
+            OutputStream out1 = socket1.getOutputStream();
+            out1.write("one\n".getBytes(StandardCharsets.UTF_8));
+            out1.flush();
+            waitForAssert(() -> assertEquals(List.of("one"), receivedMessages));
+
+            // the second connection is not accepted while the first one is open
+            OutputStream out2 = socket2.getOutputStream();
+            out2.write("two\n".getBytes(StandardCharsets.UTF_8));
+            out2.flush();
+            Thread.sleep(500);
+            assertEquals(List.of("one"), receivedMessages);
+
+            // the first connection is closed after the idle timeout, so the second can be accepted
+            socket1.setSoTimeout((int) (3 * IDLE_TIMEOUT));
+            assertEquals(-1, socket1.getInputStream().read());
+            waitForAssert(() -> assertEquals(List.of("one", "two"), receivedMessages));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.receiver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * The {@link UdpReceiverTest} contains tests for the {@link UdpReceiver}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class UdpReceiverTest extends JavaTest {
+    private static final int MESSAGE_COUNT = 10;
+    private static final int QUEUE_SIZE = 2;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch processLatch = new CountDownLatch(1);
+    private final List<String> receivedMessages = new CopyOnWriteArrayList<>();
+    private int port;
+
+    private @Nullable UdpReceiver udpReceiver;
+
+    @BeforeEach
+    public void startReceiver() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        UdpReceiver udpReceiver = new UdpReceiver(new Receiver.ReceiverListener() {
+            @Override
+            public void reportConnectionState(boolean state, @Nullable String message) {
+            }
+
+            @Override
+            public void onReceive(String sender, byte[] content) {
+                try {
+                    processLatch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                }
+                receivedMessages.add(new String(content, StandardCharsets.UTF_8));
+            }
+        }, "127.0.0.1", port, 64, QUEUE_SIZE, executor);
+        this.udpReceiver = udpReceiver;
+        executor.submit(udpReceiver);
+    }
+
+    @AfterEach
+    public void stopReceiver() {
+        UdpReceiver udpReceiver = this.udpReceiver;
+        if (udpReceiver != null) {
+            udpReceiver.stop();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void slowListenerDropsPacketsAndCountsThem() throws IOException {
+        UdpReceiver udpReceiver = this.udpReceiver;
+        assertTrue(udpReceiver != null);
+
+        // wait for the receiver to be bound
+        waitForAssert(() -> {
+            try (DatagramSocket socket = new DatagramSocket()) {
+                byte[] data = "ping".getBytes(StandardCharsets.UTF_8);
+                socket.send(new DatagramPacket(data, data.length, InetAddress.getLoopbackAddress(), port));
+            } catch (IOException ignored) {
+            }
+            assertFalse(udpReceiver.getSenderStatistics().isEmpty());
+        });
+
+        String messageSender;
+        try (DatagramSocket socket = new DatagramSocket()) {
+            messageSender = "127.0.0.1:" + socket.getLocalPort();
+            for (int i = 0; i < MESSAGE_COUNT; i++) {
+                byte[] data = ("message" + i).getBytes(StandardCharsets.UTF_8);
+                socket.send(new DatagramPacket(data, data.length, InetAddress.getLoopbackAddress(), port));
+            }
+        }
+
+        // the listener is blocked, so only QUEUE_SIZE packets can be queued
+        waitForAssert(() -> {
+            SenderStatistics statistics = getSenderStatistics(udpReceiver, messageSender);
+            assertEquals(MESSAGE_COUNT, statistics.getReceived());
+            assertTrue(statistics.getDropped() >= MESSAGE_COUNT - QUEUE_SIZE);
+        });
+
+        processLatch.countDown();
+
+        waitForAssert(() -> assertEquals(0,
+                udpReceiver.getSenderStatistics().stream().mapToInt(SenderStatistics::getQueued).sum()));
+        long dropped = udpReceiver.getSenderStatistics().stream().mapToLong(SenderStatistics::getDropped).sum();
+        long received = udpReceiver.getSenderStatistics().stream().mapToLong(SenderStatistics::getReceived).sum();
+        waitForAssert(() -> assertEquals(received - dropped, receivedMessages.size()));
+    }
+
+    private SenderStatistics getSenderStatistics(UdpReceiver udpReceiver, String sender) {
+        return udpReceiver.getSenderStatistics().stream().filter(s -> sender.equals(s.getSender())).findAny()
+                .orElseThrow();
+    }
+}
@@ -20,9 +20,9 @@ import java.net.DatagramSocket;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -40,8 +40,10 @@ public class EchoServer {
     private final Logger logger = LoggerFactory
             .getLogger(org.smarthomej.binding.tcpudp.internal.receiver.TcpReceiver.class);
 
-    private final List<String> receivedValues = new ArrayList<>();
+    private final List<String> receivedValues = new CopyOnWriteArrayList<>();
     private final Thread thread;
+    private final boolean persistent;
+    private int connectionCount = 0;
 
     private @Nullable ServerSocket tcpSocket;
     private @Nullable DatagramSocket udpSocket;
@@ -50,6 +52,17 @@ public class EchoServer {
     private byte[] buf = new byte[2048];
 
     public EchoServer(ClientConfiguration.Protocol protocol) {
+        this(protocol, false);
+    }
+
+    /**
+     * create an echo server
+     *
+     * @param protocol the protocol
+     * @param persistent if true, TCP connections are kept open until closed by the client
+     */
+    public EchoServer(ClientConfiguration.Protocol protocol, boolean persistent) {
+        this.persistent = persistent;
         if (protocol == ClientConfiguration.Protocol.TCP) {
             thread = new Thread(this::runTcp);
         } else {
@@ -71,6 +84,15 @@ public class EchoServer {
         return receivedValues;
     }
 
+    /**
+     * get the number of accepted TCP connections
+     *
+     * @return number of connections
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
     private void runUdp() {
         try (DatagramSocket socket = new DatagramSocket(null)) {
             this.udpSocket = socket;
@@ -98,15 +120,21 @@ public class EchoServer {
                 try (Socket clientSocket = serverSocket.accept();
                         InputStream in = clientSocket.getInputStream();
                         OutputStream out = clientSocket.getOutputStream()) {
-                    int byteCount = in.read(buf);
-                    if (byteCount == -1) {
-                        logger.warn("Did not receive data");
-                    } else {
-                        byte[] data = Arrays.copyOfRange(buf, 0, byteCount);
-                        receivedValues.add(new String(data));
-                        out.write(data);
-                        out.flush();
-                    }
+                    connectionCount++;
+                    do {
+                        int byteCount = in.read(buf);
+                        if (byteCount == -1) {
+                            if (!persistent) {
+                                logger.warn("Did not receive data");
+                            }
+                            break;
+                        } else {
+                            byte[] data = Arrays.copyOfRange(buf, 0, byteCount);
+                            receivedValues.add(new String(data));
+                            out.write(data);
+                            out.flush();
+                        }
+                    } while (persistent);
                 }
             }
         } catch (IOException e) {
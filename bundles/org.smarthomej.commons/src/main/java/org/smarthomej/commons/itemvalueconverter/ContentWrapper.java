@@ -15,6 +15,8 @@ package org.smarthomej.commons.itemvalueconverter;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -29,6 +31,8 @@ public class ContentWrapper {
     private final byte[] rawContent;
     private final Charset encoding;
     private final @Nullable String mediaType;
+    private final Map<String, String> transformationResults = new ConcurrentHashMap<>();
+    private volatile @Nullable String stringContent;
 
     public ContentWrapper(byte[] rawContent, String encoding, @Nullable String mediaType) {
         this.rawContent = rawContent;
@@ -47,7 +51,29 @@ public class ContentWrapper {
     }
 
     public String getAsString() {
-        return new String(rawContent, encoding);
+        String stringContent = this.stringContent;
+        if (stringContent == null) {
+            // decode only once, the content is shared between all consumers
+            stringContent = new String(rawContent, encoding);
+            this.stringContent = stringContent;
+        }
+        return stringContent;
+    }
+
+    /**
+     * get the cache for successful (intermediate) transformation results of this content
+     *
+     * The results are only valid for the string representation of this content, so the cache must not be shared
+     * with other content.
+     *
+     * @return a map of transformation keys to the transformation results
+     */
+    public Map<String, String> getTransformationResults() {
+        return transformationResults;
+    }
+
+    public Charset getEncoding() {
+        return encoding;
     }
 
     public @Nullable String getMediaType() {
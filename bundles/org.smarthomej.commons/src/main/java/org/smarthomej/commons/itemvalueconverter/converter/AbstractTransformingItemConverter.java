@@ -60,14 +60,15 @@ public abstract class AbstractTransformingItemConverter implements ItemValueConv
             return;
         }
         if (channelConfig.mode != ChannelMode.WRITEONLY) {
-            stateTransformations.apply(content.getAsString()).ifPresent(transformedValue -> {
-                Command command = toCommand(transformedValue);
-                if (command != null) {
-                    postCommand.accept(command);
-                } else {
-                    toState(transformedValue).ifPresent(updateState);
-                }
-            });
+            stateTransformations.apply(content.getAsString(), content.getTransformationResults())
+                    .ifPresent(transformedValue -> {
+                        Command command = toCommand(transformedValue);
+                        if (command != null) {
+                            postCommand.accept(command);
+                        } else {
+                            toState(transformedValue).ifPresent(updateState);
+                        }
+                    });
         } else {
             throw new IllegalStateException("Write-only channel");
         }
@@ -13,8 +13,10 @@
  */
 package org.smarthomej.commons.transform;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -35,6 +37,7 @@ import org.slf4j.LoggerFactory;
 public class CascadedValueTransformation implements ValueTransformation {
     private final Logger logger = LoggerFactory.getLogger(CascadedValueTransformation.class);
     private final List<ValueTransformation> transformations;
+    private final List<String> prefixKeys = new ArrayList<>();
 
     public CascadedValueTransformation(String transformationString,
             Function<String, @Nullable TransformationService> transformationServiceSupplier) {
@@ -48,6 +51,13 @@ public class CascadedValueTransformation implements ValueTransformation {
             logger.warn("Transformation ignored, failed to parse {}: {}", transformationString, e.getMessage());
         }
         this.transformations = transformations;
+
+        // the key of each step identifies the chain of transformations up to this step
+        String prefixKey = "";
+        for (ValueTransformation transformation : transformations) {
+            prefixKey = prefixKey.isEmpty() ? transformation.toString() : prefixKey + "∩" + transformation;
+            prefixKeys.add(prefixKey);
+        }
     }
 
     @Override
@@ -61,4 +71,29 @@ public class CascadedValueTransformation implements ValueTransformation {
 
         return valueOptional;
     }
+
+    @Override
+    public Optional<String> apply(String value, Map<String, String> resultCache) {
+        // find the longest chain of transformations that was already applied to this value
+        int step = transformations.size();
+        Optional<String> valueOptional = Optional.of(value);
+        while (step > 0) {
+            String cachedValue = resultCache.get(prefixKeys.get(step - 1));
+            if (cachedValue != null) {
+                valueOptional = Optional.of(cachedValue);
+                break;
+            }
+            step--;
+        }
+
+        // process all remaining transformations and store the successful intermediate results, failed transformations
+        // are not cached because the reason (e.g. a missing transformation service) may be gone on the next call
+        for (; step < transformations.size() && valueOptional.isPresent(); step++) {
+            valueOptional = valueOptional.flatMap(transformations.get(step)::apply);
+            String key = prefixKeys.get(step);
+            valueOptional.ifPresent(result -> resultCache.putIfAbsent(key, result));
+        }
+
+        return valueOptional;
+    }
 }
@@ -13,6 +13,7 @@
  */
 package org.smarthomej.commons.transform;
 
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -32,4 +33,18 @@ public interface ValueTransformation {
      * @return Optional of string representing the transformed value (empty if transformation not present or failed)
      */
     Optional<String> apply(String value);
+
+    /**
+     * applies the value transformation to a value and re-uses results of previous transformations of the same value
+     *
+     * The default implementation does not use the cache. Implementations may store (intermediate) results with a
+     * unique key, so that other transformations applied to the same value can skip identical steps.
+     *
+     * @param value The value
+     * @param resultCache a cache for successful transformation results (must only be used for this value)
+     * @return Optional of string representing the transformed value (empty if transformation not present or failed)
+     */
+    default Optional<String> apply(String value, Map<String, String> resultCache) {
+        return apply(value);
+    }
 }
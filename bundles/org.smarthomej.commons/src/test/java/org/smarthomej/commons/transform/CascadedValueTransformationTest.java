@@ -14,8 +14,12 @@ package org.smarthomej.commons.transform;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -130,4 +134,35 @@ public class CascadedValueTransformationTest {
 
         assertEquals(T2_RESULT, result);
     }
+
+    @Test
+    public void testSharedPrefixIsAppliedOnce() throws TransformationException {
+        Map<String, String> resultCache = new HashMap<>();
+        String pattern1 = T1_NAME + ":" + T1_PATTERN;
+        String pattern2 = T1_NAME + ":" + T1_PATTERN + "∩" + T2_NAME + ":" + T2_PATTERN;
+
+        CascadedValueTransformation transformation1 = new CascadedValueTransformation(pattern1, serviceProvider::get);
+        CascadedValueTransformation transformation2 = new CascadedValueTransformation(pattern2, serviceProvider::get);
+
+        assertEquals(T1_RESULT, transformation1.apply(T1_INPUT, resultCache).orElse(null));
+        assertEquals(T2_RESULT, transformation2.apply(T1_INPUT, resultCache).orElse(null));
+        assertEquals(T2_RESULT, transformation2.apply(T1_INPUT, resultCache).orElse(null));
+
+        verify(transformationService1, times(1)).transform(eq(T1_PATTERN), eq(T1_INPUT));
+        verify(transformationService2, times(1)).transform(eq(T2_PATTERN), eq(T2_INPUT));
+    }
+
+    @Test
+    public void testFailedTransformationIsNotCached() throws TransformationException {
+        Map<String, String> resultCache = new HashMap<>();
+        String pattern = T1_NAME + ":" + T1_PATTERN;
+        Mockito.when(transformationService1.transform(eq(T1_PATTERN), eq(T1_INPUT))).thenReturn(null)
+                .thenAnswer(answer -> T1_RESULT);
+
+        CascadedValueTransformation transformation = new CascadedValueTransformation(pattern, serviceProvider::get);
+
+        assertNull(transformation.apply(T1_INPUT, resultCache).orElse(null));
+        assertTrue(resultCache.isEmpty());
+        assertEquals(T1_RESULT, transformation.apply(T1_INPUT, resultCache).orElse(null));
+    }
 }
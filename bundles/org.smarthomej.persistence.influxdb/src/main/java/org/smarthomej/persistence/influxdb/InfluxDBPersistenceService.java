@@ -13,20 +13,36 @@
  */
 package org.smarthomej.persistence.influxdb;
 
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
@@ -44,13 +60,16 @@ import org.slf4j.LoggerFactory;
 import org.smarthomej.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBHistoricItem;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBItemIndex;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBMetadataService;
-import org.smarthomej.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBSpool;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBStateConvertUtils;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBWriteQueue;
 import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
 import org.smarthomej.persistence.influxdb.internal.ItemToStorePointCreator;
+import org.smarthomej.persistence.influxdb.internal.StreamingQueryResult;
 import org.smarthomej.persistence.influxdb.internal.UnexpectedConditionException;
 import org.smarthomej.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.smarthomej.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
@@ -82,6 +101,9 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     protected static final String CONFIG_URI = "persistence:influxdb";
+    private static final Path SPOOL_PATH = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb",
+            "spool.dat");
+    private static final Cleaner QUERY_CLEANER = Cleaner.create();
 
     // External dependencies
     private final ItemRegistry itemRegistry;
@@ -90,7 +112,13 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
     private final InfluxDBConfiguration configuration;
     private final ItemToStorePointCreator itemToStorePointCreator;
     private final InfluxDBRepository influxDBRepository;
-    private boolean tryReconnection;
+    private final InfluxDBWriteQueue writeQueue;
+    private final ScheduledExecutorService writeScheduler = Executors
+            .newSingleThreadScheduledExecutor(new NamedThreadFactory("influxdb-write"));
+    private final InfluxDBItemIndex itemIndex = new InfluxDBItemIndex();
+    private final ItemRegistryChangeListener itemRegistryChangeListener = new ItemRegistryChangeListener();
+    private final Consumer<String> metadataChangeListener;
+    private volatile boolean tryReconnection;
 
     @Activate
     public InfluxDBPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -101,9 +129,18 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository()
                     .orElseThrow(() -> new IllegalArgumentException("Failed to instantiate repository."));
-            this.influxDBRepository.connect();
+            // the index is seeded before points are written, later points are counted when they are written
+            if (this.influxDBRepository.connect()) {
+                seedItemIndex();
+            }
             this.itemToStorePointCreator = new ItemToStorePointCreator(configuration, influxDBMetadataService);
+            this.metadataChangeListener = itemToStorePointCreator::invalidate;
+            influxDBMetadataService.addChangeListener(metadataChangeListener);
+            itemRegistry.addRegistryChangeListener(itemRegistryChangeListener);
             tryReconnection = true;
+            this.writeQueue = new InfluxDBWriteQueue(influxDBRepository, this::checkConnection, itemIndex::add,
+                    createSpool().orElse(null), writeScheduler, configuration.getWriteQueueSize(),
+                    configuration.getWriteBatchSize(), configuration.getWriteFlushInterval());
         } else {
             throw new IllegalArgumentException("Configuration invalid.");
         }
@@ -126,12 +163,31 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
         return Optional.ofNullable(influxDBRepository);
     }
 
+    // Visible for testing
+    protected Optional<InfluxDBSpool> createSpool() {
+        int spoolSize = configuration.getSpoolSize();
+        if (spoolSize <= 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new InfluxDBSpool(SPOOL_PATH, spoolSize * 1024 * 1024));
+        } catch (IOException e) {
+            logger.warn("Failed to open spool file '{}', points are dropped if InfluxDB is not reachable: {}",
+                    SPOOL_PATH, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
-     * Disconnect from database when service is deactivated
+     * Write pending points and disconnect from database when service is deactivated
      */
     @Deactivate
     public void deactivate() {
         logger.info("InfluxDB persistence service stopped.");
+        itemRegistry.removeRegistryChangeListener(itemRegistryChangeListener);
+        influxDBMetadataService.removeChangeListener(metadataChangeListener);
+        writeQueue.shutdown();
+        writeScheduler.shutdownNow();
         influxDBRepository.disconnect();
         tryReconnection = false;
     }
@@ -149,27 +205,38 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
     /**
      * check connection and try reconnect
      *
+     * The item index is seeded as soon as the connection is available, before the first point is written.
+     *
      * @return true if connected
      */
     private boolean checkConnection() {
-        if (influxDBRepository.isConnected()) {
-            return true;
-        } else if (tryReconnection) {
+        boolean connected = influxDBRepository.isConnected();
+        if (!connected && tryReconnection) {
             logger.debug("Connection lost, trying re-connection");
-            return influxDBRepository.connect();
+            connected = influxDBRepository.connect();
+        }
+        if (connected && !itemIndex.isSeeded()) {
+            seedItemIndex();
+        }
+        return connected;
+    }
+
+    private void seedItemIndex() {
+        try {
+            // the stored points are only requested once, afterwards the index is updated for each written point
+            Instant start = Instant.now().minus(InfluxDBItemIndex.SEED_WINDOW);
+            itemIndex.seed(influxDBRepository.getStoredItemsInfo(start));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to get the number of stored points: {}", e.getMessage());
         }
-        return false;
     }
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        if (checkConnection()) {
-            return influxDBRepository.getStoredItemsCount().entrySet().stream().map(InfluxDBPersistentItemInfo::new)
-                    .collect(Collectors.toUnmodifiableSet());
-        } else {
-            logger.info("getItemInfo ignored, InfluxDB is not yet connected");
-            return Set.of();
+        if (!itemIndex.isSeeded() && !checkConnection()) {
+            logger.info("getItemInfo incomplete, InfluxDB is not yet connected");
         }
+        return itemIndex.getItemInfo();
     }
 
     @Override
@@ -179,23 +246,25 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        if (checkConnection()) {
-            InfluxPoint point = itemToStorePointCreator.convert(item, alias);
-            if (point != null) {
-                try {
-                    influxDBRepository.write(point);
-                    logger.trace("Stored item {} in InfluxDB point {}", item, point);
-                } catch (UnexpectedConditionException e) {
-                    logger.warn("Failed to store item {} in InfluxDB point {}", point, item);
-                }
-            } else {
-                logger.trace("Ignoring item {}, conversion to a InfluxDB point failed.", item);
+        InfluxPoint point = itemToStorePointCreator.convert(item, alias);
+        if (point != null) {
+            if (writeQueue.add(point)) {
+                logger.trace("Queued item {} as InfluxDB point {}", item, point);
             }
         } else {
-            logger.debug("store ignored, InfluxDB is not yet connected");
+            logger.trace("Ignoring item {}, conversion to a InfluxDB point failed.", item);
         }
     }
 
+    /**
+     * get the write queue of this service (e.g. for statistics)
+     *
+     * @return the write queue
+     */
+    public InfluxDBWriteQueue getWriteQueue() {
+        return writeQueue;
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
         logger.debug("Got a query for historic points!");
@@ -210,8 +279,8 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
                         configuration.getRetentionPolicy());
 
                 logger.trace("Query {}", query);
-                List<InfluxRow> results = influxDBRepository.query(query);
-                return results.stream().map(this::mapRowToHistoricItem).collect(Collectors.toList());
+                // the query is executed when the result is iterated, rows are converted on demand
+                return new HistoricItemIterable(query);
             } catch (UnexpectedConditionException e) {
                 logger.warn("Failed to create query:{}", e.getMessage());
                 return List.of();
@@ -222,10 +291,119 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
         }
     }
 
-    private HistoricItem mapRowToHistoricItem(InfluxRow row) {
-        State state = InfluxDBStateConvertUtils.objectToState(row.getValue(), row.getItemName(), itemRegistry);
-        return new InfluxDBHistoricItem(row.getItemName(), state,
-                ZonedDateTime.ofInstant(row.getTime(), ZoneId.systemDefault()));
+    /**
+     * The {@link HistoricItemIterable} executes the query when an iterator is requested and converts {@link InfluxRow}s
+     * to {@link HistoricItem}s while iterating
+     *
+     * Nothing is kept in memory: each iterator executes the query again. The query result is closed as soon as it is
+     * exhausted or a row can't be converted. If an iterator is abandoned before, the query is cancelled when the
+     * iterator is garbage collected.
+     */
+    private class HistoricItemIterable implements Iterable<HistoricItem> {
+        private final String query;
+
+        public HistoricItemIterable(String query) {
+            this.query = query;
+        }
+
+        @Override
+        public Iterator<HistoricItem> iterator() {
+            return new HistoricItemIterator(query);
+        }
+    }
+
+    /**
+     * The {@link HistoricItemIterator} is a single pass over the result of a query
+     */
+    private class HistoricItemIterator implements Iterator<HistoricItem> {
+        private final String query;
+        private final Map<String, Optional<Item>> items = new HashMap<>();
+        private @Nullable Iterator<InfluxRow> rows;
+        private @Nullable Cleanable cleanable;
+        private boolean closed = false;
+
+        public HistoricItemIterator(String query) {
+            this.query = query;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            Iterator<InfluxRow> rows = this.rows;
+            if (rows == null) {
+                rows = influxDBRepository.query(query);
+                if (rows instanceof StreamingQueryResult) {
+                    // last resort for abandoned iterators, the action must not reference this iterator
+                    cleanable = QUERY_CLEANER.register(this, ((StreamingQueryResult) rows)::close);
+                }
+                this.rows = rows;
+            }
+            if (!rows.hasNext()) {
+                close();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public HistoricItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Iterator<InfluxRow> rows = Objects.requireNonNull(this.rows);
+            try {
+                InfluxRow row = rows.next();
+                Optional<Item> item = items.computeIfAbsent(row.getItemName(), this::getItem);
+                State state = item.map(i -> InfluxDBStateConvertUtils.objectToState(row.getValue(), i))
+                        .orElseGet(() -> new StringType(String.valueOf(row.getValue())));
+                return new InfluxDBHistoricItem(row.getItemName(), state,
+                        ZonedDateTime.ofInstant(row.getTime(), ZoneId.systemDefault()));
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private void close() {
+            closed = true;
+            Cleanable cleanable = this.cleanable;
+            if (cleanable != null) {
+                // runs the close action of the query result once and unregisters it from the cleaner
+                cleanable.clean();
+                this.cleanable = null;
+            }
+        }
+
+        private Optional<Item> getItem(String itemName) {
+            try {
+                return Optional.ofNullable(itemRegistry.getItem(itemName));
+            } catch (ItemNotFoundException e) {
+                logger.info("Could not find item '{}' in registry", itemName);
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * The {@link ItemRegistryChangeListener} invalidates the cached point information if an item changes
+     */
+    private class ItemRegistryChangeListener implements RegistryChangeListener<Item> {
+        @Override
+        public void added(Item element) {
+            itemToStorePointCreator.invalidate(element.getName());
+        }
+
+        @Override
+        public void removed(Item element) {
+            itemToStorePointCreator.invalidate(element.getName());
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            itemToStorePointCreator.invalidate(element.getName());
+        }
     }
 
     @Override
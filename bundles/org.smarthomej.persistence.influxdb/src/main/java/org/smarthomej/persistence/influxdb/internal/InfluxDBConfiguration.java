@@ -40,6 +40,10 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String WRITE_QUEUE_SIZE_PARAM = "writeQueueSize";
+    public static final String WRITE_BATCH_SIZE_PARAM = "writeBatchSize";
+    public static final String WRITE_FLUSH_INTERVAL_PARAM = "writeFlushInterval";
+    public static final String SPOOL_SIZE_PARAM = "spoolSize";
     public static final InfluxDBConfiguration NO_CONFIGURATION = new InfluxDBConfiguration(Map.of());
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
@@ -56,6 +60,11 @@ public class InfluxDBConfiguration {
     private final boolean addTypeTag;
     private final boolean addLabelTag;
 
+    private final int writeQueueSize;
+    private final int writeBatchSize;
+    private final int writeFlushInterval;
+    private final int spoolSize;
+
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = (String) config.getOrDefault(URL_PARAM, "http://127.0.0.1:8086");
         user = (String) config.getOrDefault(USER_PARAM, "openhab");
@@ -70,6 +79,11 @@ public class InfluxDBConfiguration {
         addCategoryTag = getConfigBooleanValue(config, ADD_CATEGORY_TAG_PARAM, false);
         addLabelTag = getConfigBooleanValue(config, ADD_LABEL_TAG_PARAM, false);
         addTypeTag = getConfigBooleanValue(config, ADD_TYPE_TAG_PARAM, false);
+
+        writeQueueSize = getConfigIntValue(config, WRITE_QUEUE_SIZE_PARAM, 10000);
+        writeBatchSize = getConfigIntValue(config, WRITE_BATCH_SIZE_PARAM, 1000);
+        writeFlushInterval = getConfigIntValue(config, WRITE_FLUSH_INTERVAL_PARAM, 1000);
+        spoolSize = getConfigIntValue(config, SPOOL_SIZE_PARAM, 10);
     }
 
     private static boolean getConfigBooleanValue(Map<String, Object> config, String key, boolean defaultValue) {
@@ -83,6 +97,20 @@ public class InfluxDBConfiguration {
         }
     }
 
+    private int getConfigIntValue(Map<String, Object> config, String key, int defaultValue) {
+        Object object = config.get(key);
+        if (object instanceof Number) {
+            return ((Number) object).intValue();
+        } else if (object instanceof String) {
+            try {
+                return Integer.parseInt((String) object);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for {}, using default {}", object, key, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     private InfluxDBVersion parseInfluxVersion(@Nullable Object value) {
         if (value != null) {
             try {
@@ -165,6 +193,27 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    public int getWriteQueueSize() {
+        return writeQueueSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public int getWriteFlushInterval() {
+        return writeFlushInterval;
+    }
+
+    /**
+     * get the size of the spool file
+     *
+     * @return the size in MB (0 disables spooling)
+     */
+    public int getSpoolSize() {
+        return spoolSize;
+    }
+
     public String getUser() {
         return user;
     }
@@ -183,7 +232,9 @@ public class InfluxDBConfiguration {
                 + password.length() + " chars" + '\'' + ", token='" + token.length() + " chars" + '\''
                 + ", databaseName='" + databaseName + '\'' + ", retentionPolicy='" + retentionPolicy + '\''
                 + ", version=" + version + ", replaceUnderscore=" + replaceUnderscore + ", addCategoryTag="
-                + addCategoryTag + ", addTypeTag=" + addTypeTag + ", addLabelTag=" + addLabelTag + '}';
+                + addCategoryTag + ", addTypeTag=" + addTypeTag + ", addLabelTag=" + addLabelTag
+                + ", writeQueueSize=" + writeQueueSize + ", writeBatchSize=" + writeBatchSize
+                + ", writeFlushInterval=" + writeFlushInterval + ", spoolSize=" + spoolSize + '}';
         return sb;
     }
 
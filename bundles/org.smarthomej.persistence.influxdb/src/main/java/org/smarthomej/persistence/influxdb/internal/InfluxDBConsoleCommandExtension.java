@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.PersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.smarthomej.persistence.influxdb.InfluxDBPersistenceService;
+
+/**
+ * The {@link InfluxDBConsoleCommandExtension} provides statistics of the InfluxDB persistence service
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@Component(service = ConsoleCommandExtension.class)
+@NonNullByDefault
+public class InfluxDBConsoleCommandExtension extends AbstractConsoleCommandExtension {
+    private static final String STATISTICS = "statistics";
+
+    private final PersistenceService persistenceService;
+
+    @Activate
+    public InfluxDBConsoleCommandExtension(
+            @Reference(target = "(service.pid=org.openhab.influxdb)") PersistenceService persistenceService) {
+        super("influxdb", "Show statistics of the InfluxDB persistence service");
+
+        this.persistenceService = persistenceService;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && STATISTICS.equals(args[0])) {
+            if (persistenceService instanceof InfluxDBPersistenceService) {
+                InfluxDBWriteQueue writeQueue = ((InfluxDBPersistenceService) persistenceService).getWriteQueue();
+                console.println("Queue depth:        " + writeQueue.getQueueDepth() + " points");
+                console.println("Spooled:            " + writeQueue.getSpooledBytes() + " bytes");
+                console.println("Last flush latency: " + writeQueue.getLastFlushLatency() + " ms");
+                console.println("Written:            " + writeQueue.getWrittenPoints() + " points");
+                console.println("Dropped:            " + writeQueue.getDroppedPoints() + " points");
+            } else {
+                console.println("InfluxDB persistence service not available.");
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(STATISTICS, "show write queue statistics"));
+    }
+}
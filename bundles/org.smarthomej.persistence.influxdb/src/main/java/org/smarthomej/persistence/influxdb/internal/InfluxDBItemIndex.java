@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.PersistenceItemInfo;
+
+/**
+ * The {@link InfluxDBItemIndex} keeps the number of stored points and the time of the latest point for each item
+ *
+ * The index is seeded once with the counts and latest times stored in the database and then updated for each point
+ * that is written, so item information can be provided without querying the database. Points written before the index
+ * is seeded are ignored, they are already part of the seeded counts.
+ *
+ * The count of an item is the number of points written since the start of the seed window ({@link #SEED_WINDOW} before
+ * the index was seeded). Points that are removed from the database later (e.g. by a retention policy) are still
+ * counted.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBItemIndex {
+    public static final Duration SEED_WINDOW = Duration.ofDays(365);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean seeded = false;
+
+    /**
+     * add the item information stored in the database (only the first call has an effect)
+     *
+     * @param storedItemsInfo the item information of the points written since the start of the seed window
+     */
+    public synchronized void seed(Collection<PersistenceItemInfo> storedItemsInfo) {
+        if (seeded) {
+            return;
+        }
+        for (PersistenceItemInfo itemInfo : storedItemsInfo) {
+            Integer count = itemInfo.getCount();
+            Date latest = itemInfo.getLatest();
+            getEntry(itemInfo.getName()).add(count != null ? count : 0, latest != null ? latest.toInstant() : null);
+        }
+        seeded = true;
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * add a written point (ignored if the index is not seeded yet)
+     *
+     * @param itemName the name of the item
+     * @param time the time of the point
+     */
+    public void add(String itemName, Instant time) {
+        if (seeded) {
+            getEntry(itemName).add(1, time);
+        }
+    }
+
+    /**
+     * get the information for all items in the index
+     *
+     * @return set of item information
+     */
+    public Set<PersistenceItemInfo> getItemInfo() {
+        return entries.entrySet().stream().map(e -> e.getValue().toItemInfo(e.getKey()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private Entry getEntry(String itemName) {
+        return entries.computeIfAbsent(itemName, k -> new Entry());
+    }
+
+    private static class Entry {
+        private int count = 0;
+        private @Nullable Instant latest;
+
+        public synchronized void add(int count, @Nullable Instant time) {
+            this.count += count;
+            Instant latest = this.latest;
+            if (time != null && (latest == null || time.isAfter(latest))) {
+                this.latest = time;
+            }
+        }
+
+        public synchronized PersistenceItemInfo toItemInfo(String itemName) {
+            Instant latest = this.latest;
+            return new InfluxDBPersistentItemInfo(itemName, count, latest != null ? Date.from(latest) : null);
+        }
+    }
+}
@@ -12,30 +12,48 @@
  */
 package org.smarthomej.persistence.influxdb.internal;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.smarthomej.persistence.influxdb.InfluxDBPersistenceService;
 
 /**
  * Utility service for using item metadata in InfluxDB
  *
+ * The metadata is cached per item and invalidated when the metadata in the {@link MetadataRegistry} changes.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 @Component(service = InfluxDBMetadataService.class)
-public class InfluxDBMetadataService {
+public class InfluxDBMetadataService implements RegistryChangeListener<Metadata> {
     private final MetadataRegistry metadataRegistry;
+    private final Map<String, Optional<Metadata>> metadataCache = new ConcurrentHashMap<>();
+    private final Set<Consumer<String>> changeListeners = new CopyOnWriteArraySet<>();
 
     @Activate
     public InfluxDBMetadataService(@Reference MetadataRegistry metadataRegistry) {
         this.metadataRegistry = metadataRegistry;
+        metadataRegistry.addRegistryChangeListener(this);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        metadataRegistry.removeRegistryChangeListener(this);
+        metadataCache.clear();
     }
 
     /**
@@ -64,7 +82,49 @@ public class InfluxDBMetadataService {
      * @return Optional with the metadata (may be empty)
      */
     public Optional<Metadata> getMetaData(String itemName) {
-        MetadataKey key = new MetadataKey(InfluxDBPersistenceService.SERVICE_NAME, itemName);
-        return Optional.ofNullable(metadataRegistry.get(key));
+        return metadataCache.computeIfAbsent(itemName, name -> Optional
+                .ofNullable(metadataRegistry.get(new MetadataKey(InfluxDBPersistenceService.SERVICE_NAME, name))));
+    }
+
+    /**
+     * add a listener that is notified with the item name when the InfluxDB metadata of an item changes
+     *
+     * @param listener the listener
+     */
+    public void addChangeListener(Consumer<String> listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * remove a previously added change listener
+     *
+     * @param listener the listener
+     */
+    public void removeChangeListener(Consumer<String> listener) {
+        changeListeners.remove(listener);
+    }
+
+    @Override
+    public void added(Metadata element) {
+        invalidate(element);
+    }
+
+    @Override
+    public void removed(Metadata element) {
+        invalidate(element);
+    }
+
+    @Override
+    public void updated(Metadata oldElement, Metadata element) {
+        invalidate(element);
+    }
+
+    private void invalidate(Metadata metadata) {
+        MetadataKey key = metadata.getUID();
+        if (InfluxDBPersistenceService.SERVICE_NAME.equals(key.getNamespace())) {
+            String itemName = key.getItemName();
+            metadataCache.remove(itemName);
+            changeListeners.forEach(listener -> listener.accept(itemName));
+        }
     }
 }
@@ -29,10 +29,16 @@ import org.openhab.core.persistence.PersistenceItemInfo;
 public class InfluxDBPersistentItemInfo implements PersistenceItemInfo {
     private final String name;
     private final Integer count;
+    private final @Nullable Date latest;
 
     public InfluxDBPersistentItemInfo(Map.Entry<String, Integer> itemInfo) {
-        this.name = itemInfo.getKey();
-        this.count = itemInfo.getValue();
+        this(itemInfo.getKey(), itemInfo.getValue(), null);
+    }
+
+    public InfluxDBPersistentItemInfo(String name, Integer count, @Nullable Date latest) {
+        this.name = name;
+        this.count = count;
+        this.latest = latest;
     }
 
     @Override
@@ -55,6 +61,6 @@ public class InfluxDBPersistentItemInfo implements PersistenceItemInfo {
     @Override
     @Nullable
     public Date getLatest() {
-        return null;
+        return latest;
     }
 }
@@ -13,10 +13,12 @@
  */
 package org.smarthomej.persistence.influxdb.internal;
 
+import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.PersistenceItemInfo;
 
 /**
  * Manages InfluxDB server interaction maintaining client connection
@@ -51,26 +53,32 @@ public interface InfluxDBRepository {
     boolean checkConnectionStatus();
 
     /**
-     * Return all stored item names with it's count of stored points
+     * Return all stored items with the number of stored points and the time of the latest point
      *
-     * @return Map with <ItemName,ItemCount> entries
+     * Both values are determined by the same query and only consider points since the given start.
+     *
+     * @param start the time of the earliest point that is considered
+     * @return item information of all stored items
      */
-    Map<String, Integer> getStoredItemsCount();
+    List<PersistenceItemInfo> getStoredItemsInfo(Instant start);
 
     /**
-     * Executes Flux query
+     * Executes query
+     *
+     * The result is streamed: rows are only transferred and converted while the returned iterator is consumed.
      *
      * @param query Query
      * @return Query results
      */
-    List<InfluxRow> query(String query);
+    Iterator<InfluxRow> query(String query);
 
     /**
-     * Write point to database
+     * Write points to database
      *
-     * @param influxPoint Point to write
+     * @param records Points in line protocol (millisecond precision), separated by newlines
+     * @return the result of the write operation
      */
-    void write(InfluxPoint influxPoint) throws UnexpectedConditionException;
+    WriteResult write(String records);
 
     /**
      * create a query creator on this repository
@@ -78,4 +86,16 @@ public interface InfluxDBRepository {
      * @return the query creator for this repository
      */
     FilterCriteriaQueryCreator createQueryCreator();
+
+    /**
+     * The result of writing points to the database
+     */
+    enum WriteResult {
+        /** the points were written */
+        WRITTEN,
+        /** the points were rejected by the database (e.g. malformed or conflicting), retrying will fail again */
+        REJECTED,
+        /** the database could not be reached or failed temporarily, writing can be retried later */
+        FAILED
+    }
 }
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBSpool} is a persistent FIFO of write batches, backed by a memory-mapped file
+ *
+ * The file starts with a header (magic number, read position, write position), followed by the records. Each record
+ * consists of its length (4 bytes) and the batch data. Read records are reclaimed by moving the remaining
+ * records to the start of the data area when more space is needed.
+ *
+ * After {@link #close()} the spool can't be used anymore, the mapping is released as soon as the buffer is garbage
+ * collected (Java provides no way to unmap it explicitly).
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpool {
+    private static final int MAGIC = 0x49465350; // "IFSP"
+    private static final int READ_POSITION_OFFSET = 4;
+    private static final int WRITE_POSITION_OFFSET = 8;
+    private static final int HEADER_SIZE = 12;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpool.class);
+
+    private final FileChannel fileChannel;
+    private @Nullable MappedByteBuffer buffer;
+    private final int capacity;
+
+    private int readPosition;
+    private int writePosition;
+
+    /**
+     * open (or create) a spool file
+     *
+     * @param path the path of the spool file
+     * @param capacity the size of the spool file in bytes
+     * @throws IOException if the file could not be opened or mapped
+     */
+    public InfluxDBSpool(Path path, int capacity) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        // an existing spool is never shrunk to avoid losing data
+        this.capacity = (int) Math.max(capacity, Math.min(fileChannel.size(), Integer.MAX_VALUE));
+        MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, this.capacity);
+        this.buffer = buffer;
+
+        readPosition = buffer.getInt(READ_POSITION_OFFSET);
+        writePosition = buffer.getInt(WRITE_POSITION_OFFSET);
+        if (buffer.getInt(0) != MAGIC || readPosition < HEADER_SIZE || writePosition < readPosition
+                || writePosition > this.capacity) {
+            if (buffer.getInt(0) == MAGIC) {
+                logger.warn("Spool file '{}' is corrupted, discarding content.", path);
+            }
+            buffer.putInt(0, MAGIC);
+            readPosition = HEADER_SIZE;
+            writePosition = HEADER_SIZE;
+            writeHeader(buffer);
+        } else if (writePosition > readPosition) {
+            logger.info("Spool file '{}' contains {} bytes of unwritten data.", path, writePosition - readPosition);
+        }
+    }
+
+    /**
+     * append a record to the spool
+     *
+     * @param data the record
+     * @return true if the record was added, false if there is not enough space left or the spool is closed
+     */
+    public synchronized boolean append(byte[] data) {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            return false;
+        }
+        int recordSize = 4 + data.length;
+        if (writePosition + recordSize > capacity) {
+            compact(buffer);
+            if (writePosition + recordSize > capacity) {
+                return false;
+            }
+        }
+        buffer.putInt(writePosition, data.length);
+        ByteBuffer target = buffer.duplicate();
+        target.position(writePosition + 4);
+        target.put(data);
+        writePosition += recordSize;
+        writeHeader(buffer);
+        return true;
+    }
+
+    /**
+     * get the oldest record without removing it
+     *
+     * @return the record or null if the spool is empty or closed
+     */
+    public synchronized byte @Nullable [] peek() {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null || readPosition >= writePosition) {
+            return null;
+        }
+        int length = buffer.getInt(readPosition);
+        if (length < 0 || readPosition + 4 + length > writePosition) {
+            logger.warn("Spool file contains an invalid record, discarding content.");
+            readPosition = HEADER_SIZE;
+            writePosition = HEADER_SIZE;
+            writeHeader(buffer);
+            return null;
+        }
+        byte[] data = new byte[length];
+        ByteBuffer source = buffer.duplicate();
+        source.position(readPosition + 4);
+        source.get(data);
+        return data;
+    }
+
+    /**
+     * remove the oldest record
+     */
+    public synchronized void remove() {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null || readPosition >= writePosition) {
+            return;
+        }
+        readPosition += 4 + buffer.getInt(readPosition);
+        if (readPosition >= writePosition) {
+            readPosition = HEADER_SIZE;
+            writePosition = HEADER_SIZE;
+        }
+        writeHeader(buffer);
+    }
+
+    public synchronized boolean isEmpty() {
+        return readPosition >= writePosition;
+    }
+
+    /**
+     * get the number of bytes used by records
+     *
+     * @return the used size in bytes
+     */
+    public synchronized int getUsedBytes() {
+        return writePosition - readPosition;
+    }
+
+    /**
+     * write all changes to the storage device, release the buffer and close the spool file
+     */
+    public synchronized void close() {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            return;
+        }
+        buffer.force();
+        this.buffer = null;
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close spool file: {}", e.getMessage());
+        }
+    }
+
+    private void compact(MappedByteBuffer buffer) {
+        if (readPosition == HEADER_SIZE) {
+            return;
+        }
+        int length = writePosition - readPosition;
+        ByteBuffer source = buffer.duplicate();
+        source.position(readPosition).limit(writePosition);
+        ByteBuffer target = buffer.duplicate();
+        target.position(HEADER_SIZE);
+        target.put(source);
+        readPosition = HEADER_SIZE;
+        writePosition = HEADER_SIZE + length;
+        writeHeader(buffer);
+    }
+
+    private void writeHeader(MappedByteBuffer buffer) {
+        buffer.putInt(READ_POSITION_OFFSET, readPosition);
+        buffer.putInt(WRITE_POSITION_OFFSET, writePosition);
+    }
+}
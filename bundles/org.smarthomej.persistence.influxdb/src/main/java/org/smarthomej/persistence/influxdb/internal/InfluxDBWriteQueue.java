@@ -0,0 +1,401 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository.WriteResult;
+
+/**
+ * The {@link InfluxDBWriteQueue} decouples storing points from writing them to the database
+ *
+ * Points are collected in a bounded queue and written in batches (serialized once per batch in line protocol) when
+ * the batch size is reached or the flush interval expires. If the database can't be reached, batches are kept in the
+ * {@link InfluxDBSpool} (if available) and replayed in order as soon as writing succeeds again. Batches that are
+ * rejected by the database are dropped, so they don't block the following batches.
+ *
+ * Flushing blocks on network I/O, so the given scheduler should not be shared with other services.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteQueue {
+    private static final long RETRY_DELAY = TimeUnit.SECONDS.toNanos(10);
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBWriteQueue.class);
+
+    private final InfluxDBRepository influxDBRepository;
+    private final BooleanSupplier connectionCheck;
+    private final BiConsumer<String, Instant> writeListener;
+    private final @Nullable InfluxDBSpool spool;
+    private final ScheduledExecutorService scheduler;
+    private final BlockingQueue<InfluxPoint> queue;
+    private final int batchSize;
+    private final ScheduledFuture<?> flushJob;
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong writtenPoints = new AtomicLong();
+    private final AtomicLong droppedPoints = new AtomicLong();
+    private volatile long lastFlushLatency = 0;
+    private long nextWriteAttempt = System.nanoTime();
+    private volatile boolean stopped = false;
+    private boolean closed = false;
+
+    /**
+     * create a new write queue
+     *
+     * @param influxDBRepository the repository for writing
+     * @param connectionCheck checks (and re-establishes) the connection before writing
+     * @param writeListener called with the item name and the time of each point that was written
+     * @param spool the spool for batches that could not be written (or null if spooling is disabled)
+     * @param scheduler the scheduler used for flushing (a dedicated scheduler, writing blocks the thread)
+     * @param queueSize the maximum number of points waiting for a flush
+     * @param batchSize the maximum number of points in one batch
+     * @param flushInterval the maximum time in ms points are kept in the queue
+     */
+    public InfluxDBWriteQueue(InfluxDBRepository influxDBRepository, BooleanSupplier connectionCheck,
+            BiConsumer<String, Instant> writeListener, @Nullable InfluxDBSpool spool,
+            ScheduledExecutorService scheduler, int queueSize, int batchSize, int flushInterval) {
+        this.influxDBRepository = influxDBRepository;
+        this.connectionCheck = connectionCheck;
+        this.writeListener = writeListener;
+        this.spool = spool;
+        this.scheduler = scheduler;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * add a point to the queue
+     *
+     * @param point the point
+     * @return true if the point was added, false if it was dropped because the queue is full or already shut down
+     */
+    public boolean add(InfluxPoint point) {
+        if (stopped) {
+            // the scheduler is (or will soon be) shut down, points can't be flushed anymore
+            logger.debug("Write queue is shut down, dropping point {}", point);
+            return false;
+        }
+        if (!queue.offer(point)) {
+            if (droppedPoints.getAndIncrement() % 1000 == 0) {
+                logger.warn("Write queue is full, dropping points (total dropped: {})", droppedPoints.get());
+            }
+            return false;
+        }
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+        return true;
+    }
+
+    /**
+     * write all queued points (and spooled batches) to the database
+     */
+    public synchronized void flush() {
+        flushScheduled.set(false);
+        if (closed) {
+            return;
+        }
+        long start = System.nanoTime();
+
+        boolean writeDirectly = replaySpool();
+        int pointCount = 0;
+        List<InfluxPoint> points = new ArrayList<>(Math.min(batchSize, queue.size()));
+        while (queue.drainTo(points, batchSize) > 0) {
+            Batch batch = createBatch(points);
+            points.clear();
+            pointCount += batch.pointCount;
+
+            if (batch.pointCount == 0) {
+                continue;
+            }
+            WriteResult result = writeDirectly ? write(batch.records) : WriteResult.FAILED;
+            if (result == WriteResult.WRITTEN) {
+                writtenPoints.addAndGet(batch.pointCount);
+                notifyWritten(batch);
+            } else if (result == WriteResult.REJECTED) {
+                droppedPoints.addAndGet(batch.pointCount);
+                logger.warn("InfluxDB rejected a batch of {} points, dropping them.", batch.pointCount);
+                logger.debug("Rejected points: {}", batch.records);
+            } else {
+                // keep order: once a batch is spooled, all following batches need to be spooled, too
+                writeDirectly = false;
+                spool(batch);
+            }
+        }
+
+        if (pointCount > 0) {
+            lastFlushLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            logger.debug("Flushed {} points in {} ms (queue depth {}, spooled {} bytes)", pointCount,
+                    lastFlushLatency, queue.size(), getSpooledBytes());
+        }
+    }
+
+    /**
+     * try to write all spooled batches
+     *
+     * @return true if the spool is empty (or not available) afterwards
+     */
+    private boolean replaySpool() {
+        InfluxDBSpool spool = this.spool;
+        if (spool == null) {
+            return true;
+        }
+        byte[] data;
+        while ((data = spool.peek()) != null) {
+            Batch batch;
+            try {
+                batch = Batch.fromBytes(data);
+            } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+                spool.remove();
+                logger.warn("Spool contains an invalid batch of {} bytes, dropping it.", data.length);
+                continue;
+            }
+            WriteResult result = write(batch.records);
+            if (result == WriteResult.FAILED) {
+                return false;
+            }
+            spool.remove();
+            if (result == WriteResult.REJECTED) {
+                droppedPoints.addAndGet(batch.pointCount);
+                logger.warn("InfluxDB rejected a spooled batch of {} points, dropping them.", batch.pointCount);
+                logger.debug("Rejected points: {}", batch.records);
+            } else {
+                notifyWritten(batch);
+                logger.debug("Replayed spooled batch of {} points", batch.pointCount);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * serialize the given points to a batch, points that can't be serialized are dropped
+     *
+     * @param points the points
+     * @return the batch
+     */
+    private Batch createBatch(List<InfluxPoint> points) {
+        StringBuilder records = new StringBuilder(points.size() * 100);
+        List<String> itemNames = new ArrayList<>(points.size());
+        List<Instant> times = new ArrayList<>(points.size());
+        int pointCount = 0;
+        for (InfluxPoint point : points) {
+            if (appendLineProtocol(point, records)) {
+                pointCount++;
+                String itemName = point.getTags().get(InfluxDBConstants.TAG_ITEM_NAME);
+                if (itemName != null) {
+                    itemNames.add(itemName);
+                    times.add(point.getTime());
+                }
+            }
+        }
+        return new Batch(pointCount, itemNames, times, records.toString());
+    }
+
+    private boolean appendLineProtocol(InfluxPoint point, StringBuilder records) {
+        try {
+            point.appendLineProtocol(records);
+            return true;
+        } catch (UnexpectedConditionException e) {
+            logger.warn("Failed to store point {}: {}", point, e.getMessage());
+            return false;
+        }
+    }
+
+    private void notifyWritten(Batch batch) {
+        for (int i = 0; i < batch.itemNames.size(); i++) {
+            writeListener.accept(batch.itemNames.get(i), batch.times.get(i));
+        }
+    }
+
+    private WriteResult write(String records) {
+        if (System.nanoTime() - nextWriteAttempt < 0) {
+            return WriteResult.FAILED;
+        }
+        WriteResult result = connectionCheck.getAsBoolean() ? influxDBRepository.write(records) : WriteResult.FAILED;
+        if (result == WriteResult.FAILED) {
+            nextWriteAttempt = System.nanoTime() + RETRY_DELAY;
+        }
+        return result;
+    }
+
+    private void spool(Batch batch) {
+        InfluxDBSpool spool = this.spool;
+        if (spool != null && spool.append(batch.toBytes())) {
+            logger.trace("Spooled batch of {} points", batch.pointCount);
+        } else {
+            droppedPoints.addAndGet(batch.pointCount);
+            logger.warn("Failed to write {} points to InfluxDB and spool is not available or full, dropping them.",
+                    batch.pointCount);
+        }
+    }
+
+    /**
+     * stop flushing periodically, write or spool the remaining points and close the spool
+     */
+    public void shutdown() {
+        stopped = true;
+        flushJob.cancel(false);
+        synchronized (this) {
+            // try to write immediately, everything else goes to the spool
+            nextWriteAttempt = System.nanoTime();
+            flush();
+            closed = true;
+            InfluxDBSpool spool = this.spool;
+            if (spool != null) {
+                spool.close();
+            }
+        }
+    }
+
+    /**
+     * get the number of points waiting for a flush
+     *
+     * @return number of points
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * get the number of bytes in the spool
+     *
+     * @return number of bytes
+     */
+    public int getSpooledBytes() {
+        InfluxDBSpool spool = this.spool;
+        return spool != null ? spool.getUsedBytes() : 0;
+    }
+
+    /**
+     * get the duration of the last flush
+     *
+     * @return the duration in ms
+     */
+    public long getLastFlushLatency() {
+        return lastFlushLatency;
+    }
+
+    /**
+     * get the number of points successfully written (excluding replayed points)
+     *
+     * @return number of points
+     */
+    public long getWrittenPoints() {
+        return writtenPoints.get();
+    }
+
+    /**
+     * get the number of points dropped because the queue or the spool were full or the database rejected them
+     *
+     * @return number of points
+     */
+    public long getDroppedPoints() {
+        return droppedPoints.get();
+    }
+
+    /**
+     * The {@link Batch} contains points serialized in line protocol and the item name and time of each point, so the
+     * write listener can be notified without parsing the line protocol
+     *
+     * In the spool a batch is stored as the number of points, the number of item names, the item names with their
+     * times and finally the line protocol.
+     */
+    private static class Batch {
+        private final int pointCount;
+        private final List<String> itemNames;
+        private final List<Instant> times;
+        private final String records;
+
+        private Batch(int pointCount, List<String> itemNames, List<Instant> times, String records) {
+            this.pointCount = pointCount;
+            this.itemNames = itemNames;
+            this.times = times;
+            this.records = records;
+        }
+
+        private byte[] toBytes() {
+            List<byte[]> encodedItemNames = new ArrayList<>(itemNames.size());
+            int size = 8;
+            for (String itemName : itemNames) {
+                byte[] encodedItemName = itemName.getBytes(StandardCharsets.UTF_8);
+                encodedItemNames.add(encodedItemName);
+                size += 4 + encodedItemName.length + 12;
+            }
+            byte[] encodedRecords = records.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.allocate(size + encodedRecords.length);
+            buffer.putInt(pointCount).putInt(itemNames.size());
+            for (int i = 0; i < itemNames.size(); i++) {
+                byte[] encodedItemName = encodedItemNames.get(i);
+                Instant time = times.get(i);
+                buffer.putInt(encodedItemName.length).put(encodedItemName);
+                buffer.putLong(time.getEpochSecond()).putInt(time.getNano());
+            }
+            buffer.put(encodedRecords);
+            return buffer.array();
+        }
+
+        /**
+         * restore a spooled batch
+         *
+         * @param data the spooled data
+         * @return the batch
+         * @throws BufferUnderflowException if the data is truncated
+         * @throws IllegalArgumentException if the data is invalid
+         * @throws DateTimeException if a time is invalid
+         */
+        private static Batch fromBytes(byte[] data) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            int pointCount = buffer.getInt();
+            int itemNameCount = buffer.getInt();
+            if (pointCount < 0 || itemNameCount < 0 || itemNameCount > pointCount) {
+                throw new IllegalArgumentException("Invalid point count");
+            }
+            List<String> itemNames = new ArrayList<>(itemNameCount);
+            List<Instant> times = new ArrayList<>(itemNameCount);
+            for (int i = 0; i < itemNameCount; i++) {
+                int length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    throw new IllegalArgumentException("Invalid item name length");
+                }
+                itemNames.add(new String(data, buffer.position(), length, StandardCharsets.UTF_8));
+                buffer.position(buffer.position() + length);
+                times.add(Instant.ofEpochSecond(buffer.getLong(), buffer.getInt()));
+            }
+            String records = new String(data, buffer.position(), buffer.remaining(), StandardCharsets.UTF_8);
+            return new Batch(pointCount, itemNames, times, records);
+        }
+    }
+}
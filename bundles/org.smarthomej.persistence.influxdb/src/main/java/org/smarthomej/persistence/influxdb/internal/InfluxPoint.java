@@ -13,10 +13,15 @@
  */
 package org.smarthomej.persistence.influxdb.internal;
 
+import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -65,6 +70,85 @@ public class InfluxPoint {
         return Collections.unmodifiableMap(tags);
     }
 
+    /**
+     * append this point in InfluxDB line protocol (millisecond precision) to a {@link StringBuilder}
+     *
+     * Tags are sorted by key as recommended by InfluxDB, number types are written as integer (with suffix
+     * <code>i</code>) or float fields in the same way as the InfluxDB clients do.
+     *
+     * @param sb the {@link StringBuilder}
+     * @throws UnexpectedConditionException if the value can't be represented in line protocol
+     */
+    public void appendLineProtocol(StringBuilder sb) throws UnexpectedConditionException {
+        int start = sb.length();
+        escape(sb, measurementName, false);
+        new TreeMap<>(tags).forEach((key, tagValue) -> {
+            if (!key.isEmpty() && !tagValue.isEmpty()) {
+                sb.append(',');
+                escape(sb, key, true);
+                sb.append('=');
+                escape(sb, tagValue, true);
+            }
+        });
+        sb.append(' ').append(FIELD_VALUE_NAME).append('=');
+        if (value instanceof String) {
+            sb.append('"');
+            String stringValue = (String) value;
+            for (int i = 0; i < stringValue.length(); i++) {
+                char c = stringValue.charAt(i);
+                if (c == '"' || c == '\\') {
+                    sb.append('\\');
+                }
+                sb.append(c);
+            }
+            sb.append('"');
+        } else if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+                || value instanceof BigInteger) {
+            sb.append(value).append('i');
+        } else if (value instanceof BigDecimal) {
+            sb.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                sb.setLength(start);
+                throw new UnexpectedConditionException("Value " + value + " can't be stored");
+            }
+            sb.append(BigDecimal.valueOf(doubleValue).toPlainString());
+        } else if (value instanceof Boolean) {
+            sb.append(value);
+        } else {
+            sb.setLength(start);
+            throw new UnexpectedConditionException("Not expected value type");
+        }
+        sb.append(' ').append(time.toEpochMilli()).append('\n');
+    }
+
+    /**
+     * escape a measurement name, tag key or tag value
+     *
+     * Line breaks would end the line, so they are written as <code>\n</code> and <code>\r</code> in the same way as
+     * the InfluxDB clients do.
+     *
+     * @param sb the {@link StringBuilder}
+     * @param s the string to escape
+     * @param escapeEquals true if <code>=</code> needs to be escaped (tag keys and values)
+     */
+    private static void escape(StringBuilder sb, String s, boolean escapeEquals) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n') {
+                sb.append("\\n");
+            } else if (c == '\r') {
+                sb.append("\\r");
+            } else {
+                if (c == ',' || c == ' ' || (escapeEquals && c == '=')) {
+                    sb.append('\\');
+                }
+                sb.append(c);
+            }
+        }
+    }
+
     public static final class Builder {
         private String measurementName;
         private @Nullable Instant time;
@@ -90,6 +174,11 @@ public class InfluxPoint {
             return this;
         }
 
+        public Builder withTags(Map<String, String> tags) {
+            this.tags.putAll(tags);
+            return this;
+        }
+
         public InfluxPoint build() {
             return new InfluxPoint(this);
         }
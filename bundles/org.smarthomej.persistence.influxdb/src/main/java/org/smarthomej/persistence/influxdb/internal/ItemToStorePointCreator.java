@@ -19,24 +19,32 @@ import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG_TYPE_NAME;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.Item;
+import org.openhab.core.items.Metadata;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 
 /**
  * Logic to create an InfluxDB {@link InfluxPoint} from an openHAB {@link Item}
  *
+ * Everything that does not depend on the item state (measurement name, tags and the state class used for storing) is
+ * computed once per item and cached until the item or its InfluxDB metadata changes.
+ *
  * @author Joan Pujol Espinar - Initial contribution
  */
 @NonNullByDefault
 public class ItemToStorePointCreator {
     private final InfluxDBConfiguration configuration;
     private final InfluxDBMetadataService influxDBMetadataService;
+    private final Map<String, ItemInfo> itemInfoCache = new ConcurrentHashMap<>();
 
     public ItemToStorePointCreator(InfluxDBConfiguration configuration,
             InfluxDBMetadataService influxDBMetadataService) {
@@ -49,23 +57,43 @@ public class ItemToStorePointCreator {
             return null;
         }
 
-        String measurementName = calculateMeasurementName(item, storeAlias);
-        String itemName = item.getName();
-        State state = getItemState(item);
+        ItemInfo itemInfo = getItemInfo(item);
+        String measurementName = itemInfo.getMeasurementName(storeAlias);
+        State state = getItemState(item, itemInfo.desiredStateClass);
 
         Object value = InfluxDBStateConvertUtils.stateToObject(state);
 
-        InfluxPoint.Builder pointBuilder = InfluxPoint.newBuilder(measurementName).withTime(Instant.now())
-                .withValue(value).withTag(TAG_ITEM_NAME, itemName);
+        return InfluxPoint.newBuilder(measurementName).withTime(Instant.now()).withValue(value)
+                .withTags(itemInfo.tags).build();
+    }
 
-        addPointTags(item, pointBuilder);
+    /**
+     * remove the cached information of an item (e.g. because the item or its metadata changed)
+     *
+     * @param itemName the item name
+     */
+    public void invalidate(String itemName) {
+        itemInfoCache.remove(itemName);
+    }
 
-        return pointBuilder.build();
+    private ItemInfo getItemInfo(Item item) {
+        ItemInfo itemInfo = itemInfoCache.get(item.getName());
+        // a changed item is a new instance, so the identity check also catches updates we were not notified about
+        if (itemInfo != null && itemInfo.item == item) {
+            return itemInfo;
+        }
+        // computed while holding the lock of the entry, so a concurrent invalidation can't be overwritten with
+        // information calculated from outdated metadata
+        return Objects.requireNonNull(itemInfoCache.compute(item.getName(),
+                (itemName, cached) -> cached != null && cached.item == item ? cached : new ItemInfo(item)));
     }
 
-    private String calculateMeasurementName(Item item, @Nullable String storeAlias) {
-        String name = storeAlias != null && !storeAlias.isBlank() ? storeAlias : item.getName();
-        name = influxDBMetadataService.getMeasurementNameOrDefault(item.getName(), name);
+    private String calculateMeasurementName(String itemName, @Nullable String metadataName,
+            @Nullable String storeAlias) {
+        String name = storeAlias != null && !storeAlias.isBlank() ? storeAlias : itemName;
+        if (metadataName != null) {
+            name = metadataName;
+        }
 
         if (configuration.isReplaceUnderscore()) {
             name = name.replace('_', '.');
@@ -74,10 +102,11 @@ public class ItemToStorePointCreator {
         return name;
     }
 
-    private State getItemState(Item item) {
-        return calculateDesiredTypeConversionToStore(item)
-                .map(desiredClass -> Objects.requireNonNullElseGet(item.getStateAs(desiredClass), item::getState))
-                .orElseGet(item::getState);
+    private State getItemState(Item item, @Nullable Class<? extends State> desiredStateClass) {
+        if (desiredStateClass == null) {
+            return item.getState();
+        }
+        return Objects.requireNonNullElseGet(item.getStateAs(desiredStateClass), item::getState);
     }
 
     private Optional<Class<? extends State>> calculateDesiredTypeConversionToStore(Item item) {
@@ -85,22 +114,51 @@ public class ItemToStorePointCreator {
                 .findFirst().map(commandType -> commandType.asSubclass(State.class));
     }
 
-    private void addPointTags(Item item, InfluxPoint.Builder pointBuilder) {
+    private Map<String, String> calculatePointTags(Item item, Optional<Metadata> metadata) {
+        Map<String, String> tags = new HashMap<>();
+        tags.put(TAG_ITEM_NAME, item.getName());
+
         if (configuration.isAddCategoryTag()) {
-            String categoryName = Objects.requireNonNullElse(item.getCategory(), "n/a");
-            pointBuilder.withTag(TAG_CATEGORY_NAME, categoryName);
+            tags.put(TAG_CATEGORY_NAME, Objects.requireNonNullElse(item.getCategory(), "n/a"));
         }
 
         if (configuration.isAddTypeTag()) {
-            pointBuilder.withTag(TAG_TYPE_NAME, item.getType());
+            tags.put(TAG_TYPE_NAME, item.getType());
         }
 
         if (configuration.isAddLabelTag()) {
-            String labelName = Objects.requireNonNullElse(item.getLabel(), "n/a");
-            pointBuilder.withTag(TAG_LABEL_NAME, labelName);
+            tags.put(TAG_LABEL_NAME, Objects.requireNonNullElse(item.getLabel(), "n/a"));
         }
 
-        influxDBMetadataService.getMetaData(item.getName())
-                .ifPresent(metadata -> metadata.getConfiguration().forEach(pointBuilder::withTag));
+        metadata.ifPresent(m -> m.getConfiguration().forEach((key, value) -> tags.put(key, value.toString())));
+
+        return Map.copyOf(tags);
+    }
+
+    /**
+     * The {@link ItemInfo} contains the state-independent part of the points of an item
+     */
+    private class ItemInfo {
+        private final Item item;
+        private final @Nullable String metadataName;
+        private final String measurementName;
+        private final Map<String, String> tags;
+        private final @Nullable Class<? extends State> desiredStateClass;
+
+        public ItemInfo(Item item) {
+            this.item = item;
+            Optional<Metadata> metadata = influxDBMetadataService.getMetaData(item.getName());
+            this.metadataName = metadata.map(Metadata::getValue).filter(name -> !name.isBlank()).orElse(null);
+            this.measurementName = calculateMeasurementName(item.getName(), metadataName, null);
+            this.tags = calculatePointTags(item, metadata);
+            this.desiredStateClass = calculateDesiredTypeConversionToStore(item).orElse(null);
+        }
+
+        public String getMeasurementName(@Nullable String storeAlias) {
+            if (storeAlias == null || storeAlias.isBlank()) {
+                return measurementName;
+            }
+            return calculateMeasurementName(item.getName(), metadataName, storeAlias);
+        }
     }
 }
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link StreamingQueryResult} connects an asynchronous (callback based) query to a consumer that iterates over
+ * the result
+ *
+ * Only a limited number of rows is buffered. If the buffer is full, the producer (the callback of the client) is
+ * blocked until the consumer catches up. If the consumer abandons the result, it should {@link #close()} it: the
+ * producer is released immediately and the query is cancelled. As a last resort, a producer that is blocked for too
+ * long gives up and the query is cancelled, too.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingQueryResult implements Iterator<InfluxRow>, AutoCloseable {
+    private static final int BUFFER_SIZE = 1000;
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+    private static final Object END = new Object();
+
+    private final Logger logger = LoggerFactory.getLogger(StreamingQueryResult.class);
+    private final BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile boolean cancelled = false;
+    private volatile @Nullable Runnable cancelAction;
+    private @Nullable Object next;
+
+    /**
+     * set the action that cancels the query in the client (called by the producer)
+     *
+     * @param cancelAction the action
+     */
+    public void setCancelAction(Runnable cancelAction) {
+        if (this.cancelAction == null) {
+            this.cancelAction = cancelAction;
+        }
+    }
+
+    /**
+     * add a row to the result (called by the producer)
+     *
+     * @param row the row
+     * @return true if the row was added, false if the consumer is gone and the query should be cancelled
+     */
+    public boolean add(InfluxRow row) {
+        if (cancelled) {
+            return false;
+        }
+        try {
+            if (buffer.offer(row, TIMEOUT, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            logger.debug("Result was not consumed in time, cancelling query");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cancel();
+        return false;
+    }
+
+    /**
+     * mark the result as complete (called by the producer)
+     */
+    public void complete() {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (!buffer.offer(END, TIMEOUT, TimeUnit.MILLISECONDS)) {
+                cancel();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+        }
+    }
+
+    /**
+     * mark the result as failed (called by the producer)
+     *
+     * @param throwable the cause
+     */
+    public void fail(Throwable throwable) {
+        logger.warn("Query failed, result is incomplete: {}", throwable.getMessage());
+        complete();
+    }
+
+    /**
+     * stop consuming the result (called by the consumer)
+     *
+     * A producer that waits for buffer space is released and the query is cancelled in the client.
+     */
+    @Override
+    public void close() {
+        if (!completed.get()) {
+            cancel();
+            Runnable cancelAction = this.cancelAction;
+            if (cancelAction != null) {
+                cancelAction.run();
+            }
+        }
+    }
+
+    private void cancel() {
+        cancelled = true;
+        completed.set(true);
+        buffer.clear();
+        buffer.offer(END);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && cancelled) {
+            // rows added by a producer that was released by the cancellation are ignored
+            next = END;
+        } else if (next == null) {
+            try {
+                Object element = buffer.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+                if (element == null) {
+                    logger.warn("Timeout while waiting for query result, result is incomplete");
+                    element = END;
+                }
+                next = element;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                next = END;
+            }
+        }
+        return next != END;
+    }
+
+    @Override
+    public InfluxRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        InfluxRow row = (InfluxRow) Objects.requireNonNull(next);
+        next = null;
+        return row;
+    }
+}
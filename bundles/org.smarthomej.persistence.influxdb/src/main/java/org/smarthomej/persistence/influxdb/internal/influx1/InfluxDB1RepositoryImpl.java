@@ -15,25 +15,25 @@ package org.smarthomej.persistence.influxdb.internal.influx1;
 
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.COLUMN_TIME_NAME_V1;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.COLUMN_VALUE_NAME_V1;
-import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.InfluxDB;
+import org.influxdb.InfluxDBException;
 import org.influxdb.InfluxDBFactory;
-import org.influxdb.dto.Point;
+import org.influxdb.InfluxDBIOException;
 import org.influxdb.dto.Pong;
 import org.influxdb.dto.Query;
 import org.influxdb.dto.QueryResult;
+import org.openhab.core.persistence.PersistenceItemInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.persistence.influxdb.InfluxDBPersistenceService;
@@ -41,9 +41,8 @@ import org.smarthomej.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
-import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
-import org.smarthomej.persistence.influxdb.internal.UnexpectedConditionException;
+import org.smarthomej.persistence.influxdb.internal.StreamingQueryResult;
 
 /**
  * Implementation of {@link InfluxDBRepository} for InfluxDB 1.0
@@ -53,6 +52,8 @@ import org.smarthomej.persistence.influxdb.internal.UnexpectedConditionException
  */
 @NonNullByDefault
 public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(InfluxDB1RepositoryImpl.class);
     private final InfluxDBConfiguration configuration;
     private final InfluxDBMetadataService influxDBMetadataService;
@@ -75,7 +76,6 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                 configuration.getPassword());
         createdClient.setDatabase(configuration.getDatabaseName());
         createdClient.setRetentionPolicy(configuration.getRetentionPolicy());
-        createdClient.enableBatch(200, 100, TimeUnit.MILLISECONDS);
         this.client = createdClient;
         return checkConnectionStatus();
     }
@@ -118,53 +118,64 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public void write(InfluxPoint point) throws UnexpectedConditionException {
+    public WriteResult write(String records) {
         final InfluxDB currentClient = this.client;
         if (currentClient != null) {
-            Point clientPoint = convertPointToClientFormat(point);
-            currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(), clientPoint);
-        } else {
-            logger.warn("Write point {} ignored due to client isn't connected", point);
-        }
-    }
-
-    private Point convertPointToClientFormat(InfluxPoint point) throws UnexpectedConditionException {
-        Point.Builder clientPoint = Point.measurement(point.getMeasurementName()).time(point.getTime().toEpochMilli(),
-                TimeUnit.MILLISECONDS);
-        setPointValue(point.getValue(), clientPoint);
-        point.getTags().forEach(clientPoint::tag);
-        return clientPoint.build();
-    }
-
-    private void setPointValue(@Nullable Object value, Point.Builder point) throws UnexpectedConditionException {
-        if (value instanceof String) {
-            point.addField(FIELD_VALUE_NAME, (String) value);
-        } else if (value instanceof Number) {
-            point.addField(FIELD_VALUE_NAME, (Number) value);
-        } else if (value instanceof Boolean) {
-            point.addField(FIELD_VALUE_NAME, (Boolean) value);
-        } else if (value == null) {
-            point.addField(FIELD_VALUE_NAME, "null");
+            try {
+                currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(),
+                        InfluxDB.ConsistencyLevel.ONE, TimeUnit.MILLISECONDS, records);
+                return WriteResult.WRITTEN;
+            } catch (InfluxDBException.UnableToParseException | InfluxDBException.FieldTypeConflictException
+                    | InfluxDBException.PointsBeyondRetentionPolicyException e) {
+                logger.warn("Points were rejected by the database: {}", e.getMessage());
+                return WriteResult.REJECTED;
+            } catch (InfluxDBException | InfluxDBIOException e) {
+                logger.warn("Failed to write points: {}", e.getMessage());
+            }
         } else {
-            throw new UnexpectedConditionException("Not expected value type");
+            logger.warn("Write points ignored due to client isn't connected");
         }
+        return WriteResult.FAILED;
     }
 
     @Override
-    public List<InfluxRow> query(String query) {
+    public Iterator<InfluxRow> query(String query) {
         final InfluxDB currentClient = client;
         if (currentClient != null) {
             Query parsedQuery = new Query(query, configuration.getDatabaseName());
-            List<QueryResult.Result> results = currentClient.query(parsedQuery, TimeUnit.MILLISECONDS).getResults();
-            return convertClientResultToRepository(results);
+            StreamingQueryResult result = new StreamingQueryResult();
+            currentClient.query(parsedQuery, QUERY_CHUNK_SIZE, (cancellable, queryResult) -> {
+                result.setCancelAction(cancellable::cancel);
+                if (!addRows(queryResult, result)) {
+                    cancellable.cancel();
+                }
+            }, result::complete, result::fail);
+            return result;
         } else {
-            logger.warn("Returning empty list because queryAPI isn't present");
-            return List.of();
+            logger.warn("Returning empty result because queryAPI isn't present");
+            return Collections.emptyIterator();
         }
     }
 
-    private List<InfluxRow> convertClientResultToRepository(List<QueryResult.Result> results) {
-        List<InfluxRow> rows = new ArrayList<>();
+    /**
+     * add all rows of a (partial) query result to the streaming result
+     *
+     * @param queryResult the (partial) query result
+     * @param rows the streaming result
+     * @return true if all rows have been added, false if the query should be cancelled
+     */
+    private boolean addRows(QueryResult queryResult, StreamingQueryResult rows) {
+        String error = queryResult.getError();
+        if (error != null) {
+            if (!"DONE".equals(error)) {
+                logger.warn("{}", error);
+            }
+            return true;
+        }
+        List<QueryResult.Result> results = queryResult.getResults();
+        if (results == null) {
+            return true;
+        }
         for (QueryResult.Result result : results) {
             List<QueryResult.Series> allSeries = result.getSeries();
             if (result.getError() != null) {
@@ -188,29 +199,39 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                             int valueColumn = columns.indexOf(COLUMN_VALUE_NAME_V1);
                             int itemNameColumn = columns.indexOf(TAG_ITEM_NAME);
                             if (valueColumn == -1 || timestampColumn == -1) {
-                                throw new IllegalStateException("missing column");
+                                rows.fail(new IllegalStateException("missing column"));
+                                return false;
                             }
                             for (List<Object> valueObject : allValues) {
-                                Double rawTime = (Double) valueObject.get(timestampColumn);
-                                Instant time = Instant.ofEpochMilli(rawTime.longValue());
+                                Instant time = parseTime(valueObject.get(timestampColumn));
                                 Object value = valueObject.get(valueColumn);
                                 String itemName = itemNameColumn == -1 ? defaultItemName
                                         : Objects.requireNonNullElse((String) valueObject.get(itemNameColumn),
                                                 defaultItemName);
                                 logger.trace("adding historic item {}: time {} value {}", itemName, time, value);
-                                rows.add(new InfluxRow(time, itemName, value));
+                                if (!rows.add(new InfluxRow(time, itemName, value))) {
+                                    return false;
+                                }
                             }
                         }
                     }
                 }
             }
         }
-        return rows;
+        return true;
+    }
+
+    private Instant parseTime(Object rawTime) {
+        // chunked queries return RFC3339 timestamps, other queries epoch milliseconds
+        if (rawTime instanceof Number) {
+            return Instant.ofEpochMilli(((Number) rawTime).longValue());
+        }
+        return Instant.parse(rawTime.toString());
     }
 
     @Override
-    public Map<String, Integer> getStoredItemsCount() {
-        return Collections.emptyMap();
+    public List<PersistenceItemInfo> getStoredItemsInfo(Instant start) {
+        return List.of();
     }
 
     @Override
@@ -15,39 +15,39 @@ package org.smarthomej.persistence.influxdb.internal.influx2;
 
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.COLUMN_TIME_NAME_V2;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.COLUMN_VALUE_NAME_V2;
-import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.PersistenceItemInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBConstants;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBMetadataService;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
-import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
-import org.smarthomej.persistence.influxdb.internal.UnexpectedConditionException;
+import org.smarthomej.persistence.influxdb.internal.StreamingQueryResult;
 
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.QueryApi;
-import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.domain.Ready;
 import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
+import com.influxdb.exceptions.InfluxException;
+import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
 
 /**
@@ -63,7 +63,7 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
 
     private @Nullable InfluxDBClient client;
     private @Nullable QueryApi queryAPI;
-    private @Nullable WriteApi writeAPI;
+    private @Nullable WriteApiBlocking writeAPI;
 
     public InfluxDB2RepositoryImpl(InfluxDBConfiguration configuration,
             InfluxDBMetadataService influxDBMetadataService) {
@@ -102,7 +102,7 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         this.client = createdClient;
 
         queryAPI = createdClient.getQueryApi();
-        writeAPI = createdClient.getWriteApi();
+        writeAPI = createdClient.getWriteApiBlocking();
         logger.debug("Successfully connected to InfluxDB. Instance ready={}", createdClient.ready());
 
         return checkConnectionStatus();
@@ -144,93 +144,106 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public void write(InfluxPoint point) throws UnexpectedConditionException {
-        final WriteApi currentWriteAPI = writeAPI;
+    public WriteResult write(String records) {
+        final WriteApiBlocking currentWriteAPI = writeAPI;
         if (currentWriteAPI != null) {
-            currentWriteAPI.writePoint(convertPointToClientFormat(point));
+            try {
+                currentWriteAPI.writeRecord(WritePrecision.MS, records);
+                return WriteResult.WRITTEN;
+            } catch (InfluxException e) {
+                if (isRejected(e.status())) {
+                    logger.warn("Points were rejected by the database: {}", e.getMessage());
+                    return WriteResult.REJECTED;
+                }
+                logger.warn("Failed to write points: {}", e.getMessage());
+            }
         } else {
-            logger.warn("Write point {} ignored due to writeAPI isn't present", point);
+            logger.warn("Write points ignored due to writeAPI isn't present");
         }
+        return WriteResult.FAILED;
     }
 
-    private Point convertPointToClientFormat(InfluxPoint point) throws UnexpectedConditionException {
-        Point clientPoint = Point.measurement(point.getMeasurementName()).time(point.getTime(), WritePrecision.MS);
-        setPointValue(point.getValue(), clientPoint);
-        point.getTags().forEach(clientPoint::addTag);
-        return clientPoint;
-    }
-
-    private void setPointValue(@Nullable Object value, Point point) throws UnexpectedConditionException {
-        if (value instanceof String) {
-            point.addField(FIELD_VALUE_NAME, (String) value);
-        } else if (value instanceof Number) {
-            point.addField(FIELD_VALUE_NAME, (Number) value);
-        } else if (value instanceof Boolean) {
-            point.addField(FIELD_VALUE_NAME, (Boolean) value);
-        } else if (value == null) {
-            point.addField(FIELD_VALUE_NAME, (String) null);
-        } else {
-            throw new UnexpectedConditionException("Not expected value type");
-        }
+    /**
+     * check if a HTTP status indicates that the points themselves were rejected
+     *
+     * Authentication and authorization failures, a missing bucket, timeouts and rate limiting affect all points
+     * equally and are treated as temporary failures.
+     *
+     * @param status the HTTP status (0 if no response was received)
+     * @return true if writing the same points again will fail again
+     */
+    private boolean isRejected(int status) {
+        return status >= 400 && status < 500 && status != 401 && status != 403 && status != 404 && status != 408
+                && status != 429;
     }
 
     /**
      * Executes Flux query
      *
+     * The query is executed asynchronously, the records are converted one by one while the result is consumed.
+     *
      * @param query Query
      * @return Query results
      */
     @Override
-    public List<InfluxRow> query(String query) {
+    public Iterator<InfluxRow> query(String query) {
         final QueryApi currentQueryAPI = queryAPI;
         if (currentQueryAPI != null) {
-            List<FluxTable> clientResult = currentQueryAPI.query(query);
-            return convertClientResutToRepository(clientResult);
+            StreamingQueryResult result = new StreamingQueryResult();
+            currentQueryAPI.query(query, (cancellable, record) -> {
+                result.setCancelAction(cancellable::cancel);
+                if (!result.add(convertRecordToRow(record))) {
+                    cancellable.cancel();
+                }
+            }, result::fail, result::complete);
+            return result;
         } else {
-            logger.warn("Returning empty list because queryAPI isn't present");
-            return Collections.emptyList();
+            logger.warn("Returning empty result because queryAPI isn't present");
+            return Collections.emptyIterator();
         }
     }
 
-    private List<InfluxRow> convertClientResutToRepository(List<FluxTable> clientResult) {
-        return clientResult.stream().flatMap(this::mapRawResultToHistoric).collect(Collectors.toList());
-    }
-
-    private Stream<InfluxRow> mapRawResultToHistoric(FluxTable rawRow) {
-        return rawRow.getRecords().stream().map(r -> {
-            String itemName = (String) r.getValueByKey(InfluxDBConstants.TAG_ITEM_NAME);
-            Object value = r.getValueByKey(COLUMN_VALUE_NAME_V2);
-            Instant time = (Instant) r.getValueByKey(COLUMN_TIME_NAME_V2);
-            return new InfluxRow(time, itemName, value);
-        });
+    private InfluxRow convertRecordToRow(FluxRecord record) {
+        String itemName = (String) record.getValueByKey(InfluxDBConstants.TAG_ITEM_NAME);
+        Object value = record.getValueByKey(COLUMN_VALUE_NAME_V2);
+        Instant time = (Instant) record.getValueByKey(COLUMN_TIME_NAME_V2);
+        return new InfluxRow(time, itemName, value);
     }
 
     /**
-     * Return all stored item names with it's count of stored points
+     * Return all stored items with the number of stored points and the time of the latest point
      *
-     * @return Map with <ItemName,ItemCount> entries
+     * @param start the time of the earliest point that is considered
+     * @return item information of all stored items
      */
     @Override
-    public Map<String, Integer> getStoredItemsCount() {
+    public List<PersistenceItemInfo> getStoredItemsInfo(Instant start) {
         final QueryApi currentQueryAPI = queryAPI;
 
         if (currentQueryAPI != null) {
-            Map<String, Integer> result = new LinkedHashMap<>();
+            List<PersistenceItemInfo> result = new ArrayList<>();
             // Query wrote by hand https://github.com/influxdata/influxdb-client-java/issues/75
+            // count and latest time are reduced in one pass, so both describe the same points
             String query = "from(bucket: \"" + configuration.getRetentionPolicy() + "\")\n"
-                    + "  |> range(start:-365d)\n" + "  |> filter(fn: (r) => exists r." + TAG_ITEM_NAME + " )\n"
-                    + "  |> group(columns: [\"" + TAG_ITEM_NAME + "\"], mode:\"by\")\n" + "  |> count()\n"
+                    + "  |> range(start: " + start + ")\n" + "  |> filter(fn: (r) => exists r." + TAG_ITEM_NAME
+                    + " )\n" + "  |> group(columns: [\"" + TAG_ITEM_NAME + "\"], mode:\"by\")\n"
+                    + "  |> reduce(identity: {count: 0, latest: " + start + "}, fn: (r, accumulator) => ({"
+                    + "count: accumulator.count + 1, "
+                    + "latest: if r._time > accumulator.latest then r._time else accumulator.latest}))\n"
                     + "  |> group()";
 
             List<FluxTable> queryResult = currentQueryAPI.query(query);
             Objects.requireNonNull(queryResult.stream().findFirst().orElse(new FluxTable())).getRecords()
                     .forEach(row -> {
-                        result.put((String) row.getValueByKey(TAG_ITEM_NAME), ((Number) row.getValue()).intValue());
+                        Object latest = row.getValueByKey("latest");
+                        result.add(new InfluxDBPersistentItemInfo((String) row.getValueByKey(TAG_ITEM_NAME),
+                                ((Number) Objects.requireNonNull(row.getValueByKey("count"))).intValue(),
+                                latest instanceof Instant ? Date.from((Instant) latest) : null));
                     });
             return result;
         } else {
             logger.warn("Returning empty result  because queryAPI isn't present");
-            return Collections.emptyMap();
+            return List.of();
         }
     }
 
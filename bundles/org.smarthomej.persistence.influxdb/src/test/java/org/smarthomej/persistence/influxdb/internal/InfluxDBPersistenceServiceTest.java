@@ -13,14 +13,24 @@
  */
 package org.smarthomej.persistence.influxdb.internal;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConfiguration.*;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConfiguration.RETENTION_POLICY_PARAM;
 
+import java.time.Instant;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -29,6 +39,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
 import org.smarthomej.persistence.influxdb.InfluxDBPersistenceService;
 
 /**
@@ -88,19 +102,156 @@ public class InfluxDBPersistenceServiceTest {
     }
 
     @Test
-    public void storeItemWithConnectedRepository() throws UnexpectedConditionException {
+    public void storeItemWithConnectedRepository() {
         InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
         when(influxDBRepository.isConnected()).thenReturn(true);
+        when(influxDBRepository.write(anyString())).thenReturn(InfluxDBRepository.WriteResult.WRITTEN);
         instance.store(ItemTestHelper.createNumberItem("number", 5));
-        verify(influxDBRepository).write(any());
+        verify(influxDBRepository, never()).write(anyString());
+
+        instance.getWriteQueue().flush();
+        verify(influxDBRepository).write(anyString());
+        assertEquals(1, instance.getWriteQueue().getWrittenPoints());
+        instance.deactivate();
     }
 
     @Test
-    public void storeItemWithDisconnectedRepositoryIsIgnored() throws UnexpectedConditionException {
+    public void storeItemWithDisconnectedRepositoryAndNoSpoolIsDropped() {
         InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
         when(influxDBRepository.isConnected()).thenReturn(false);
         instance.store(ItemTestHelper.createNumberItem("number", 5));
-        verify(influxDBRepository, never()).write(any());
+        instance.getWriteQueue().flush();
+        verify(influxDBRepository, never()).write(anyString());
+        assertEquals(1, instance.getWriteQueue().getDroppedPoints());
+        instance.deactivate();
+    }
+
+    @Test
+    public void itemInfoIsSeededOnConnectAndUpdatedOnWrite() {
+        when(influxDBRepository.connect()).thenReturn(true);
+        when(influxDBRepository.isConnected()).thenReturn(true);
+        Date latest = Date.from(Instant.ofEpochSecond(100));
+        when(influxDBRepository.getStoredItemsInfo(any()))
+                .thenReturn(List.of(new InfluxDBPersistentItemInfo("number", 3, latest)));
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        verify(influxDBRepository).getStoredItemsInfo(any());
+
+        // queued points are not counted before they are written
+        when(influxDBRepository.write(anyString())).thenReturn(InfluxDBRepository.WriteResult.WRITTEN);
+        instance.store(ItemTestHelper.createNumberItem("number", 5));
+        instance.store(ItemTestHelper.createNumberItem("other", 5));
+        Set<PersistenceItemInfo> itemInfo = instance.getItemInfo();
+        assertEquals(1, itemInfo.size());
+        assertEquals(3, getItemInfo(itemInfo, "number").getCount());
+        assertEquals(latest, getItemInfo(itemInfo, "number").getLatest());
+
+        instance.getWriteQueue().flush();
+        itemInfo = instance.getItemInfo();
+        assertEquals(2, itemInfo.size());
+        assertEquals(4, getItemInfo(itemInfo, "number").getCount());
+        assertEquals(1, getItemInfo(itemInfo, "other").getCount());
+        assertNotNull(getItemInfo(itemInfo, "other").getLatest());
+
+        // rejected points are not counted
+        when(influxDBRepository.write(anyString())).thenReturn(InfluxDBRepository.WriteResult.REJECTED);
+        instance.store(ItemTestHelper.createNumberItem("other", 5));
+        instance.getWriteQueue().flush();
+        assertEquals(1, getItemInfo(instance.getItemInfo(), "other").getCount());
+        verify(influxDBRepository, times(1)).getStoredItemsInfo(any());
+        instance.deactivate();
+    }
+
+    private PersistenceItemInfo getItemInfo(Set<PersistenceItemInfo> itemInfo, String itemName) {
+        return itemInfo.stream().filter(info -> itemName.equals(info.getName())).findAny().orElseThrow();
+    }
+
+    @Test
+    public void queryIsExecutedWhenResultIsIterated() throws UnexpectedConditionException {
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        FilterCriteriaQueryCreator queryCreator = mock(FilterCriteriaQueryCreator.class);
+        when(influxDBRepository.isConnected()).thenReturn(true);
+        when(influxDBRepository.createQueryCreator()).thenReturn(queryCreator);
+        when(queryCreator.createQuery(any(), anyString())).thenReturn("query");
+        when(influxDBRepository.query("query"))
+                .thenReturn(List.of(new InfluxRow(Instant.ofEpochMilli(0), "number", 5)).iterator());
+
+        Iterable<HistoricItem> result = instance.query(new FilterCriteria().setItemName("number"));
+        verify(influxDBRepository, never()).query(anyString());
+
+        Iterator<HistoricItem> iterator = result.iterator();
+        assertTrue(iterator.hasNext());
+        HistoricItem historicItem = iterator.next();
+        assertEquals("number", historicItem.getName());
+        assertEquals(new StringType("5"), historicItem.getState());
+        assertFalse(iterator.hasNext());
+        instance.deactivate();
+    }
+
+    @Test
+    public void eachIteratorExecutesTheQuery() throws UnexpectedConditionException {
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        FilterCriteriaQueryCreator queryCreator = mock(FilterCriteriaQueryCreator.class);
+        when(influxDBRepository.isConnected()).thenReturn(true);
+        when(influxDBRepository.createQueryCreator()).thenReturn(queryCreator);
+        when(queryCreator.createQuery(any(), anyString())).thenReturn("query");
+        List<InfluxRow> rows = List.of(new InfluxRow(Instant.ofEpochMilli(0), "number", 5),
+                new InfluxRow(Instant.ofEpochMilli(1), "number", 6));
+        when(influxDBRepository.query("query")).thenReturn(rows.iterator(), rows.iterator());
+
+        Iterable<HistoricItem> result = instance.query(new FilterCriteria().setItemName("number"));
+        Iterator<HistoricItem> first = result.iterator();
+        assertEquals(new StringType("5"), first.next().getState());
+
+        Iterator<HistoricItem> second = result.iterator();
+        assertEquals(new StringType("5"), second.next().getState());
+        assertEquals(new StringType("6"), second.next().getState());
+        assertFalse(second.hasNext());
+        assertEquals(new StringType("6"), first.next().getState());
+        assertFalse(first.hasNext());
+
+        verify(influxDBRepository, times(2)).query(anyString());
+        instance.deactivate();
+    }
+
+    @Test
+    public void queryResultIsClosedWhenExhausted() throws UnexpectedConditionException {
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        FilterCriteriaQueryCreator queryCreator = mock(FilterCriteriaQueryCreator.class);
+        StreamingQueryResult queryResult = mock(StreamingQueryResult.class);
+        when(influxDBRepository.isConnected()).thenReturn(true);
+        when(influxDBRepository.createQueryCreator()).thenReturn(queryCreator);
+        when(queryCreator.createQuery(any(), anyString())).thenReturn("query");
+        when(influxDBRepository.query("query")).thenReturn(queryResult);
+        when(queryResult.hasNext()).thenReturn(true, false);
+        when(queryResult.next()).thenReturn(new InfluxRow(Instant.ofEpochMilli(0), "number", 5));
+
+        Iterator<HistoricItem> iterator = instance.query(new FilterCriteria().setItemName("number")).iterator();
+        assertEquals(new StringType("5"), iterator.next().getState());
+        verify(queryResult, never()).close();
+
+        assertFalse(iterator.hasNext());
+        assertFalse(iterator.hasNext());
+        verify(queryResult, times(1)).close();
+        instance.deactivate();
+    }
+
+    @Test
+    public void queryResultIsClosedWhenReadingFails() throws UnexpectedConditionException {
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        FilterCriteriaQueryCreator queryCreator = mock(FilterCriteriaQueryCreator.class);
+        StreamingQueryResult queryResult = mock(StreamingQueryResult.class);
+        when(influxDBRepository.isConnected()).thenReturn(true);
+        when(influxDBRepository.createQueryCreator()).thenReturn(queryCreator);
+        when(queryCreator.createQuery(any(), anyString())).thenReturn("query");
+        when(influxDBRepository.query("query")).thenReturn(queryResult);
+        when(queryResult.hasNext()).thenReturn(true);
+        when(queryResult.next()).thenThrow(new IllegalStateException("invalid row"));
+
+        Iterator<HistoricItem> iterator = instance.query(new FilterCriteria().setItemName("number")).iterator();
+        assertThrows(IllegalStateException.class, iterator::next);
+        verify(queryResult, times(1)).close();
+        assertFalse(iterator.hasNext());
+        instance.deactivate();
     }
 
     private InfluxDBPersistenceService getService(Map<String, Object> config) {
@@ -109,6 +260,11 @@ public class InfluxDBPersistenceServiceTest {
             protected Optional<InfluxDBRepository> createInfluxDBRepository() {
                 return Optional.of(influxDBRepository);
             }
+
+            @Override
+            protected Optional<InfluxDBSpool> createSpool() {
+                return Optional.empty();
+            }
         };
     }
 }
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository.WriteResult;
+
+/**
+ * The {@link InfluxDBWriteQueueTest} contains tests for the {@link InfluxDBWriteQueue} and the {@link InfluxDBSpool}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteQueueTest {
+    private static final int NO_PERIODIC_FLUSH = 3600000;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final InfluxDBRepository influxDBRepository = mock(InfluxDBRepository.class);
+    private final List<String> writtenItemNames = new ArrayList<>();
+
+    @TempDir
+    public @NonNullByDefault({}) Path tempDir;
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void pointsAreWrittenAsOneBatch() {
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.WRITTEN);
+        InfluxDBWriteQueue writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite, null,
+                scheduler, 10, 10, NO_PERIODIC_FLUSH);
+
+        writeQueue.add(createPoint("item1", 1));
+        writeQueue.add(createPoint("item2", 2));
+        assertEquals(2, writeQueue.getQueueDepth());
+
+        writeQueue.flush();
+
+        verify(influxDBRepository).write("item1,item=item1 value=1i 1000\nitem2,item=item2 value=2i 2000\n");
+        assertEquals(0, writeQueue.getQueueDepth());
+        assertEquals(2, writeQueue.getWrittenPoints());
+        assertEquals(List.of("item1", "item2"), writtenItemNames);
+    }
+
+    @Test
+    public void fullQueueDropsPoints() {
+        InfluxDBWriteQueue writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite, null,
+                scheduler, 1, 10, NO_PERIODIC_FLUSH);
+
+        assertTrue(writeQueue.add(createPoint("item1", 1)));
+        assertEquals(false, writeQueue.add(createPoint("item2", 2)));
+        assertEquals(1, writeQueue.getDroppedPoints());
+    }
+
+    @Test
+    public void pointsAddedAfterShutdownAreDropped() {
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.WRITTEN);
+        InfluxDBWriteQueue writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite, null,
+                scheduler, 10, 1, NO_PERIODIC_FLUSH);
+        writeQueue.shutdown();
+        scheduler.shutdownNow();
+
+        // a full batch would schedule a flush on the terminated scheduler
+        assertFalse(writeQueue.add(createPoint("item1", 1)));
+        assertEquals(0, writeQueue.getQueueDepth());
+        verify(influxDBRepository, never()).write(anyString());
+    }
+
+    @Test
+    public void failedBatchesAreSpooledAndReplayedInOrder() throws IOException {
+        Path spoolPath = tempDir.resolve("spool.dat");
+
+        // database not reachable: both batches go to the spool
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.FAILED);
+        InfluxDBWriteQueue writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite,
+                new InfluxDBSpool(spoolPath, 4096), scheduler, 10, 1, NO_PERIODIC_FLUSH);
+        writeQueue.add(createPoint("item1", 1));
+        writeQueue.add(createPoint("item2", 2));
+        writeQueue.flush();
+        assertTrue(writeQueue.getSpooledBytes() > 0);
+        assertEquals(0, writeQueue.getDroppedPoints());
+        assertEquals(List.of(), writtenItemNames);
+        writeQueue.shutdown();
+
+        // restart with reachable database: spooled batches are written before new points
+        reset(influxDBRepository);
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.WRITTEN);
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite,
+                new InfluxDBSpool(spoolPath, 4096), scheduler, 10, 1, NO_PERIODIC_FLUSH);
+        writeQueue.add(createPoint("item3", 3));
+        writeQueue.flush();
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(influxDBRepository, times(3)).write(captor.capture());
+        assertEquals(List.of("item1,item=item1 value=1i 1000\n", "item2,item=item2 value=2i 2000\n",
+                "item3,item=item3 value=3i 3000\n"), captor.getAllValues());
+        assertEquals(0, writeQueue.getSpooledBytes());
+        assertEquals(List.of("item1", "item2", "item3"), writtenItemNames);
+        writeQueue.shutdown();
+    }
+
+    @Test
+    public void rejectedBatchesAreDroppedAndDoNotBlockFollowingBatches() throws IOException {
+        Path spoolPath = tempDir.resolve("spool.dat");
+
+        // database not reachable: both batches go to the spool
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.FAILED);
+        InfluxDBWriteQueue writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite,
+                new InfluxDBSpool(spoolPath, 4096), scheduler, 10, 1, NO_PERIODIC_FLUSH);
+        writeQueue.add(createPoint("item1", 1));
+        writeQueue.add(createPoint("item2", 2));
+        writeQueue.flush();
+        writeQueue.shutdown();
+
+        // restart with reachable database that rejects the first spooled batch and the first new batch
+        reset(influxDBRepository);
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.WRITTEN);
+        when(influxDBRepository.write("item1,item=item1 value=1i 1000\n")).thenReturn(WriteResult.REJECTED);
+        when(influxDBRepository.write("item3,item=item3 value=3i 3000\n")).thenReturn(WriteResult.REJECTED);
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite,
+                new InfluxDBSpool(spoolPath, 4096), scheduler, 10, 1, NO_PERIODIC_FLUSH);
+        writeQueue.add(createPoint("item3", 3));
+        writeQueue.add(createPoint("item4", 4));
+        writeQueue.flush();
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(influxDBRepository, times(4)).write(captor.capture());
+        assertEquals(List.of("item1,item=item1 value=1i 1000\n", "item2,item=item2 value=2i 2000\n",
+                "item3,item=item3 value=3i 3000\n", "item4,item=item4 value=4i 4000\n"), captor.getAllValues());
+        assertEquals(0, writeQueue.getSpooledBytes());
+        assertEquals(1, writeQueue.getWrittenPoints());
+        assertEquals(2, writeQueue.getDroppedPoints());
+        assertEquals(List.of("item2", "item4"), writtenItemNames);
+        writeQueue.shutdown();
+    }
+
+    @Test
+    public void replayedPointsReportItemNameAndTime() throws IOException {
+        Path spoolPath = tempDir.resolve("spool.dat");
+        List<String> writtenPoints = new ArrayList<>();
+        InfluxPoint point = InfluxPoint.newBuilder("alias,with item").withTime(Instant.ofEpochSecond(5, 123456789))
+                .withValue(1).withTag(InfluxDBConstants.TAG_ITEM_NAME, "myItem").build();
+
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.FAILED);
+        InfluxDBWriteQueue writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, this::onWrite,
+                new InfluxDBSpool(spoolPath, 4096), scheduler, 10, 10, NO_PERIODIC_FLUSH);
+        writeQueue.add(point);
+        writeQueue.flush();
+        writeQueue.shutdown();
+
+        reset(influxDBRepository);
+        when(influxDBRepository.write(anyString())).thenReturn(WriteResult.WRITTEN);
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true,
+                (itemName, time) -> writtenPoints.add(itemName + "@" + time), new InfluxDBSpool(spoolPath, 4096),
+                scheduler, 10, 10, NO_PERIODIC_FLUSH);
+        writeQueue.flush();
+
+        verify(influxDBRepository).write("alias\\,with\\ item,item=myItem value=1i 5123\n");
+        assertEquals(List.of("myItem@1970-01-01T00:00:05.123456789Z"), writtenPoints);
+        writeQueue.shutdown();
+    }
+
+    @Test
+    public void closedSpoolIsReleasedAndCanBeReopened() throws IOException {
+        Path spoolPath = tempDir.resolve("spool.dat");
+        byte[] record = new byte[] { 1, 2, 3 };
+
+        InfluxDBSpool spool = new InfluxDBSpool(spoolPath, 4096);
+        assertTrue(spool.append(record));
+        spool.close();
+
+        // a closed spool can't be used anymore
+        assertFalse(spool.append(record));
+        assertNull(spool.peek());
+
+        InfluxDBSpool reopenedSpool = new InfluxDBSpool(spoolPath, 4096);
+        assertArrayEquals(record, reopenedSpool.peek());
+        reopenedSpool.close();
+    }
+
+    @Test
+    public void lineProtocolIsEscaped() throws UnexpectedConditionException {
+        InfluxPoint point = InfluxPoint.newBuilder("my measurement,1").withTime(Instant.ofEpochMilli(5))
+                .withValue("say \"hello\"").withTag("item", "myItem").withTag("label", "a=b c").build();
+        StringBuilder sb = new StringBuilder();
+        point.appendLineProtocol(sb);
+
+        assertEquals("my\\ measurement\\,1,item=myItem,label=a\\=b\\ c value=\"say \\\"hello\\\"\" 5\n",
+                sb.toString());
+    }
+
+    @Test
+    public void lineBreaksInLineProtocolAreEscaped() throws UnexpectedConditionException {
+        InfluxPoint point = InfluxPoint.newBuilder("measure\nment").withTime(Instant.ofEpochMilli(5)).withValue(1)
+                .withTag("item", "myItem").withTag("label", "first\r\nsecond").build();
+        StringBuilder sb = new StringBuilder();
+        point.appendLineProtocol(sb);
+
+        // the point must not be split into several lines
+        assertEquals("measure\\nment,item=myItem,label=first\\r\\nsecond value=1i 5\n", sb.toString());
+    }
+
+    private void onWrite(String itemName, Instant time) {
+        writtenItemNames.add(itemName);
+    }
+
+    private InfluxPoint createPoint(String itemName, int value) {
+        return InfluxPoint.newBuilder(itemName).withTime(Instant.ofEpochMilli(value * 1000L)).withValue(value)
+                .withTag(InfluxDBConstants.TAG_ITEM_NAME, itemName).build();
+    }
+}
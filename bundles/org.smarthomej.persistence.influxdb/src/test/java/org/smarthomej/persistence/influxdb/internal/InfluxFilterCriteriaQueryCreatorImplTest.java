@@ -57,10 +57,11 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
 
     private InfluxDB1FilterCriteriaQueryCreatorImpl instanceV1;
     private InfluxDB2FilterCriteriaQueryCreatorImpl instanceV2;
+    private InfluxDBMetadataService influxDBMetadataService;
 
     @BeforeEach
     public void before() {
-        InfluxDBMetadataService influxDBMetadataService = new InfluxDBMetadataService(metadataRegistry);
+        influxDBMetadataService = new InfluxDBMetadataService(metadataRegistry);
         instanceV1 = new InfluxDB1FilterCriteriaQueryCreatorImpl(influxDBConfiguration, influxDBMetadataService);
         instanceV2 = new InfluxDB2FilterCriteriaQueryCreatorImpl(influxDBConfiguration, influxDBMetadataService);
     }
@@ -69,6 +70,7 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
     public void after() {
         instanceV1 = null;
         instanceV2 = null;
+        influxDBMetadataService = null;
         influxDBConfiguration = null;
         metadataRegistry = null;
     }
@@ -187,8 +189,8 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
         FilterCriteria criteria = createBaseCriteria();
         MetadataKey metadataKey = new MetadataKey(InfluxDBPersistenceService.SERVICE_NAME, "sampleItem");
 
-        when(metadataRegistry.get(metadataKey))
-                .thenReturn(new Metadata(metadataKey, "measurementName", Map.of("key1", "val1", "key2", "val2")));
+        Metadata metadata = new Metadata(metadataKey, "measurementName", Map.of("key1", "val1", "key2", "val2"));
+        when(metadataRegistry.get(metadataKey)).thenReturn(metadata);
 
         String queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY);
         assertThat(queryV1, equalTo(
@@ -200,8 +202,9 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
                         + "|> filter(fn: (r) => r[\"_measurement\"] == \"measurementName\")\n\t"
                         + "|> filter(fn: (r) => r[\"item\"] == \"sampleItem\")\n\t"
                         + "|> keep(columns:[\"_measurement\", \"_time\", \"_value\", \"item\"])"));
-        when(metadataRegistry.get(metadataKey))
-                .thenReturn(new Metadata(metadataKey, "", Map.of("key1", "val1", "key2", "val2")));
+        Metadata updatedMetadata = new Metadata(metadataKey, "", Map.of("key1", "val1", "key2", "val2"));
+        when(metadataRegistry.get(metadataKey)).thenReturn(updatedMetadata);
+        influxDBMetadataService.updated(metadata, updatedMetadata);
 
         queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY);
         assertThat(queryV1, equalTo("SELECT \"value\"::field,\"item\"::tag FROM origin.sampleItem;"));
@@ -48,21 +48,24 @@ public class ItemToStorePointCreatorTest {
     private @Mock InfluxDBConfiguration influxDBConfiguration;
     private @Mock MetadataRegistry metadataRegistry;
     private ItemToStorePointCreator instance;
+    private InfluxDBMetadataService influxDBMetadataService;
 
     @BeforeEach
     public void before() {
-        InfluxDBMetadataService influxDBMetadataService = new InfluxDBMetadataService(metadataRegistry);
+        influxDBMetadataService = new InfluxDBMetadataService(metadataRegistry);
         when(influxDBConfiguration.isAddCategoryTag()).thenReturn(false);
         when(influxDBConfiguration.isAddLabelTag()).thenReturn(false);
         when(influxDBConfiguration.isAddTypeTag()).thenReturn(false);
         when(influxDBConfiguration.isReplaceUnderscore()).thenReturn(false);
 
         instance = new ItemToStorePointCreator(influxDBConfiguration, influxDBMetadataService);
+        influxDBMetadataService.addChangeListener(instance::invalidate);
     }
 
     @AfterEach
     public void after() {
         instance = null;
+        influxDBMetadataService = null;
         influxDBConfiguration = null;
         metadataRegistry = null;
     }
@@ -117,6 +120,7 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getTags(), hasEntry(InfluxDBConstants.TAG_CATEGORY_NAME, "categoryValue"));
 
         when(influxDBConfiguration.isAddCategoryTag()).thenReturn(false);
+        instance.invalidate(item.getName());
         point = instance.convert(item, null);
 
         if (point == null) {
@@ -142,6 +146,7 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getTags(), hasEntry(InfluxDBConstants.TAG_TYPE_NAME, "Number"));
 
         when(influxDBConfiguration.isAddTypeTag()).thenReturn(false);
+        instance.invalidate(item.getName());
         point = instance.convert(item, null);
 
         if (point == null) {
@@ -168,6 +173,7 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getTags(), hasEntry(InfluxDBConstants.TAG_LABEL_NAME, "ItemLabel"));
 
         when(influxDBConfiguration.isAddLabelTag()).thenReturn(false);
+        instance.invalidate(item.getName());
         point = instance.convert(item, null);
 
         if (point == null) {
@@ -217,8 +223,9 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getMeasurementName(), equalTo(item.getName()));
         assertThat(point.getTags(), hasEntry("item", item.getName()));
 
-        when(metadataRegistry.get(metadataKey))
-                .thenReturn(new Metadata(metadataKey, "measurementName", Map.of("key1", "val1", "key2", "val2")));
+        Metadata metadata = new Metadata(metadataKey, "measurementName", Map.of("key1", "val1", "key2", "val2"));
+        when(metadataRegistry.get(metadataKey)).thenReturn(metadata);
+        influxDBMetadataService.added(metadata);
 
         point = instance.convert(item, null);
         if (point == null) {
@@ -228,8 +235,9 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getMeasurementName(), equalTo("measurementName"));
         assertThat(point.getTags(), hasEntry("item", item.getName()));
 
-        when(metadataRegistry.get(metadataKey))
-                .thenReturn(new Metadata(metadataKey, "", Map.of("key1", "val1", "key2", "val2")));
+        Metadata updatedMetadata = new Metadata(metadataKey, "", Map.of("key1", "val1", "key2", "val2"));
+        when(metadataRegistry.get(metadataKey)).thenReturn(updatedMetadata);
+        influxDBMetadataService.updated(metadata, updatedMetadata);
 
         point = instance.convert(item, null);
         if (point == null) {
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2021 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link StreamingQueryResultTest} contains tests for the {@link StreamingQueryResult}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingQueryResultTest {
+    private static final int ROW_COUNT = 5000;
+
+    @Test
+    public void allRowsAreDeliveredInOrder() {
+        StreamingQueryResult result = new StreamingQueryResult();
+
+        // more rows than the buffer can hold, the producer has to wait for the consumer
+        CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                result.add(new InfluxRow(Instant.ofEpochMilli(i), "item", i));
+            }
+            result.complete();
+        });
+
+        int count = 0;
+        while (result.hasNext()) {
+            InfluxRow row = result.next();
+            assertEquals(count, row.getValue());
+            count++;
+        }
+        assertEquals(ROW_COUNT, count);
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    public void failedQueryEndsResult() {
+        StreamingQueryResult result = new StreamingQueryResult();
+        result.add(new InfluxRow(Instant.ofEpochMilli(0), "item", 0));
+        result.fail(new IllegalStateException("failed"));
+
+        assertEquals(0, result.next().getValue());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    public void closedResultReleasesProducerAndCancelsQuery() throws Exception {
+        StreamingQueryResult result = new StreamingQueryResult();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        result.setCancelAction(() -> cancelled.set(true));
+
+        // the producer fills the buffer and blocks until the result is closed
+        CompletableFuture<Integer> producer = CompletableFuture.supplyAsync(() -> {
+            int count = 0;
+            while (result.add(new InfluxRow(Instant.ofEpochMilli(count), "item", count))) {
+                count++;
+            }
+            return count;
+        });
+
+        assertEquals(0, result.next().getValue());
+        result.close();
+
+        assertTrue(producer.get(5, TimeUnit.SECONDS) < ROW_COUNT);
+        assertTrue(cancelled.get());
+        assertFalse(result.hasNext());
+    }
+}